@@ -2,10 +2,8 @@ package com.motorbike;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
-@EnableJpaRepositories(basePackages = "com.motorbike.infrastructure.persistence.jpa.repositories")
 public class MotorbikeShopApplication {
 
     public static void main(String[] args) {
@@ -2,7 +2,6 @@ package com.motorbike.adapters.controllers;
 
 import java.math.BigDecimal;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,13 +14,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.motorbike.adapters.viewmodels.AddAccessoryViewModel;
-import com.motorbike.adapters.viewmodels.DeleteAccessoryViewModel;
-import com.motorbike.adapters.viewmodels.GetAllAccessoriesViewModel;
-import com.motorbike.adapters.viewmodels.SearchAccessoriesViewModel;
-import com.motorbike.adapters.viewmodels.UpdateAccessoryViewModel;
+import com.motorbike.adapters.presenters.AddAccessoryResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteAccessoryResponsePresenter;
+import com.motorbike.adapters.presenters.GetAllAccessoriesResponsePresenter;
+import com.motorbike.adapters.presenters.SearchAccessoriesResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateAccessoryResponsePresenter;
 import com.motorbike.business.dto.accessory.AddAccessoryInputData;
 import com.motorbike.business.dto.accessory.DeleteAccessoryInputData;
+import com.motorbike.business.dto.accessory.GetAllAccessoriesInputData;
 import com.motorbike.business.dto.accessory.SearchAccessoriesInputData;
 import com.motorbike.business.dto.accessory.UpdateAccessoryInputData;
 import com.motorbike.business.usecase.input.AddAccessoryInputBoundary;
@@ -36,53 +36,47 @@ import com.motorbike.business.usecase.input.UpdateAccessoryInputBoundary;
 public class AccessoryController {
 
     private final GetAllAccessoriesInputBoundary getAllAccessoriesUseCase;
-    private final GetAllAccessoriesViewModel getAllViewModel;
+    private final GetAllAccessoriesResponsePresenter getAllResponsePresenter;
 
     private final SearchAccessoriesInputBoundary searchAccessoriesUseCase;
-    private final SearchAccessoriesViewModel searchViewModel;
+    private final SearchAccessoriesResponsePresenter searchResponsePresenter;
 
     private final AddAccessoryInputBoundary addAccessoryUseCase;
-    private final AddAccessoryViewModel addViewModel;
+    private final AddAccessoryResponsePresenter addResponsePresenter;
 
     private final UpdateAccessoryInputBoundary updateAccessoryUseCase;
-    private final UpdateAccessoryViewModel updateViewModel;
+    private final UpdateAccessoryResponsePresenter updateResponsePresenter;
 
     private final DeleteAccessoryInputBoundary deleteAccessoryUseCase;
-    private final DeleteAccessoryViewModel deleteViewModel;
+    private final DeleteAccessoryResponsePresenter deleteResponsePresenter;
 
     public AccessoryController(
             GetAllAccessoriesInputBoundary getAllAccessoriesUseCase,
-            GetAllAccessoriesViewModel getAllViewModel,
+            GetAllAccessoriesResponsePresenter getAllResponsePresenter,
             SearchAccessoriesInputBoundary searchAccessoriesUseCase,
-            SearchAccessoriesViewModel searchViewModel,
+            SearchAccessoriesResponsePresenter searchResponsePresenter,
             AddAccessoryInputBoundary addAccessoryUseCase,
-            AddAccessoryViewModel addViewModel,
+            AddAccessoryResponsePresenter addResponsePresenter,
             UpdateAccessoryInputBoundary updateAccessoryUseCase,
-            UpdateAccessoryViewModel updateViewModel,
+            UpdateAccessoryResponsePresenter updateResponsePresenter,
             DeleteAccessoryInputBoundary deleteAccessoryUseCase,
-            DeleteAccessoryViewModel deleteViewModel
+            DeleteAccessoryResponsePresenter deleteResponsePresenter
     ) {
         this.getAllAccessoriesUseCase = getAllAccessoriesUseCase;
-        this.getAllViewModel = getAllViewModel;
+        this.getAllResponsePresenter = getAllResponsePresenter;
         this.searchAccessoriesUseCase = searchAccessoriesUseCase;
-        this.searchViewModel = searchViewModel;
+        this.searchResponsePresenter = searchResponsePresenter;
         this.addAccessoryUseCase = addAccessoryUseCase;
-        this.addViewModel = addViewModel;
+        this.addResponsePresenter = addResponsePresenter;
         this.updateAccessoryUseCase = updateAccessoryUseCase;
-        this.updateViewModel = updateViewModel;
+        this.updateResponsePresenter = updateResponsePresenter;
         this.deleteAccessoryUseCase = deleteAccessoryUseCase;
-        this.deleteViewModel = deleteViewModel;
+        this.deleteResponsePresenter = deleteResponsePresenter;
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllAccessories() {
-        getAllAccessoriesUseCase.execute(null);
-
-        if (getAllViewModel.hasError) {
-            return ResponseEntity.status(500).body(new ErrorResponse(getAllViewModel.errorCode, getAllViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(getAllViewModel.accessories);
+    public ResponseEntity<?> getAllAccessories(@RequestParam(required = false) Integer limit) {
+        return getAllAccessoriesUseCase.execute(new GetAllAccessoriesInputData(limit), getAllResponsePresenter);
     }
 
     @GetMapping("/search")
@@ -99,13 +93,7 @@ public class AccessoryController {
                 keyword, type, brand, material, minPrice, maxPrice
         );
 
-        searchAccessoriesUseCase.execute(input);
-
-        if (searchViewModel.hasError) {
-            return ResponseEntity.status(400).body(new ErrorResponse(searchViewModel.errorCode, searchViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(searchViewModel.accessories);
+        return searchAccessoriesUseCase.execute(input, searchResponsePresenter);
     }
 
     @PostMapping
@@ -123,14 +111,7 @@ public class AccessoryController {
                 "PHU_KIEN"
         );
 
-        addAccessoryUseCase.execute(input);
-
-        if (addViewModel.hasError) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ErrorResponse(addViewModel.errorCode, addViewModel.errorMessage));
-        }
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(addViewModel.accessory);
+        return addAccessoryUseCase.execute(input, addResponsePresenter);
     }
 
     @PutMapping("/{id}")
@@ -148,28 +129,14 @@ public class AccessoryController {
                 request.size
         );
 
-        updateAccessoryUseCase.execute(input);
-
-        if (updateViewModel.hasError) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ErrorResponse(updateViewModel.errorCode, updateViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(updateViewModel.accessory);
+        return updateAccessoryUseCase.execute(input, updateResponsePresenter);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteAccessory(@PathVariable Long id) {
         DeleteAccessoryInputData input = new DeleteAccessoryInputData(id);
 
-        deleteAccessoryUseCase.execute(input);
-
-        if (!deleteViewModel.success) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ErrorResponse(deleteViewModel.errorCode, deleteViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(new SuccessResponse(deleteViewModel.message));
+        return deleteAccessoryUseCase.execute(input, deleteResponsePresenter);
     }
 
     // Request DTOs
@@ -196,23 +163,4 @@ public class AccessoryController {
         public String material;
         public String size;
     }
-
-    // Response DTOs
-    private static class ErrorResponse {
-        public String errorCode;
-        public String errorMessage;
-
-        public ErrorResponse(String errorCode, String errorMessage) {
-            this.errorCode = errorCode;
-            this.errorMessage = errorMessage;
-        }
-    }
-
-    private static class SuccessResponse {
-        public String message;
-
-        public SuccessResponse(String message) {
-            this.message = message;
-        }
-    }
 }
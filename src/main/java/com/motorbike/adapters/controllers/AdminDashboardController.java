@@ -0,0 +1,45 @@
+package com.motorbike.adapters.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.adapters.presenters.GetDashboardStatsResponsePresenter;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsInputData;
+import com.motorbike.business.usecase.input.GetDashboardStatsInputBoundary;
+
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@CrossOrigin(origins = "*")
+public class AdminDashboardController {
+
+    private final GetDashboardStatsInputBoundary getDashboardStatsInputBoundary;
+    private final GetDashboardStatsResponsePresenter getDashboardStatsResponsePresenter;
+
+    @Autowired
+    public AdminDashboardController(
+            GetDashboardStatsInputBoundary getDashboardStatsInputBoundary,
+            GetDashboardStatsResponsePresenter getDashboardStatsResponsePresenter) {
+        this.getDashboardStatsInputBoundary = getDashboardStatsInputBoundary;
+        this.getDashboardStatsResponsePresenter = getDashboardStatsResponsePresenter;
+    }
+
+    // Số liệu tổng hợp cho trang chủ admin (thay cho việc tải toàn bộ đơn/người dùng/sản phẩm rồi đếm ở client)
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(
+            @RequestParam(name = "admin", defaultValue = "false") boolean admin,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Integer months) {
+        if (!admin) {
+            return ResponseEntity.status(403).body(new ErrorResponse("FORBIDDEN", "Only admin can view dashboard statistics"));
+        }
+
+        GetDashboardStatsInputData input = GetDashboardStatsInputData.forAdmin(admin, days, months);
+        return getDashboardStatsInputBoundary.execute(input, getDashboardStatsResponsePresenter);
+    }
+}
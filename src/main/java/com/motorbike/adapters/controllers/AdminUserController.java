@@ -18,10 +18,10 @@ import com.motorbike.adapters.dto.response.AddUserResponse;
 import com.motorbike.adapters.dto.response.DeleteUserResponse;
 import com.motorbike.adapters.dto.response.ListUsersResponse;
 import com.motorbike.adapters.dto.response.UpdateUserResponse;
-import com.motorbike.adapters.viewmodels.AddUserViewModel;
-import com.motorbike.adapters.viewmodels.DeleteUserViewModel;
-import com.motorbike.adapters.viewmodels.ListUsersViewModel;
-import com.motorbike.adapters.viewmodels.UpdateUserViewModel;
+import com.motorbike.adapters.presenters.AddUserResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteUserResponsePresenter;
+import com.motorbike.adapters.presenters.ListUsersResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateUserResponsePresenter;
 import com.motorbike.business.dto.adduser.AddUserInputData;
 import com.motorbike.business.dto.deleteuser.DeleteUserInputData;
 import com.motorbike.business.dto.listusers.ListUsersInputData;
@@ -39,46 +39,46 @@ import com.motorbike.business.usecase.input.UpdateUserInputBoundary;
 public class AdminUserController {
 
     private final ListUsersInputBoundary listUsersInputBoundary;
-    private final ListUsersViewModel listUsersViewModel;
+    private final ListUsersResponsePresenter listUsersResponsePresenter;
 
     private final AddUserInputBoundary addUserInputBoundary;
-    private final AddUserViewModel addUserViewModel;
+    private final AddUserResponsePresenter addUserResponsePresenter;
 
    private final DeleteUserInputBoundary deleteUserInputBoundary;
-    private final DeleteUserViewModel deleteUserViewModel;
+    private final DeleteUserResponsePresenter deleteUserResponsePresenter;
 
     private final UpdateUserInputBoundary updateUserInputBoundary;
-    private final UpdateUserViewModel updateUserViewModel;
+    private final UpdateUserResponsePresenter updateUserResponsePresenter;
 
     @Autowired
     public AdminUserController(
             ListUsersInputBoundary listUsersInputBoundary,
-            ListUsersViewModel listUsersViewModel,
+            ListUsersResponsePresenter listUsersResponsePresenter,
             AddUserInputBoundary addUserInputBoundary,
-            AddUserViewModel addUserViewModel,
+            AddUserResponsePresenter addUserResponsePresenter,
              DeleteUserInputBoundary deleteUserInputBoundary,
-            DeleteUserViewModel deleteUserViewModel,
+            DeleteUserResponsePresenter deleteUserResponsePresenter,
            UpdateUserInputBoundary updateUserInputBoundary,
-            UpdateUserViewModel updateUserViewModel) {
+            UpdateUserResponsePresenter updateUserResponsePresenter) {
 
         this.listUsersInputBoundary = listUsersInputBoundary;
-        this.listUsersViewModel = listUsersViewModel;
+        this.listUsersResponsePresenter = listUsersResponsePresenter;
         this.addUserInputBoundary = addUserInputBoundary;
-        this.addUserViewModel = addUserViewModel;
+        this.addUserResponsePresenter = addUserResponsePresenter;
          this.deleteUserInputBoundary = deleteUserInputBoundary;
-        this.deleteUserViewModel = deleteUserViewModel;
+        this.deleteUserResponsePresenter = deleteUserResponsePresenter;
         this.updateUserInputBoundary = updateUserInputBoundary;
-        this.updateUserViewModel = updateUserViewModel;
+        this.updateUserResponsePresenter = updateUserResponsePresenter;
     }
 
     @GetMapping
     public ResponseEntity<ListUsersResponse> listUsers(
             @RequestParam(name = "admin", defaultValue = "false") boolean admin,
-            @RequestParam(name = "keyword", required = false) String keyword) {
-        ListUsersInputData input = ListUsersInputData.forAdmin(admin, keyword);
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        ListUsersInputData input = ListUsersInputData.forAdmin(admin, keyword, limit);
         //listUsersUseCase.execute(input);
-        listUsersInputBoundary.execute(input);
-        return listUsersViewModel.getResponse();
+        return listUsersInputBoundary.execute(input, listUsersResponsePresenter);
     }
 
     @PostMapping
@@ -93,8 +93,7 @@ public class AdminUserController {
                 body.email, body.username, body.password, body.phoneNumber, body.address, body.role, body.active
         );
 
-        addUserInputBoundary.execute(input);
-        return addUserViewModel.getResponse();
+        return addUserInputBoundary.execute(input, addUserResponsePresenter);
     }
         //delete user
     @DeleteMapping("/{id}")
@@ -105,8 +104,7 @@ public class AdminUserController {
         }
 
         DeleteUserInputData input = DeleteUserInputData.forAdmin(admin, id);
-        deleteUserInputBoundary.execute(input);
-        return deleteUserViewModel.getResponse();
+        return deleteUserInputBoundary.execute(input, deleteUserResponsePresenter);
     }
 
     //sữa thông tin người dùng
@@ -130,8 +128,7 @@ public class AdminUserController {
                 body.active
         );
 
-        updateUserInputBoundary.execute(input);
-        return updateUserViewModel.getResponse();
+        return updateUserInputBoundary.execute(input, updateUserResponsePresenter);
     }
 
     // small internal class for request body mapping
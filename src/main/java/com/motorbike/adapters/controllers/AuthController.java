@@ -4,14 +4,13 @@ import com.motorbike.business.dto.login.LoginInputData;
 import com.motorbike.business.dto.register.RegisterInputData;
 import com.motorbike.business.usecase.control.LoginUseCaseControl;
 import com.motorbike.business.usecase.control.RegisterUseCaseControl;
-import com.motorbike.adapters.viewmodels.LoginViewModel;
-import com.motorbike.adapters.viewmodels.RegisterViewModel;
+import com.motorbike.adapters.presenters.LoginResponsePresenter;
+import com.motorbike.adapters.presenters.RegisterResponsePresenter;
 import com.motorbike.adapters.dto.request.RegisterRequest;
 import com.motorbike.adapters.dto.request.LoginRequest;
 import com.motorbike.adapters.dto.response.RegisterResponse;
 import com.motorbike.adapters.dto.response.LoginResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,18 +21,18 @@ public class AuthController {
 
     private final LoginUseCaseControl loginUseCase;
     private final RegisterUseCaseControl registerUseCase;
-    private final LoginViewModel loginViewModel;
-    private final RegisterViewModel registerViewModel;
+    private final LoginResponsePresenter loginResponsePresenter;
+    private final RegisterResponsePresenter registerResponsePresenter;
 
     @Autowired
     public AuthController(LoginUseCaseControl loginUseCase,
                          RegisterUseCaseControl registerUseCase,
-                         LoginViewModel loginViewModel,
-                         RegisterViewModel registerViewModel) {
+                         LoginResponsePresenter loginResponsePresenter,
+                         RegisterResponsePresenter registerResponsePresenter) {
         this.loginUseCase = loginUseCase;
         this.registerUseCase = registerUseCase;
-        this.loginViewModel = loginViewModel;
-        this.registerViewModel = registerViewModel;
+        this.loginResponsePresenter = loginResponsePresenter;
+        this.registerResponsePresenter = registerResponsePresenter;
     }
 
     @PostMapping("/register")
@@ -47,23 +46,7 @@ public class AuthController {
             request.getAddress()
         );
         
-        registerUseCase.execute(inputData);
-        
-        if (registerViewModel.success) {
-            RegisterResponse response = new RegisterResponse(
-                true, registerViewModel.userId, registerViewModel.email,
-                registerViewModel.username, registerViewModel.roleDisplay,
-                registerViewModel.registeredAtDisplay, registerViewModel.autoLoginEnabled,
-                registerViewModel.sessionToken, registerViewModel.message, null, null
-            );
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } else {
-            RegisterResponse response = new RegisterResponse(
-                false, null, null, null, null, null, false, null, null,
-                registerViewModel.errorCode, registerViewModel.errorMessage
-            );
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        }
+        return registerUseCase.execute(inputData, registerResponsePresenter);
     }
 
     @PostMapping("/login")
@@ -73,22 +56,6 @@ public class AuthController {
             request.getPassword()
         );
         
-        loginUseCase.execute(inputData);
-        
-        if (loginViewModel.success) {
-            LoginResponse response = new LoginResponse(
-                true, loginViewModel.userId, loginViewModel.email,
-                loginViewModel.username, loginViewModel.roleDisplay,
-                loginViewModel.cartId, loginViewModel.cartMerged, loginViewModel.mergedItemsCount,
-                loginViewModel.message, null, null
-            );
-            return ResponseEntity.ok(response);
-        } else {
-            LoginResponse response = new LoginResponse(
-                false, null, null, null, null, null, false, 0, null,
-                loginViewModel.errorCode, loginViewModel.errorMessage
-            );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
+        return loginUseCase.execute(inputData, loginResponsePresenter);
     }
 }
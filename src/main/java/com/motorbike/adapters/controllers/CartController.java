@@ -6,19 +6,17 @@ import com.motorbike.business.dto.updatecart.UpdateCartQuantityInputData;
 import com.motorbike.business.usecase.control.AddToCartUseCaseControl;
 import com.motorbike.business.usecase.control.ViewCartUseCaseControl;
 import com.motorbike.business.usecase.control.UpdateCartQuantityUseCaseControl;
-import com.motorbike.adapters.viewmodels.AddToCartViewModel;
-import com.motorbike.adapters.viewmodels.ViewCartViewModel;
-import com.motorbike.adapters.viewmodels.UpdateCartQuantityViewModel;
+import com.motorbike.adapters.presenters.AddToCartResponsePresenter;
+import com.motorbike.adapters.presenters.ViewCartResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateCartQuantityResponsePresenter;
 import com.motorbike.adapters.dto.request.AddToCartRequest;
 import com.motorbike.adapters.dto.request.UpdateCartRequest;
 import com.motorbike.adapters.dto.response.AddToCartResponse;
 import com.motorbike.adapters.dto.response.ViewCartResponse;
 import com.motorbike.adapters.dto.response.UpdateCartResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/cart")
@@ -28,23 +26,20 @@ public class CartController {
     private final AddToCartUseCaseControl addToCartUseCase;
     private final ViewCartUseCaseControl viewCartUseCase;
     private final UpdateCartQuantityUseCaseControl updateCartQuantityUseCase;
-    private final AddToCartViewModel addToCartViewModel;
-    private final ViewCartViewModel viewCartViewModel;
-    private final UpdateCartQuantityViewModel updateCartQuantityViewModel;
+    private final AddToCartResponsePresenter addToCartResponsePresenter;
+    private final UpdateCartQuantityResponsePresenter updateCartQuantityResponsePresenter;
 
     @Autowired
     public CartController(AddToCartUseCaseControl addToCartUseCase,
                          ViewCartUseCaseControl viewCartUseCase,
                          UpdateCartQuantityUseCaseControl updateCartQuantityUseCase,
-                         AddToCartViewModel addToCartViewModel,
-                         ViewCartViewModel viewCartViewModel,
-                         UpdateCartQuantityViewModel updateCartQuantityViewModel) {
+                         AddToCartResponsePresenter addToCartResponsePresenter,
+                         UpdateCartQuantityResponsePresenter updateCartQuantityResponsePresenter) {
         this.addToCartUseCase = addToCartUseCase;
         this.viewCartUseCase = viewCartUseCase;
         this.updateCartQuantityUseCase = updateCartQuantityUseCase;
-        this.addToCartViewModel = addToCartViewModel;
-        this.viewCartViewModel = viewCartViewModel;
-        this.updateCartQuantityViewModel = updateCartQuantityViewModel;
+        this.addToCartResponsePresenter = addToCartResponsePresenter;
+        this.updateCartQuantityResponsePresenter = updateCartQuantityResponsePresenter;
     }
 
     @PostMapping("/add")
@@ -54,88 +49,25 @@ public class CartController {
             request.getQuantity(),
             request.getUserId()
         );
-        
-        addToCartUseCase.execute(inputData);
-        if (addToCartViewModel.success) {
-            AddToCartResponse response = new AddToCartResponse(
-                true, addToCartViewModel.message, addToCartViewModel.cartId,
-                addToCartViewModel.totalItems, addToCartViewModel.totalQuantity,
-                null,
-                addToCartViewModel.productId, addToCartViewModel.productName,
-                addToCartViewModel.addedQuantity, addToCartViewModel.newItemQuantity,
-                addToCartViewModel.itemAlreadyInCart,
-                null,
-                addToCartViewModel.productStock,
-                null, null
-            );
-            return ResponseEntity.ok(response);
-        } else {
-            AddToCartResponse response = new AddToCartResponse(
-                false, null, null, 0, 0, null, null, null, 0, 0, false, null, 0,
-                addToCartViewModel.errorCode, addToCartViewModel.errorMessage
-            );
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        }
+
+        return addToCartUseCase.execute(inputData, addToCartResponsePresenter);
     }
 
     @GetMapping("/{userId}")
     public ResponseEntity<ViewCartResponse> viewCart(@PathVariable Long userId) {
         ViewCartInputData inputData = ViewCartInputData.forLoggedInUser(userId);
-        
-        viewCartUseCase.execute(inputData);
-        
-        List<ViewCartResponse.CartItemResponse> responseItems = null;
-        if (viewCartViewModel.items != null) {
-            responseItems = viewCartViewModel.items.stream()
-                .map(item -> new ViewCartResponse.CartItemResponse(
-                    item.productId,
-                    item.productName,
-                    item.productImageUrl,
-                    null,
-                    null,
-                    item.rawUnitPrice,
-                    item.quantity,
-                    item.availableStock,
-                    item.hasStockWarning,
-                    item.rawSubtotal
-                ))
-                .collect(java.util.stream.Collectors.toList());
-        }
-        
-        return ResponseEntity.ok(new ViewCartResponse(
-            viewCartViewModel.success, viewCartViewModel.message, viewCartViewModel.cartId,
-            userId, viewCartViewModel.totalItems, viewCartViewModel.totalQuantity,
-            viewCartViewModel.rawTotalAmount,
-            viewCartViewModel.isEmpty, viewCartViewModel.hasStockWarnings,
-            responseItems, null, viewCartViewModel.errorMessage
-        ));
+
+        return viewCartUseCase.execute(inputData, new ViewCartResponsePresenter(userId));
     }
 
     @PutMapping("/update")
     public ResponseEntity<UpdateCartResponse> updateCartQuantity(@RequestBody UpdateCartRequest request) {
-        updateCartQuantityViewModel.success = false;
-        updateCartQuantityViewModel.message = null;
-        updateCartQuantityViewModel.errorCode = null;
-        updateCartQuantityViewModel.errorMessage = null;
-        
         UpdateCartQuantityInputData inputData = new UpdateCartQuantityInputData(
             request.getCartId(),
             request.getProductId(),
             request.getNewQuantity()
         );
-        
-        updateCartQuantityUseCase.execute(inputData);
-        
-        if (updateCartQuantityViewModel.success) {
-            UpdateCartResponse response = new UpdateCartResponse(
-                true, updateCartQuantityViewModel.message, null, null
-            );
-            return ResponseEntity.ok(response);
-        } else {
-            UpdateCartResponse response = new UpdateCartResponse(
-                false, null, updateCartQuantityViewModel.errorCode, updateCartQuantityViewModel.errorMessage
-            );
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-        }
+
+        return updateCartQuantityUseCase.execute(inputData, updateCartQuantityResponsePresenter);
     }
 }
@@ -5,21 +5,21 @@ import java.math.BigDecimal;
 import com.motorbike.adapters.dto.request.UpdateMotorbikeRequest;
 
 import com.motorbike.adapters.dto.request.AddMotorbikeRequest;
-import com.motorbike.adapters.presenters.DeleteMotorbikePresenter;
-import com.motorbike.adapters.presenters.UpdateMotorbikePresenter;
+import com.motorbike.adapters.presenters.AddMotorbikeResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteMotorbikeResponsePresenter;
+import com.motorbike.adapters.presenters.GetAllMotorbikesResponsePresenter;
+import com.motorbike.adapters.presenters.GetMotorbikeFacetsResponsePresenter;
+import com.motorbike.adapters.presenters.SearchMotorbikesResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateMotorbikeResponsePresenter;
 import com.motorbike.business.dto.motorbike.AddMotorbikeInputData;
 import com.motorbike.business.dto.motorbike.DeleteMotorbikeInputData;
 import com.motorbike.business.usecase.input.AddMotorbikeInputBoundary;
 import com.motorbike.business.usecase.input.DeleteMotorbikeInputBoundary;
-import com.motorbike.adapters.viewmodels.AddMotorbikeViewModel;
-import com.motorbike.adapters.viewmodels.DeleteMotorbikeViewModel;
-import com.motorbike.adapters.viewmodels.GetAllMotorbikesViewModel;
-import com.motorbike.adapters.viewmodels.SearchMotorbikesViewModel;
-import com.motorbike.adapters.viewmodels.UpdateMotorbikeViewModel;
 import com.motorbike.business.usecase.input.GetAllMotorbikesInputBoundary;
+import com.motorbike.business.usecase.input.GetMotorbikeFacetsInputBoundary;
 import com.motorbike.business.usecase.input.SearchMotorbikesInputBoundary;
 import com.motorbike.business.usecase.input.UpdateMotorbikeInputBoundary;
-import com.motorbike.business.usecase.output.DeleteMotorbikeOutputBoundary;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsInputData;
 import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeInputData;
 
@@ -31,62 +31,50 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class MotorbikeController {
 
-    private final AddMotorbikeInputBoundary addMotorbikeUseCase;
-    private final AddMotorbikeViewModel addMotorbikeViewModel;
-
-    private final DeleteMotorbikeOutputBoundary deleteMotorbikePresenter;
-
-    private final DeleteMotorbikeViewModel deleteMotorbikeViewModel;
-
-
-    private final UpdateMotorbikePresenter updateMotorbikePresenter;
-    private final UpdateMotorbikeViewModel updateMotorbikeViewModel;
-
-
     private final GetAllMotorbikesInputBoundary getAllMotorbikesUseCase;
-    private final GetAllMotorbikesViewModel getAllViewModel;
+    private final GetAllMotorbikesResponsePresenter getAllResponsePresenter;
 
     private final SearchMotorbikesInputBoundary searchMotorbikesUseCase;
-    private final SearchMotorbikesViewModel searchViewModel;
+    private final SearchMotorbikesResponsePresenter searchResponsePresenter;
 
-    private final UpdateMotorbikeInputBoundary updateMotorbikeUseCase;
-    private final DeleteMotorbikeInputBoundary deleteMotorbikeUseCase;
+    private final GetMotorbikeFacetsInputBoundary getMotorbikeFacetsUseCase;
+    private final GetMotorbikeFacetsResponsePresenter facetsResponsePresenter;
 
+    private final AddMotorbikeInputBoundary addMotorbikeUseCase;
+    private final AddMotorbikeResponsePresenter addResponsePresenter;
 
+    private final UpdateMotorbikeInputBoundary updateMotorbikeUseCase;
+    private final UpdateMotorbikeResponsePresenter updateResponsePresenter;
+
+    private final DeleteMotorbikeInputBoundary deleteMotorbikeUseCase;
+    private final DeleteMotorbikeResponsePresenter deleteResponsePresenter;
 
     public MotorbikeController(
             GetAllMotorbikesInputBoundary getAllMotorbikesUseCase,
-            GetAllMotorbikesViewModel getAllViewModel,
+            GetAllMotorbikesResponsePresenter getAllResponsePresenter,
             SearchMotorbikesInputBoundary searchMotorbikesUseCase,
-            SearchMotorbikesViewModel searchViewModel,
+            SearchMotorbikesResponsePresenter searchResponsePresenter,
+            GetMotorbikeFacetsInputBoundary getMotorbikeFacetsUseCase,
+            GetMotorbikeFacetsResponsePresenter facetsResponsePresenter,
             AddMotorbikeInputBoundary addMotorbikeUseCase,
-            AddMotorbikeViewModel addMotorbikeViewModel,
+            AddMotorbikeResponsePresenter addResponsePresenter,
             UpdateMotorbikeInputBoundary updateMotorbikeUseCase,
-            UpdateMotorbikePresenter updateMotorbikePresenter,
-            UpdateMotorbikeViewModel updateMotorbikeViewModel,
-            DeleteMotorbikeOutputBoundary deleteMotorbikePresenter,
-
-            DeleteMotorbikeViewModel deleteMotorbikeViewModel,
-            DeleteMotorbikeInputBoundary deleteMotorbikeUseCase
-
-
-
-            
+            UpdateMotorbikeResponsePresenter updateResponsePresenter,
+            DeleteMotorbikeInputBoundary deleteMotorbikeUseCase,
+            DeleteMotorbikeResponsePresenter deleteResponsePresenter
     ) {
         this.getAllMotorbikesUseCase = getAllMotorbikesUseCase;
-        this.getAllViewModel = getAllViewModel;
+        this.getAllResponsePresenter = getAllResponsePresenter;
         this.searchMotorbikesUseCase = searchMotorbikesUseCase;
-        this.searchViewModel = searchViewModel;
+        this.searchResponsePresenter = searchResponsePresenter;
+        this.getMotorbikeFacetsUseCase = getMotorbikeFacetsUseCase;
+        this.facetsResponsePresenter = facetsResponsePresenter;
         this.addMotorbikeUseCase = addMotorbikeUseCase;
-        this.addMotorbikeViewModel = addMotorbikeViewModel;
+        this.addResponsePresenter = addResponsePresenter;
         this.updateMotorbikeUseCase = updateMotorbikeUseCase;
-        this.updateMotorbikePresenter = updateMotorbikePresenter;
-        this.updateMotorbikeViewModel = updateMotorbikeViewModel;
-        this.deleteMotorbikePresenter = deleteMotorbikePresenter;
-        this.deleteMotorbikeViewModel = deleteMotorbikeViewModel;
+        this.updateResponsePresenter = updateResponsePresenter;
         this.deleteMotorbikeUseCase = deleteMotorbikeUseCase;
-
-
+        this.deleteResponsePresenter = deleteResponsePresenter;
     }
 
     // ============================
@@ -95,15 +83,7 @@ public class MotorbikeController {
     @GetMapping
     public ResponseEntity<?> getAllMotorbikes() {
 
-        getAllMotorbikesUseCase.execute(null); // Không có input
-
-        if (getAllViewModel.hasError) {
-            return ResponseEntity
-                    .status(500)
-                    .body(new ErrorResponse(getAllViewModel.errorCode, getAllViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(getAllViewModel.motorbikes);
+        return getAllMotorbikesUseCase.execute(null, getAllResponsePresenter); // Không có input
     }
 
     // ============================
@@ -116,7 +96,11 @@ public class MotorbikeController {
             @RequestParam(required = false) String model,
             @RequestParam(required = false) String color,
             @RequestParam(required = false) Integer minCC,
-            @RequestParam(required = false) Integer maxCC
+            @RequestParam(required = false) Integer maxCC,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction
     ) {
 
         SearchMotorbikesInputData input = new SearchMotorbikesInputData(
@@ -125,18 +109,37 @@ public class MotorbikeController {
                 model,
                 color,
                 minCC,
-                maxCC
+                maxCC,
+                page,
+                size,
+                sort,
+                direction
         );
 
-        searchMotorbikesUseCase.execute(input);
+        return searchMotorbikesUseCase.execute(input, searchResponsePresenter);
+    }
 
-        if (searchViewModel.hasError) {
-            return ResponseEntity
-                    .status(400)
-                    .body(new ErrorResponse(searchViewModel.errorCode, searchViewModel.errorMessage));
-        }
+    // ============================
+    // 2b) FACET COUNTS (thanh lọc)
+    // ============================
+    @GetMapping("/facets")
+    public ResponseEntity<?> getMotorbikeFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String color,
+            @RequestParam(required = false) Integer minCC,
+            @RequestParam(required = false) Integer maxCC
+    ) {
 
-        return ResponseEntity.ok(searchViewModel.motorbikes);
+        return getMotorbikeFacetsUseCase.execute(new GetMotorbikeFacetsInputData(
+                keyword,
+                brand,
+                model,
+                color,
+                minCC,
+                maxCC
+        ), facetsResponsePresenter);
     }
 
     // ============================
@@ -159,16 +162,7 @@ public class MotorbikeController {
                 request.productType 
         );
 
-        addMotorbikeUseCase.execute(input);
-
-        if (addMotorbikeViewModel.hasError) {
-            return ResponseEntity
-                    .status(400)
-                    .body(new ErrorResponse(addMotorbikeViewModel.errorCode, addMotorbikeViewModel.errorMessage));
-        }
-
-        return ResponseEntity.ok(addMotorbikeViewModel.motorbike);
-
+        return addMotorbikeUseCase.execute(input, addResponsePresenter);
     }
 
     @PutMapping("/update/{id}")
@@ -191,20 +185,7 @@ public class MotorbikeController {
                 request.displacement == null ? 0 : request.displacement
         );
 
-        // Gọi use case -> đi qua presenter -> presenter GÁN DATA vào bean updateMotorbikeViewModel (request-scope)
-        updateMotorbikeUseCase.execute(input);
-
-        // Lấy đúng bean đã được Spring inject ở constructor
-        UpdateMotorbikeViewModel vm = this.updateMotorbikeViewModel;
-
-        if (vm.hasError) {
-            return ResponseEntity
-                    .badRequest()
-                    .body(new ErrorResponse(vm.errorCode, vm.errorMessage));
-        }
-
-        // Trả ra đúng object motorbike, không phải số 1 nữa
-        return ResponseEntity.ok(vm.motorbike);
+        return updateMotorbikeUseCase.execute(input, updateResponsePresenter);
     }
 
 
@@ -214,35 +195,6 @@ public class MotorbikeController {
 
         DeleteMotorbikeInputData input = new DeleteMotorbikeInputData(id);
 
-        deleteMotorbikeUseCase.execute(input);
-
-        DeleteMotorbikeViewModel vm = this.deleteMotorbikeViewModel;
-
-        if (!vm.success) {
-            return ResponseEntity
-                    .badRequest()
-                    .body(new ErrorResponse(vm.errorCode, vm.errorMessage));
-        }
-
-        return ResponseEntity.ok("Deleted successfully");
-    }
-
-
-
-
-
-
-
-    // ============================
-    // ERROR RESPONSE
-    // ============================
-    private static class ErrorResponse {
-        public String errorCode;
-        public String errorMessage;
-
-        public ErrorResponse(String errorCode, String errorMessage) {
-            this.errorCode = errorCode;
-            this.errorMessage = errorMessage;
-        }
+        return deleteMotorbikeUseCase.execute(input, deleteResponsePresenter);
     }
 }
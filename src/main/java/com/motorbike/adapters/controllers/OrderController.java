@@ -2,15 +2,13 @@ package com.motorbike.adapters.controllers;
 
 import com.motorbike.business.dto.checkout.CheckoutInputData;
 import com.motorbike.business.usecase.control.CheckoutUseCaseControl;
-import com.motorbike.adapters.viewmodels.CheckoutViewModel;
 import com.motorbike.adapters.dto.request.CheckoutRequest;
 import com.motorbike.adapters.dto.response.CheckoutResponse;
+import com.motorbike.adapters.presenters.CheckoutResponsePresenter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
-import java.util.List;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,13 +19,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final CheckoutUseCaseControl checkoutUseCase;
-    private final CheckoutViewModel checkoutViewModel;
+    private final CheckoutResponsePresenter checkoutResponsePresenter;
 
     @Autowired
     public OrderController(CheckoutUseCaseControl checkoutUseCase,
-                          CheckoutViewModel checkoutViewModel) {
+                          CheckoutResponsePresenter checkoutResponsePresenter) {
         this.checkoutUseCase = checkoutUseCase;
-        this.checkoutViewModel = checkoutViewModel;
+        this.checkoutResponsePresenter = checkoutResponsePresenter;
     }
 
     @PostMapping("/checkout")
@@ -39,35 +37,8 @@ public class OrderController {
             request.getShippingAddress(),
             request.getNote()
         );
-        
-        checkoutUseCase.execute(inputData);
 
-        if (checkoutViewModel.success) {
-            List<CheckoutResponse.OrderItemResponse> responseItems = null;
-            if (checkoutViewModel.items != null) {
-                responseItems = checkoutViewModel.items.stream()
-                    .map(item -> new CheckoutResponse.OrderItemResponse(
-                        item.productId, item.productName, null,
-                        item.quantity, null
-                    ))
-                    .collect(java.util.stream.Collectors.toList());
-            }
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(
-                new CheckoutResponse(true, checkoutViewModel.message, checkoutViewModel.orderId,
-                    checkoutViewModel.customerId, checkoutViewModel.customerName,
-                    checkoutViewModel.customerEmail, checkoutViewModel.customerPhone,
-                    checkoutViewModel.shippingAddress, checkoutViewModel.orderStatus,
-                    null,
-                    checkoutViewModel.totalItems, checkoutViewModel.totalQuantity,
-                    checkoutViewModel.formattedOrderDate, responseItems, null, null)
-            );
-        } else {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-                new CheckoutResponse(false, null, null, null, null, null, null, null, null,
-                    null, 0, 0, null, null, checkoutViewModel.errorCode, checkoutViewModel.errorMessage)
-            );
-        }
+        return checkoutUseCase.execute(inputData, checkoutResponsePresenter);
     }
     
 }
@@ -6,10 +6,9 @@ import com.motorbike.business.ports.repository.ProductRepository;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.XeMay;
 import com.motorbike.domain.entities.PhuKienXeMay;
-import com.motorbike.adapters.viewmodels.ProductDetailViewModel;
 import com.motorbike.adapters.dto.response.ProductDetailResponse;
+import com.motorbike.adapters.presenters.ProductDetailResponsePresenter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -23,49 +22,23 @@ import java.util.HashMap;
 public class ProductController {
 
     private final GetProductDetailUseCaseControl getProductDetailUseCase;
-    private final ProductDetailViewModel productDetailViewModel;
+    private final ProductDetailResponsePresenter productDetailResponsePresenter;
     private final ProductRepository productRepository;
 
     @Autowired
     public ProductController(GetProductDetailUseCaseControl getProductDetailUseCase,
-                            ProductDetailViewModel productDetailViewModel,
+                            ProductDetailResponsePresenter productDetailResponsePresenter,
                             ProductRepository productRepository) {
         this.getProductDetailUseCase = getProductDetailUseCase;
-        this.productDetailViewModel = productDetailViewModel;
+        this.productDetailResponsePresenter = productDetailResponsePresenter;
         this.productRepository = productRepository;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProductDetailResponse> getProductDetail(@PathVariable Long id) {
         GetProductDetailInputData inputData = new GetProductDetailInputData(id);
-        
-        getProductDetailUseCase.execute(inputData);
 
-        if (!productDetailViewModel.hasError) {
-            ProductDetailResponse response = new ProductDetailResponse(
-                true,
-                productDetailViewModel.productId,
-                productDetailViewModel.name,
-                productDetailViewModel.description,
-                productDetailViewModel.formattedPrice,
-                productDetailViewModel.imageUrl,
-                productDetailViewModel.specifications,
-                productDetailViewModel.categoryDisplay,
-                productDetailViewModel.stockQuantity,
-                productDetailViewModel.availabilityStatus,
-                productDetailViewModel.errorCode,
-                productDetailViewModel.errorMessage
-            );
-            return ResponseEntity.ok(response);
-        } else {
-            ProductDetailResponse response = new ProductDetailResponse(
-                false,
-                null, null, null, null, null, null, null, null, null,
-                productDetailViewModel.errorCode,
-                productDetailViewModel.errorMessage
-            );
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-        }
+        return getProductDetailUseCase.execute(inputData, productDetailResponsePresenter);
     }
 
     @GetMapping
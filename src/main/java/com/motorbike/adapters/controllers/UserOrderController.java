@@ -1,8 +1,5 @@
 package com.motorbike.adapters.controllers;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,10 +18,10 @@ import com.motorbike.adapters.dto.response.CancelOrderResponse;
 import com.motorbike.adapters.dto.response.ListMyOrdersResponse;
 import com.motorbike.adapters.dto.response.OrderDetailResponse;
 import com.motorbike.adapters.dto.response.UpdateOrderInforResponse;
-import com.motorbike.adapters.viewmodels.CancelOrderViewModel;
-import com.motorbike.adapters.viewmodels.ListMyOrdersViewModel;
-import com.motorbike.adapters.viewmodels.OrderDetailViewModel;
-import com.motorbike.adapters.viewmodels.UpdateOrderInforViewModel;
+import com.motorbike.adapters.presenters.CancelOrderResponsePresenter;
+import com.motorbike.adapters.presenters.ListMyOrdersResponsePresenter;
+import com.motorbike.adapters.presenters.OrderDetailResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateOrderInforResponsePresenter;
 import com.motorbike.business.dto.cancelorder.CancelOrderInputData;
 import com.motorbike.business.dto.listmyorders.ListMyOrdersInputData;
 import com.motorbike.business.dto.orderdetail.OrderDetailInputData;
@@ -39,31 +36,31 @@ import com.motorbike.business.usecase.control.UpdateOrderInforUseCaseControl;
 @CrossOrigin(origins = "*")
 public class UserOrderController {
     private final ListMyOrdersUseCaseControl listMyOrdersUseCase;
-    private final ListMyOrdersViewModel listMyOrdersViewModel;
+    private final ListMyOrdersResponsePresenter listMyOrdersResponsePresenter;
     private final OrderDetailUseCaseControl orderDetailUseCase;
-    private final OrderDetailViewModel orderDetailViewModel;
+    private final OrderDetailResponsePresenter orderDetailResponsePresenter;
     private final CancelOrderUseCaseControl cancelOrderUseCase;
-    private final CancelOrderViewModel cancelOrderViewModel;
+    private final CancelOrderResponsePresenter cancelOrderResponsePresenter;
     private final UpdateOrderInforUseCaseControl updateOrderInforUseCase;
-    private final UpdateOrderInforViewModel updateOrderInforViewModel;
+    private final UpdateOrderInforResponsePresenter updateOrderInforResponsePresenter;
 
     @Autowired
     public UserOrderController(ListMyOrdersUseCaseControl listMyOrdersUseCase,
-                               ListMyOrdersViewModel listMyOrdersViewModel,
+                               ListMyOrdersResponsePresenter listMyOrdersResponsePresenter,
                                OrderDetailUseCaseControl orderDetailUseCase,
-                               OrderDetailViewModel orderDetailViewModel,
+                               OrderDetailResponsePresenter orderDetailResponsePresenter,
                                CancelOrderUseCaseControl cancelOrderUseCase,
-                               CancelOrderViewModel cancelOrderViewModel,
+                               CancelOrderResponsePresenter cancelOrderResponsePresenter,
                                UpdateOrderInforUseCaseControl updateOrderInforUseCase,
-                               UpdateOrderInforViewModel updateOrderInforViewModel) {
+                               UpdateOrderInforResponsePresenter updateOrderInforResponsePresenter) {
         this.listMyOrdersUseCase = listMyOrdersUseCase;
-        this.listMyOrdersViewModel = listMyOrdersViewModel;
+        this.listMyOrdersResponsePresenter = listMyOrdersResponsePresenter;
         this.orderDetailUseCase = orderDetailUseCase;
-        this.orderDetailViewModel = orderDetailViewModel;
+        this.orderDetailResponsePresenter = orderDetailResponsePresenter;
         this.cancelOrderUseCase = cancelOrderUseCase;
-        this.cancelOrderViewModel = cancelOrderViewModel;
+        this.cancelOrderResponsePresenter = cancelOrderResponsePresenter;
         this.updateOrderInforUseCase = updateOrderInforUseCase;
-        this.updateOrderInforViewModel = updateOrderInforViewModel;
+        this.updateOrderInforResponsePresenter = updateOrderInforResponsePresenter;
     }
 
     @GetMapping("/{userId}")
@@ -71,121 +68,14 @@ public class UserOrderController {
         // User chỉ xem được đơn hàng của chính họ
         ListMyOrdersInputData inputData = ListMyOrdersInputData.forUser(userId);
 
-        // Gọi use case
-        listMyOrdersUseCase.execute(inputData);
-
-        // Nếu thành công
-        if (listMyOrdersViewModel.success) {
-            List<ListMyOrdersResponse.OrderItemResponse> orderResponses = new ArrayList<>();
-
-            if (listMyOrdersViewModel.orders != null) {
-                for (ListMyOrdersViewModel.OrderItemViewModel item : listMyOrdersViewModel.orders) {
-                    orderResponses.add(new ListMyOrdersResponse.OrderItemResponse(
-                            item.orderId,
-                            item.customerId,
-                            item.customerName,
-                            item.customerPhone,
-                            item.shippingAddress,
-                            item.orderStatus,
-                            item.formattedTotalAmount,
-                            item.totalItems,
-                            item.totalQuantity,
-                            item.formattedOrderDate,
-                            item.statusColor
-                    ));
-                }
-            }
-
-            ListMyOrdersResponse response = new ListMyOrdersResponse(
-                true,
-                orderResponses,
-                listMyOrdersViewModel.message,
-                null,
-                null
-            );
-
-            return ResponseEntity.ok(response);
-        }
-
-        // Nếu thất bại
-        ListMyOrdersResponse errorResponse = new ListMyOrdersResponse(
-            false,
-            new ArrayList<>(),
-            listMyOrdersViewModel.message,
-            listMyOrdersViewModel.errorCode,
-            listMyOrdersViewModel.errorMessage
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return listMyOrdersUseCase.execute(inputData, listMyOrdersResponsePresenter);
     }
 
     @GetMapping("/{userId}/{orderId}")
     public ResponseEntity<OrderDetailResponse> getOrderDetail(@PathVariable Long userId,
                                                               @PathVariable Long orderId) {
         OrderDetailInputData inputData = OrderDetailInputData.forUser(orderId, userId);
-        orderDetailUseCase.execute(inputData);
-
-        if (orderDetailViewModel.success) {
-            List<OrderDetailResponse.OrderItemResponse> itemResponses = new ArrayList<>();
-            if (orderDetailViewModel.items != null) {
-                for (OrderDetailViewModel.OrderItemViewModel item : orderDetailViewModel.items) {
-                    itemResponses.add(new OrderDetailResponse.OrderItemResponse(
-                            item.orderItemId,
-                            item.productId,
-                            item.productName,
-                            item.formattedUnitPrice,
-                            item.quantity,
-                            item.formattedLineTotal
-                    ));
-                }
-            }
-
-            OrderDetailResponse response = new OrderDetailResponse(
-                    true,
-                    orderDetailViewModel.message,
-                    orderDetailViewModel.orderId,
-                    orderDetailViewModel.customerId,
-                    orderDetailViewModel.receiverName,
-                    orderDetailViewModel.phoneNumber,
-                    orderDetailViewModel.shippingAddress,
-                    orderDetailViewModel.orderStatus,
-                    orderDetailViewModel.statusColor,
-                    orderDetailViewModel.formattedTotalAmount,
-                    orderDetailViewModel.totalItems,
-                    orderDetailViewModel.totalQuantity,
-                    orderDetailViewModel.note,
-                    orderDetailViewModel.formattedOrderDate,
-                    orderDetailViewModel.formattedUpdatedDate,
-                    itemResponses,
-                    null,
-                    null
-            );
-
-            return ResponseEntity.ok(response);
-        }
-
-        OrderDetailResponse errorResponse = new OrderDetailResponse(
-                false,
-                orderDetailViewModel.message,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                0,
-                0,
-                null,
-                null,
-                null,
-                new ArrayList<>(),
-                orderDetailViewModel.errorCode,
-                orderDetailViewModel.errorMessage
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return orderDetailUseCase.execute(inputData, orderDetailResponsePresenter);
     }
 
     @DeleteMapping("/{orderId}/cancel")
@@ -212,32 +102,7 @@ public class UserOrderController {
                 request.getCancelReason()
         );
 
-        cancelOrderUseCase.execute(inputData);
-
-        if (cancelOrderViewModel.success) {
-            CancelOrderResponse response = new CancelOrderResponse(
-                    true,
-                    cancelOrderViewModel.orderId,
-                    cancelOrderViewModel.orderStatus,
-                    cancelOrderViewModel.formattedRefundAmount,
-                    cancelOrderViewModel.message,
-                    null,
-                    null
-            );
-            return ResponseEntity.ok(response);
-        }
-
-        CancelOrderResponse errorResponse = new CancelOrderResponse(
-                false,
-                null,
-                null,
-                null,
-                null,
-                cancelOrderViewModel.errorCode,
-                cancelOrderViewModel.errorMessage
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return cancelOrderUseCase.execute(inputData, cancelOrderResponsePresenter);
     }
 
     @PutMapping("/{orderId}/shipping")
@@ -282,42 +147,6 @@ public class UserOrderController {
             request.getNote()
         );
 
-        updateOrderInforUseCase.execute(inputData);
-
-        if (updateOrderInforViewModel.success) {
-            UpdateOrderInforResponse response = new UpdateOrderInforResponse(
-                true,
-                updateOrderInforViewModel.orderId,
-                updateOrderInforViewModel.customerId,
-                updateOrderInforViewModel.receiverName,
-                updateOrderInforViewModel.phoneNumber,
-                updateOrderInforViewModel.shippingAddress,
-                updateOrderInforViewModel.note,
-                updateOrderInforViewModel.orderStatus,
-                updateOrderInforViewModel.updatedAtDisplay,
-                updateOrderInforViewModel.message,
-                null,
-                null
-            );
-
-            return ResponseEntity.ok(response);
-        }
-
-        UpdateOrderInforResponse errorResponse = new UpdateOrderInforResponse(
-            false,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            updateOrderInforViewModel.message,
-            updateOrderInforViewModel.errorCode,
-            updateOrderInforViewModel.errorMessage
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return updateOrderInforUseCase.execute(inputData, updateOrderInforResponsePresenter);
     }
 }
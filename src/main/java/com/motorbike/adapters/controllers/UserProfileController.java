@@ -16,9 +16,9 @@ import com.motorbike.adapters.dto.request.UpdateUserProfileRequest;
 import com.motorbike.adapters.dto.response.ChangePasswordResponse;
 import com.motorbike.adapters.dto.response.GetUserProfileResponse;
 import com.motorbike.adapters.dto.response.UpdateUserProfileResponse;
-import com.motorbike.adapters.viewmodels.ChangePasswordViewModelImpl;
-import com.motorbike.adapters.viewmodels.GetUserProfileViewModel;
-import com.motorbike.adapters.viewmodels.UpdateUserProfileViewModel;
+import com.motorbike.adapters.presenters.ChangePasswordResponsePresenter;
+import com.motorbike.adapters.presenters.GetUserProfileResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateUserProfileResponsePresenter;
 import com.motorbike.business.dto.changepassword.ChangePasswordInputData;
 import com.motorbike.business.dto.userprofile.GetUserProfileInputData;
 import com.motorbike.business.dto.userprofile.UpdateUserProfileInputData;
@@ -32,28 +32,28 @@ import com.motorbike.business.usecase.input.UpdateUserProfileInputBoundary;
 public class UserProfileController {
 
     private final GetUserProfileInputBoundary getUserProfileInputBoundary;
-    private final GetUserProfileViewModel getUserProfileViewModel;
+    private final GetUserProfileResponsePresenter getUserProfileResponsePresenter;
 
     private final UpdateUserProfileInputBoundary updateUserProfileInputBoundary;
-    private final UpdateUserProfileViewModel updateUserProfileViewModel;
+    private final UpdateUserProfileResponsePresenter updateUserProfileResponsePresenter;
 
     private final ChangePasswordInputBoundary changePasswordInputBoundary;
-    private final ChangePasswordViewModelImpl changePasswordViewModel;
+    private final ChangePasswordResponsePresenter changePasswordResponsePresenter;
 
     @Autowired
     public UserProfileController(
             GetUserProfileInputBoundary getUserProfileInputBoundary,
-            GetUserProfileViewModel getUserProfileViewModel,
+            GetUserProfileResponsePresenter getUserProfileResponsePresenter,
             UpdateUserProfileInputBoundary updateUserProfileInputBoundary,
-            UpdateUserProfileViewModel updateUserProfileViewModel,
+            UpdateUserProfileResponsePresenter updateUserProfileResponsePresenter,
             ChangePasswordInputBoundary changePasswordInputBoundary,
-            ChangePasswordViewModelImpl changePasswordViewModel) {
+            ChangePasswordResponsePresenter changePasswordResponsePresenter) {
         this.getUserProfileInputBoundary = getUserProfileInputBoundary;
-        this.getUserProfileViewModel = getUserProfileViewModel;
+        this.getUserProfileResponsePresenter = getUserProfileResponsePresenter;
         this.updateUserProfileInputBoundary = updateUserProfileInputBoundary;
-        this.updateUserProfileViewModel = updateUserProfileViewModel;
+        this.updateUserProfileResponsePresenter = updateUserProfileResponsePresenter;
         this.changePasswordInputBoundary = changePasswordInputBoundary;
-        this.changePasswordViewModel = changePasswordViewModel;
+        this.changePasswordResponsePresenter = changePasswordResponsePresenter;
     }
 
     /**
@@ -64,8 +64,7 @@ public class UserProfileController {
     @GetMapping("/{userId}")
     public ResponseEntity<GetUserProfileResponse> getUserProfile(@PathVariable Long userId) {
         GetUserProfileInputData input = GetUserProfileInputData.of(userId);
-        getUserProfileInputBoundary.execute(input);
-        return getUserProfileViewModel.getResponse();
+        return getUserProfileInputBoundary.execute(input, getUserProfileResponsePresenter);
     }
 
     /**
@@ -83,8 +82,7 @@ public class UserProfileController {
             request.getPhoneNumber(),
             request.getAddress()
         );
-        updateUserProfileInputBoundary.execute(input);
-        return updateUserProfileViewModel.getResponse();
+        return updateUserProfileInputBoundary.execute(input, updateUserProfileResponsePresenter);
     }
 
     /**
@@ -103,7 +101,6 @@ public class UserProfileController {
             request.getNewPassword(),
             request.getConfirmPassword()
         );
-        changePasswordInputBoundary.execute(input);
-        return changePasswordViewModel.getResponse();
+        return changePasswordInputBoundary.execute(input, changePasswordResponsePresenter);
     }
 }
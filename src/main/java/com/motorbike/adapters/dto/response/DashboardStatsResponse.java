@@ -0,0 +1,78 @@
+package com.motorbike.adapters.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData.CountItem;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData.RevenueItem;
+
+public class DashboardStatsResponse {
+
+    public static class Orders {
+        public final long total;
+        public final List<CountItem> byStatus;
+
+        public Orders(long total, List<CountItem> byStatus) {
+            this.total = total;
+            this.byStatus = byStatus;
+        }
+    }
+
+    public static class Revenue {
+        public final BigDecimal total;
+        public final List<RevenueItem> byDay;
+        public final List<RevenueItem> byMonth;
+
+        public Revenue(BigDecimal total, List<RevenueItem> byDay, List<RevenueItem> byMonth) {
+            this.total = total;
+            this.byDay = byDay;
+            this.byMonth = byMonth;
+        }
+    }
+
+    public static class Users {
+        public final long total;
+        public final long active;
+        public final long inactive;
+        public final List<CountItem> byRole;
+
+        public Users(long total, long active, long inactive, List<CountItem> byRole) {
+            this.total = total;
+            this.active = active;
+            this.inactive = inactive;
+            this.byRole = byRole;
+        }
+    }
+
+    public static class Products {
+        public final long total;
+        public final long motorbikes;
+        public final long accessories;
+        public final long lowStock;
+        public final int lowStockThreshold;
+
+        public Products(long total, long motorbikes, long accessories, long lowStock, int lowStockThreshold) {
+            this.total = total;
+            this.motorbikes = motorbikes;
+            this.accessories = accessories;
+            this.lowStock = lowStock;
+            this.lowStockThreshold = lowStockThreshold;
+        }
+    }
+
+    public final Orders orders;
+    public final Revenue revenue;
+    public final Users users;
+    public final Products products;
+    public final LocalDateTime reconciledAt;
+
+    public DashboardStatsResponse(Orders orders, Revenue revenue, Users users, Products products,
+                                  LocalDateTime reconciledAt) {
+        this.orders = orders;
+        this.revenue = revenue;
+        this.users = users;
+        this.products = products;
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.motorbike.adapters.dto.response;
+
+// Thân lỗi dùng chung { errorCode, errorMessage } như các ErrorResponse riêng trong controller
+public class ErrorResponse {
+    public final String errorCode;
+    public final String errorMessage;
+
+    public ErrorResponse(String errorCode, String errorMessage) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -8,14 +8,25 @@ public class ListAllOrdersResponse {
     private String message;
     private String errorCode;
     private String errorMessage;
+    private String nextCursor;
+    private boolean hasMore;
     public ListAllOrdersResponse(boolean success, List<OrderItemResponse> orders,
                                 String message,
                                 String errorCode, String errorMessage) {
+        this(success, orders, message, errorCode, errorMessage, null);
+    }
+
+    public ListAllOrdersResponse(boolean success, List<OrderItemResponse> orders,
+                                String message,
+                                String errorCode, String errorMessage,
+                                String nextCursor) {
         this.success = success;
         this.orders = orders;
         this.message = message;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
     }
 
     public boolean isSuccess() { return success; }
@@ -23,6 +34,8 @@ public class ListAllOrdersResponse {
     public String getMessage() { return message; }
     public String getErrorCode() { return errorCode; }
     public String getErrorMessage() { return errorMessage; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasMore() { return hasMore; }
 
     
     public static class OrderItemResponse {
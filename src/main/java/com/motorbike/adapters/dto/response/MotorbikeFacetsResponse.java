@@ -0,0 +1,26 @@
+package com.motorbike.adapters.dto.response;
+
+import java.util.List;
+
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData.DisplacementFacet;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData.FacetValue;
+
+public class MotorbikeFacetsResponse {
+    public final long total;
+    public final List<FacetValue> brands;
+    public final List<FacetValue> models;
+    public final List<FacetValue> colors;
+    public final List<FacetValue> years;
+    public final List<DisplacementFacet> displacements;
+
+    public MotorbikeFacetsResponse(long total, List<FacetValue> brands, List<FacetValue> models,
+                                   List<FacetValue> colors, List<FacetValue> years,
+                                   List<DisplacementFacet> displacements) {
+        this.total = total;
+        this.brands = brands;
+        this.models = models;
+        this.colors = colors;
+        this.years = years;
+        this.displacements = displacements;
+    }
+}
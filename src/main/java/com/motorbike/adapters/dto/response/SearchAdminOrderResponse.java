@@ -6,14 +6,16 @@ public class SearchAdminOrderResponse {
     
     private final boolean success;
     private final List<OrderItemResponse> orders;
+    private final boolean truncated;
     private final String message;
     private final String errorCode;
     private final String errorMessage;
 
-    public SearchAdminOrderResponse(boolean success, List<OrderItemResponse> orders, 
+    public SearchAdminOrderResponse(boolean success, List<OrderItemResponse> orders, boolean truncated,
                                    String message, String errorCode, String errorMessage) {
         this.success = success;
         this.orders = orders;
+        this.truncated = truncated;
         this.message = message;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
@@ -27,6 +29,10 @@ public class SearchAdminOrderResponse {
         return orders;
     }
 
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     public String getMessage() {
         return message;
     }
@@ -0,0 +1,10 @@
+package com.motorbike.adapters.dto.response;
+
+// Thân thành công chỉ có { message }, như SuccessResponse riêng trước đây trong AccessoryController
+public class SuccessResponse {
+    public final String message;
+
+    public SuccessResponse(String message) {
+        this.message = message;
+    }
+}
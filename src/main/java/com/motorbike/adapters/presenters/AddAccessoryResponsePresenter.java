@@ -0,0 +1,20 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.accessory.AddAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class AddAccessoryResponsePresenter implements ResultPresenter<AddAccessoryOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(AddAccessoryOutputData outputData) {
+        if (!outputData.success) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(outputData.accessory);
+    }
+}
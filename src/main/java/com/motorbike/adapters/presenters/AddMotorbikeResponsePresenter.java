@@ -0,0 +1,19 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.motorbike.AddMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class AddMotorbikeResponsePresenter implements ResultPresenter<AddMotorbikeOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(AddMotorbikeOutputData outputData) {
+        if (outputData.hasError) {
+            return ResponseEntity.status(400).body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(outputData.motorbike);
+    }
+}
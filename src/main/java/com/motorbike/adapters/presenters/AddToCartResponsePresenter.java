@@ -0,0 +1,40 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.AddToCartResponse;
+import com.motorbike.adapters.viewmodels.AddToCartViewModel;
+import com.motorbike.business.dto.addtocart.AddToCartOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do AddToCartPresenter đảm nhiệm
+public class AddToCartResponsePresenter implements ResultPresenter<AddToCartOutputData, ResponseEntity<AddToCartResponse>> {
+
+    @Override
+    public ResponseEntity<AddToCartResponse> present(AddToCartOutputData outputData) {
+        AddToCartViewModel viewModel = new AddToCartViewModel();
+        new AddToCartPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            AddToCartResponse response = new AddToCartResponse(
+                true, viewModel.message, viewModel.cartId,
+                viewModel.totalItems, viewModel.totalQuantity,
+                null,
+                viewModel.productId, viewModel.productName,
+                viewModel.addedQuantity, viewModel.newItemQuantity,
+                viewModel.itemAlreadyInCart,
+                null,
+                viewModel.productStock,
+                null, null
+            );
+            return ResponseEntity.ok(response);
+        }
+
+        AddToCartResponse response = new AddToCartResponse(
+            false, null, null, 0, 0, null, null, null, 0, 0, false, null, 0,
+            viewModel.errorCode, viewModel.errorMessage
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
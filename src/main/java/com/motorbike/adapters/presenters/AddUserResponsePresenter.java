@@ -0,0 +1,32 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.business.dto.adduser.AddUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.adapters.dto.response.AddUserResponse;
+
+public class AddUserResponsePresenter implements ResultPresenter<AddUserOutputData, ResponseEntity<AddUserResponse>> {
+
+    @Override
+    public ResponseEntity<AddUserResponse> present(AddUserOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(AddUserResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(AddUserResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        AddUserResponse.SuccessData s = new AddUserResponse.SuccessData(
+                outputData.getId(),
+                outputData.getEmail(),
+                outputData.getUsername(),
+                outputData.getRole(),
+                outputData.isActive(),
+                outputData.getCreatedAt()
+        );
+
+        return ResponseEntity.ok(AddUserResponse.success(s));
+    }
+}
@@ -0,0 +1,44 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.CancelOrderResponse;
+import com.motorbike.adapters.viewmodels.CancelOrderViewModel;
+import com.motorbike.business.dto.cancelorder.CancelOrderOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do CancelOrderPresenter đảm nhiệm
+public class CancelOrderResponsePresenter implements ResultPresenter<CancelOrderOutputData, ResponseEntity<CancelOrderResponse>> {
+
+    @Override
+    public ResponseEntity<CancelOrderResponse> present(CancelOrderOutputData outputData) {
+        CancelOrderViewModel viewModel = new CancelOrderViewModel();
+        new CancelOrderPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            CancelOrderResponse response = new CancelOrderResponse(
+                    true,
+                    viewModel.orderId,
+                    viewModel.orderStatus,
+                    viewModel.formattedRefundAmount,
+                    viewModel.message,
+                    null,
+                    null
+            );
+            return ResponseEntity.ok(response);
+        }
+
+        CancelOrderResponse errorResponse = new CancelOrderResponse(
+                false,
+                null,
+                null,
+                null,
+                null,
+                viewModel.errorCode,
+                viewModel.errorMessage
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
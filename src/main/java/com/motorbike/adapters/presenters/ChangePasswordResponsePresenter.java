@@ -0,0 +1,25 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ChangePasswordResponse;
+import com.motorbike.business.dto.changepassword.ChangePasswordOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class ChangePasswordResponsePresenter implements ResultPresenter<ChangePasswordOutputData, ResponseEntity<ChangePasswordResponse>> {
+
+    @Override
+    public ResponseEntity<ChangePasswordResponse> present(ChangePasswordOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(ChangePasswordResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(ChangePasswordResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        ChangePasswordResponse s = ChangePasswordResponse.success("Đổi mật khẩu thành công", outputData.getChangedAt());
+
+        return ResponseEntity.ok(s);
+    }
+}
@@ -0,0 +1,49 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.CheckoutResponse;
+import com.motorbike.adapters.viewmodels.CheckoutViewModel;
+import com.motorbike.business.dto.checkout.CheckoutOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do CheckoutPresenter đảm nhiệm
+public class CheckoutResponsePresenter implements ResultPresenter<CheckoutOutputData, ResponseEntity<CheckoutResponse>> {
+
+    @Override
+    public ResponseEntity<CheckoutResponse> present(CheckoutOutputData outputData) {
+        CheckoutViewModel viewModel = new CheckoutViewModel();
+        new CheckoutPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            List<CheckoutResponse.OrderItemResponse> responseItems = null;
+            if (viewModel.items != null) {
+                responseItems = viewModel.items.stream()
+                    .map(item -> new CheckoutResponse.OrderItemResponse(
+                        item.productId, item.productName, null,
+                        item.quantity, null
+                    ))
+                    .collect(Collectors.toList());
+            }
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(
+                new CheckoutResponse(true, viewModel.message, viewModel.orderId,
+                    viewModel.customerId, viewModel.customerName,
+                    viewModel.customerEmail, viewModel.customerPhone,
+                    viewModel.shippingAddress, viewModel.orderStatus,
+                    null,
+                    viewModel.totalItems, viewModel.totalQuantity,
+                    viewModel.formattedOrderDate, responseItems, null, null)
+            );
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+            new CheckoutResponse(false, null, null, null, null, null, null, null, null,
+                null, 0, 0, null, null, viewModel.errorCode, viewModel.errorMessage)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.adapters.dto.response.SuccessResponse;
+import com.motorbike.business.dto.accessory.DeleteAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class DeleteAccessoryResponsePresenter implements ResultPresenter<DeleteAccessoryOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(DeleteAccessoryOutputData outputData) {
+        if (!outputData.success) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(new SuccessResponse(outputData.message));
+    }
+}
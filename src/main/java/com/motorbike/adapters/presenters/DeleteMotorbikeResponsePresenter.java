@@ -0,0 +1,19 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.motorbike.DeleteMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class DeleteMotorbikeResponsePresenter implements ResultPresenter<DeleteMotorbikeOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(DeleteMotorbikeOutputData outputData) {
+        if (!outputData.success) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok("Deleted successfully");
+    }
+}
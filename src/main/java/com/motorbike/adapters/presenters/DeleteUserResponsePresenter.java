@@ -0,0 +1,23 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.business.dto.deleteuser.DeleteUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.adapters.dto.response.DeleteUserResponse;
+
+public class DeleteUserResponsePresenter implements ResultPresenter<DeleteUserOutputData, ResponseEntity<DeleteUserResponse>> {
+
+    @Override
+    public ResponseEntity<DeleteUserResponse> present(DeleteUserOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(DeleteUserResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(DeleteUserResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        return ResponseEntity.ok(DeleteUserResponse.success());
+    }
+}
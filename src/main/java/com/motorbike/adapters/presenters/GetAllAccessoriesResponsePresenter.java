@@ -0,0 +1,20 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.accessory.GetAllAccessoriesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class GetAllAccessoriesResponsePresenter implements ResultPresenter<GetAllAccessoriesOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(GetAllAccessoriesOutputData outputData) {
+        if (!outputData.isSuccess()) {
+            int status = "INVALID_PAGE_REQUEST".equals(outputData.getErrorCode()) ? 400 : 500;
+            return ResponseEntity.status(status).body(new ErrorResponse(outputData.getErrorCode(), outputData.getErrorMessage()));
+        }
+
+        return ResponseEntity.ok(outputData.getAccessories());
+    }
+}
@@ -0,0 +1,19 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.motorbike.GetAllMotorbikesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class GetAllMotorbikesResponsePresenter implements ResultPresenter<GetAllMotorbikesOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(GetAllMotorbikesOutputData outputData) {
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.status(500).body(new ErrorResponse(outputData.getErrorCode(), outputData.getErrorMessage()));
+        }
+
+        return ResponseEntity.ok(outputData.getMotorbikes());
+    }
+}
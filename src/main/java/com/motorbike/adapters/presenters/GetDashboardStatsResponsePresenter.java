@@ -0,0 +1,36 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.DashboardStatsResponse;
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class GetDashboardStatsResponsePresenter implements ResultPresenter<GetDashboardStatsOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(GetDashboardStatsOutputData outputData) {
+        if (!outputData.success) {
+            int status = "SYSTEM_ERROR".equals(outputData.errorCode) ? 500 : 400;
+            return ResponseEntity
+                    .status(status)
+                    .body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(new DashboardStatsResponse(
+                new DashboardStatsResponse.Orders(outputData.totalOrders, outputData.ordersByStatus),
+                new DashboardStatsResponse.Revenue(
+                        outputData.totalRevenue, outputData.revenueByDay, outputData.revenueByMonth),
+                new DashboardStatsResponse.Users(
+                        outputData.totalUsers, outputData.activeUsers, outputData.inactiveUsers, outputData.usersByRole),
+                new DashboardStatsResponse.Products(
+                        outputData.totalProducts,
+                        outputData.motorbikes,
+                        outputData.accessories,
+                        outputData.lowStockProducts,
+                        outputData.lowStockThreshold),
+                outputData.reconciledAt
+        ));
+    }
+}
@@ -0,0 +1,29 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.adapters.dto.response.MotorbikeFacetsResponse;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class GetMotorbikeFacetsResponsePresenter implements ResultPresenter<GetMotorbikeFacetsOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(GetMotorbikeFacetsOutputData outputData) {
+        if (outputData.hasError) {
+            return ResponseEntity
+                    .status(400)
+                    .body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(new MotorbikeFacetsResponse(
+                outputData.total,
+                outputData.brands,
+                outputData.models,
+                outputData.colors,
+                outputData.years,
+                outputData.displacements
+        ));
+    }
+}
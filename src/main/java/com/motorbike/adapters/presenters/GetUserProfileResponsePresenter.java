@@ -0,0 +1,36 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.GetUserProfileResponse;
+import com.motorbike.business.dto.userprofile.GetUserProfileOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class GetUserProfileResponsePresenter implements ResultPresenter<GetUserProfileOutputData, ResponseEntity<GetUserProfileResponse>> {
+
+    @Override
+    public ResponseEntity<GetUserProfileResponse> present(GetUserProfileOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(GetUserProfileResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(GetUserProfileResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        GetUserProfileResponse.SuccessData s = new GetUserProfileResponse.SuccessData(
+            outputData.getId(),
+            outputData.getEmail(),
+            outputData.getUsername(),
+            outputData.getPhoneNumber(),
+            outputData.getAddress(),
+            outputData.getRole(),
+            outputData.isActive(),
+            outputData.getCreatedAt(),
+            outputData.getUpdatedAt(),
+            outputData.getLastLoginAt()
+        );
+
+        return ResponseEntity.ok(GetUserProfileResponse.success(s));
+    }
+}
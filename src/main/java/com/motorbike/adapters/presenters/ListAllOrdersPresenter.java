@@ -53,6 +53,8 @@ public class ListAllOrdersPresenter implements ListAllOrdersOutputBoundary {
         viewModel.success = true;
         viewModel.hasError = false;
         viewModel.orders = formattedOrders;
+        viewModel.nextCursor = outputData.getNextCursor();
+        viewModel.hasMore = outputData.hasMore();
         viewModel.message = "Lấy danh sách đơn hàng thành công";
         viewModel.errorCode = null;
         viewModel.errorMessage = null;
@@ -62,6 +64,8 @@ public class ListAllOrdersPresenter implements ListAllOrdersOutputBoundary {
         viewModel.success = true;
         viewModel.hasError = false;
         viewModel.orders = new ArrayList<>();
+        viewModel.nextCursor = null;
+        viewModel.hasMore = false;
         viewModel.message = "Không có đơn hàng nào";
         viewModel.errorCode = null;
         viewModel.errorMessage = null;
@@ -71,6 +75,8 @@ public class ListAllOrdersPresenter implements ListAllOrdersOutputBoundary {
         viewModel.success = false;
         viewModel.hasError = true;
         viewModel.orders = new ArrayList<>();
+        viewModel.nextCursor = null;
+        viewModel.hasMore = false;
         viewModel.message = "Lỗi khi lấy danh sách đơn hàng";
         viewModel.errorCode = outputData.getErrorCode();
         viewModel.errorMessage = outputData.getErrorMessage();
@@ -0,0 +1,66 @@
+package com.motorbike.adapters.presenters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ListAllOrdersResponse;
+import com.motorbike.adapters.viewmodels.ListAllOrdersViewModel;
+import com.motorbike.business.dto.listallorders.ListAllOrdersOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do ListAllOrdersPresenter đảm nhiệm
+public class ListAllOrdersResponsePresenter implements ResultPresenter<ListAllOrdersOutputData, ResponseEntity<ListAllOrdersResponse>> {
+
+    @Override
+    public ResponseEntity<ListAllOrdersResponse> present(ListAllOrdersOutputData outputData) {
+        ListAllOrdersViewModel viewModel = new ListAllOrdersViewModel();
+        new ListAllOrdersPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            List<ListAllOrdersResponse.OrderItemResponse> orderResponses = new ArrayList<>();
+
+            if (viewModel.orders != null) {
+                for (ListAllOrdersViewModel.OrderItemViewModel item : viewModel.orders) {
+                    orderResponses.add(new ListAllOrdersResponse.OrderItemResponse(
+                            item.orderId,
+                            item.customerId,
+                            item.customerName,
+                            item.customerPhone,
+                            item.shippingAddress,
+                            item.orderStatus,
+                            item.formattedTotalAmount,
+                            item.totalItems,
+                            item.totalQuantity,
+                            item.formattedOrderDate,
+                            item.statusColor
+                    ));
+                }
+            }
+
+            // Response chỉ có success + orders + message
+            ListAllOrdersResponse response = new ListAllOrdersResponse(
+                true,
+                orderResponses,
+                viewModel.message,
+                null,
+                null,
+                viewModel.nextCursor
+            );
+
+            return ResponseEntity.ok(response);
+        }
+
+        ListAllOrdersResponse errorResponse = new ListAllOrdersResponse(
+            false,
+            new ArrayList<>(),
+            viewModel.message,
+            viewModel.errorCode,
+            viewModel.errorMessage
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
@@ -0,0 +1,64 @@
+package com.motorbike.adapters.presenters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ListMyOrdersResponse;
+import com.motorbike.adapters.viewmodels.ListMyOrdersViewModel;
+import com.motorbike.business.dto.listmyorders.ListMyOrdersOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do ListMyOrdersPresenter đảm nhiệm
+public class ListMyOrdersResponsePresenter implements ResultPresenter<ListMyOrdersOutputData, ResponseEntity<ListMyOrdersResponse>> {
+
+    @Override
+    public ResponseEntity<ListMyOrdersResponse> present(ListMyOrdersOutputData outputData) {
+        ListMyOrdersViewModel viewModel = new ListMyOrdersViewModel();
+        new ListMyOrdersPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            List<ListMyOrdersResponse.OrderItemResponse> orderResponses = new ArrayList<>();
+
+            if (viewModel.orders != null) {
+                for (ListMyOrdersViewModel.OrderItemViewModel item : viewModel.orders) {
+                    orderResponses.add(new ListMyOrdersResponse.OrderItemResponse(
+                            item.orderId,
+                            item.customerId,
+                            item.customerName,
+                            item.customerPhone,
+                            item.shippingAddress,
+                            item.orderStatus,
+                            item.formattedTotalAmount,
+                            item.totalItems,
+                            item.totalQuantity,
+                            item.formattedOrderDate,
+                            item.statusColor
+                    ));
+                }
+            }
+
+            ListMyOrdersResponse response = new ListMyOrdersResponse(
+                true,
+                orderResponses,
+                viewModel.message,
+                null,
+                null
+            );
+
+            return ResponseEntity.ok(response);
+        }
+
+        ListMyOrdersResponse errorResponse = new ListMyOrdersResponse(
+            false,
+            new ArrayList<>(),
+            viewModel.message,
+            viewModel.errorCode,
+            viewModel.errorMessage
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
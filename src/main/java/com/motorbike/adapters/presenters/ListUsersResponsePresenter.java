@@ -1,31 +1,25 @@
-package com.motorbike.adapters.viewmodels;
+package com.motorbike.adapters.presenters;
 
-import org.springframework.stereotype.Component;
 import org.springframework.http.ResponseEntity;
 
 import com.motorbike.business.dto.listusers.ListUsersOutputData;
-import com.motorbike.business.usecase.output.ListUsersOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.adapters.dto.response.ListUsersResponse;
 import com.motorbike.adapters.dto.response.ListUsersResponse.UserItemResponse;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Component
-public class ListUsersViewModel implements ListUsersOutputBoundary {
-
-    private ResponseEntity<ListUsersResponse> response;
+public class ListUsersResponsePresenter implements ResultPresenter<ListUsersOutputData, ResponseEntity<ListUsersResponse>> {
 
     @Override
-    public void present(ListUsersOutputData outputData) {
+    public ResponseEntity<ListUsersResponse> present(ListUsersOutputData outputData) {
         if (outputData == null) {
-            response = ResponseEntity.status(500).body(ListUsersResponse.error("SYSTEM_ERROR", "Null output"));
-            return;
+            return ResponseEntity.status(500).body(ListUsersResponse.error("SYSTEM_ERROR", "Null output"));
         }
 
         if (!outputData.isSuccess()) {
-            response = ResponseEntity.badRequest().body(ListUsersResponse.error(outputData.getErrorCode(), outputData.getMessage()));
-            return;
+            return ResponseEntity.badRequest().body(ListUsersResponse.error(outputData.getErrorCode(), outputData.getMessage()));
         }
 
         List<UserItemResponse> users = outputData.getUsers().stream()
@@ -41,10 +35,6 @@ public class ListUsersViewModel implements ListUsersOutputBoundary {
                 ))
                 .collect(Collectors.toList());
 
-        response = ResponseEntity.ok(ListUsersResponse.success(users));
-    }
-
-    public ResponseEntity<ListUsersResponse> getResponse() {
-        return response;
+        return ResponseEntity.ok(ListUsersResponse.success(users));
     }
-}
\ No newline at end of file
+}
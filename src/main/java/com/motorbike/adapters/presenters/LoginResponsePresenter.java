@@ -0,0 +1,35 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.LoginResponse;
+import com.motorbike.adapters.viewmodels.LoginViewModel;
+import com.motorbike.business.dto.login.LoginOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do LoginPresenter đảm nhiệm
+public class LoginResponsePresenter implements ResultPresenter<LoginOutputData, ResponseEntity<LoginResponse>> {
+
+    @Override
+    public ResponseEntity<LoginResponse> present(LoginOutputData outputData) {
+        LoginViewModel viewModel = new LoginViewModel();
+        new LoginPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            LoginResponse response = new LoginResponse(
+                true, viewModel.userId, viewModel.email,
+                viewModel.username, viewModel.roleDisplay,
+                viewModel.cartId, viewModel.cartMerged, viewModel.mergedItemsCount,
+                viewModel.message, null, null
+            );
+            return ResponseEntity.ok(response);
+        }
+
+        LoginResponse response = new LoginResponse(
+            false, null, null, null, null, null, false, 0, null,
+            viewModel.errorCode, viewModel.errorMessage
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+}
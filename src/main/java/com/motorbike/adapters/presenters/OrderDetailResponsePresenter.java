@@ -0,0 +1,84 @@
+package com.motorbike.adapters.presenters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.OrderDetailResponse;
+import com.motorbike.adapters.viewmodels.OrderDetailViewModel;
+import com.motorbike.business.dto.orderdetail.OrderDetailOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// Dùng chung cho chi tiết đơn của admin và của user; ViewModel tạo mới cho từng lần gọi
+public class OrderDetailResponsePresenter implements ResultPresenter<OrderDetailOutputData, ResponseEntity<OrderDetailResponse>> {
+
+    @Override
+    public ResponseEntity<OrderDetailResponse> present(OrderDetailOutputData outputData) {
+        OrderDetailViewModel viewModel = new OrderDetailViewModel();
+        new OrderDetailPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            List<OrderDetailResponse.OrderItemResponse> itemResponses = new ArrayList<>();
+            if (viewModel.items != null) {
+                for (OrderDetailViewModel.OrderItemViewModel item : viewModel.items) {
+                    itemResponses.add(new OrderDetailResponse.OrderItemResponse(
+                            item.orderItemId,
+                            item.productId,
+                            item.productName,
+                            item.formattedUnitPrice,
+                            item.quantity,
+                            item.formattedLineTotal
+                    ));
+                }
+            }
+
+            OrderDetailResponse response = new OrderDetailResponse(
+                    true,
+                    viewModel.message,
+                    viewModel.orderId,
+                    viewModel.customerId,
+                    viewModel.receiverName,
+                    viewModel.phoneNumber,
+                    viewModel.shippingAddress,
+                    viewModel.orderStatus,
+                    viewModel.statusColor,
+                    viewModel.formattedTotalAmount,
+                    viewModel.totalItems,
+                    viewModel.totalQuantity,
+                    viewModel.note,
+                    viewModel.formattedOrderDate,
+                    viewModel.formattedUpdatedDate,
+                    itemResponses,
+                    null,
+                    null
+            );
+
+            return ResponseEntity.ok(response);
+        }
+
+        OrderDetailResponse errorResponse = new OrderDetailResponse(
+                false,
+                viewModel.message,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                0,
+                null,
+                null,
+                null,
+                new ArrayList<>(),
+                viewModel.errorCode,
+                viewModel.errorMessage
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
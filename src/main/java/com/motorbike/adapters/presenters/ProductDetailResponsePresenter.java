@@ -0,0 +1,45 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ProductDetailResponse;
+import com.motorbike.adapters.viewmodels.ProductDetailViewModel;
+import com.motorbike.business.dto.productdetail.GetProductDetailOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do ProductDetailPresenter đảm nhiệm
+public class ProductDetailResponsePresenter implements ResultPresenter<GetProductDetailOutputData, ResponseEntity<ProductDetailResponse>> {
+
+    @Override
+    public ResponseEntity<ProductDetailResponse> present(GetProductDetailOutputData outputData) {
+        ProductDetailViewModel viewModel = new ProductDetailViewModel();
+        new ProductDetailPresenter(viewModel).present(outputData);
+
+        if (!viewModel.hasError) {
+            ProductDetailResponse response = new ProductDetailResponse(
+                true,
+                viewModel.productId,
+                viewModel.name,
+                viewModel.description,
+                viewModel.formattedPrice,
+                viewModel.imageUrl,
+                viewModel.specifications,
+                viewModel.categoryDisplay,
+                viewModel.stockQuantity,
+                viewModel.availabilityStatus,
+                viewModel.errorCode,
+                viewModel.errorMessage
+            );
+            return ResponseEntity.ok(response);
+        }
+
+        ProductDetailResponse response = new ProductDetailResponse(
+            false,
+            null, null, null, null, null, null, null, null, null,
+            viewModel.errorCode,
+            viewModel.errorMessage
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.RegisterResponse;
+import com.motorbike.adapters.viewmodels.RegisterViewModel;
+import com.motorbike.business.dto.register.RegisterOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do RegisterPresenter đảm nhiệm
+public class RegisterResponsePresenter implements ResultPresenter<RegisterOutputData, ResponseEntity<RegisterResponse>> {
+
+    @Override
+    public ResponseEntity<RegisterResponse> present(RegisterOutputData outputData) {
+        RegisterViewModel viewModel = new RegisterViewModel();
+        new RegisterPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            RegisterResponse response = new RegisterResponse(
+                true, viewModel.userId, viewModel.email,
+                viewModel.username, viewModel.roleDisplay,
+                viewModel.registeredAtDisplay, viewModel.autoLoginEnabled,
+                viewModel.sessionToken, viewModel.message, null, null
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+
+        RegisterResponse response = new RegisterResponse(
+            false, null, null, null, null, null, false, null, null,
+            viewModel.errorCode, viewModel.errorMessage
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
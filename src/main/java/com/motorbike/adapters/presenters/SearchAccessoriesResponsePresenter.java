@@ -0,0 +1,19 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.accessory.SearchAccessoriesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class SearchAccessoriesResponsePresenter implements ResultPresenter<SearchAccessoriesOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(SearchAccessoriesOutputData outputData) {
+        if (outputData.hasError) {
+            return ResponseEntity.status(400).body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(outputData.accessories);
+    }
+}
@@ -24,6 +24,7 @@ public class SearchAdminOrderPresenter implements SearchAdminOrderOutputBoundary
     public void present(SearchAdminOrderOutputData outputData) {
         if (outputData.isSuccess()) {
             viewModel.success = true;
+            viewModel.truncated = outputData.isTruncated();
             viewModel.message = outputData.getMessage();
             viewModel.errorCode = null;
             viewModel.errorMessage = null;
@@ -43,13 +44,14 @@ public class SearchAdminOrderPresenter implements SearchAdminOrderOutputBoundary
                         item.totalQuantity = order.getTotalQuantity();
                         item.formattedOrderDate = order.getOrderDate().format(dateFormatter);
                         item.note = order.getNote();
-                        item.statusColor = getStatusColor(order.getOrderStatus());
+                        item.statusColor = statusColor(order.getOrderStatus());
                         return item;
                     })
                     .collect(java.util.stream.Collectors.toList());
             }
         } else {
             viewModel.success = false;
+            viewModel.truncated = false;
             viewModel.message = outputData.getMessage();
             viewModel.errorCode = outputData.getErrorCode();
             viewModel.errorMessage = outputData.getErrorMessage();
@@ -57,7 +59,7 @@ public class SearchAdminOrderPresenter implements SearchAdminOrderOutputBoundary
         }
     }
 
-    private String getStatusColor(String status) {
+    static String statusColor(String status) {
         return switch (status) {
             case "CHO_XAC_NHAN" -> "#FFF4E6";
             case "DA_XAC_NHAN" -> "#E3F2FD";
@@ -0,0 +1,65 @@
+package com.motorbike.adapters.presenters;
+
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.SearchAdminOrderResponse;
+import com.motorbike.business.dto.searchadminorder.SearchAdminOrderOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class SearchAdminOrderResponsePresenter
+        implements ResultPresenter<SearchAdminOrderOutputData, ResponseEntity<SearchAdminOrderResponse>> {
+
+    private static final Locale VIETNAM = new Locale("vi", "VN");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    @Override
+    public ResponseEntity<SearchAdminOrderResponse> present(SearchAdminOrderOutputData outputData) {
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new SearchAdminOrderResponse(
+                    false,
+                    new ArrayList<>(),
+                    false,
+                    outputData.getMessage(),
+                    outputData.getErrorCode(),
+                    outputData.getErrorMessage()
+            ));
+        }
+
+        // NumberFormat không thread-safe: tạo mới cho mỗi lần gọi
+        NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(VIETNAM);
+        List<SearchAdminOrderResponse.OrderItemResponse> orders = outputData.getOrders() == null
+                ? new ArrayList<>()
+                : outputData.getOrders().stream()
+                    .map(order -> new SearchAdminOrderResponse.OrderItemResponse(
+                            order.getOrderId(),
+                            order.getCustomerId(),
+                            order.getCustomerName(),
+                            order.getCustomerPhone(),
+                            order.getShippingAddress(),
+                            order.getOrderStatus(),
+                            currencyFormat.format(order.getTotalAmount()),
+                            order.getTotalItems(),
+                            order.getTotalQuantity(),
+                            order.getOrderDate().format(DATE_FORMATTER),
+                            SearchAdminOrderPresenter.statusColor(order.getOrderStatus())
+                    ))
+                    .collect(Collectors.toList());
+
+        return ResponseEntity.ok(new SearchAdminOrderResponse(
+                true,
+                orders,
+                outputData.isTruncated(),
+                outputData.getMessage(),
+                null,
+                null
+        ));
+    }
+}
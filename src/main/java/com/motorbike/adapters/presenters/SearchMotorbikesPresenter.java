@@ -19,6 +19,10 @@ public class SearchMotorbikesPresenter implements SearchMotorbikesOutputBoundary
         viewModel.errorCode = null;
         viewModel.errorMessage = null;
         viewModel.motorbikes = null;
+        viewModel.page = 0;
+        viewModel.size = 0;
+        viewModel.totalElements = 0;
+        viewModel.totalPages = 0;
 
         if (outputData.hasError) {       // dùng field, không dùng hasError()
             viewModel.hasError = true;
@@ -27,6 +31,10 @@ public class SearchMotorbikesPresenter implements SearchMotorbikesOutputBoundary
             // motorbikes để null trong trường hợp lỗi
         } else {
             viewModel.motorbikes = outputData.motorbikes;        // field
+            viewModel.page = outputData.page;
+            viewModel.size = outputData.size;
+            viewModel.totalElements = outputData.totalElements;
+            viewModel.totalPages = outputData.totalPages;
         }
     }
 }
@@ -0,0 +1,27 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class SearchMotorbikesResponsePresenter implements ResultPresenter<SearchMotorbikesOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(SearchMotorbikesOutputData outputData) {
+        if (outputData.hasError) {
+            return ResponseEntity
+                    .status(400)
+                    .body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        // Body giữ nguyên là mảng xe; thông tin phân trang trả qua header
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(outputData.totalElements))
+                .header("X-Total-Pages", String.valueOf(outputData.totalPages))
+                .header("X-Page", String.valueOf(outputData.page))
+                .header("X-Page-Size", String.valueOf(outputData.size))
+                .body(outputData.motorbikes);
+    }
+}
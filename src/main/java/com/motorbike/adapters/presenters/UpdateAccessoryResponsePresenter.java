@@ -0,0 +1,20 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.accessory.UpdateAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class UpdateAccessoryResponsePresenter implements ResultPresenter<UpdateAccessoryOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(UpdateAccessoryOutputData outputData) {
+        if (!outputData.success) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(outputData.accessory);
+    }
+}
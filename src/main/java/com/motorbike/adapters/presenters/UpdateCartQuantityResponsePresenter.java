@@ -0,0 +1,31 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.UpdateCartResponse;
+import com.motorbike.adapters.viewmodels.UpdateCartQuantityViewModel;
+import com.motorbike.business.dto.updatecart.UpdateCartQuantityOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do UpdateCartQuantityPresenter đảm nhiệm
+public class UpdateCartQuantityResponsePresenter implements ResultPresenter<UpdateCartQuantityOutputData, ResponseEntity<UpdateCartResponse>> {
+
+    @Override
+    public ResponseEntity<UpdateCartResponse> present(UpdateCartQuantityOutputData outputData) {
+        UpdateCartQuantityViewModel viewModel = new UpdateCartQuantityViewModel();
+        new UpdateCartQuantityPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            UpdateCartResponse response = new UpdateCartResponse(
+                true, viewModel.message, null, null
+            );
+            return ResponseEntity.ok(response);
+        }
+
+        UpdateCartResponse response = new UpdateCartResponse(
+            false, null, viewModel.errorCode, viewModel.errorMessage
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
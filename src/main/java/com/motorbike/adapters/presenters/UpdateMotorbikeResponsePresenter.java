@@ -0,0 +1,19 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ErrorResponse;
+import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public class UpdateMotorbikeResponsePresenter implements ResultPresenter<UpdateMotorbikeOutputData, ResponseEntity<?>> {
+
+    @Override
+    public ResponseEntity<?> present(UpdateMotorbikeOutputData outputData) {
+        if (outputData.errorCode != null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(outputData.errorCode, outputData.errorMessage));
+        }
+
+        return ResponseEntity.ok(outputData.motorbike);
+    }
+}
@@ -0,0 +1,55 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.UpdateOrderInforResponse;
+import com.motorbike.adapters.viewmodels.UpdateOrderInforViewModel;
+import com.motorbike.business.dto.updateorderinfor.UpdateOrderInforOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do UpdateOrderInforPresenter đảm nhiệm
+public class UpdateOrderInforResponsePresenter implements ResultPresenter<UpdateOrderInforOutputData, ResponseEntity<UpdateOrderInforResponse>> {
+
+    @Override
+    public ResponseEntity<UpdateOrderInforResponse> present(UpdateOrderInforOutputData outputData) {
+        UpdateOrderInforViewModel viewModel = new UpdateOrderInforViewModel();
+        new UpdateOrderInforPresenter(viewModel).present(outputData);
+
+        if (viewModel.success) {
+            UpdateOrderInforResponse response = new UpdateOrderInforResponse(
+                true,
+                viewModel.orderId,
+                viewModel.customerId,
+                viewModel.receiverName,
+                viewModel.phoneNumber,
+                viewModel.shippingAddress,
+                viewModel.note,
+                viewModel.orderStatus,
+                viewModel.updatedAtDisplay,
+                viewModel.message,
+                null,
+                null
+            );
+
+            return ResponseEntity.ok(response);
+        }
+
+        UpdateOrderInforResponse errorResponse = new UpdateOrderInforResponse(
+            false,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            viewModel.message,
+            viewModel.errorCode,
+            viewModel.errorMessage
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
@@ -0,0 +1,33 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.business.dto.userprofile.UpdateUserProfileOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.adapters.dto.response.UpdateUserProfileResponse;
+
+public class UpdateUserProfileResponsePresenter implements ResultPresenter<UpdateUserProfileOutputData, ResponseEntity<UpdateUserProfileResponse>> {
+
+    @Override
+    public ResponseEntity<UpdateUserProfileResponse> present(UpdateUserProfileOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(UpdateUserProfileResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(UpdateUserProfileResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        UpdateUserProfileResponse.SuccessData s = new UpdateUserProfileResponse.SuccessData(
+            outputData.getId(),
+            outputData.getEmail(),
+            outputData.getUsername(),
+            outputData.getPhoneNumber(),
+            outputData.getAddress(),
+            outputData.getRole(),
+            outputData.getUpdatedAt()
+        );
+
+        return ResponseEntity.ok(UpdateUserProfileResponse.success(s));
+    }
+}
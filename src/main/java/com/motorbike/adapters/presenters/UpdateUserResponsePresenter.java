@@ -0,0 +1,32 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.business.dto.updateuser.UpdateUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.adapters.dto.response.UpdateUserResponse;
+
+public class UpdateUserResponsePresenter implements ResultPresenter<UpdateUserOutputData, ResponseEntity<UpdateUserResponse>> {
+
+    @Override
+    public ResponseEntity<UpdateUserResponse> present(UpdateUserOutputData outputData) {
+        if (outputData == null) {
+            return ResponseEntity.status(500).body(UpdateUserResponse.error("SYSTEM_ERROR", "Null output"));
+        }
+
+        if (!outputData.isSuccess()) {
+            return ResponseEntity.badRequest().body(UpdateUserResponse.error(outputData.getErrorCode(), outputData.getMessage()));
+        }
+
+        UpdateUserResponse.SuccessData s = new UpdateUserResponse.SuccessData(
+                outputData.getId(),
+                outputData.getEmail(),
+                outputData.getUsername(),
+                outputData.getRole(),
+                outputData.isActive(),
+                outputData.getUpdatedAt()
+        );
+
+        return ResponseEntity.ok(UpdateUserResponse.success(s));
+    }
+}
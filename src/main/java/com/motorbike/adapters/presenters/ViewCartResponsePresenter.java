@@ -0,0 +1,54 @@
+package com.motorbike.adapters.presenters;
+
+import org.springframework.http.ResponseEntity;
+
+import com.motorbike.adapters.dto.response.ViewCartResponse;
+import com.motorbike.adapters.viewmodels.ViewCartViewModel;
+import com.motorbike.business.dto.viewcart.ViewCartOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ViewModel tạo mới cho từng lần gọi, định dạng vẫn do ViewCartPresenter đảm nhiệm
+public class ViewCartResponsePresenter implements ResultPresenter<ViewCartOutputData, ResponseEntity<ViewCartResponse>> {
+
+    // userId lấy từ đường dẫn, OutputData không mang theo
+    private final Long userId;
+
+    public ViewCartResponsePresenter(Long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public ResponseEntity<ViewCartResponse> present(ViewCartOutputData outputData) {
+        ViewCartViewModel viewModel = new ViewCartViewModel();
+        new ViewCartPresenter(viewModel).present(outputData);
+
+        List<ViewCartResponse.CartItemResponse> responseItems = null;
+        if (viewModel.items != null) {
+            responseItems = viewModel.items.stream()
+                .map(item -> new ViewCartResponse.CartItemResponse(
+                    item.productId,
+                    item.productName,
+                    item.productImageUrl,
+                    null,
+                    null,
+                    item.rawUnitPrice,
+                    item.quantity,
+                    item.availableStock,
+                    item.hasStockWarning,
+                    item.rawSubtotal
+                ))
+                .collect(Collectors.toList());
+        }
+
+        return ResponseEntity.ok(new ViewCartResponse(
+            viewModel.success, viewModel.message, viewModel.cartId,
+            userId, viewModel.totalItems, viewModel.totalQuantity,
+            viewModel.rawTotalAmount,
+            viewModel.isEmpty, viewModel.hasStockWarnings,
+            responseItems, null, viewModel.errorMessage
+        ));
+    }
+}
@@ -6,13 +6,19 @@ import com.motorbike.domain.entities.ChiTietGioHang;
 import com.motorbike.infrastructure.persistence.jpa.entities.GioHangJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.entities.ChiTietGioHangJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.repositories.GioHangJpaRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
+@Profile("!inmemory")
 public class CartRepositoryAdapter implements CartRepository {
     
     private final GioHangJpaRepository jpaRepository;
@@ -27,12 +33,33 @@ public class CartRepositoryAdapter implements CartRepository {
                 .map(this::toDomain);
     }
     
+    @Override
+    public Optional<Long> findIdByUserId(Long userId) {
+        return jpaRepository.findIdByMaTaiKhoan(userId);
+    }
+    
     @Override
     public Optional<GioHang> findById(Long cartId) {
         return jpaRepository.findByIdWithItems(cartId)
                 .map(this::toDomain);
     }
     
+    @Override
+    @Transactional
+    public Optional<GioHang> findByUserIdForUpdate(Long userId) {
+        return jpaRepository.lockByMaTaiKhoan(userId)
+                .flatMap(locked -> jpaRepository.findByIdWithItems(locked.getMaGioHang()))
+                .map(this::toDomain);
+    }
+    
+    @Override
+    @Transactional
+    public Optional<GioHang> findByIdForUpdate(Long cartId) {
+        return jpaRepository.lockById(cartId)
+                .flatMap(locked -> jpaRepository.findByIdWithItems(cartId))
+                .map(this::toDomain);
+    }
+    
     @Override
     @Transactional
     public GioHang save(GioHang gioHang) {
@@ -47,20 +74,8 @@ public class CartRepositoryAdapter implements CartRepository {
                 jpaEntity.setMaTaiKhoan(gioHang.getMaTaiKhoan());
                 jpaEntity.setTongTien(gioHang.getTongTien());
                 
-                // Clear and re-add items (orphanRemoval will handle deletion)
-                // Force flush to delete orphans before adding new ones
-                jpaEntity.getDanhSachSanPham().clear();
-                jpaRepository.flush();
-                
-                for (ChiTietGioHang itemDomain : gioHang.getDanhSachSanPham()) {
-                    ChiTietGioHangJpaEntity itemJpa = new ChiTietGioHangJpaEntity(
-                            itemDomain.getMaSanPham(),
-                            itemDomain.getTenSanPham(),
-                            itemDomain.getGiaSanPham(),
-                            itemDomain.getSoLuong()
-                    );
-                    jpaEntity.addItem(itemJpa);
-                }
+                // Chỉ đụng tới các dòng đã đổi; Hibernate gom UPDATE/DELETE theo hibernate.jdbc.batch_size
+                applyLineChanges(jpaEntity, gioHang);
             } else {
                 // ID exists but entity not found - create new
                 jpaEntity = toJpaEntity(gioHang);
@@ -83,54 +98,62 @@ public class CartRepositoryAdapter implements CartRepository {
     @Override
     @Transactional
     public int mergeGuestCartToUserCart(Long guestCartId, Long userCartId) {
-        Optional<GioHangJpaEntity> guestCartOpt = jpaRepository.findByIdWithItems(guestCartId);
-        Optional<GioHangJpaEntity> userCartOpt = jpaRepository.findByIdWithItems(userCartId);
-        
-        if (guestCartOpt.isEmpty() || userCartOpt.isEmpty()) {
+        if (guestCartId.equals(userCartId)) {
             return 0;
         }
         
-        GioHangJpaEntity guestCart = guestCartOpt.get();
-        GioHangJpaEntity userCart = userCartOpt.get();
+        // Toàn bộ chạy trong DB, không nạp dòng nào lên bộ nhớ: MERGE các dòng, tính lại tổng, xóa giỏ khách
+        int mergedCount = jpaRepository.mergeItems(guestCartId, userCartId);
+        jpaRepository.recomputeTongTien(userCartId, LocalDateTime.now());
+        jpaRepository.deleteItemsByMaGioHang(guestCartId);
+        if (jpaRepository.deleteCartRow(guestCartId) == 0) {
+            return -1;
+        }
+        return mergedCount;
+    }
+    
+    
+    private void applyLineChanges(GioHangJpaEntity jpaEntity, GioHang gioHang) {
+        Map<Long, ChiTietGioHangJpaEntity> linesByProduct = new HashMap<>();
+        for (ChiTietGioHangJpaEntity itemJpa : jpaEntity.getDanhSachSanPham()) {
+            linesByProduct.put(itemJpa.getMaSanPham(), itemJpa);
+        }
+        Map<Long, ChiTietGioHang> itemsByProduct = new HashMap<>();
+        for (ChiTietGioHang itemDomain : gioHang.getDanhSachSanPham()) {
+            itemsByProduct.put(itemDomain.getMaSanPham(), itemDomain);
+        }
         
-        int mergedCount = 0;
+        for (Long maSanPham : gioHang.getDongDaXoa()) {
+            ChiTietGioHangJpaEntity itemJpa = linesByProduct.remove(maSanPham);
+            if (itemJpa != null) {
+                jpaEntity.removeItem(itemJpa);
+            }
+        }
         
-        for (ChiTietGioHangJpaEntity guestItem : guestCart.getDanhSachSanPham()) {
-            boolean found = false;
-            for (ChiTietGioHangJpaEntity userItem : userCart.getDanhSachSanPham()) {
-                if (userItem.getMaSanPham().equals(guestItem.getMaSanPham())) {
-                    userItem.setSoLuong(userItem.getSoLuong() + guestItem.getSoLuong());
-                    found = true;
-                    mergedCount++;
-                    break;
-                }
+        Set<Long> changed = new LinkedHashSet<>(gioHang.getDongDaSua());
+        changed.addAll(gioHang.getDongDaThem());
+        for (Long maSanPham : changed) {
+            ChiTietGioHang itemDomain = itemsByProduct.get(maSanPham);
+            if (itemDomain == null) {
+                continue;
             }
-            
-            if (!found) {
-                ChiTietGioHangJpaEntity newItem = new ChiTietGioHangJpaEntity(
-                        guestItem.getMaSanPham(),
-                        guestItem.getTenSanPham(),
-                        guestItem.getGiaSanPham(),
-                        guestItem.getSoLuong()
-                );
-                userCart.addItem(newItem);
-                mergedCount++;
+            ChiTietGioHangJpaEntity itemJpa = linesByProduct.get(maSanPham);
+            if (itemJpa == null) {
+                jpaEntity.addItem(new ChiTietGioHangJpaEntity(
+                        itemDomain.getMaSanPham(),
+                        itemDomain.getTenSanPham(),
+                        itemDomain.getGiaSanPham(),
+                        itemDomain.getSoLuong()
+                ));
+            } else {
+                // Gán giá trước: setSoLuong tính lại tạm tính theo giá hiện tại
+                itemJpa.setTenSanPham(itemDomain.getTenSanPham());
+                itemJpa.setGiaSanPham(itemDomain.getGiaSanPham());
+                itemJpa.setSoLuong(itemDomain.getSoLuong());
             }
         }
-        
-        BigDecimal total = userCart.getDanhSachSanPham().stream()
-                .map(ChiTietGioHangJpaEntity::getTamTinh)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        userCart.setTongTien(total);
-        
-        jpaRepository.save(userCart);
-        
-        jpaRepository.delete(guestCart);
-        
-        return mergedCount;
     }
     
-    
     private GioHang toDomain(GioHangJpaEntity jpaEntity) {
         java.util.List<ChiTietGioHang> items = new java.util.ArrayList<>();
         for (ChiTietGioHangJpaEntity itemJpa : jpaEntity.getDanhSachSanPham()) {
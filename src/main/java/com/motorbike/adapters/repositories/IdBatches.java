@@ -0,0 +1,26 @@
+package com.motorbike.adapters.repositories;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Chia danh sách mã thành các lô cho truy vấn IN (...): SQL Server nhận tối đa 2100 tham số
+ * mỗi câu lệnh, nên mỗi lô giữ dưới 1000 mã. Thứ tự mã được giữ nguyên.
+ */
+final class IdBatches {
+
+    static final int MAX_IDS_PER_QUERY = 1000;
+
+    private IdBatches() {
+    }
+
+    static List<List<Long>> of(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> batches = new ArrayList<>((all.size() + MAX_IDS_PER_QUERY - 1) / MAX_IDS_PER_QUERY);
+        for (int from = 0; from < all.size(); from += MAX_IDS_PER_QUERY) {
+            batches.add(all.subList(from, Math.min(from + MAX_IDS_PER_QUERY, all.size())));
+        }
+        return batches;
+    }
+}
@@ -1,16 +1,27 @@
 package com.motorbike.adapters.repositories;
 
+import com.motorbike.business.ports.repository.MotorbikeFacets;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.repository.MotorbikeSearchCriteria;
+import com.motorbike.business.ports.repository.PageResult;
 import com.motorbike.domain.entities.XeMay;
 import com.motorbike.infrastructure.persistence.jpa.entities.XeMayJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.repositories.XeMayJpaRepository;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
+@Profile("!inmemory")
 public class MotorbikeRepositoryAdapter implements MotorbikeRepository {
 
     private final XeMayJpaRepository xeMayJpaRepository;
@@ -45,6 +56,94 @@ public class MotorbikeRepositoryAdapter implements MotorbikeRepository {
         xeMayJpaRepository.deleteById(id);
     }
 
+    @Override
+    public PageResult<XeMay> search(MotorbikeSearchCriteria criteria) {
+        Specification<XeMayJpaEntity> spec = toSpecification(criteria);
+        Sort sort = toSort(criteria);
+
+        if (!criteria.isPaged()) {
+            List<XeMay> all = xeMayJpaRepository.findAll(spec, sort)
+                    .stream()
+                    .map(this::toDomain)
+                    .collect(Collectors.toList());
+            return new PageResult<>(all, 0, all.size(), all.size());
+        }
+
+        Page<XeMayJpaEntity> page = xeMayJpaRepository.findAll(
+                spec, PageRequest.of(criteria.getPage(), criteria.getSize(), sort));
+        List<XeMay> content = page.getContent()
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        return new PageResult<>(content, criteria.getPage(), criteria.getSize(), page.getTotalElements());
+    }
+
+    @Override
+    public MotorbikeFacets facets(MotorbikeSearchCriteria c) {
+        MotorbikeFacets.Builder builder = new MotorbikeFacets.Builder();
+        xeMayJpaRepository.countFacets(
+                c.getKeyword() == null ? null : "%" + escapeLike(c.getKeyword().toLowerCase()) + "%",
+                lowerOrNull(c.getBrand()),
+                lowerOrNull(c.getModel()),
+                lowerOrNull(c.getColor()),
+                c.getMinCC(),
+                c.getMaxCC()
+        ).forEach(row -> builder.add(row.getHangXe(), row.getDongXe(), row.getMauSac(),
+                row.getNamSanXuat(), row.getDungTich(), row.getSoLuong()));
+        return builder.build();
+    }
+
+    // ================= QUERY =================
+
+    private Specification<XeMayJpaEntity> toSpecification(MotorbikeSearchCriteria c) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (c.getKeyword() != null) {
+                predicates.add(cb.like(cb.lower(root.get("tenSanPham")),
+                        "%" + escapeLike(c.getKeyword().toLowerCase()) + "%", '\\'));
+            }
+            if (c.getBrand() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("hangXe")), c.getBrand().toLowerCase()));
+            }
+            if (c.getModel() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("dongXe")), c.getModel().toLowerCase()));
+            }
+            if (c.getColor() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("mauSac")), c.getColor().toLowerCase()));
+            }
+            if (c.getMinCC() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dungTich"), c.getMinCC()));
+            }
+            if (c.getMaxCC() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dungTich"), c.getMaxCC()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private Sort toSort(MotorbikeSearchCriteria c) {
+        String property;
+        switch (c.getSortField()) {
+            case NAME: property = "tenSanPham"; break;
+            case PRICE: property = "gia"; break;
+            case YEAR: property = "namSanXuat"; break;
+            case DISPLACEMENT: property = "dungTich"; break;
+            case STOCK: property = "soLuongTonKho"; break;
+            default: property = "maSanPham";
+        }
+        Sort sort = Sort.by(c.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC, property);
+        // maSanPham làm khóa phụ để phân trang ổn định khi trùng giá trị sắp xếp
+        return "maSanPham".equals(property) ? sort : sort.and(Sort.by("maSanPham"));
+    }
+
+    private static String lowerOrNull(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     // ================= MAPPER =================
 
     private XeMay toDomain(XeMayJpaEntity e) {
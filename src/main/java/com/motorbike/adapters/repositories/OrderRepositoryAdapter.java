@@ -1,13 +1,24 @@
 package com.motorbike.adapters.repositories;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.OrderCursor;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.OrderSummary;
 import com.motorbike.domain.entities.ChiTietDonHang;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.entities.TrangThaiDonHang;
@@ -16,6 +27,7 @@ import com.motorbike.infrastructure.persistence.jpa.entities.DonHangJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.repositories.DonHangJpaRepository;
 
 @Component
+@Profile("!inmemory")
 public class OrderRepositoryAdapter implements OrderRepository {
     
     private final DonHangJpaRepository jpaRepository;
@@ -34,10 +46,23 @@ public class OrderRepositoryAdapter implements OrderRepository {
     
     @Override
     public Optional<DonHang> findById(Long orderId) {
-        return jpaRepository.findById(orderId)
+        return jpaRepository.findByIdWithItems(orderId)
                 .map(this::toDomain);
     }
     
+    @Override
+    public List<DonHang> findAllByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        // Theo lô để danh sách IN không vượt giới hạn tham số của SQL Server
+        List<DonHang> orders = new ArrayList<>(orderIds.size());
+        for (List<Long> batch : IdBatches.of(orderIds)) {
+            jpaRepository.findAllWithItemsByIds(batch).forEach(entity -> orders.add(toDomain(entity)));
+        }
+        return orders;
+    }
+    
     @Override
     public List<DonHang> findByUserId(Long userId) {
         return jpaRepository.findByMaTaiKhoan(userId).stream()
@@ -63,6 +88,71 @@ public class OrderRepositoryAdapter implements OrderRepository {
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
+
+    // Chỉ lấy mã của limit đơn mới nhất khớp từ khóa (TOP n), rồi mới nạp các đơn đó kèm chi tiết
+    @Override
+    public List<DonHang> searchForAdmin(String keyword, int limit) {
+        String normalized = keyword == null ? "" : keyword.trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = jpaRepository.searchAdminOrderIds(normalized, PageRequest.of(0, limit));
+        return findAllByIds(ids).stream()
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public CursorPage<DonHang> findPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        List<Long> ids = findAdminPageIds(trangThai, after, limit);
+        if (ids.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // Nạp đơn + chi tiết của cả trang trong một truy vấn (tránh N+1 khi đếm số sản phẩm)
+        List<DonHang> fetched = jpaRepository.findAllWithItemsByIds(ids).stream()
+                .map(this::toDomain)
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .collect(Collectors.toList());
+        return CursorPage.of(fetched, limit, OrderCursor::encode);
+    }
+    
+    @Override
+    public List<OrderSummary> findSummariesByUserId(Long userId) {
+        Map<Long, DonHangJpaRepository.LineTotals> totals = jpaRepository.sumLineTotalsByUserId(userId).stream()
+                .collect(Collectors.toMap(DonHangJpaRepository.LineTotals::getMaDonHang, Function.identity()));
+        // findByMaTaiKhoan đã sắp xếp ngayDat DESC; danhSachSanPham (lazy) không bị chạm tới
+        return jpaRepository.findByMaTaiKhoan(userId).stream()
+                .map(d -> toSummary(d, totals.get(d.getMaDonHang())))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public CursorPage<OrderSummary> findSummaryPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        List<Long> ids = findAdminPageIds(trangThai, after, limit);
+        if (ids.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        
+        Map<Long, DonHangJpaEntity> headers = jpaRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(DonHangJpaEntity::getMaDonHang, Function.identity()));
+        Map<Long, DonHangJpaRepository.LineTotals> totals = jpaRepository.sumLineTotalsByOrderIds(ids).stream()
+                .collect(Collectors.toMap(DonHangJpaRepository.LineTotals::getMaDonHang, Function.identity()));
+        List<OrderSummary> fetched = ids.stream()
+                .filter(headers::containsKey)
+                .map(id -> toSummary(headers.get(id), totals.get(id)))
+                .collect(Collectors.toList());
+        return CursorPage.of(fetched, limit, OrderCursor::encode);
+    }
+    
+    private List<Long> findAdminPageIds(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        String status = trangThai == null ? null : trangThai.name();
+        PageRequest firstRows = PageRequest.of(0, limit + 1);
+        return after == null
+                ? jpaRepository.findAdminPageIds(status, firstRows)
+                : jpaRepository.findAdminPageIdsAfter(status, after.getNgayDat(), after.getMaDonHang(), firstRows);
+    }
     
     @Override
     public List<DonHang> findByStatus(TrangThaiDonHang trangThai) {
@@ -78,6 +168,13 @@ public class OrderRepositoryAdapter implements OrderRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional
+    public boolean cancelIfPending(Long orderId) {
+        return jpaRepository.updateTrangThaiIfCurrent(orderId, TrangThaiDonHang.CHO_XAC_NHAN.name(),
+                TrangThaiDonHang.DA_HUY.name(), LocalDateTime.now()) == 1;
+    }
+    
     @Override
     @Transactional
     public void deleteById(Long orderId) {
@@ -89,6 +186,17 @@ public class OrderRepositoryAdapter implements OrderRepository {
         return jpaRepository.existsById(orderId);
     }
     
+    @Override
+    public void addOrderStatistics(DashboardStats.Builder builder) {
+        for (DonHangJpaRepository.DailyTotals row : jpaRepository.sumDailyTotalsByTrangThai()) {
+            builder.addOrders(
+                    TrangThaiDonHang.valueOf(row.getTrangThai()),
+                    row.getNgayDat(),
+                    row.getTongTien(),
+                    row.getSoDon());
+        }
+    }
+    
     
     
     private DonHang toDomain(DonHangJpaEntity jpaEntity) {
@@ -114,6 +222,23 @@ public class OrderRepositoryAdapter implements OrderRepository {
     }
     
     
+    private OrderSummary toSummary(DonHangJpaEntity jpaEntity, DonHangJpaRepository.LineTotals totals) {
+        return new OrderSummary(
+                jpaEntity.getMaDonHang(),
+                jpaEntity.getMaTaiKhoan(),
+                jpaEntity.getTenNguoiNhan(),
+                jpaEntity.getSoDienThoai(),
+                jpaEntity.getDiaChiGiaoHang(),
+                TrangThaiDonHang.valueOf(jpaEntity.getTrangThai()),
+                jpaEntity.getTongTien(),
+                totals == null ? 0 : totals.getSoSanPham().intValue(),
+                totals == null ? 0 : totals.getTongSoLuong().intValue(),
+                jpaEntity.getNgayDat(),
+                jpaEntity.getGhiChu()
+        );
+    }
+    
+    
     private ChiTietDonHang itemToDomain(ChiTietDonHangJpaEntity jpaEntity) {
         return new ChiTietDonHang(
                 jpaEntity.getMaChiTiet(),
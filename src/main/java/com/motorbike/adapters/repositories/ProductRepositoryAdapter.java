@@ -1,13 +1,27 @@
 package com.motorbike.adapters.repositories;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.motorbike.business.ports.repository.DashboardStats;
 import com.motorbike.business.ports.repository.ProductRepository;
 import com.motorbike.domain.entities.PhuKienXeMay;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.XeMay;
+import com.motorbike.domain.exceptions.ValidationException;
 import com.motorbike.infrastructure.persistence.jpa.entities.PhuKienXeMayJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.entities.SanPhamJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.entities.XeMayJpaEntity;
@@ -16,6 +30,7 @@ import com.motorbike.infrastructure.persistence.jpa.repositories.SanPhamJpaRepos
 import com.motorbike.infrastructure.persistence.jpa.repositories.XeMayJpaRepository;
 
 @Component
+@Profile("!inmemory")
 public class ProductRepositoryAdapter implements ProductRepository {
 
     private final SanPhamJpaRepository sanPhamJpaRepository;
@@ -47,6 +62,35 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return sanPhamJpaRepository.findById(id).map(this::toDomain);
     }
     
+    @Override
+    public Map<Long, SanPham> findAllByIds(Collection<Long> productIds) {
+        Set<Long> remaining = new LinkedHashSet<>();
+        for (Long id : productIds) {
+            if (id != null) {
+                remaining.add(id);
+            }
+        }
+        Map<Long, SanPham> result = new HashMap<>();
+        if (remaining.isEmpty()) {
+            return result;
+        }
+
+        // Mỗi lô: một truy vấn IN cho xe máy, rồi hỏi phụ kiện cho các mã chưa tìm thấy
+        for (List<Long> batch : IdBatches.of(remaining)) {
+            for (XeMayJpaEntity e : xeMayJpaRepository.findAllById(batch)) {
+                result.put(e.getMaSanPham(), toDomain(e));
+            }
+            List<Long> missing = new ArrayList<>(batch);
+            missing.removeAll(result.keySet());
+            if (!missing.isEmpty()) {
+                for (PhuKienXeMayJpaEntity e : phuKienJpaRepository.findAllById(missing)) {
+                    result.put(e.getMaSanPham(), toDomain(e));
+                }
+            }
+        }
+        return result;
+    }
+    
     @Override
     public SanPham save(SanPham sanPham) {
         SanPhamJpaEntity jpaEntity = toJpaEntity(sanPham);
@@ -62,11 +106,67 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return toDomain(saved);
     }
     
+    @Override
+    @Transactional
+    public List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> failed = new ArrayList<>();
+        // Khóa dòng san_pham theo thứ tự mã tăng dần: hai giỏ có cùng sản phẩm nhưng thêm theo thứ tự
+        // ngược nhau sẽ chờ nhau thay vì deadlock
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(quantities).entrySet()) {
+            int qty = requirePositive(line.getValue());
+            if (sanPhamJpaRepository.decrementStockIfAvailable(line.getKey(), qty, now) == 0) {
+                failed.add(line.getKey());
+            }
+        }
+        if (!failed.isEmpty()) {
+            // Không đủ hàng ở ít nhất một dòng -> hoàn tác toàn bộ lô
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return failed;
+    }
+    
+    @Override
+    @Transactional
+    public List<Long> incrementStock(Map<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> missing = new ArrayList<>();
+        // Cùng thứ tự khóa với decrementStockIfAvailable (hủy đơn chạy song song với checkout)
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(quantities).entrySet()) {
+            int qty = requirePositive(line.getValue());
+            if (sanPhamJpaRepository.incrementStock(line.getKey(), qty, now) == 0) {
+                missing.add(line.getKey());
+            }
+        }
+        if (!missing.isEmpty()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return missing;
+    }
+    
+    private static int requirePositive(Integer qty) {
+        if (qty == null || qty <= 0) {
+            throw ValidationException.invalidQuantity();
+        }
+        return qty;
+    }
+    
     @Override
     public boolean existsById(Long id) {
         return sanPhamJpaRepository.existsById(id);
     }
     
+    @Override
+    public void addProductStatistics(DashboardStats.Builder builder, int lowStockThreshold) {
+        for (SanPhamJpaRepository.StockCounts row : sanPhamJpaRepository.countStockByLoaiSanPham(lowStockThreshold)) {
+            if ("XE_MAY".equals(row.getLoaiSanPham())) {
+                builder.addMotorbikes(row.getSoSanPham(), row.getSapHetHang());
+            } else {
+                builder.addAccessories(row.getSoSanPham(), row.getSapHetHang());
+            }
+        }
+    }
+    
     @Override
     public java.util.List<SanPham> findAll() {
         // Fetch from concrete repositories to avoid base entity persister issues
@@ -1,11 +1,21 @@
 package com.motorbike.adapters.repositories;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.motorbike.business.ports.repository.DashboardStats;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.VaiTro;
@@ -13,12 +23,15 @@ import com.motorbike.infrastructure.persistence.jpa.entities.TaiKhoanJpaEntity;
 import com.motorbike.infrastructure.persistence.jpa.repositories.TaiKhoanJpaRepository;
 
 @Component
+@Profile("!inmemory")
 public class UserRepositoryAdapter implements UserRepository {
     
     private final TaiKhoanJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
     
-    public UserRepositoryAdapter(TaiKhoanJpaRepository jpaRepository) {
+    public UserRepositoryAdapter(TaiKhoanJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -47,10 +60,36 @@ public class UserRepositoryAdapter implements UserRepository {
     
     @Override
     public void updateLastLogin(Long userId) {
-        jpaRepository.findById(userId).ifPresent(user -> {
-            user.setLanDangNhapCuoi(java.time.LocalDateTime.now());
-            jpaRepository.save(user);
+        updateLastLogins(Map.of(userId, LocalDateTime.now()));
+    }
+    
+    @Override
+    @Transactional
+    public void updateLastLogins(Map<Long, LocalDateTime> lanDangNhapCuoi) {
+        if (lanDangNhapCuoi.isEmpty()) {
+            return;
+        }
+        // Chỉ ghi một cột, gửi cả lô trong một lần; không lùi mốc nếu DB đã có lần đăng nhập mới hơn
+        List<Object[]> batch = new ArrayList<>(lanDangNhapCuoi.size());
+        lanDangNhapCuoi.forEach((maTaiKhoan, thoiGian) -> {
+            Timestamp ts = Timestamp.valueOf(thoiGian);
+            batch.add(new Object[] {ts, maTaiKhoan, ts});
         });
+        jdbcTemplate.batchUpdate("""
+                UPDATE tai_khoan
+                SET lan_dang_nhap_cuoi = ?
+                WHERE ma_tai_khoan = ? AND (lan_dang_nhap_cuoi IS NULL OR lan_dang_nhap_cuoi < ?)
+                """, batch);
+    }
+    
+    // Chỉ ghi cột mat_khau, không ghi đè các cột khác của tài khoản
+    @Override
+    public boolean updatePasswordIfCurrent(Long userId, String matKhauCu, String matKhauMoi) {
+        return jdbcTemplate.update("""
+                UPDATE tai_khoan
+                SET mat_khau = ?
+                WHERE ma_tai_khoan = ? AND mat_khau = ?
+                """, matKhauMoi, userId, matKhauCu) == 1;
     }
     // Thêm: lấy tất cả người dùng (dùng cho admin)
      @Override
@@ -60,11 +99,26 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<TaiKhoan> findAll(int limit) {
+        return jpaRepository.findAll(PageRequest.of(0, limit, Sort.by("maTaiKhoan")))
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
     // Thêm: xóa người dùng theo id
      @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
+
+    @Override
+    public void addUserStatistics(DashboardStats.Builder builder) {
+        for (TaiKhoanJpaRepository.RoleCounts row : jpaRepository.countByVaiTroAndHoatDong()) {
+            builder.addUsers(convertToVaiTro(row.getVaiTro()), Boolean.TRUE.equals(row.getHoatDong()), row.getSoTaiKhoan());
+        }
+    }
     
     
     private TaiKhoan toDomain(TaiKhoanJpaEntity jpaEntity) {
@@ -7,6 +7,8 @@ public class ListAllOrdersViewModel {
     public boolean hasError;
     public String message;
     public List<OrderItemViewModel> orders;
+    public String nextCursor;
+    public boolean hasMore;
     public String errorCode;
     public String errorMessage;
 
@@ -2,13 +2,11 @@ package com.motorbike.adapters.viewmodels;
 
 import java.util.List;
 
-import org.springframework.stereotype.Component;
-
-@Component
 public class SearchAdminOrderViewModel {
     
     public boolean success;
     public List<OrderItemViewModel> orders;
+    public boolean truncated;
     public String message;
     public String errorCode;
     public String errorMessage;
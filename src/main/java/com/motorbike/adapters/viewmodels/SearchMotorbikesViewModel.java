@@ -8,4 +8,8 @@ public class SearchMotorbikesViewModel {
     public String errorCode;
     public String errorMessage;
     public List<MotorbikeItem> motorbikes;
+    public int page;
+    public int size;
+    public long totalElements;
+    public int totalPages;
 }
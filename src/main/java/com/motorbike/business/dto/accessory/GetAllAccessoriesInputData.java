@@ -0,0 +1,11 @@
+package com.motorbike.business.dto.accessory;
+
+public class GetAllAccessoriesInputData {
+
+    // null = lấy tất cả; dashboard chỉ cần vài dòng đầu
+    public final Integer limit;
+
+    public GetAllAccessoriesInputData(Integer limit) {
+        this.limit = limit;
+    }
+}
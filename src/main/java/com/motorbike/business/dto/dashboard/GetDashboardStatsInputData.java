@@ -0,0 +1,34 @@
+package com.motorbike.business.dto.dashboard;
+
+/**
+ * Input data for the admin dashboard statistics.
+ * days / months: how many recent days and months of revenue to return (null = use case default).
+ */
+public class GetDashboardStatsInputData {
+
+    private final boolean admin;
+    private final Integer days;
+    private final Integer months;
+
+    private GetDashboardStatsInputData(boolean admin, Integer days, Integer months) {
+        this.admin = admin;
+        this.days = days;
+        this.months = months;
+    }
+
+    public static GetDashboardStatsInputData forAdmin(boolean admin, Integer days, Integer months) {
+        return new GetDashboardStatsInputData(admin, days, months);
+    }
+
+    public boolean isAdmin() {
+        return admin;
+    }
+
+    public Integer getDays() {
+        return days;
+    }
+
+    public Integer getMonths() {
+        return months;
+    }
+}
@@ -0,0 +1,62 @@
+package com.motorbike.business.dto.dashboard;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class GetDashboardStatsOutputData {
+
+    public static class CountItem {
+        public final String key;
+        public final String label;
+        public final long count;
+
+        public CountItem(String key, String label, long count) {
+            this.key = key;
+            this.label = label;
+            this.count = count;
+        }
+    }
+
+    // period: yyyy-MM-dd cho doanh thu ngày, yyyy-MM cho doanh thu tháng
+    public static class RevenueItem {
+        public final String period;
+        public final BigDecimal revenue;
+
+        public RevenueItem(String period, BigDecimal revenue) {
+            this.period = period;
+            this.revenue = revenue;
+        }
+    }
+
+    public boolean success;
+    public String errorCode;
+    public String errorMessage;
+
+    public long totalOrders;
+    public List<CountItem> ordersByStatus;
+    public BigDecimal totalRevenue;
+    public List<RevenueItem> revenueByDay;
+    public List<RevenueItem> revenueByMonth;
+
+    public long totalUsers;
+    public long activeUsers;
+    public long inactiveUsers;
+    public List<CountItem> usersByRole;
+
+    public long totalProducts;
+    public long motorbikes;
+    public long accessories;
+    public long lowStockProducts;
+    public int lowStockThreshold;
+
+    public LocalDateTime reconciledAt;
+
+    public static GetDashboardStatsOutputData forError(String errorCode, String errorMessage) {
+        GetDashboardStatsOutputData outputData = new GetDashboardStatsOutputData();
+        outputData.success = false;
+        outputData.errorCode = errorCode;
+        outputData.errorMessage = errorMessage;
+        return outputData;
+    }
+}
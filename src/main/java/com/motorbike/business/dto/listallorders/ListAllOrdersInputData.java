@@ -2,24 +2,47 @@ package com.motorbike.business.dto.listallorders;
 
 /**
  * Input data for listing orders (admin-only use case).
+ * Paged by keyset: cursor is the opaque nextCursor of the previous page (null = first page).
  */
 public class ListAllOrdersInputData {
 
     private final boolean admin;
+    private final String status;
+    private final String cursor;
+    private final Integer pageSize;
 
-    private ListAllOrdersInputData(boolean admin) {
+    private ListAllOrdersInputData(boolean admin, String status, String cursor, Integer pageSize) {
         this.admin = admin;
+        this.status = status;
+        this.cursor = cursor;
+        this.pageSize = pageSize;
     }
 
     public static ListAllOrdersInputData forAdmin() {
-        return new ListAllOrdersInputData(true);
+        return new ListAllOrdersInputData(true, null, null, null);
+    }
+
+    public static ListAllOrdersInputData forAdmin(String status, String cursor, Integer pageSize) {
+        return new ListAllOrdersInputData(true, status, cursor, pageSize);
     }
 
     public static ListAllOrdersInputData forNonAdmin() {
-        return new ListAllOrdersInputData(false);
+        return new ListAllOrdersInputData(false, null, null, null);
     }
 
     public boolean isAdmin() {
         return admin;
     }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
 }
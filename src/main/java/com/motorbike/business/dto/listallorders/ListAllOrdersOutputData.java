@@ -9,12 +9,18 @@ public class ListAllOrdersOutputData {
     private final List<OrderItemData> orders;
     private final String errorCode;
     private final String errorMessage;
+    private final String nextCursor;
 
     public ListAllOrdersOutputData(List<OrderItemData> orders) {
+        this(orders, null);
+    }
+
+    public ListAllOrdersOutputData(List<OrderItemData> orders, String nextCursor) {
         this.success = true;
         this.orders = orders;
         this.errorCode = null;
         this.errorMessage = null;
+        this.nextCursor = nextCursor;
     }
 
     public ListAllOrdersOutputData(String errorCode, String errorMessage) {
@@ -22,17 +28,24 @@ public class ListAllOrdersOutputData {
         this.orders = null;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
+        this.nextCursor = null;
     }
 
     public boolean isSuccess() { return success; }
     public List<OrderItemData> getOrders() { return orders; }
     public String getErrorCode() { return errorCode; }
     public String getErrorMessage() { return errorMessage; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
     public boolean isEmpty() { return orders == null || orders.isEmpty(); }
     public static ListAllOrdersOutputData forSuccess(List<OrderItemData> orders) {
         return new ListAllOrdersOutputData(orders);
     }
 
+    public static ListAllOrdersOutputData forSuccess(List<OrderItemData> orders, String nextCursor) {
+        return new ListAllOrdersOutputData(orders, nextCursor);
+    }
+
     public static ListAllOrdersOutputData forError(String errorCode, String errorMessage) {
         return new ListAllOrdersOutputData(errorCode, errorMessage);
     }
@@ -3,14 +3,21 @@ package com.motorbike.business.dto.listusers;
 public class ListUsersInputData {
     private final boolean admin;
     private final String keyword;
+    private final Integer limit;
 
-    private ListUsersInputData(boolean admin, String keyword) {
+    private ListUsersInputData(boolean admin, String keyword, Integer limit) {
         this.admin = admin;
         this.keyword = keyword;
+        this.limit = limit;
     }
     // Factory: admin + optional keyword
     public static ListUsersInputData forAdmin(boolean admin,String keyword) {
-        return new ListUsersInputData(admin, keyword);
+        return new ListUsersInputData(admin, keyword, null);
+    }
+
+    // limit: số tài khoản tối đa trả về (null = tất cả)
+    public static ListUsersInputData forAdmin(boolean admin, String keyword, Integer limit) {
+        return new ListUsersInputData(admin, keyword, limit);
     }
 
     public boolean isAdmin() {
@@ -19,4 +26,7 @@ public class ListUsersInputData {
     public String getKeyword() {
         return keyword;
     }
+    public Integer getLimit() {
+        return limit;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.motorbike.business.dto.motorbike;
+
+import java.util.List;
+
+public class GetMotorbikeFacetsOutputData {
+
+    public boolean hasError;
+    public String errorCode;
+    public String errorMessage;
+
+    public long total;
+    public List<FacetValue> brands;
+    public List<FacetValue> models;
+    public List<FacetValue> colors;
+    public List<FacetValue> years;
+    public List<DisplacementFacet> displacements;
+
+    // Trường hợp thành công
+    public GetMotorbikeFacetsOutputData(long total,
+                                        List<FacetValue> brands,
+                                        List<FacetValue> models,
+                                        List<FacetValue> colors,
+                                        List<FacetValue> years,
+                                        List<DisplacementFacet> displacements) {
+        this.hasError = false;
+        this.total = total;
+        this.brands = brands;
+        this.models = models;
+        this.colors = colors;
+        this.years = years;
+        this.displacements = displacements;
+    }
+
+    // Trường hợp lỗi
+    public GetMotorbikeFacetsOutputData(String errorCode, String errorMessage) {
+        this.hasError = true;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static class FacetValue {
+        public String value;
+        public long count;
+
+        public FacetValue(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+
+    public static class DisplacementFacet {
+        public String bucket;
+        public Integer minCC;   // null = không giới hạn dưới
+        public Integer maxCC;   // null = không giới hạn trên
+        public long count;
+
+        public DisplacementFacet(String bucket, Integer minCC, Integer maxCC, long count) {
+            this.bucket = bucket;
+            this.minCC = minCC;
+            this.maxCC = maxCC;
+            this.count = count;
+        }
+    }
+}
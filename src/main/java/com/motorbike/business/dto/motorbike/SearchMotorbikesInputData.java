@@ -8,6 +8,12 @@ public class SearchMotorbikesInputData {
     public Integer minCC;
     public Integer maxCC;
 
+    // Phân trang / sắp xếp (null = trả về toàn bộ kết quả, sắp theo mã)
+    public Integer page;
+    public Integer size;
+    public String sortBy;
+    public String sortDirection;
+
     public SearchMotorbikesInputData(
             String keyword,
             String brand,
@@ -15,6 +21,21 @@ public class SearchMotorbikesInputData {
             String color,
             Integer minCC,
             Integer maxCC
+    ) {
+        this(keyword, brand, model, color, minCC, maxCC, null, null, null, null);
+    }
+
+    public SearchMotorbikesInputData(
+            String keyword,
+            String brand,
+            String model,
+            String color,
+            Integer minCC,
+            Integer maxCC,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
     ) {
         this.keyword = keyword;
         this.brand = brand;
@@ -22,5 +43,9 @@ public class SearchMotorbikesInputData {
         this.color = color;
         this.minCC = minCC;
         this.maxCC = maxCC;
+        this.page = page;
+        this.size = size;
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
     }
 }
@@ -10,12 +10,28 @@ public class SearchMotorbikesOutputData {
     public String errorMessage;
     public List<MotorbikeItem> motorbikes;   // 👈 field mà Presenter đang dùng
 
+    // Thông tin phân trang
+    public int page;
+    public int size;
+    public long totalElements;
+    public int totalPages;
+
     // Trường hợp thành công
     public SearchMotorbikesOutputData(List<MotorbikeItem> motorbikes) {
+        this(motorbikes, 0, motorbikes.size(), motorbikes.size(), motorbikes.isEmpty() ? 0 : 1);
+    }
+
+    // Trường hợp thành công (có phân trang)
+    public SearchMotorbikesOutputData(List<MotorbikeItem> motorbikes, int page, int size,
+                                      long totalElements, int totalPages) {
         this.hasError = false;
         this.errorCode = null;
         this.errorMessage = null;
         this.motorbikes = motorbikes;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
     }
 
     // Trường hợp lỗi
@@ -8,28 +8,37 @@ public class SearchAdminOrderOutputData {
     
     private final boolean success;
     private final List<OrderItemData> orders;
+    private final boolean truncated;
     private final String errorCode;
     private final String errorMessage;
     private final String message;
 
-    private SearchAdminOrderOutputData(boolean success, List<OrderItemData> orders, 
+    private SearchAdminOrderOutputData(boolean success, List<OrderItemData> orders, boolean truncated,
                                       String errorCode, String errorMessage, String message) {
         this.success = success;
         this.orders = orders;
+        this.truncated = truncated;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
         this.message = message;
     }
 
     public static SearchAdminOrderOutputData forSuccess(List<OrderItemData> orders) {
+        return forSuccess(orders, false);
+    }
+
+    // truncated: còn đơn khớp khác cũ hơn không được trả về
+    public static SearchAdminOrderOutputData forSuccess(List<OrderItemData> orders, boolean truncated) {
         String message = orders.isEmpty() 
             ? "Không tìm thấy đơn hàng phù hợp" 
-            : "Tìm thấy " + orders.size() + " đơn hàng";
-        return new SearchAdminOrderOutputData(true, orders, null, null, message);
+            : truncated
+                ? "Hiển thị " + orders.size() + " đơn hàng mới nhất; hãy nhập từ khóa cụ thể hơn để thu hẹp kết quả"
+                : "Tìm thấy " + orders.size() + " đơn hàng";
+        return new SearchAdminOrderOutputData(true, orders, truncated, null, null, message);
     }
 
     public static SearchAdminOrderOutputData forError(String errorCode, String errorMessage) {
-        return new SearchAdminOrderOutputData(false, null, errorCode, errorMessage, "Tìm kiếm thất bại");
+        return new SearchAdminOrderOutputData(false, null, false, errorCode, errorMessage, "Tìm kiếm thất bại");
     }
 
     public boolean isSuccess() {
@@ -40,6 +49,10 @@ public class SearchAdminOrderOutputData {
         return orders;
     }
 
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     public String getErrorCode() {
         return errorCode;
     }
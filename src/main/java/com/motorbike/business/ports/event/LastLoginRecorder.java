@@ -0,0 +1,20 @@
+package com.motorbike.business.ports.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.motorbike.business.ports.repository.UserRepository;
+
+/**
+ * Ghi nhận thời điểm đăng nhập thành công của một tài khoản.
+ * Implementation được phép ghi trễ (gom theo lô) - lanDangNhapCuoi chỉ để hiển thị/thống kê.
+ */
+public interface LastLoginRecorder {
+
+    void recordLogin(Long maTaiKhoan, LocalDateTime thoiGian);
+
+    // Ghi ngay, mỗi lần đăng nhập một câu UPDATE
+    static LastLoginRecorder direct(UserRepository userRepository) {
+        return (maTaiKhoan, thoiGian) -> userRepository.updateLastLogins(Map.of(maTaiKhoan, thoiGian));
+    }
+}
@@ -0,0 +1,42 @@
+package com.motorbike.business.ports.event;
+
+import java.util.List;
+
+/**
+ * Nhận thông báo khi một sản phẩm (xe máy / phụ kiện) được thêm, sửa hoặc xóa,
+ * để các bản sao đọc (cache, chỉ mục...) tự làm mới.
+ */
+public interface ProductChangeListener {
+
+    void onProductSaved(Long productId);
+
+    void onProductDeleted(Long productId);
+
+    static ProductChangeListener none() {
+        return new ProductChangeListener() {
+            @Override
+            public void onProductSaved(Long productId) {
+            }
+
+            @Override
+            public void onProductDeleted(Long productId) {
+            }
+        };
+    }
+
+    // Chuyển mỗi sự kiện lần lượt cho tất cả listener
+    static ProductChangeListener of(ProductChangeListener... listeners) {
+        List<ProductChangeListener> all = List.of(listeners);
+        return new ProductChangeListener() {
+            @Override
+            public void onProductSaved(Long productId) {
+                all.forEach(l -> l.onProductSaved(productId));
+            }
+
+            @Override
+            public void onProductDeleted(Long productId) {
+                all.forEach(l -> l.onProductDeleted(productId));
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package com.motorbike.business.ports.repository;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.motorbike.domain.entities.PhuKienXeMay;
 
@@ -9,5 +11,13 @@ public interface AccessoryRepository {
     PhuKienXeMay save(PhuKienXeMay accessory);
     Optional<PhuKienXeMay> findById(Long id);
     List<PhuKienXeMay> findAllAccessories();
+
+    // Tối đa limit phụ kiện theo mã tăng dần; adapter JPA ghi đè bằng truy vấn có giới hạn
+    default List<PhuKienXeMay> findAccessories(int limit) {
+        return findAllAccessories().stream()
+                .sorted(Comparator.comparing(PhuKienXeMay::getMaSanPham, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
     void deleteById(Long id);
 }
@@ -9,14 +9,35 @@ public interface CartRepository {
     Optional<GioHang> findByUserId(Long userId);
     
     
+    // Chỉ lấy mã giỏ của người dùng, không nạp các dòng sản phẩm
+    default Optional<Long> findIdByUserId(Long userId) {
+        return findByUserId(userId).map(GioHang::getMaGioHang);
+    }
+    
+    
     Optional<GioHang> findById(Long cartId);
     
     
+    // Như findByUserId / findById nhưng giữ khóa ghi trên dòng gio_hang tới hết giao dịch đang mở,
+    // để các lần đọc-sửa-ghi cùng một giỏ (thêm, sửa số lượng, checkout) chạy lần lượt, không mất cập nhật.
+    // Chỉ có tác dụng khi gọi trong TransactionRunner; mặc định đọc không khóa.
+    default Optional<GioHang> findByUserIdForUpdate(Long userId) {
+        return findByUserId(userId);
+    }
+    
+    
+    default Optional<GioHang> findByIdForUpdate(Long cartId) {
+        return findById(cartId);
+    }
+    
+    
     GioHang save(GioHang gioHang);
     
     
     void delete(Long cartId);
     
     
+    // Gộp giỏ khách vào giỏ người dùng rồi xóa giỏ khách.
+    // Trả về số sản phẩm (khác nhau) đã gộp; -1 nếu giỏ khách không tồn tại
     int mergeGuestCartToUserCart(Long guestCartId, Long userCartId);
 }
@@ -0,0 +1,29 @@
+package com.motorbike.business.ports.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content != null ? Collections.unmodifiableList(content) : Collections.emptyList();
+        this.nextCursor = nextCursor;
+    }
+
+    // fetched được đọc với limit + 1 dòng: có dòng dư nghĩa là còn trang sau
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, limit);
+        return new CursorPage<>(content, cursorOf.apply(content.get(limit - 1)));
+    }
+
+    public List<T> getContent() {return content;}
+    public String getNextCursor() {return nextCursor;}
+    public boolean hasMore() {return nextCursor != null;}
+}
@@ -0,0 +1,167 @@
+package com.motorbike.business.ports.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.domain.entities.VaiTro;
+
+/**
+ * Số liệu tổng hợp cho trang chủ admin: số đơn theo trạng thái, doanh thu theo ngày đặt,
+ * số tài khoản theo vai trò / trạng thái hoạt động và số sản phẩm (kèm số sản phẩm sắp hết hàng).
+ * Doanh thu chỉ tính các đơn chưa bị hủy.
+ */
+public class DashboardStats {
+
+    private final Map<TrangThaiDonHang, Long> ordersByStatus;
+    private final NavigableMap<LocalDate, BigDecimal> revenueByDay;
+    private final Map<VaiTro, Long> usersByRole;
+    private final long activeUsers;
+    private final long inactiveUsers;
+    private final long motorbikes;
+    private final long accessories;
+    private final long lowStockProducts;
+    private final LocalDateTime reconciledAt;
+
+    private DashboardStats(Builder builder) {
+        this.ordersByStatus = Collections.unmodifiableMap(new EnumMap<>(builder.ordersByStatus));
+        this.revenueByDay = Collections.unmodifiableNavigableMap(new TreeMap<>(builder.revenueByDay));
+        this.usersByRole = Collections.unmodifiableMap(new EnumMap<>(builder.usersByRole));
+        this.activeUsers = builder.activeUsers;
+        this.inactiveUsers = builder.inactiveUsers;
+        this.motorbikes = builder.motorbikes;
+        this.accessories = builder.accessories;
+        this.lowStockProducts = builder.lowStockProducts;
+        this.reconciledAt = builder.reconciledAt;
+    }
+
+    // Tổng hợp lại toàn bộ từ repository (mỗi repository một truy vấn GROUP BY trên adapter JPA)
+    public static DashboardStats collect(OrderRepository orderRepository,
+                                         UserRepository userRepository,
+                                         ProductRepository productRepository,
+                                         int lowStockThreshold) {
+        Builder builder = new Builder();
+        orderRepository.addOrderStatistics(builder);
+        userRepository.addUserStatistics(builder);
+        productRepository.addProductStatistics(builder, lowStockThreshold);
+        return builder.reconciledAt(LocalDateTime.now()).build();
+    }
+
+    public Map<TrangThaiDonHang, Long> getOrdersByStatus() {return ordersByStatus;}
+    public NavigableMap<LocalDate, BigDecimal> getRevenueByDay() {return revenueByDay;}
+    public Map<VaiTro, Long> getUsersByRole() {return usersByRole;}
+    public long getActiveUsers() {return activeUsers;}
+    public long getInactiveUsers() {return inactiveUsers;}
+    public long getMotorbikes() {return motorbikes;}
+    public long getAccessories() {return accessories;}
+    public long getLowStockProducts() {return lowStockProducts;}
+    public LocalDateTime getReconciledAt() {return reconciledAt;}
+
+    // Bản sao có thể tiếp tục cộng dồn
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.ordersByStatus.putAll(ordersByStatus);
+        builder.revenueByDay.putAll(revenueByDay);
+        builder.usersByRole.putAll(usersByRole);
+        builder.activeUsers = activeUsers;
+        builder.inactiveUsers = inactiveUsers;
+        return builder.replaceProducts(this).reconciledAt(reconciledAt);
+    }
+
+    public long getOrderCount(TrangThaiDonHang trangThai) {
+        return ordersByStatus.getOrDefault(trangThai, 0L);
+    }
+
+    public long getTotalOrders() {
+        return ordersByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getTotalUsers() {
+        return activeUsers + inactiveUsers;
+    }
+
+    public BigDecimal getTotalRevenue() {
+        return revenueByDay.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public BigDecimal getRevenue(LocalDate ngay) {
+        return revenueByDay.getOrDefault(ngay, BigDecimal.ZERO);
+    }
+
+    public BigDecimal getRevenue(YearMonth thang) {
+        return revenueByDay.subMap(thang.atDay(1), true, thang.atEndOfMonth(), true).values().stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // Cộng dồn theo từng nhóm; count âm (và tongTien âm) dùng để trừ khi đơn đổi trạng thái hoặc tài khoản bị xóa
+    public static final class Builder {
+        private final Map<TrangThaiDonHang, Long> ordersByStatus = new EnumMap<>(TrangThaiDonHang.class);
+        private final NavigableMap<LocalDate, BigDecimal> revenueByDay = new TreeMap<>();
+        private final Map<VaiTro, Long> usersByRole = new EnumMap<>(VaiTro.class);
+        private long activeUsers;
+        private long inactiveUsers;
+        private long motorbikes;
+        private long accessories;
+        private long lowStockProducts;
+        private LocalDateTime reconciledAt;
+
+        public Builder addOrders(TrangThaiDonHang trangThai, LocalDate ngayDat, BigDecimal tongTien, long count) {
+            ordersByStatus.merge(trangThai, count, Long::sum);
+            if (trangThai != TrangThaiDonHang.DA_HUY && tongTien != null) {
+                BigDecimal revenue = revenueByDay.merge(ngayDat, tongTien, BigDecimal::add);
+                if (revenue.signum() == 0) {
+                    revenueByDay.remove(ngayDat);
+                }
+            }
+            return this;
+        }
+
+        public Builder addUsers(VaiTro vaiTro, boolean hoatDong, long count) {
+            if (vaiTro != null) {
+                usersByRole.merge(vaiTro, count, Long::sum);
+            }
+            if (hoatDong) {
+                activeUsers += count;
+            } else {
+                inactiveUsers += count;
+            }
+            return this;
+        }
+
+        public Builder addMotorbikes(long count, long lowStock) {
+            motorbikes += count;
+            lowStockProducts += lowStock;
+            return this;
+        }
+
+        public Builder addAccessories(long count, long lowStock) {
+            accessories += count;
+            lowStockProducts += lowStock;
+            return this;
+        }
+
+        // Thay phần sản phẩm bằng số liệu vừa đếm lại (tồn kho đổi theo nhiều luồng, không cộng dồn được)
+        public Builder replaceProducts(DashboardStats counted) {
+            motorbikes = counted.motorbikes;
+            accessories = counted.accessories;
+            lowStockProducts = counted.lowStockProducts;
+            return this;
+        }
+
+        public Builder reconciledAt(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+            return this;
+        }
+
+        public DashboardStats build() {
+            return new DashboardStats(this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.motorbike.business.ports.repository;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Số xe theo từng giá trị hãng, dòng, màu, năm sản xuất và khoảng dung tích
+ * cho một bộ lọc - dùng để dựng thanh lọc mà không phải tải cả danh mục xe.
+ * Hãng/dòng/màu gộp không phân biệt hoa thường, giống cách MotorbikeSearchCriteria lọc.
+ */
+public class MotorbikeFacets {
+
+    public enum DisplacementBucket {
+        UP_TO_110(null, 110),
+        FROM_111_TO_150(111, 150),
+        FROM_151_TO_400(151, 400),
+        OVER_400(401, null);
+
+        private final Integer minCC;
+        private final Integer maxCC;
+
+        DisplacementBucket(Integer minCC, Integer maxCC) {
+            this.minCC = minCC;
+            this.maxCC = maxCC;
+        }
+
+        public static DisplacementBucket of(int dungTich) {
+            for (DisplacementBucket bucket : values()) {
+                if (bucket.maxCC == null || dungTich <= bucket.maxCC) {
+                    return bucket;
+                }
+            }
+            return OVER_400;
+        }
+
+        // Giá trị minCC/maxCC để client gửi lại cho /search
+        public Integer getMinCC() {return minCC;}
+        public Integer getMaxCC() {return maxCC;}
+    }
+
+    private final long total;
+    private final Map<String, Long> brands;
+    private final Map<String, Long> models;
+    private final Map<String, Long> colors;
+    private final Map<Integer, Long> years;
+    private final Map<DisplacementBucket, Long> displacements;
+
+    private MotorbikeFacets(Builder builder) {
+        this.total = builder.total;
+        this.brands = Collections.unmodifiableMap(new LinkedHashMap<>(builder.brands));
+        this.models = Collections.unmodifiableMap(new LinkedHashMap<>(builder.models));
+        this.colors = Collections.unmodifiableMap(new LinkedHashMap<>(builder.colors));
+        this.years = Collections.unmodifiableMap(new LinkedHashMap<>(builder.years));
+        this.displacements = Collections.unmodifiableMap(new EnumMap<>(builder.displacements));
+    }
+
+    public static MotorbikeFacets of(List<XeMay> motorbikes) {
+        Builder builder = new Builder();
+        for (XeMay x : motorbikes) {
+            builder.add(x.getHangXe(), x.getDongXe(), x.getMauSac(), x.getNamSanXuat(), x.getDungTich(), 1);
+        }
+        return builder.build();
+    }
+
+    public long getTotal() {return total;}
+    public Map<String, Long> getBrands() {return brands;}
+    public Map<String, Long> getModels() {return models;}
+    public Map<String, Long> getColors() {return colors;}
+    public Map<Integer, Long> getYears() {return years;}
+    public Map<DisplacementBucket, Long> getDisplacements() {return displacements;}
+
+    // Cộng dồn từng nhóm (hãng, dòng, màu, năm, dung tích) -> số xe
+    public static final class Builder {
+        private long total;
+        private final Map<String, Long> brands = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<String, Long> models = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<String, Long> colors = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<Integer, Long> years = new TreeMap<>(Comparator.reverseOrder());
+        private final Map<DisplacementBucket, Long> displacements = new EnumMap<>(DisplacementBucket.class);
+
+        public Builder add(String hangXe, String dongXe, String mauSac, int namSanXuat, int dungTich, long count) {
+            total += count;
+            addValue(brands, hangXe, count);
+            addValue(models, dongXe, count);
+            addValue(colors, mauSac, count);
+            years.merge(namSanXuat, count, Long::sum);
+            displacements.merge(DisplacementBucket.of(dungTich), count, Long::sum);
+            return this;
+        }
+
+        public MotorbikeFacets build() {
+            return new MotorbikeFacets(this);
+        }
+
+        private static void addValue(Map<String, Long> counts, String value, long count) {
+            if (value != null && !value.isBlank()) {
+                counts.merge(value.trim(), count, Long::sum);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.motorbike.business.ports.repository;
 import com.motorbike.domain.entities.XeMay;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public interface MotorbikeRepository {
 
@@ -17,4 +18,22 @@ public interface MotorbikeRepository {
 
     // Xóa xe máy
     void deleteById(Long id);
+
+    // Tìm kiếm theo bộ lọc + phân trang/sắp xếp.
+    // Adapter JPA ghi đè để lọc trong DB; mặc định lọc trên findAllMotorbikes().
+    default PageResult<XeMay> search(MotorbikeSearchCriteria criteria) {
+        List<XeMay> matched = findAllMotorbikes().stream()
+                .filter(criteria::matches)
+                .sorted(criteria.comparator())
+                .collect(Collectors.toList());
+        return PageResult.slice(matched, criteria.getPage(), criteria.getSize());
+    }
+
+    // Số xe theo hãng/dòng/màu/năm/khoảng dung tích cho bộ lọc (bỏ qua phân trang, sắp xếp).
+    // Adapter JPA ghi đè bằng GROUP BY; mặc định đếm trên findAllMotorbikes().
+    default MotorbikeFacets facets(MotorbikeSearchCriteria criteria) {
+        return MotorbikeFacets.of(findAllMotorbikes().stream()
+                .filter(criteria::matches)
+                .collect(Collectors.toList()));
+    }
 }
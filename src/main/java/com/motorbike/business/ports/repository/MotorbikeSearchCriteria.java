@@ -0,0 +1,135 @@
+package com.motorbike.business.ports.repository;
+
+import java.util.Comparator;
+
+import com.motorbike.domain.entities.XeMay;
+import com.motorbike.domain.exceptions.ValidationException;
+
+public class MotorbikeSearchCriteria {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    public enum SortField {
+        ID, NAME, PRICE, YEAR, DISPLACEMENT, STOCK;
+
+        public static SortField from(String value) {
+            if (value == null || value.isBlank()) {
+                return ID;
+            }
+            try {
+                return SortField.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw ValidationException.invalidSortField(value);
+            }
+        }
+    }
+
+    private final String keyword;
+    private final String brand;
+    private final String model;
+    private final String color;
+    private final Integer minCC;
+    private final Integer maxCC;
+    private final Integer page;
+    private final Integer size;
+    private final SortField sortField;
+    private final boolean sortRequested;
+    private final boolean ascending;
+
+    public MotorbikeSearchCriteria(String keyword, String brand, String model, String color,
+                                   Integer minCC, Integer maxCC,
+                                   Integer page, Integer size,
+                                   String sortBy, String sortDirection) {
+        if (page != null && page < 0) {
+            throw ValidationException.invalidPageRequest();
+        }
+        if (size != null && (size <= 0 || size > MAX_PAGE_SIZE)) {
+            throw ValidationException.invalidPageRequest();
+        }
+        this.keyword = trimToNull(keyword);
+        this.brand = trimToNull(brand);
+        this.model = trimToNull(model);
+        this.color = trimToNull(color);
+        this.minCC = minCC;
+        this.maxCC = maxCC;
+        this.size = size;
+        this.page = size == null ? null : (page == null ? 0 : page);
+        this.sortField = SortField.from(sortBy);
+        this.sortRequested = sortBy != null && !sortBy.isBlank();
+        this.ascending = sortDirection == null || !"desc".equalsIgnoreCase(sortDirection.trim());
+    }
+
+    public boolean isPaged() {return size != null;}
+
+    // false khi client không chọn cách sắp xếp (kết quả tìm theo từ khóa giữ thứ tự liên quan)
+    public boolean isSortRequested() {return sortRequested;}
+
+    // Dùng cho các implementation không có truy vấn phía DB (mock, in-memory)
+    public boolean matches(XeMay x) {
+        if (keyword != null && (x.getTenSanPham() == null
+                || !x.getTenSanPham().toLowerCase().contains(keyword.toLowerCase()))) {
+            return false;
+        }
+        return matchesFilters(x);
+    }
+
+    // Các bộ lọc ngoài từ khóa (dùng khi từ khóa đã được CatalogSearchEngine xử lý)
+    public boolean matchesFilters(XeMay x) {
+        if (brand != null && !brand.equalsIgnoreCase(x.getHangXe())) {
+            return false;
+        }
+        if (model != null && !model.equalsIgnoreCase(x.getDongXe())) {
+            return false;
+        }
+        if (color != null && !color.equalsIgnoreCase(x.getMauSac())) {
+            return false;
+        }
+        if (minCC != null && x.getDungTich() < minCC) {
+            return false;
+        }
+        return maxCC == null || x.getDungTich() <= maxCC;
+    }
+
+    public Comparator<XeMay> comparator() {
+        Comparator<XeMay> comparator;
+        switch (sortField) {
+            case NAME:
+                comparator = Comparator.comparing(XeMay::getTenSanPham, Comparator.nullsLast(String::compareToIgnoreCase));
+                break;
+            case PRICE:
+                comparator = Comparator.comparing(XeMay::getGia, Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            case YEAR:
+                comparator = Comparator.comparingInt(XeMay::getNamSanXuat);
+                break;
+            case DISPLACEMENT:
+                comparator = Comparator.comparingInt(XeMay::getDungTich);
+                break;
+            case STOCK:
+                comparator = Comparator.comparingInt(XeMay::getSoLuongTonKho);
+                break;
+            default:
+                comparator = Comparator.comparing(XeMay::getMaSanPham, Comparator.nullsLast(Comparator.naturalOrder()));
+        }
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    public String getKeyword() {return keyword;}
+    public String getBrand() {return brand;}
+    public String getModel() {return model;}
+    public String getColor() {return color;}
+    public Integer getMinCC() {return minCC;}
+    public Integer getMaxCC() {return maxCC;}
+    public Integer getPage() {return page;}
+    public Integer getSize() {return size;}
+    public SortField getSortField() {return sortField;}
+    public boolean isAscending() {return ascending;}
+}
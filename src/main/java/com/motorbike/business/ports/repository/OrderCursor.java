@@ -0,0 +1,78 @@
+package com.motorbike.business.ports.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.exceptions.ValidationException;
+
+/**
+ * Vị trí keyset (ngayDat, maDonHang) trong danh sách đơn hàng mới nhất trước.
+ * Được mã hóa thành chuỗi mờ để client chỉ cần gửi lại nguyên văn.
+ */
+public class OrderCursor {
+
+    // Thứ tự của chỉ mục idx_don_hang_ngay_dat, maDonHang làm khóa phụ để thứ tự ổn định
+    public static final Comparator<DonHang> NEWEST_FIRST = Comparator
+            .comparing(DonHang::getNgayDat, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(DonHang::getMaDonHang, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final LocalDateTime ngayDat;
+    private final Long maDonHang;
+
+    public OrderCursor(LocalDateTime ngayDat, Long maDonHang) {
+        this.ngayDat = ngayDat;
+        this.maDonHang = maDonHang;
+    }
+
+    public static OrderCursor of(DonHang donHang) {
+        return new OrderCursor(donHang.getNgayDat(), donHang.getMaDonHang());
+    }
+
+    public static String encode(DonHang donHang) {
+        return of(donHang).encode();
+    }
+
+    public static String encode(OrderSummary summary) {
+        return new OrderCursor(summary.getNgayDat(), summary.getMaDonHang()).encode();
+    }
+
+    public String encode() {
+        String raw = ngayDat + "|" + maDonHang;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/rỗng nghĩa là trang đầu
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator <= 0) {
+                throw ValidationException.invalidCursor();
+            }
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw ValidationException.invalidCursor();
+        }
+    }
+
+    // Đơn hàng nằm sau con trỏ theo thứ tự NEWEST_FIRST
+    public boolean precedes(DonHang donHang) {
+        int byDate = donHang.getNgayDat().compareTo(ngayDat);
+        if (byDate != 0) {
+            return byDate < 0;
+        }
+        return donHang.getMaDonHang() < maDonHang;
+    }
+
+    public LocalDateTime getNgayDat() {return ngayDat;}
+    public Long getMaDonHang() {return maDonHang;}
+}
@@ -1,7 +1,11 @@
 package com.motorbike.business.ports.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.entities.TrangThaiDonHang;
@@ -13,6 +17,17 @@ public interface OrderRepository {
     
     
     Optional<DonHang> findById(Long orderId);
+
+
+    // Nạp nhiều đơn (kèm chi tiết) một lần; mã không tồn tại bị bỏ qua.
+    // Adapter JPA ghi đè bằng một truy vấn IN + JOIN FETCH; mặc định gọi findById lần lượt.
+    default List<DonHang> findAllByIds(Collection<Long> orderIds) {
+        List<DonHang> result = new ArrayList<>();
+        for (Long id : orderIds) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
     
     
     List<DonHang> findByUserId(Long userId);
@@ -28,10 +43,74 @@ public interface OrderRepository {
 
 
     List<DonHang> searchForAdmin(String keyword);
+
+
+    // Tối đa limit đơn khớp từ khóa, mới nhất trước. Adapter JPA ghi đè bằng truy vấn TOP n chỉ đọc mã đơn
+    default List<DonHang> searchForAdmin(String keyword, int limit) {
+        return searchForAdmin(keyword).stream()
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+
+    // Danh sách đơn cho admin theo keyset (ngayDat, maDonHang) giảm dần, lọc trạng thái nếu có.
+    // after == null là trang đầu. Adapter JPA ghi đè bằng truy vấn TOP n trên idx_don_hang_ngay_dat.
+    default CursorPage<DonHang> findPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        List<DonHang> source = trangThai == null ? findAll() : findByStatus(trangThai);
+        List<DonHang> fetched = source.stream()
+                .filter(d -> after == null || after.precedes(d))
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+        return CursorPage.of(fetched, limit, OrderCursor::encode);
+    }
+    
+    
+    // Hủy đơn có điều kiện: chỉ chuyển sang DA_HUY khi đơn còn CHO_XAC_NHAN; false nếu không có đơn
+    // hoặc đơn đã đổi trạng thái. Adapter JPA dùng UPDATE ... WHERE trang_thai = 'CHO_XAC_NHAN'
+    // nên hai lần hủy cùng lúc chỉ một lần thành công (và chỉ hoàn kho một lần).
+    default boolean cancelIfPending(Long orderId) {
+        Optional<DonHang> order = findById(orderId);
+        if (order.isEmpty() || order.get().getTrangThai() != TrangThaiDonHang.CHO_XAC_NHAN) {
+            return false;
+        }
+        order.get().huyDonHang();
+        save(order.get());
+        return true;
+    }
     
     
     void deleteById(Long orderId);
     
     
     boolean existsById(Long orderId);
+
+
+    // Tóm tắt đơn của một khách (mới nhất trước). Adapter JPA dùng một truy vấn
+    // COUNT/SUM nhóm theo ma_don_hang thay vì nạp toàn bộ ChiTietDonHang.
+    default List<OrderSummary> findSummariesByUserId(Long userId) {
+        return findByUserId(userId).stream()
+                .sorted(Comparator.comparing(DonHang::getNgayDat).reversed())
+                .map(OrderSummary::from)
+                .collect(Collectors.toList());
+    }
+
+
+    // Như findPageForAdmin nhưng trả về bản tóm tắt
+    default CursorPage<OrderSummary> findSummaryPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        CursorPage<DonHang> page = findPageForAdmin(trangThai, after, limit);
+        return new CursorPage<>(
+                page.getContent().stream().map(OrderSummary::from).collect(Collectors.toList()),
+                page.getNextCursor());
+    }
+
+
+    // Cộng số đơn và doanh thu theo (trạng thái, ngày đặt) vào builder.
+    // Adapter JPA ghi đè bằng một truy vấn GROUP BY thay vì nạp toàn bộ đơn.
+    default void addOrderStatistics(DashboardStats.Builder builder) {
+        for (DonHang donHang : findAll()) {
+            builder.addOrders(donHang.getTrangThai(), donHang.getNgayDat().toLocalDate(), donHang.getTongTien(), 1);
+        }
+    }
 }
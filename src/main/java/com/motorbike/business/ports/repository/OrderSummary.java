@@ -0,0 +1,71 @@
+package com.motorbike.business.ports.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+/**
+ * Bản tóm tắt đơn hàng cho màn hình danh sách: thông tin đơn + số dòng sản phẩm và tổng số lượng,
+ * không kèm danh sách ChiTietDonHang.
+ */
+public class OrderSummary {
+
+    private final Long maDonHang;
+    private final Long maTaiKhoan;
+    private final String tenNguoiNhan;
+    private final String soDienThoai;
+    private final String diaChiGiaoHang;
+    private final TrangThaiDonHang trangThai;
+    private final BigDecimal tongTien;
+    private final int soSanPham;
+    private final int tongSoLuong;
+    private final LocalDateTime ngayDat;
+    private final String ghiChu;
+
+    public OrderSummary(Long maDonHang, Long maTaiKhoan, String tenNguoiNhan, String soDienThoai,
+                        String diaChiGiaoHang, TrangThaiDonHang trangThai, BigDecimal tongTien,
+                        int soSanPham, int tongSoLuong, LocalDateTime ngayDat, String ghiChu) {
+        this.maDonHang = maDonHang;
+        this.maTaiKhoan = maTaiKhoan;
+        this.tenNguoiNhan = tenNguoiNhan;
+        this.soDienThoai = soDienThoai;
+        this.diaChiGiaoHang = diaChiGiaoHang;
+        this.trangThai = trangThai;
+        this.tongTien = tongTien;
+        this.soSanPham = soSanPham;
+        this.tongSoLuong = tongSoLuong;
+        this.ngayDat = ngayDat;
+        this.ghiChu = ghiChu;
+    }
+
+    // Dùng cho các implementation đã có sẵn aggregate (mock, in-memory)
+    public static OrderSummary from(DonHang donHang) {
+        return new OrderSummary(
+                donHang.getMaDonHang(),
+                donHang.getMaTaiKhoan(),
+                donHang.getTenNguoiNhan(),
+                donHang.getSoDienThoai(),
+                donHang.getDiaChiGiaoHang(),
+                donHang.getTrangThai(),
+                donHang.getTongTien(),
+                donHang.getDanhSachSanPham().size(),
+                donHang.getDanhSachSanPham().stream().mapToInt(ChiTietDonHang::getSoLuong).sum(),
+                donHang.getNgayDat(),
+                donHang.getGhiChu());
+    }
+
+    public Long getMaDonHang() {return maDonHang;}
+    public Long getMaTaiKhoan() {return maTaiKhoan;}
+    public String getTenNguoiNhan() {return tenNguoiNhan;}
+    public String getSoDienThoai() {return soDienThoai;}
+    public String getDiaChiGiaoHang() {return diaChiGiaoHang;}
+    public TrangThaiDonHang getTrangThai() {return trangThai;}
+    public BigDecimal getTongTien() {return tongTien;}
+    public int getSoSanPham() {return soSanPham;}
+    public int getTongSoLuong() {return tongSoLuong;}
+    public LocalDateTime getNgayDat() {return ngayDat;}
+    public String getGhiChu() {return ghiChu;}
+}
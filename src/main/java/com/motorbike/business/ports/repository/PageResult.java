@@ -0,0 +1,41 @@
+package com.motorbike.business.ports.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PageResult<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+
+    public PageResult(List<T> content, int page, int size, long totalElements) {
+        this.content = content != null ? Collections.unmodifiableList(content) : Collections.emptyList();
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    // Cắt một trang từ danh sách đã lọc/sắp xếp sẵn (size == null nghĩa là lấy tất cả)
+    public static <T> PageResult<T> slice(List<T> all, Integer page, Integer size) {
+        if (size == null) {
+            return new PageResult<>(all, 0, all.size(), all.size());
+        }
+        int from = (int) Math.min((long) page * size, all.size());
+        int to = (int) Math.min((long) from + size, all.size());
+        return new PageResult<>(all.subList(from, to), page, size, all.size());
+    }
+
+    public List<T> getContent() {return content;}
+    public int getPage() {return page;}
+    public int getSize() {return size;}
+    public long getTotalElements() {return totalElements;}
+
+    public int getTotalPages() {
+        if (size <= 0) {
+            return totalElements == 0 ? 0 : 1;
+        }
+        return (int) ((totalElements + size - 1) / size);
+    }
+}
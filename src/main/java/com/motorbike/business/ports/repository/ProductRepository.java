@@ -1,6 +1,12 @@
 package com.motorbike.business.ports.repository;
 
 import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -16,4 +22,75 @@ public interface ProductRepository {
     
     
     java.util.List<SanPham> findAll();
+    
+    
+    // Nạp nhiều sản phẩm một lần, key = maSanPham (mã không tồn tại sẽ không có trong Map).
+    // Adapter JPA ghi đè bằng truy vấn IN; mặc định gọi findById lần lượt.
+    default Map<Long, SanPham> findAllByIds(Collection<Long> productIds) {
+        Map<Long, SanPham> result = new HashMap<>();
+        for (Long id : productIds) {
+            if (id != null && !result.containsKey(id)) {
+                findById(id).ifPresent(p -> result.put(id, p));
+            }
+        }
+        return result;
+    }
+    
+    
+    // Trừ tồn kho có điều kiện cho cả lô (maSanPham -> số lượng) trong một giao dịch.
+    // Trả về các mã không đủ hàng / không tồn tại; khi danh sách khác rỗng thì không dòng nào bị trừ.
+    // Adapter JPA dùng UPDATE ... WHERE so_luong_ton_kho >= ? nên an toàn khi checkout đồng thời.
+    default List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities) {
+        Map<Long, SanPham> products = findAllByIds(quantities.keySet());
+        List<Long> failed = new ArrayList<>();
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            SanPham product = products.get(line.getKey());
+            if (product == null || product.getSoLuongTonKho() < line.getValue()) {
+                failed.add(line.getKey());
+            }
+        }
+        if (failed.isEmpty()) {
+            for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+                SanPham product = products.get(line.getKey());
+                product.giamTonKho(line.getValue());
+                save(product);
+            }
+        }
+        return failed;
+    }
+    
+    
+    // Cộng lại tồn kho cho cả lô trong một giao dịch (hủy đơn).
+    // Trả về các mã không tồn tại; khi danh sách khác rỗng thì không dòng nào được cộng.
+    default List<Long> incrementStock(Map<Long, Integer> quantities) {
+        Map<Long, SanPham> products = findAllByIds(quantities.keySet());
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : quantities.keySet()) {
+            if (!products.containsKey(productId)) {
+                missing.add(productId);
+            }
+        }
+        if (missing.isEmpty()) {
+            for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+                SanPham product = products.get(line.getKey());
+                product.tangTonKho(line.getValue());
+                save(product);
+            }
+        }
+        return missing;
+    }
+    
+    
+    // Đếm xe máy / phụ kiện (mọi sản phẩm không phải xe) và số sản phẩm có tồn kho <= lowStockThreshold (kể cả đã hết hàng).
+    // Adapter JPA ghi đè bằng một truy vấn GROUP BY loai_san_pham.
+    default void addProductStatistics(DashboardStats.Builder builder, int lowStockThreshold) {
+        for (SanPham product : findAll()) {
+            long lowStock = product.getSoLuongTonKho() <= lowStockThreshold ? 1 : 0;
+            if (product instanceof XeMay) {
+                builder.addMotorbikes(1, lowStock);
+            } else {
+                builder.addAccessories(1, lowStock);
+            }
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package com.motorbike.business.ports.repository;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.motorbike.domain.entities.TaiKhoan;
 
@@ -21,9 +25,43 @@ public interface UserRepository {
     
     
     void updateLastLogin(Long userId);
+    
+    
+    // Ghi lần đăng nhập cuối cho nhiều tài khoản cùng lúc; adapter JPA gom thành một lô UPDATE
+    default void updateLastLogins(Map<Long, LocalDateTime> lanDangNhapCuoi) {
+        lanDangNhapCuoi.keySet().forEach(this::updateLastLogin);
+    }
+    
+    // Chỉ ghi mật khẩu mới khi mật khẩu đang lưu vẫn là matKhauCu (băm lại lúc đăng nhập);
+    // trả về false nếu mật khẩu đã bị đổi trong lúc đó. Adapter JPA ghi đè bằng UPDATE có điều kiện
+    default boolean updatePasswordIfCurrent(Long userId, String matKhauCu, String matKhauMoi) {
+        return findById(userId)
+                .filter(taiKhoan -> taiKhoan.getMatKhau().equals(matKhauCu))
+                .map(taiKhoan -> {
+                    taiKhoan.setMatKhau(matKhauMoi);
+                    save(taiKhoan);
+                    return true;
+                })
+                .orElse(false);
+    }
      // Thêm: lấy tất cả người dùng (dùng cho admin)
     List<TaiKhoan> findAll();
 
+    // Tối đa limit tài khoản theo mã tăng dần; adapter JPA ghi đè bằng truy vấn có giới hạn
+    default List<TaiKhoan> findAll(int limit) {
+        return findAll().stream()
+                .sorted(Comparator.comparing(TaiKhoan::getMaTaiKhoan, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     // Thêm: xóa người dùng theo id
     void deleteById(Long id);
+
+    // Đếm tài khoản theo (vai trò, hoạt động) cho dashboard; adapter JPA ghi đè bằng GROUP BY
+    default void addUserStatistics(DashboardStats.Builder builder) {
+        for (TaiKhoan taiKhoan : findAll()) {
+            builder.addUsers(taiKhoan.getVaiTro(), taiKhoan.isHoatDong(), 1);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.motorbike.business.ports.search;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.motorbike.domain.entities.SanPham;
+
+/**
+ * Tìm kiếm toàn văn trên danh mục sản phẩm (tên, mô tả, hãng, dòng xe, loại, chất liệu).
+ * Không phân biệt hoa thường và dấu tiếng Việt; mọi từ đều được khớp theo tiền tố.
+ */
+public interface CatalogSearchEngine {
+
+    enum ProductType { MOTORBIKE, ACCESSORY }
+
+    // Mã sản phẩm khớp mọi từ trong keyword, độ liên quan giảm dần.
+    // Optional.empty() khi chỉ mục chưa sẵn sàng -> use case tìm theo cách cũ.
+    Optional<List<Long>> search(String keyword, ProductType type);
+
+    // Như search(...) nhưng lọc (hãng, dòng, màu, dung tích, ...) và sắp xếp ngay trên bản sao sản phẩm
+    // giữ trong chỉ mục, để use case chỉ nạp từ DB các mã của trang cần hiển thị.
+    // order == null giữ thứ tự liên quan. Bản sao có thể chậm hơn DB về tồn kho: chỉ dùng để lọc/sắp xếp/đếm.
+    // Engine không giữ bản sao trả về Optional.empty() -> use case tìm theo cách cũ.
+    default Optional<List<SanPham>> searchProducts(String keyword, ProductType type,
+                                                   Predicate<SanPham> filter, Comparator<SanPham> order) {
+        return Optional.empty();
+    }
+
+    static CatalogSearchEngine none() {
+        return (keyword, type) -> Optional.empty();
+    }
+}
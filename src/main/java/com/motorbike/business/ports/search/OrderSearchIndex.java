@@ -0,0 +1,19 @@
+package com.motorbike.business.ports.search;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chỉ mục tìm kiếm đơn hàng cho admin (mã đơn, mã khách, người nhận, SĐT, địa chỉ,
+ * trạng thái, tên sản phẩm). Không phân biệt hoa thường và dấu tiếng Việt.
+ */
+public interface OrderSearchIndex {
+
+    // Mã các đơn khớp mọi từ trong query, mới nhất trước (ngayDat, maDonHang giảm dần);
+    // Optional.empty() khi chỉ mục chưa sẵn sàng (cold start)
+    Optional<List<Long>> search(String query);
+
+    static OrderSearchIndex none() {
+        return query -> Optional.empty();
+    }
+}
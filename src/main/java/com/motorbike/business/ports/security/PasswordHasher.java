@@ -0,0 +1,39 @@
+package com.motorbike.business.ports.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Băm và kiểm tra mật khẩu tài khoản.
+ * Mật khẩu đã lưu có thể còn ở dạng cũ (chưa băm) hoặc băm với work factor thấp hơn hiện tại:
+ * needsRehash báo để use case đăng nhập băm lại ngay khi người dùng nhập đúng mật khẩu.
+ */
+public interface PasswordHasher {
+
+    String hash(String matKhau);
+
+    boolean matches(String matKhau, String matKhauDaLuu);
+
+    boolean needsRehash(String matKhauDaLuu);
+
+    // Cách làm cũ: lưu và so sánh nguyên văn
+    static PasswordHasher plainText() {
+        return new PasswordHasher() {
+            @Override
+            public String hash(String matKhau) {
+                return matKhau;
+            }
+
+            @Override
+            public boolean matches(String matKhau, String matKhauDaLuu) {
+                return matKhau != null && matKhauDaLuu != null && MessageDigest.isEqual(
+                        matKhau.getBytes(StandardCharsets.UTF_8), matKhauDaLuu.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public boolean needsRehash(String matKhauDaLuu) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.motorbike.business.ports.stats;
+
+import java.util.Optional;
+
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+/**
+ * Bộ đếm cho dashboard admin, được các use case cộng/trừ ngay khi đặt đơn, hủy đơn,
+ * thêm hoặc xóa tài khoản - để trang chủ admin không phải tổng hợp lại từ đầu mỗi lần mở.
+ * Gọi được từ trong giao dịch: implementation tự lo việc chỉ ghi nhận sau khi commit.
+ */
+public interface DashboardCounters {
+
+    void orderPlaced(DonHang donHang);
+
+    // donHang đã mang trạng thái mới; trangThaiCu là trạng thái trước khi đổi
+    void orderStatusChanged(DonHang donHang, TrangThaiDonHang trangThaiCu);
+
+    void userAdded(TaiKhoan taiKhoan);
+
+    void userDeleted(TaiKhoan taiKhoan);
+
+    // Số liệu hiện tại; rỗng khi chưa nạp xong lần đầu (use case tự tổng hợp từ repository)
+    Optional<DashboardStats> snapshot();
+
+    static DashboardCounters none() {
+        return new DashboardCounters() {
+            @Override
+            public void orderPlaced(DonHang donHang) {
+            }
+
+            @Override
+            public void orderStatusChanged(DonHang donHang, TrangThaiDonHang trangThaiCu) {
+            }
+
+            @Override
+            public void userAdded(TaiKhoan taiKhoan) {
+            }
+
+            @Override
+            public void userDeleted(TaiKhoan taiKhoan) {
+            }
+
+            @Override
+            public Optional<DashboardStats> snapshot() {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.motorbike.business.ports.transaction;
+
+import java.util.function.Supplier;
+
+/**
+ * Chạy một đơn vị công việc (nhiều lời gọi repository) trong cùng một giao dịch.
+ * Ngoại lệ ném ra từ work sẽ hủy toàn bộ giao dịch rồi được ném lại nguyên vẹn.
+ */
+public interface TransactionRunner {
+
+    <T> T inTransaction(Supplier<T> work);
+
+    default void run(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // Chạy trực tiếp, không mở giao dịch (dùng cho test và khi không có hạ tầng giao dịch)
+    static TransactionRunner direct() {
+        return new TransactionRunner() {
+            @Override
+            public <T> T inTransaction(Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
@@ -3,26 +3,57 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.accessory.AddAccessoryInputData;
 import com.motorbike.business.dto.accessory.AddAccessoryOutputData;
 import com.motorbike.business.dto.accessory.AddAccessoryOutputData.AccessoryItem;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.usecase.input.AddAccessoryInputBoundary;
 import com.motorbike.business.usecase.output.AddAccessoryOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.PhuKienXeMay;
 
 public class AddAccessoryUseCaseControl implements AddAccessoryInputBoundary {
 
     private final AddAccessoryOutputBoundary outputBoundary;
     private final AccessoryRepository accessoryRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public AddAccessoryUseCaseControl(
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, accessoryRepository, productChangeListener);
+    }
 
     public AddAccessoryUseCaseControl(
             AddAccessoryOutputBoundary outputBoundary,
             AccessoryRepository accessoryRepository
+    ) {
+        this(outputBoundary, accessoryRepository, ProductChangeListener.none());
+    }
+
+    public AddAccessoryUseCaseControl(
+            AddAccessoryOutputBoundary outputBoundary,
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.accessoryRepository = accessoryRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(AddAccessoryInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(AddAccessoryInputData input, ResultPresenter<AddAccessoryOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private AddAccessoryOutputData handle(AddAccessoryInputData input) {
         AddAccessoryOutputData outputData;
 
         try {
@@ -71,6 +102,7 @@ public class AddAccessoryUseCaseControl implements AddAccessoryInputBoundary {
 
                 saved = accessoryRepository.save(accessory);
             }
+            productChangeListener.onProductSaved(saved.getMaSanPham());
 
             // Map to output
             AccessoryItem item = new AccessoryItem(
@@ -94,6 +126,6 @@ public class AddAccessoryUseCaseControl implements AddAccessoryInputBoundary {
             outputData = new AddAccessoryOutputData("SYSTEM_ERROR", e.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -3,9 +3,11 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.motorbike.AddMotorbikeInputData;
 import com.motorbike.business.dto.motorbike.AddMotorbikeOutputData;
 import com.motorbike.business.dto.motorbike.AddMotorbikeOutputData.MotorbikeItem;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
 import com.motorbike.business.usecase.input.AddMotorbikeInputBoundary;
 import com.motorbike.business.usecase.output.AddMotorbikeOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 import com.motorbike.domain.entities.XeMay;
 
@@ -13,17 +15,46 @@ public class AddMotorbikeUseCaseControl implements AddMotorbikeInputBoundary {
 
     private final AddMotorbikeOutputBoundary outputBoundary;
     private final MotorbikeRepository motorbikeRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public AddMotorbikeUseCaseControl(
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, motorbikeRepository, productChangeListener);
+    }
 
     public AddMotorbikeUseCaseControl(
             AddMotorbikeOutputBoundary outputBoundary,
             MotorbikeRepository motorbikeRepository
+    ) {
+        this(outputBoundary, motorbikeRepository, ProductChangeListener.none());
+    }
+
+    public AddMotorbikeUseCaseControl(
+            AddMotorbikeOutputBoundary outputBoundary,
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.motorbikeRepository = motorbikeRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(AddMotorbikeInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(AddMotorbikeInputData input, ResultPresenter<AddMotorbikeOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private AddMotorbikeOutputData handle(AddMotorbikeInputData input) {
         AddMotorbikeOutputData outputData;
     
         try {
@@ -73,6 +104,7 @@ public class AddMotorbikeUseCaseControl implements AddMotorbikeInputBoundary {
     
                 saved = motorbikeRepository.save(xeMay);
             }
+            productChangeListener.onProductSaved(saved.getMaSanPham());
     
             MotorbikeItem item = new MotorbikeItem(
                     saved.getMaSanPham(),
@@ -94,7 +126,7 @@ public class AddMotorbikeUseCaseControl implements AddMotorbikeInputBoundary {
             outputData = new AddMotorbikeOutputData("SYSTEM_ERROR", e.getMessage());
         }
     
-        outputBoundary.present(outputData);
+        return outputData;
     }
     
 }
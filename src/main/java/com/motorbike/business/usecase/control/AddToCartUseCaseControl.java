@@ -4,7 +4,10 @@ import com.motorbike.business.dto.addtocart.AddToCartInputData;
 import com.motorbike.business.dto.addtocart.AddToCartOutputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.input.AddToCartInputBoundary;
 import com.motorbike.business.usecase.output.AddToCartOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.TaiKhoan;
@@ -12,22 +15,53 @@ import com.motorbike.domain.entities.ChiTietGioHang;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class AddToCartUseCaseControl {
+public class AddToCartUseCaseControl implements AddToCartInputBoundary {
     
     private final AddToCartOutputBoundary outputBoundary;
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
+    private final TransactionRunner transactionRunner;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public AddToCartUseCaseControl(
+            CartRepository cartRepository,
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner) {
+        this(null, cartRepository, productRepository, transactionRunner);
+    }
+
     public AddToCartUseCaseControl(
             AddToCartOutputBoundary outputBoundary,
             CartRepository cartRepository,
             ProductRepository productRepository) {
+        this(outputBoundary, cartRepository, productRepository, TransactionRunner.direct());
+    }
+    
+    public AddToCartUseCaseControl(
+            AddToCartOutputBoundary outputBoundary,
+            CartRepository cartRepository,
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner) {
         this.outputBoundary = outputBoundary;
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
+        this.transactionRunner = transactionRunner;
     }
     
+    @Override
     public void execute(AddToCartInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(AddToCartInputData inputData, ResultPresenter<AddToCartOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private AddToCartOutputData handle(AddToCartInputData inputData) {
         AddToCartOutputData outputData = null;
         Exception errorException = null;
         
@@ -57,9 +91,6 @@ public class AddToCartUseCaseControl {
         
         if (errorException == null && sanPham != null) {
             try {
-                GioHang gioHang = cartRepository.findByUserId(inputData.getUserId())
-                    .orElse(new GioHang(inputData.getUserId()));
-                
                 ChiTietGioHang chiTiet = new ChiTietGioHang(
                     sanPham.getMaSanPham(),
                     sanPham.getTenSanPham(),
@@ -67,12 +98,18 @@ public class AddToCartUseCaseControl {
                     inputData.getQuantity()
                 );
                 
-                gioHang.themSanPham(chiTiet);
-                GioHang savedCart = cartRepository.save(gioHang);
+                // Đọc giỏ có khóa rồi cộng số lượng trong cùng giao dịch: hai lần thêm cùng lúc
+                // vào cùng giỏ chạy lần lượt, lần sau thấy số lượng lần trước đã ghi
+                GioHang savedCart = transactionRunner.inTransaction(() -> {
+                    GioHang gioHang = cartRepository.findByUserIdForUpdate(inputData.getUserId())
+                        .orElse(new GioHang(inputData.getUserId()));
+                    gioHang.themSanPham(chiTiet);
+                    return cartRepository.save(gioHang);
+                });
                 
                 outputData = AddToCartOutputData.forSuccess(
                     savedCart.getMaGioHang(),
-                    savedCart.getDanhSachSanPham().size(),
+                    savedCart.demSoSanPham(),
                     savedCart.getTongTien()
                 );
             } catch (Exception e) {
@@ -95,6 +132,6 @@ public class AddToCartUseCaseControl {
             outputData = AddToCartOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
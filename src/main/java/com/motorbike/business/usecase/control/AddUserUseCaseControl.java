@@ -4,12 +4,16 @@ import com.motorbike.business.dto.adduser.AddUserInputData;
 import com.motorbike.business.dto.adduser.AddUserOutputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.stats.DashboardCounters;
 import com.motorbike.business.usecase.input.AddUserInputBoundary;
 import com.motorbike.business.usecase.output.AddUserOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.VaiTro;
 import com.motorbike.domain.exceptions.DomainException;
+import com.motorbike.domain.exceptions.SystemException;
 import com.motorbike.domain.exceptions.ValidationException;
 
 public class AddUserUseCaseControl implements AddUserInputBoundary {
@@ -17,17 +21,64 @@ public class AddUserUseCaseControl implements AddUserInputBoundary {
     private final AddUserOutputBoundary outputBoundary;
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
+    private final DashboardCounters dashboardCounters;
+    private final PasswordHasher passwordHasher;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public AddUserUseCaseControl(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters) {
+        this(null, userRepository, cartRepository, dashboardCounters);
+    }
+
+    public AddUserUseCaseControl(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters,
+            PasswordHasher passwordHasher) {
+        this(null, userRepository, cartRepository, dashboardCounters, passwordHasher);
+    }
 
     public AddUserUseCaseControl(AddUserOutputBoundary outputBoundary,
                                  UserRepository userRepository,
                                  CartRepository cartRepository) {
+        this(outputBoundary, userRepository, cartRepository, DashboardCounters.none());
+    }
+
+    public AddUserUseCaseControl(AddUserOutputBoundary outputBoundary,
+                                 UserRepository userRepository,
+                                 CartRepository cartRepository,
+                                 DashboardCounters dashboardCounters) {
+        this(outputBoundary, userRepository, cartRepository, dashboardCounters, PasswordHasher.plainText());
+    }
+
+    public AddUserUseCaseControl(AddUserOutputBoundary outputBoundary,
+                                 UserRepository userRepository,
+                                 CartRepository cartRepository,
+                                 DashboardCounters dashboardCounters,
+                                 PasswordHasher passwordHasher) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
         this.cartRepository = cartRepository;
+        this.dashboardCounters = dashboardCounters;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
     public void execute(AddUserInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(AddUserInputData input, ResultPresenter<AddUserOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private AddUserOutputData handle(AddUserInputData input) {
         AddUserOutputData outputData = null;
         Exception errorException = null;
 
@@ -48,7 +99,7 @@ public class AddUserUseCaseControl implements AddUserInputBoundary {
                 if (userRepository.existsByEmail(input.email)) {
                     throw DomainException.emailAlreadyExists(input.email);
                 }
-            } catch (DomainException e) {
+            } catch (Exception e) {
                 errorException = e;
             }
         }
@@ -62,6 +113,7 @@ public class AddUserUseCaseControl implements AddUserInputBoundary {
                         input.phoneNumber,
                         input.address
                 );
+                taiKhoan.setMatKhau(passwordHasher.hash(input.password));
 
                 if (input.role != null && !input.role.isBlank()) {
                     try {
@@ -77,6 +129,7 @@ public class AddUserUseCaseControl implements AddUserInputBoundary {
                 }
 
                 TaiKhoan saved = userRepository.save(taiKhoan);
+                dashboardCounters.userAdded(saved);
 
                 GioHang gioHang = new GioHang(saved.getMaTaiKhoan());
                 cartRepository.save(gioHang);
@@ -102,11 +155,13 @@ public class AddUserUseCaseControl implements AddUserInputBoundary {
                 errorCode = ((ValidationException) errorException).getErrorCode();
             } else if (errorException instanceof DomainException) {
                 errorCode = ((DomainException) errorException).getErrorCode();
+            } else if (errorException instanceof SystemException) {
+                errorCode = ((SystemException) errorException).getErrorCode();
             }
 
             outputData = AddUserOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -1,35 +1,85 @@
 package com.motorbike.business.usecase.control;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.motorbike.business.dto.cancelorder.CancelOrderInputData;
 import com.motorbike.business.dto.cancelorder.CancelOrderOutputData;
 import com.motorbike.business.ports.repository.OrderRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.input.CancelOrderInputBoundary;
 import com.motorbike.business.usecase.output.CancelOrderOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.ChiTietDonHang;
 import com.motorbike.domain.entities.DonHang;
-import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.TrangThaiDonHang;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class CancelOrderUseCaseControl {
+public class CancelOrderUseCaseControl implements CancelOrderInputBoundary {
     
     private final CancelOrderOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final TransactionRunner transactionRunner;
+    private final DashboardCounters dashboardCounters;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public CancelOrderUseCaseControl(
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
+        this(null, orderRepository, productRepository, transactionRunner, dashboardCounters);
+    }
+
     public CancelOrderUseCaseControl(
             CancelOrderOutputBoundary outputBoundary,
             OrderRepository orderRepository,
             ProductRepository productRepository) {
+        this(outputBoundary, orderRepository, productRepository, TransactionRunner.direct());
+    }
+    
+    public CancelOrderUseCaseControl(
+            CancelOrderOutputBoundary outputBoundary,
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner) {
+        this(outputBoundary, orderRepository, productRepository, transactionRunner, DashboardCounters.none());
+    }
+    
+    public CancelOrderUseCaseControl(
+            CancelOrderOutputBoundary outputBoundary,
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
         this.outputBoundary = outputBoundary;
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.transactionRunner = transactionRunner;
+        this.dashboardCounters = dashboardCounters;
     }
     
+    @Override
     public void execute(CancelOrderInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(CancelOrderInputData inputData, ResultPresenter<CancelOrderOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private CancelOrderOutputData handle(CancelOrderInputData inputData) {
         CancelOrderOutputData outputData = null;
         Exception errorException = null;
         
@@ -73,29 +123,9 @@ public class CancelOrderUseCaseControl {
         
         if (errorException == null && donHang != null) {
             try {
-                BigDecimal totalRefund = BigDecimal.ZERO;
-                for (ChiTietDonHang chiTiet : donHang.getDanhSachSanPham()) {
-                    SanPham sanPham = productRepository.findById(chiTiet.getMaSanPham())
-                        .orElseThrow(() -> DomainException.productNotFound(
-                            "Sản phẩm không tồn tại: " + chiTiet.getMaSanPham()
-                        ));
-                    
-                    sanPham.tangTonKho(chiTiet.getSoLuong());
-                    productRepository.save(sanPham);
-                    
-                    totalRefund = totalRefund.add(chiTiet.getThanhTien());
-                }
-                
-                donHang.huyDonHang();
-                DonHang cancelledOrder = orderRepository.save(donHang);
-                
-                outputData = CancelOrderOutputData.forSuccess(
-                    cancelledOrder.getMaDonHang(),
-                    cancelledOrder.getMaTaiKhoan(),
-                    cancelledOrder.getTrangThai().name(),
-                    totalRefund,
-                    inputData.getCancelReason()
-                );
+                final DonHang donHangHuy = donHang;
+                // Hoàn kho và đổi trạng thái đơn trong cùng một giao dịch
+                outputData = transactionRunner.inTransaction(() -> huyDon(donHangHuy, inputData));
             } catch (Exception e) {
                 errorException = e;
             }
@@ -115,6 +145,47 @@ public class CancelOrderUseCaseControl {
             outputData = CancelOrderOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
+    }
+    
+    private CancelOrderOutputData huyDon(DonHang donHang, CancelOrderInputData inputData) {
+        // Đổi trạng thái có điều kiện trước khi hoàn kho: hai request hủy cùng một đơn (bấm hai lần)
+        // hoặc admin vừa xác nhận đơn thì chỉ một bên thắng, kho không bị cộng hai lần
+        if (!orderRepository.cancelIfPending(donHang.getMaDonHang())) {
+            throw DomainException.cannotCancelOrder(
+                "Đơn hàng đã được xử lý hoặc đã hủy trước đó"
+            );
+        }
+        
+        Map<Long, Integer> soLuongTheoMa = donHang.getDanhSachSanPham().stream()
+            .collect(Collectors.toMap(
+                ChiTietDonHang::getMaSanPham,
+                ChiTietDonHang::getSoLuong,
+                Integer::sum,
+                LinkedHashMap::new));
+        
+        // Hoàn kho theo lô; nếu thiếu sản phẩm nào thì không hoàn kho dở dang
+        List<Long> khongTonTai = productRepository.incrementStock(soLuongTheoMa);
+        if (!khongTonTai.isEmpty()) {
+            throw DomainException.productNotFound(
+                "Sản phẩm không tồn tại: " + khongTonTai.get(0)
+            );
+        }
+        
+        BigDecimal totalRefund = donHang.getDanhSachSanPham().stream()
+            .map(ChiTietDonHang::getThanhTien)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        TrangThaiDonHang trangThaiCu = donHang.getTrangThai();
+        donHang.huyDonHang();
+        dashboardCounters.orderStatusChanged(donHang, trangThaiCu);
+        
+        return CancelOrderOutputData.forSuccess(
+            donHang.getMaDonHang(),
+            donHang.getMaTaiKhoan(),
+            donHang.getTrangThai().name(),
+            totalRefund,
+            inputData.getCancelReason()
+        );
     }
 }
@@ -6,24 +6,59 @@ import java.util.Optional;
 import com.motorbike.business.dto.changepassword.ChangePasswordInputData;
 import com.motorbike.business.dto.changepassword.ChangePasswordOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
 import com.motorbike.business.usecase.input.ChangePasswordInputBoundary;
 import com.motorbike.business.usecase.output.ChangePasswordOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.exceptions.SystemException;
 import com.motorbike.domain.exceptions.ValidationException;
 
 public class ChangePasswordUseCaseControl implements ChangePasswordInputBoundary {
 
     private final ChangePasswordOutputBoundary outputBoundary;
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public ChangePasswordUseCaseControl(
+            UserRepository userRepository) {
+        this(null, userRepository);
+    }
+
+    public ChangePasswordUseCaseControl(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher) {
+        this(null, userRepository, passwordHasher);
+    }
 
     public ChangePasswordUseCaseControl(ChangePasswordOutputBoundary outputBoundary,
                                         UserRepository userRepository) {
+        this(outputBoundary, userRepository, PasswordHasher.plainText());
+    }
+
+    public ChangePasswordUseCaseControl(ChangePasswordOutputBoundary outputBoundary,
+                                        UserRepository userRepository,
+                                        PasswordHasher passwordHasher) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
     public void execute(ChangePasswordInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(ChangePasswordInputData input, ResultPresenter<ChangePasswordOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private ChangePasswordOutputData handle(ChangePasswordInputData input) {
         ChangePasswordOutputData outputData = null;
         Exception errorException = null;
 
@@ -41,7 +76,7 @@ public class ChangePasswordUseCaseControl implements ChangePasswordInputBoundary
                 throw ValidationException.emptyPassword();
             }
             if (!input.newPassword.equals(input.confirmPassword)) {
-                throw new ValidationException("PASSWORD_MISMATCH", "Mật khẩu mới và xác nhận không trùng khớp");
+                throw new ValidationException("Mật khẩu mới và xác nhận không trùng khớp", "PASSWORD_MISMATCH");
             }
         } catch (Exception e) {
             errorException = e;
@@ -59,17 +94,16 @@ public class ChangePasswordUseCaseControl implements ChangePasswordInputBoundary
 
         if (errorException == null && existing != null) {
             try {
-                // Validate current password (assuming plain text comparison for now)
-                // In production, use proper password hashing/comparison
-                if (!existing.getMatKhau().equals(input.currentPassword)) {
-                    throw new ValidationException("INVALID_PASSWORD", "Mật khẩu hiện tại không đúng");
+                // Validate current password against the stored hash
+                if (!passwordHasher.matches(input.currentPassword, existing.getMatKhau())) {
+                    throw new ValidationException("Mật khẩu hiện tại không đúng", "INVALID_PASSWORD");
                 }
                 
                 // Validate new password format
                 TaiKhoan.validateMatKhau(input.newPassword);
                 
                 // Update password
-                existing.setMatKhau(input.newPassword);
+                existing.setMatKhau(passwordHasher.hash(input.newPassword));
                 existing.setNgayCapNhat(LocalDateTime.now());
                 userRepository.save(existing);
                 
@@ -80,12 +114,16 @@ public class ChangePasswordUseCaseControl implements ChangePasswordInputBoundary
         }
 
         if (errorException != null) {
-            String errorCode = errorException instanceof ValidationException ? 
-                ((ValidationException) errorException).getErrorCode() : "SYSTEM_ERROR";
+            String errorCode = "SYSTEM_ERROR";
+            if (errorException instanceof ValidationException) {
+                errorCode = ((ValidationException) errorException).getErrorCode();
+            } else if (errorException instanceof SystemException) {
+                errorCode = ((SystemException) errorException).getErrorCode();
+            }
             String message = errorException.getMessage();
             outputData = ChangePasswordOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
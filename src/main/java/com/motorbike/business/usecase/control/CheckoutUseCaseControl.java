@@ -5,35 +5,87 @@ import com.motorbike.business.dto.checkout.CheckoutOutputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.input.CheckoutInputBoundary;
 import com.motorbike.business.usecase.output.CheckoutOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.ChiTietGioHang;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.exceptions.ValidationException;
 import com.motorbike.domain.exceptions.DomainException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-public class CheckoutUseCaseControl {
+public class CheckoutUseCaseControl implements CheckoutInputBoundary {
     
     private final CheckoutOutputBoundary outputBoundary;
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final TransactionRunner transactionRunner;
+    private final DashboardCounters dashboardCounters;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public CheckoutUseCaseControl(
+            CartRepository cartRepository,
+            ProductRepository productRepository,
+            OrderRepository orderRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
+        this(null, cartRepository, productRepository, orderRepository, transactionRunner, dashboardCounters);
+    }
+
     public CheckoutUseCaseControl(
             CheckoutOutputBoundary outputBoundary,
             CartRepository cartRepository,
             ProductRepository productRepository,
             OrderRepository orderRepository) {
+        this(outputBoundary, cartRepository, productRepository, orderRepository, TransactionRunner.direct());
+    }
+    
+    public CheckoutUseCaseControl(
+            CheckoutOutputBoundary outputBoundary,
+            CartRepository cartRepository,
+            ProductRepository productRepository,
+            OrderRepository orderRepository,
+            TransactionRunner transactionRunner) {
+        this(outputBoundary, cartRepository, productRepository, orderRepository, transactionRunner, DashboardCounters.none());
+    }
+    
+    public CheckoutUseCaseControl(
+            CheckoutOutputBoundary outputBoundary,
+            CartRepository cartRepository,
+            ProductRepository productRepository,
+            OrderRepository orderRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
         this.outputBoundary = outputBoundary;
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.transactionRunner = transactionRunner;
+        this.dashboardCounters = dashboardCounters;
     }
     
+    @Override
     public void execute(CheckoutInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(CheckoutInputData inputData, ResultPresenter<CheckoutOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private CheckoutOutputData handle(CheckoutInputData inputData) {
         CheckoutOutputData outputData = null;
         Exception errorException = null;
         
@@ -52,6 +104,7 @@ public class CheckoutUseCaseControl {
         }
         
         GioHang gioHang = null;
+        Map<Long, SanPham> sanPhamTheoMa = null;
         if (errorException == null) {
             try {
                 gioHang = cartRepository.findByUserId(inputData.getUserId())
@@ -61,9 +114,17 @@ public class CheckoutUseCaseControl {
                     throw DomainException.emptyCart();
                 }
                 
+                // Nạp toàn bộ sản phẩm trong giỏ bằng một lần gọi
+                sanPhamTheoMa = productRepository.findAllByIds(
+                    gioHang.getDanhSachSanPham().stream()
+                        .map(ChiTietGioHang::getMaSanPham)
+                        .collect(Collectors.toList()));
+                
                 for (ChiTietGioHang item : gioHang.getDanhSachSanPham()) {
-                    SanPham sanPham = productRepository.findById(item.getMaSanPham())
-                        .orElseThrow(() -> DomainException.productNotFound(String.valueOf(item.getMaSanPham())));
+                    SanPham sanPham = sanPhamTheoMa.get(item.getMaSanPham());
+                    if (sanPham == null) {
+                        throw DomainException.productNotFound(String.valueOf(item.getMaSanPham()));
+                    }
                     
                     if (sanPham.getSoLuongTonKho() < item.getSoLuong()) {
                         throw DomainException.insufficientStock(
@@ -78,47 +139,8 @@ public class CheckoutUseCaseControl {
         
         if (errorException == null && gioHang != null) {
             try {
-                DonHang donHang = DonHang.fromGioHang(
-                    gioHang,
-                    inputData.getReceiverName(),
-                    inputData.getPhoneNumber(),
-                    inputData.getShippingAddress(),
-                    inputData.getNote()
-                );
-                
-                for (ChiTietGioHang item : gioHang.getDanhSachSanPham()) {
-                    SanPham sanPham = productRepository.findById(item.getMaSanPham()).get();
-                    sanPham.giamTonKho(item.getSoLuong());
-                    productRepository.save(sanPham);
-                }
-                
-                DonHang savedOrder = orderRepository.save(donHang);
-                
-                gioHang.xoaToanBoGioHang();
-                cartRepository.save(gioHang);
-                
-                List<CheckoutOutputData.OrderItemData> orderItems = savedOrder.getDanhSachSanPham()
-                    .stream()
-                    .map(item -> new CheckoutOutputData.OrderItemData(
-                        item.getMaSanPham(),
-                        item.getTenSanPham(),
-                        item.getGiaBan(),
-                        item.getSoLuong(),
-                        item.getThanhTien()
-                    ))
-                    .collect(Collectors.toList());
-                
-                outputData = CheckoutOutputData.forSuccess(
-                    savedOrder.getMaDonHang(),
-                    savedOrder.getMaTaiKhoan(),
-                    savedOrder.getTenNguoiNhan(),
-                    savedOrder.getSoDienThoai(),
-                    savedOrder.getDiaChiGiaoHang(),
-                    savedOrder.getTrangThai().name(),
-                    savedOrder.getTongTien(),
-                    savedOrder.getDanhSachSanPham().size(),
-                    orderItems
-                );
+                // Trừ kho, lưu đơn và xóa giỏ trong cùng một giao dịch: lỗi ở bước nào cũng hủy cả lô
+                outputData = transactionRunner.inTransaction(() -> datHang(inputData));
             } catch (Exception e) {
                 errorException = e;
             }
@@ -139,6 +161,69 @@ public class CheckoutUseCaseControl {
             outputData = CheckoutOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
+    }
+    
+    private CheckoutOutputData datHang(CheckoutInputData inputData) {
+        // Đọc lại giỏ có khóa: món vừa thêm trong lúc checkout thì hoặc vào đơn này, hoặc chờ tới khi giỏ
+        // đã xóa xong rồi mới ghi, không bị mất; hai lần checkout cùng giỏ cũng không tạo hai đơn
+        GioHang gioHang = cartRepository.findByUserIdForUpdate(inputData.getUserId())
+            .orElseThrow(DomainException::emptyCart);
+        
+        DonHang donHang = DonHang.fromGioHang(
+            gioHang,
+            inputData.getReceiverName(),
+            inputData.getPhoneNumber(),
+            inputData.getShippingAddress(),
+            inputData.getNote()
+        );
+        
+        // Trừ kho có điều kiện (tồn kho >= số lượng) để hai đơn đồng thời không bán vượt
+        Map<Long, Integer> soLuongTheoMa = gioHang.getDanhSachSanPham().stream()
+            .collect(Collectors.toMap(
+                ChiTietGioHang::getMaSanPham,
+                ChiTietGioHang::getSoLuong,
+                Integer::sum,
+                LinkedHashMap::new));
+        
+        List<Long> khongDuHang = productRepository.decrementStockIfAvailable(soLuongTheoMa);
+        if (!khongDuHang.isEmpty()) {
+            // Đọc lại để báo đúng tồn kho hiện tại
+            Long maSanPham = khongDuHang.get(0);
+            SanPham sanPham = productRepository.findById(maSanPham)
+                .orElseThrow(() -> DomainException.productNotFound(String.valueOf(maSanPham)));
+            throw DomainException.insufficientStock(
+                sanPham.getTenSanPham(),
+                sanPham.getSoLuongTonKho());
+        }
+        
+        DonHang savedOrder = orderRepository.save(donHang);
+        dashboardCounters.orderPlaced(savedOrder);
+        
+        gioHang.xoaToanBoGioHang();
+        cartRepository.save(gioHang);
+        
+        List<CheckoutOutputData.OrderItemData> orderItems = savedOrder.getDanhSachSanPham()
+            .stream()
+            .map(item -> new CheckoutOutputData.OrderItemData(
+                item.getMaSanPham(),
+                item.getTenSanPham(),
+                item.getGiaBan(),
+                item.getSoLuong(),
+                item.getThanhTien()
+            ))
+            .collect(Collectors.toList());
+        
+        return CheckoutOutputData.forSuccess(
+            savedOrder.getMaDonHang(),
+            savedOrder.getMaTaiKhoan(),
+            savedOrder.getTenNguoiNhan(),
+            savedOrder.getSoDienThoai(),
+            savedOrder.getDiaChiGiaoHang(),
+            savedOrder.getTrangThai().name(),
+            savedOrder.getTongTien(),
+            savedOrder.getDanhSachSanPham().size(),
+            orderItems
+        );
     }
 }
@@ -4,26 +4,57 @@ import java.util.Optional;
 
 import com.motorbike.business.dto.accessory.DeleteAccessoryInputData;
 import com.motorbike.business.dto.accessory.DeleteAccessoryOutputData;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.usecase.input.DeleteAccessoryInputBoundary;
 import com.motorbike.business.usecase.output.DeleteAccessoryOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.PhuKienXeMay;
 
 public class DeleteAccessoryUseCaseControl implements DeleteAccessoryInputBoundary {
 
     private final DeleteAccessoryOutputBoundary outputBoundary;
     private final AccessoryRepository accessoryRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public DeleteAccessoryUseCaseControl(
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, accessoryRepository, productChangeListener);
+    }
 
     public DeleteAccessoryUseCaseControl(
             DeleteAccessoryOutputBoundary outputBoundary,
             AccessoryRepository accessoryRepository
+    ) {
+        this(outputBoundary, accessoryRepository, ProductChangeListener.none());
+    }
+
+    public DeleteAccessoryUseCaseControl(
+            DeleteAccessoryOutputBoundary outputBoundary,
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.accessoryRepository = accessoryRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(DeleteAccessoryInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(DeleteAccessoryInputData input, ResultPresenter<DeleteAccessoryOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private DeleteAccessoryOutputData handle(DeleteAccessoryInputData input) {
         DeleteAccessoryOutputData outputData;
 
         try {
@@ -37,6 +68,7 @@ public class DeleteAccessoryUseCaseControl implements DeleteAccessoryInputBounda
             }
 
             accessoryRepository.deleteById(input.id);
+            productChangeListener.onProductDeleted(input.id);
             outputData = new DeleteAccessoryOutputData("Accessory deleted successfully");
 
         } catch (IllegalArgumentException e) {
@@ -45,6 +77,6 @@ public class DeleteAccessoryUseCaseControl implements DeleteAccessoryInputBounda
             outputData = new DeleteAccessoryOutputData("SYSTEM_ERROR", e.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -4,6 +4,8 @@ import com.motorbike.business.dto.motorbike.DeleteMotorbikeInputData;
 import com.motorbike.business.dto.motorbike.DeleteMotorbikeOutputData;
 import com.motorbike.business.usecase.input.DeleteMotorbikeInputBoundary;
 import com.motorbike.business.usecase.output.DeleteMotorbikeOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
 import com.motorbike.domain.entities.XeMay;
 
@@ -11,17 +13,46 @@ public class DeleteMotorbikeUseCaseControl implements DeleteMotorbikeInputBounda
 
     private final DeleteMotorbikeOutputBoundary outputBoundary;
     private final MotorbikeRepository motorbikeRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public DeleteMotorbikeUseCaseControl(
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, motorbikeRepository, productChangeListener);
+    }
 
     public DeleteMotorbikeUseCaseControl(
             DeleteMotorbikeOutputBoundary outputBoundary,
             MotorbikeRepository motorbikeRepository
+    ) {
+        this(outputBoundary, motorbikeRepository, ProductChangeListener.none());
+    }
+
+    public DeleteMotorbikeUseCaseControl(
+            DeleteMotorbikeOutputBoundary outputBoundary,
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.motorbikeRepository = motorbikeRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(DeleteMotorbikeInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(DeleteMotorbikeInputData input, ResultPresenter<DeleteMotorbikeOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private DeleteMotorbikeOutputData handle(DeleteMotorbikeInputData input) {
 
         DeleteMotorbikeOutputData output;
 
@@ -30,11 +61,11 @@ public class DeleteMotorbikeUseCaseControl implements DeleteMotorbikeInputBounda
 
             if (existing == null) {
                 output = new DeleteMotorbikeOutputData("NOT_FOUND", "Motorbike not found");
-                outputBoundary.present(output);
-                return;
+                return output;
             }
 
             motorbikeRepository.deleteById(input.id);
+            productChangeListener.onProductDeleted(input.id);
 
             output = new DeleteMotorbikeOutputData(true);
 
@@ -42,6 +73,6 @@ public class DeleteMotorbikeUseCaseControl implements DeleteMotorbikeInputBounda
             output = new DeleteMotorbikeOutputData("SYSTEM_ERROR", e.getMessage());
         }
 
-        outputBoundary.present(output);
+        return output;
     }
 }
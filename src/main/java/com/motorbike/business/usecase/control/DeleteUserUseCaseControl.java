@@ -3,8 +3,10 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.deleteuser.DeleteUserInputData;
 import com.motorbike.business.dto.deleteuser.DeleteUserOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
 import com.motorbike.business.usecase.input.DeleteUserInputBoundary;
 import com.motorbike.business.usecase.output.DeleteUserOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.exceptions.ValidationException;
 
@@ -12,15 +14,42 @@ public class DeleteUserUseCaseControl implements DeleteUserInputBoundary {
 
     private final DeleteUserOutputBoundary outputBoundary;
     private final UserRepository userRepository;
+    private final DashboardCounters dashboardCounters;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public DeleteUserUseCaseControl(
+            UserRepository userRepository,
+            DashboardCounters dashboardCounters) {
+        this(null, userRepository, dashboardCounters);
+    }
 
     public DeleteUserUseCaseControl(DeleteUserOutputBoundary outputBoundary,
                                     UserRepository userRepository) {
+        this(outputBoundary, userRepository, DashboardCounters.none());
+    }
+
+    public DeleteUserUseCaseControl(DeleteUserOutputBoundary outputBoundary,
+                                    UserRepository userRepository,
+                                    DashboardCounters dashboardCounters) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
+        this.dashboardCounters = dashboardCounters;
     }
 
     @Override
     public void execute(DeleteUserInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(DeleteUserInputData inputData, ResultPresenter<DeleteUserOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private DeleteUserOutputData handle(DeleteUserInputData inputData) {
         DeleteUserOutputData outputData = null;
         Exception errorException = null;
 
@@ -44,6 +73,7 @@ public class DeleteUserUseCaseControl implements DeleteUserInputBoundary {
                 }
 
                 userRepository.deleteById(id);
+                dashboardCounters.userDeleted(user);
                 outputData = DeleteUserOutputData.forSuccess();
             } catch (Exception e) {
                 errorException = e;
@@ -59,6 +89,6 @@ public class DeleteUserUseCaseControl implements DeleteUserInputBoundary {
             outputData = DeleteUserOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -3,18 +3,26 @@ package com.motorbike.business.usecase.control;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.motorbike.business.dto.accessory.GetAllAccessoriesInputData;
 import com.motorbike.business.dto.accessory.GetAllAccessoriesOutputData;
 import com.motorbike.business.dto.accessory.GetAllAccessoriesOutputData.AccessoryItem;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.usecase.input.GetAllAccessoriesInputBoundary;
 import com.motorbike.business.usecase.output.GetAllAccessoriesOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.exceptions.ValidationException;
 
 public class GetAllAccessoriesUseCaseControl implements GetAllAccessoriesInputBoundary {
 
     private final GetAllAccessoriesOutputBoundary outputBoundary;
     private final AccessoryRepository accessoryRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public GetAllAccessoriesUseCaseControl(AccessoryRepository accessoryRepository) {
+        this(null, accessoryRepository);
+    }
+
     public GetAllAccessoriesUseCaseControl(
             GetAllAccessoriesOutputBoundary outputBoundary,
             AccessoryRepository accessoryRepository
@@ -24,12 +32,30 @@ public class GetAllAccessoriesUseCaseControl implements GetAllAccessoriesInputBo
     }
 
     @Override
-    public void execute(Void inputData) {
+    public void execute(GetAllAccessoriesInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(GetAllAccessoriesInputData inputData, ResultPresenter<GetAllAccessoriesOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private GetAllAccessoriesOutputData handle(GetAllAccessoriesInputData inputData) {
         GetAllAccessoriesOutputData outputData = null;
         Exception errorException = null;
 
         try {
-                List<PhuKienXeMay> allAccessories = accessoryRepository.findAllAccessories();
+                Integer limit = inputData == null ? null : inputData.limit;
+                if (limit != null && limit <= 0) {
+                    throw ValidationException.invalidPageRequest();
+                }
+                List<PhuKienXeMay> allAccessories = limit == null
+                    ? accessoryRepository.findAllAccessories()
+                    : accessoryRepository.findAccessories(limit);
 
                 List<AccessoryItem> accessories = allAccessories.stream()
                     .map(pk -> new AccessoryItem(
@@ -52,9 +78,13 @@ public class GetAllAccessoriesUseCaseControl implements GetAllAccessoriesInputBo
         }
 
         if (errorException != null) {
-            outputData = new GetAllAccessoriesOutputData("SYSTEM_ERROR", errorException.getMessage());
+            String errorCode = "SYSTEM_ERROR";
+            if (errorException instanceof ValidationException) {
+                errorCode = ((ValidationException) errorException).getErrorCode();
+            }
+            outputData = new GetAllAccessoriesOutputData(errorCode, errorException.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -5,6 +5,7 @@ import com.motorbike.business.dto.motorbike.GetAllMotorbikesOutputData.Motorbike
 import com.motorbike.business.ports.repository.ProductRepository;
 import com.motorbike.business.usecase.input.GetAllMotorbikesInputBoundary;
 import com.motorbike.business.usecase.output.GetAllMotorbikesOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.XeMay;
 
@@ -16,6 +17,11 @@ public class GetAllMotorbikesUseCaseControl implements GetAllMotorbikesInputBoun
     private final GetAllMotorbikesOutputBoundary outputBoundary;
     private final ProductRepository productRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public GetAllMotorbikesUseCaseControl(ProductRepository productRepository) {
+        this(null, productRepository);
+    }
+
     public GetAllMotorbikesUseCaseControl(
             GetAllMotorbikesOutputBoundary outputBoundary,
             ProductRepository productRepository
@@ -26,6 +32,18 @@ public class GetAllMotorbikesUseCaseControl implements GetAllMotorbikesInputBoun
 
     @Override
     public void execute(Void inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(Void inputData, ResultPresenter<GetAllMotorbikesOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private GetAllMotorbikesOutputData handle(Void inputData) {
         GetAllMotorbikesOutputData outputData = null;
         Exception errorException = null;
 
@@ -61,6 +79,6 @@ public class GetAllMotorbikesUseCaseControl implements GetAllMotorbikesInputBoun
             outputData = new GetAllMotorbikesOutputData("SYSTEM_ERROR", errorException.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -0,0 +1,140 @@
+package com.motorbike.business.usecase.control;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.motorbike.business.dto.dashboard.GetDashboardStatsInputData;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData.CountItem;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData.RevenueItem;
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.usecase.input.GetDashboardStatsInputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.domain.entities.VaiTro;
+import com.motorbike.domain.exceptions.ValidationException;
+
+public class GetDashboardStatsUseCaseControl implements GetDashboardStatsInputBoundary {
+
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 366;
+    public static final int DEFAULT_MONTHS = 12;
+    public static final int MAX_MONTHS = 36;
+
+    private final DashboardCounters dashboardCounters;
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final int lowStockThreshold;
+
+    public GetDashboardStatsUseCaseControl(
+            DashboardCounters dashboardCounters,
+            OrderRepository orderRepository,
+            UserRepository userRepository,
+            ProductRepository productRepository,
+            int lowStockThreshold) {
+        this.dashboardCounters = dashboardCounters;
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    @Override
+    public <R> R execute(GetDashboardStatsInputData inputData, ResultPresenter<GetDashboardStatsOutputData, R> presenter) {
+        GetDashboardStatsOutputData outputData = null;
+        Exception errorException = null;
+
+        int days = DEFAULT_DAYS;
+        int months = DEFAULT_MONTHS;
+        try {
+            if (inputData == null || !inputData.isAdmin()) {
+                throw ValidationException.invalidInput();
+            }
+            if (inputData.getDays() != null) {
+                days = inputData.getDays();
+            }
+            if (inputData.getMonths() != null) {
+                months = inputData.getMonths();
+            }
+            if (days <= 0 || days > MAX_DAYS || months <= 0 || months > MAX_MONTHS) {
+                throw ValidationException.invalidInput();
+            }
+        } catch (Exception e) {
+            errorException = e;
+        }
+
+        if (errorException == null) {
+            try {
+                // Bộ đếm chưa nạp xong lần đầu: tổng hợp thẳng bằng các truy vấn GROUP BY
+                DashboardStats stats = dashboardCounters.snapshot()
+                        .orElseGet(() -> DashboardStats.collect(
+                                orderRepository, userRepository, productRepository, lowStockThreshold));
+                outputData = toOutputData(stats, LocalDate.now(), days, months);
+            } catch (Exception e) {
+                errorException = e;
+            }
+        }
+
+        if (errorException != null) {
+            String errorCode = "SYSTEM_ERROR";
+            if (errorException instanceof ValidationException) {
+                errorCode = ((ValidationException) errorException).getErrorCode();
+            }
+            outputData = GetDashboardStatsOutputData.forError(errorCode, errorException.getMessage());
+        }
+
+        return presenter.present(outputData);
+    }
+
+    private GetDashboardStatsOutputData toOutputData(DashboardStats stats, LocalDate today, int days, int months) {
+        GetDashboardStatsOutputData outputData = new GetDashboardStatsOutputData();
+        outputData.success = true;
+
+        outputData.totalOrders = stats.getTotalOrders();
+        outputData.ordersByStatus = new ArrayList<>();
+        for (TrangThaiDonHang trangThai : TrangThaiDonHang.values()) {
+            outputData.ordersByStatus.add(new CountItem(trangThai.name(), trangThai.getMoTa(), stats.getOrderCount(trangThai)));
+        }
+
+        // Ngày/tháng không có đơn vẫn trả về với doanh thu 0 để client vẽ biểu đồ liền mạch
+        outputData.totalRevenue = stats.getTotalRevenue();
+        List<RevenueItem> revenueByDay = new ArrayList<>();
+        for (int i = days - 1; i >= 0; i--) {
+            LocalDate ngay = today.minusDays(i);
+            revenueByDay.add(new RevenueItem(ngay.toString(), stats.getRevenue(ngay)));
+        }
+        outputData.revenueByDay = revenueByDay;
+        List<RevenueItem> revenueByMonth = new ArrayList<>();
+        YearMonth thangNay = YearMonth.from(today);
+        for (int i = months - 1; i >= 0; i--) {
+            YearMonth thang = thangNay.minusMonths(i);
+            revenueByMonth.add(new RevenueItem(thang.toString(), stats.getRevenue(thang)));
+        }
+        outputData.revenueByMonth = revenueByMonth;
+
+        outputData.totalUsers = stats.getTotalUsers();
+        outputData.activeUsers = stats.getActiveUsers();
+        outputData.inactiveUsers = stats.getInactiveUsers();
+        outputData.usersByRole = new ArrayList<>();
+        for (VaiTro vaiTro : VaiTro.values()) {
+            outputData.usersByRole.add(new CountItem(
+                    vaiTro.name(), vaiTro.getMoTa(), stats.getUsersByRole().getOrDefault(vaiTro, 0L)));
+        }
+
+        outputData.motorbikes = stats.getMotorbikes();
+        outputData.accessories = stats.getAccessories();
+        outputData.totalProducts = stats.getMotorbikes() + stats.getAccessories();
+        outputData.lowStockProducts = stats.getLowStockProducts();
+        outputData.lowStockThreshold = lowStockThreshold;
+
+        outputData.reconciledAt = stats.getReconciledAt();
+        return outputData;
+    }
+}
@@ -0,0 +1,114 @@
+package com.motorbike.business.usecase.control;
+
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsInputData;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData.DisplacementFacet;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData.FacetValue;
+import com.motorbike.business.ports.repository.MotorbikeFacets;
+import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.repository.MotorbikeSearchCriteria;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.business.usecase.input.GetMotorbikeFacetsInputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+import com.motorbike.domain.exceptions.ValidationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class GetMotorbikeFacetsUseCaseControl implements GetMotorbikeFacetsInputBoundary {
+
+    private final MotorbikeRepository motorbikeRepository;
+    private final CatalogSearchEngine catalogSearchEngine;
+
+    public GetMotorbikeFacetsUseCaseControl(MotorbikeRepository motorbikeRepository) {
+        this(motorbikeRepository, CatalogSearchEngine.none());
+    }
+
+    public GetMotorbikeFacetsUseCaseControl(
+            MotorbikeRepository motorbikeRepository,
+            CatalogSearchEngine catalogSearchEngine
+    ) {
+        this.motorbikeRepository = motorbikeRepository;
+        this.catalogSearchEngine = catalogSearchEngine;
+    }
+
+    @Override
+    public <R> R execute(GetMotorbikeFacetsInputData input, ResultPresenter<GetMotorbikeFacetsOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private GetMotorbikeFacetsOutputData handle(GetMotorbikeFacetsInputData input) {
+        GetMotorbikeFacetsOutputData outputData = null;
+        Exception errorException = null;
+
+        try {
+            if (input == null) {
+                throw ValidationException.invalidInput();
+            }
+            MotorbikeSearchCriteria criteria = new MotorbikeSearchCriteria(
+                    input.keyword,
+                    input.brand,
+                    input.model,
+                    input.color,
+                    input.minCC,
+                    input.maxCC,
+                    null,
+                    null,
+                    null,
+                    null
+            );
+
+            // Có từ khóa và chỉ mục đã sẵn sàng: đếm trên đúng tập xe mà /search trả về
+            // (đếm thẳng trên bản sao trong chỉ mục, không nạp xe từ DB)
+            Optional<List<SanPham>> ranked = criteria.getKeyword() == null
+                    ? Optional.empty()
+                    : catalogSearchEngine.searchProducts(
+                            criteria.getKeyword(),
+                            CatalogSearchEngine.ProductType.MOTORBIKE,
+                            p -> p instanceof XeMay && criteria.matchesFilters((XeMay) p),
+                            null);
+            MotorbikeFacets facets = ranked.isPresent()
+                    ? MotorbikeFacets.of(ranked.get().stream()
+                            .map(p -> (XeMay) p)
+                            .collect(Collectors.toList()))
+                    : motorbikeRepository.facets(criteria);
+
+            outputData = new GetMotorbikeFacetsOutputData(
+                    facets.getTotal(),
+                    toValues(facets.getBrands()),
+                    toValues(facets.getModels()),
+                    toValues(facets.getColors()),
+                    toValues(facets.getYears()),
+                    facets.getDisplacements().entrySet().stream()
+                            .map(e -> new DisplacementFacet(
+                                    e.getKey().name(),
+                                    e.getKey().getMinCC(),
+                                    e.getKey().getMaxCC(),
+                                    e.getValue()))
+                            .collect(Collectors.toList())
+            );
+        } catch (Exception e) {
+            errorException = e;
+        }
+
+        if (errorException != null) {
+            String errorCode = "SYSTEM_ERROR";
+            if (errorException instanceof ValidationException) {
+                errorCode = ((ValidationException) errorException).getErrorCode();
+            }
+            outputData = new GetMotorbikeFacetsOutputData(errorCode, errorException.getMessage());
+        }
+
+        return outputData;
+    }
+
+    private static List<FacetValue> toValues(Map<?, Long> counts) {
+        return counts.entrySet().stream()
+                .map(e -> new FacetValue(String.valueOf(e.getKey()), e.getValue()))
+                .collect(Collectors.toList());
+    }
+}
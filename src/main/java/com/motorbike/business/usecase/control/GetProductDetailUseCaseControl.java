@@ -8,16 +8,23 @@ import java.util.Map;
 import com.motorbike.business.dto.productdetail.GetProductDetailInputData;
 import com.motorbike.business.dto.productdetail.GetProductDetailOutputData;
 import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.usecase.input.GetProductDetailInputBoundary;
 import com.motorbike.business.usecase.output.GetProductDetailOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class GetProductDetailUseCaseControl {
+public class GetProductDetailUseCaseControl implements GetProductDetailInputBoundary {
     
     private final GetProductDetailOutputBoundary outputBoundary;
     private final ProductRepository productRepository;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public GetProductDetailUseCaseControl(ProductRepository productRepository) {
+        this(null, productRepository);
+    }
+
     public GetProductDetailUseCaseControl(
             GetProductDetailOutputBoundary outputBoundary,
             ProductRepository productRepository) {
@@ -25,7 +32,20 @@ public class GetProductDetailUseCaseControl {
         this.productRepository = productRepository;
     }
     
+    @Override
     public void execute(GetProductDetailInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(GetProductDetailInputData inputData, ResultPresenter<GetProductDetailOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private GetProductDetailOutputData handle(GetProductDetailInputData inputData) {
         GetProductDetailOutputData outputData = null;
         Exception errorException = null;
         
@@ -91,7 +111,7 @@ public class GetProductDetailUseCaseControl {
             outputData = GetProductDetailOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
     }
     
     private Map<String, String> parseSpecifications(String specString) {
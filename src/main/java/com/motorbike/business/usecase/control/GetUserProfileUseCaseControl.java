@@ -7,6 +7,7 @@ import com.motorbike.business.dto.userprofile.GetUserProfileOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.business.usecase.input.GetUserProfileInputBoundary;
 import com.motorbike.business.usecase.output.GetUserProfileOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.exceptions.ValidationException;
 
@@ -15,6 +16,12 @@ public class GetUserProfileUseCaseControl implements GetUserProfileInputBoundary
     private final GetUserProfileOutputBoundary outputBoundary;
     private final UserRepository userRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public GetUserProfileUseCaseControl(
+            UserRepository userRepository) {
+        this(null, userRepository);
+    }
+
     public GetUserProfileUseCaseControl(GetUserProfileOutputBoundary outputBoundary,
                                         UserRepository userRepository) {
         this.outputBoundary = outputBoundary;
@@ -23,6 +30,18 @@ public class GetUserProfileUseCaseControl implements GetUserProfileInputBoundary
 
     @Override
     public void execute(GetUserProfileInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(GetUserProfileInputData input, ResultPresenter<GetUserProfileOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private GetUserProfileOutputData handle(GetUserProfileInputData input) {
         GetUserProfileOutputData outputData = null;
         Exception errorException = null;
 
@@ -66,6 +85,6 @@ public class GetUserProfileUseCaseControl implements GetUserProfileInputBoundary
             outputData = GetUserProfileOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -1,21 +1,34 @@
 package com.motorbike.business.usecase.control;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.motorbike.business.dto.listallorders.ListAllOrdersInputData;
 import com.motorbike.business.dto.listallorders.ListAllOrdersOutputData;
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.OrderCursor;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.OrderSummary;
+import com.motorbike.business.usecase.input.ListAllOrdersInputBoundary;
 import com.motorbike.business.usecase.output.ListAllOrdersOutputBoundary;
-import com.motorbike.domain.entities.DonHang;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class ListAllOrdersUseCaseControl {
+public class ListAllOrdersUseCaseControl implements ListAllOrdersInputBoundary {
+    
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
     
     private final ListAllOrdersOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public ListAllOrdersUseCaseControl(OrderRepository orderRepository) {
+        this(null, orderRepository);
+    }
+
     public ListAllOrdersUseCaseControl(
             ListAllOrdersOutputBoundary outputBoundary,
             OrderRepository orderRepository) {
@@ -23,34 +36,60 @@ public class ListAllOrdersUseCaseControl {
         this.orderRepository = orderRepository;
     }
 
+    @Override
     public void execute(ListAllOrdersInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(ListAllOrdersInputData inputData, ResultPresenter<ListAllOrdersOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private ListAllOrdersOutputData handle(ListAllOrdersInputData inputData) {
         ListAllOrdersOutputData outputData = null;
         Exception errorException = null;
 
+        TrangThaiDonHang trangThai = null;
+        OrderCursor after = null;
+        int pageSize = DEFAULT_PAGE_SIZE;
         try {
             if (inputData == null || !inputData.isAdmin()) {
                 throw ValidationException.invalidInput();
             }
+            if (inputData.getPageSize() != null) {
+                if (inputData.getPageSize() <= 0 || inputData.getPageSize() > MAX_PAGE_SIZE) {
+                    throw ValidationException.invalidPageRequest();
+                }
+                pageSize = inputData.getPageSize();
+            }
+            if (inputData.getStatus() != null && !inputData.getStatus().isBlank()) {
+                try {
+                    trangThai = TrangThaiDonHang.valueOf(inputData.getStatus().trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw ValidationException.invalidOrderStatus(inputData.getStatus());
+                }
+            }
+            after = OrderCursor.decode(inputData.getCursor());
         } catch (Exception e) {
             errorException = e;
         }
 
-        List<DonHang> allOrders = null;
+        CursorPage<OrderSummary> page = null;
         if (errorException == null) {
             try {
-                allOrders = orderRepository.findAll();
+                page = orderRepository.findSummaryPageForAdmin(trangThai, after, pageSize);
             } catch (Exception e) {
                 errorException = e;
             }
         }
 
-        if (errorException == null && allOrders != null) {
+        if (errorException == null && page != null) {
             try {
-                List<DonHang> sortedOrders = allOrders.stream()
-                        .sorted(Comparator.comparing(DonHang::getNgayDat).reversed())
-                        .collect(Collectors.toList());
-
-                List<ListAllOrdersOutputData.OrderItemData> orderItems = sortedOrders.stream()
+                List<ListAllOrdersOutputData.OrderItemData> orderItems = page.getContent().stream()
                         .map(donHang -> new ListAllOrdersOutputData.OrderItemData(
                                 donHang.getMaDonHang(),
                                 donHang.getMaTaiKhoan(),
@@ -59,16 +98,14 @@ public class ListAllOrdersUseCaseControl {
                                 donHang.getDiaChiGiaoHang(),
                                 donHang.getTrangThai().name(),
                                 donHang.getTongTien(),
-                                donHang.getDanhSachSanPham().size(),
-                                donHang.getDanhSachSanPham().stream()
-                                        .mapToInt(item -> item.getSoLuong())
-                                        .sum(),
+                                donHang.getSoSanPham(),
+                                donHang.getTongSoLuong(),
                                 donHang.getNgayDat(),
                                 donHang.getGhiChu()
                         ))
                         .collect(Collectors.toList());
 
-                outputData = ListAllOrdersOutputData.forSuccess(orderItems);
+                outputData = ListAllOrdersOutputData.forSuccess(orderItems, page.getNextCursor());
             } catch (Exception e) {
                 errorException = e;
             }
@@ -80,11 +117,13 @@ public class ListAllOrdersUseCaseControl {
 
             if (errorException instanceof ValidationException) {
                 errorCode = ((ValidationException) errorException).getErrorCode();
+            } else if (errorException instanceof DomainException) {
+                errorCode = ((DomainException) errorException).getErrorCode();
             }
 
             outputData = ListAllOrdersOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
\ No newline at end of file
@@ -1,21 +1,27 @@
 package com.motorbike.business.usecase.control;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.motorbike.business.dto.listmyorders.ListMyOrdersInputData;
 import com.motorbike.business.dto.listmyorders.ListMyOrdersOutputData;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.OrderSummary;
+import com.motorbike.business.usecase.input.ListMyOrdersInputBoundary;
 import com.motorbike.business.usecase.output.ListMyOrdersOutputBoundary;
-import com.motorbike.domain.entities.DonHang;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class ListMyOrdersUseCaseControl {
+public class ListMyOrdersUseCaseControl implements ListMyOrdersInputBoundary {
     
     private final ListMyOrdersOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public ListMyOrdersUseCaseControl(OrderRepository orderRepository) {
+        this(null, orderRepository);
+    }
+
     public ListMyOrdersUseCaseControl(
             ListMyOrdersOutputBoundary outputBoundary,
             OrderRepository orderRepository) {
@@ -23,7 +29,20 @@ public class ListMyOrdersUseCaseControl {
         this.orderRepository = orderRepository;
     }
 
+    @Override
     public void execute(ListMyOrdersInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(ListMyOrdersInputData inputData, ResultPresenter<ListMyOrdersOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private ListMyOrdersOutputData handle(ListMyOrdersInputData inputData) {
         ListMyOrdersOutputData outputData = null;
         Exception errorException = null;
 
@@ -35,10 +54,11 @@ public class ListMyOrdersUseCaseControl {
             errorException = e;
         }
 
-        List<DonHang> userOrders = null;
+        List<OrderSummary> userOrders = null;
         if (errorException == null) {
             try {
-                userOrders = orderRepository.findByUserId(inputData.getUserId());
+                // Bản tóm tắt đã sắp xếp mới nhất trước, không nạp chi tiết đơn
+                userOrders = orderRepository.findSummariesByUserId(inputData.getUserId());
             } catch (Exception e) {
                 errorException = e;
             }
@@ -46,11 +66,7 @@ public class ListMyOrdersUseCaseControl {
 
         if (errorException == null && userOrders != null) {
             try {
-                List<DonHang> sortedOrders = userOrders.stream()
-                        .sorted(Comparator.comparing(DonHang::getNgayDat).reversed())
-                        .collect(Collectors.toList());
-
-                List<ListMyOrdersOutputData.OrderItemData> orderItems = sortedOrders.stream()
+                List<ListMyOrdersOutputData.OrderItemData> orderItems = userOrders.stream()
                         .map(donHang -> new ListMyOrdersOutputData.OrderItemData(
                                 donHang.getMaDonHang(),
                                 donHang.getMaTaiKhoan(),
@@ -59,10 +75,8 @@ public class ListMyOrdersUseCaseControl {
                                 donHang.getDiaChiGiaoHang(),
                                 donHang.getTrangThai().name(),
                                 donHang.getTongTien(),
-                                donHang.getDanhSachSanPham().size(),
-                                donHang.getDanhSachSanPham().stream()
-                                        .mapToInt(item -> item.getSoLuong())
-                                        .sum(),
+                                donHang.getSoSanPham(),
+                                donHang.getTongSoLuong(),
                                 donHang.getNgayDat(),
                                 donHang.getGhiChu()
                         ))
@@ -85,6 +99,6 @@ public class ListMyOrdersUseCaseControl {
             outputData = ListMyOrdersOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
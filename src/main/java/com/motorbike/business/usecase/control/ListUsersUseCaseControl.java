@@ -9,6 +9,7 @@ import com.motorbike.business.dto.listusers.ListUsersOutputData.UserItem;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.business.usecase.input.ListUsersInputBoundary;
 import com.motorbike.business.usecase.output.ListUsersOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.exceptions.ValidationException;
 
@@ -17,6 +18,12 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
     private final ListUsersOutputBoundary outputBoundary;
     private final UserRepository userRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public ListUsersUseCaseControl(
+            UserRepository userRepository) {
+        this(null, userRepository);
+    }
+
     public ListUsersUseCaseControl(
             ListUsersOutputBoundary outputBoundary,
             UserRepository userRepository) {
@@ -26,6 +33,18 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
 
     @Override
     public void execute(ListUsersInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(ListUsersInputData inputData, ResultPresenter<ListUsersOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private ListUsersOutputData handle(ListUsersInputData inputData) {
         ListUsersOutputData outputData = null;
         Exception errorException = null;
 
@@ -33,6 +52,9 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
             if (inputData == null || !inputData.isAdmin()) {
                 throw ValidationException.invalidInput();
             }
+            if (inputData.getLimit() != null && inputData.getLimit() <= 0) {
+                throw ValidationException.invalidPageRequest();
+            }
         } catch (Exception e) {
             errorException = e;
         }
@@ -40,7 +62,11 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
         List<TaiKhoan> allUsers = null;
         if (errorException == null) {
             try {
-                allUsers = userRepository.findAll();
+                // Không lọc theo từ khóa: để DB giới hạn số dòng luôn
+                boolean hasKeyword = inputData.getKeyword() != null && !inputData.getKeyword().isBlank();
+                allUsers = inputData.getLimit() != null && !hasKeyword
+                        ? userRepository.findAll(inputData.getLimit())
+                        : userRepository.findAll();
             } catch (Exception e) {
                 errorException = e;
             }
@@ -66,6 +92,7 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
                 }
 
                 List<UserItem> items = filtered.stream()
+                        .limit(inputData.getLimit() != null ? inputData.getLimit() : Long.MAX_VALUE)
                         .map(u -> new UserItem(
                                 u.getMaTaiKhoan(),
                                 u.getEmail(),
@@ -95,6 +122,6 @@ public class ListUsersUseCaseControl implements ListUsersInputBoundary {
             outputData = ListUsersOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
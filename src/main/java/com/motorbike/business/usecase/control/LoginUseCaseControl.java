@@ -2,33 +2,94 @@ package com.motorbike.business.usecase.control;
 
 import com.motorbike.business.dto.login.LoginInputData;
 import com.motorbike.business.dto.login.LoginOutputData;
+import com.motorbike.business.ports.event.LastLoginRecorder;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.business.ports.repository.CartRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.input.LoginInputBoundary;
 import com.motorbike.business.usecase.output.LoginOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.exceptions.*;
-import java.util.Optional;
 
-public class LoginUseCaseControl {
+public class LoginUseCaseControl implements LoginInputBoundary {
     
     private final LoginOutputBoundary outputBoundary;
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
+    private final TransactionRunner transactionRunner;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final PasswordHasher passwordHasher;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public LoginUseCaseControl(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner,
+            LastLoginRecorder lastLoginRecorder,
+            PasswordHasher passwordHasher) {
+        this(null, userRepository, cartRepository, transactionRunner, lastLoginRecorder, passwordHasher);
+    }
+
     public LoginUseCaseControl(
             LoginOutputBoundary outputBoundary,
             UserRepository userRepository,
             CartRepository cartRepository) {
+        this(outputBoundary, userRepository, cartRepository, TransactionRunner.direct());
+    }
+    
+    public LoginUseCaseControl(
+            LoginOutputBoundary outputBoundary,
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner) {
+        this(outputBoundary, userRepository, cartRepository, transactionRunner, LastLoginRecorder.direct(userRepository));
+    }
+    
+    public LoginUseCaseControl(
+            LoginOutputBoundary outputBoundary,
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner,
+            LastLoginRecorder lastLoginRecorder) {
+        this(outputBoundary, userRepository, cartRepository, transactionRunner, lastLoginRecorder, PasswordHasher.plainText());
+    }
+    
+    public LoginUseCaseControl(
+            LoginOutputBoundary outputBoundary,
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner,
+            LastLoginRecorder lastLoginRecorder,
+            PasswordHasher passwordHasher) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
         this.cartRepository = cartRepository;
+        this.transactionRunner = transactionRunner;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.passwordHasher = passwordHasher;
     }
     
+    @Override
     public void execute(LoginInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(LoginInputData inputData, ResultPresenter<LoginOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private LoginOutputData handle(LoginInputData inputData) {
         LoginOutputData outputData = null;
         Exception errorException = null;
         TaiKhoan taiKhoan = null;
+        String matKhauBamLai = null;
         
         try {
             if (inputData == null) {
@@ -44,13 +105,18 @@ public class LoginUseCaseControl {
                 taiKhoan = userRepository.findByEmail(inputData.getEmail())
                     .orElseThrow(() -> DomainException.userNotFound(inputData.getEmail()));
                 
-                if (!taiKhoan.kiemTraMatKhau(inputData.getPassword())) {
+                if (!passwordHasher.matches(inputData.getPassword(), taiKhoan.getMatKhau())) {
                     throw DomainException.wrongPassword();
                 }
                 
                 if (!taiKhoan.isHoatDong()) {
                     throw DomainException.accountLocked();
                 }
+                
+                // Mật khẩu còn lưu dạng cũ: băm lại ngay lúc biết mật khẩu đúng (ngoài giao dịch vì băm chậm)
+                if (passwordHasher.needsRehash(taiKhoan.getMatKhau())) {
+                    matKhauBamLai = passwordHasher.hash(inputData.getPassword());
+                }
             } catch (Exception e) {
                 errorException = e;
             }
@@ -58,53 +124,12 @@ public class LoginUseCaseControl {
         
         if (errorException == null && taiKhoan != null) {
             try {
-                taiKhoan.dangNhapThanhCong();
-                userRepository.save(taiKhoan);
-                
-                boolean cartMerged = false;
-                int mergedItemsCount = 0;
-                Long userCartId = null;
-                
-                Optional<GioHang> userCartOpt = cartRepository.findByUserId(taiKhoan.getMaTaiKhoan());
-                final GioHang userCart;
-                
-                if (userCartOpt.isPresent()) {
-                    userCart = userCartOpt.get();
-                    userCartId = userCart.getMaGioHang();
-                } else {
-                    GioHang newCart = new GioHang(taiKhoan.getMaTaiKhoan());
-                    userCart = cartRepository.save(newCart);
-                    userCartId = userCart.getMaGioHang();
-                }
-                
-                if (inputData.getGuestCartId() != null) {
-                    Optional<GioHang> guestCartOpt = cartRepository.findById(inputData.getGuestCartId());
-                    
-                    if (guestCartOpt.isPresent()) {
-                        GioHang guestCart = guestCartOpt.get();
-                        mergedItemsCount = guestCart.getDanhSachSanPham().size();
-                        
-                        guestCart.getDanhSachSanPham().forEach(item -> {
-                            userCart.themSanPham(item);
-                        });
-                        
-                        cartRepository.save(userCart);
-                        cartRepository.delete(guestCart.getMaGioHang());
-                        cartMerged = true;
-                    }
-                }
-                
-                outputData = LoginOutputData.forSuccess(
-                    taiKhoan.getMaTaiKhoan(),
-                    taiKhoan.getEmail(),
-                    taiKhoan.getTenDangNhap(),
-                    taiKhoan.getVaiTro(),
-                    taiKhoan.getLanDangNhapCuoi(),
-                    null,
-                    userCartId,
-                    cartMerged,
-                    mergedItemsCount
-                );
+                final TaiKhoan taiKhoanDangNhap = taiKhoan;
+                final String matKhauMoi = matKhauBamLai;
+                outputData = transactionRunner.inTransaction(
+                    () -> dangNhapVaGopGio(taiKhoanDangNhap, matKhauMoi, inputData.getGuestCartId()));
+                // Chỉ ghi nhận khi gộp giỏ thành công; việc ghi xuống DB do recorder quyết định (có thể ghi trễ)
+                lastLoginRecorder.recordLogin(taiKhoanDangNhap.getMaTaiKhoan(), taiKhoanDangNhap.getLanDangNhapCuoi());
             } catch (Exception e) {
                 errorException = e;
             }
@@ -125,6 +150,42 @@ public class LoginUseCaseControl {
             outputData = LoginOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
+    }
+    
+    private LoginOutputData dangNhapVaGopGio(TaiKhoan taiKhoan, String matKhauBamLai, Long guestCartId) {
+        taiKhoan.dangNhapThanhCong();
+        if (matKhauBamLai != null) {
+            // Chỉ ghi mật khẩu, và chỉ khi chưa bị đổi từ lúc đọc: không ghi đè hồ sơ hay mật khẩu
+            // vừa được cập nhật bởi request khác; thua thì bỏ qua, lần đăng nhập sau sẽ băm lại
+            userRepository.updatePasswordIfCurrent(taiKhoan.getMaTaiKhoan(), taiKhoan.getMatKhau(), matKhauBamLai);
+        }
+        
+        boolean cartMerged = false;
+        int mergedItemsCount = 0;
+        
+        Long userCartId = cartRepository.findIdByUserId(taiKhoan.getMaTaiKhoan())
+                .orElseGet(() -> cartRepository.save(new GioHang(taiKhoan.getMaTaiKhoan())).getMaGioHang());
+        
+        if (guestCartId != null) {
+            // Gộp ngay trong DB thay vì nạp cả hai giỏ rồi ghi lại từng dòng
+            int merged = cartRepository.mergeGuestCartToUserCart(guestCartId, userCartId);
+            if (merged >= 0) {
+                mergedItemsCount = merged;
+                cartMerged = true;
+            }
+        }
+        
+        return LoginOutputData.forSuccess(
+            taiKhoan.getMaTaiKhoan(),
+            taiKhoan.getEmail(),
+            taiKhoan.getTenDangNhap(),
+            taiKhoan.getVaiTro(),
+            taiKhoan.getLanDangNhapCuoi(),
+            null,
+            userCartId,
+            cartMerged,
+            mergedItemsCount
+        );
     }
 }
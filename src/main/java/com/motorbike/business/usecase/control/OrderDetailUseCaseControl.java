@@ -8,24 +8,44 @@ import com.motorbike.business.dto.orderdetail.OrderDetailOutputData;
 import com.motorbike.business.dto.orderdetail.OrderDetailOutputData.OrderData;
 import com.motorbike.business.dto.orderdetail.OrderDetailOutputData.OrderItemData;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.usecase.input.OrderDetailInputBoundary;
 import com.motorbike.business.usecase.output.OrderDetailOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.SystemException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class OrderDetailUseCaseControl {
+public class OrderDetailUseCaseControl implements OrderDetailInputBoundary {
 
     private final OrderDetailOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public OrderDetailUseCaseControl(OrderRepository orderRepository) {
+        this(null, orderRepository);
+    }
+
     public OrderDetailUseCaseControl(OrderDetailOutputBoundary outputBoundary,
                                      OrderRepository orderRepository) {
         this.outputBoundary = outputBoundary;
         this.orderRepository = orderRepository;
     }
 
+    @Override
     public void execute(OrderDetailInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(OrderDetailInputData inputData, ResultPresenter<OrderDetailOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private OrderDetailOutputData handle(OrderDetailInputData inputData) {
         OrderDetailOutputData outputData = null;
         Exception errorException = null;
 
@@ -110,6 +130,6 @@ public class OrderDetailUseCaseControl {
             outputData = OrderDetailOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
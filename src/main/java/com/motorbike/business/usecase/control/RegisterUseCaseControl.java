@@ -4,29 +4,76 @@ import com.motorbike.business.dto.register.RegisterInputData;
 import com.motorbike.business.dto.register.RegisterOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.business.ports.repository.CartRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.usecase.input.RegisterInputBoundary;
 import com.motorbike.business.usecase.output.RegisterOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 import com.motorbike.domain.exceptions.SystemException;
 
-public class RegisterUseCaseControl {
+public class RegisterUseCaseControl implements RegisterInputBoundary {
     
     private final RegisterOutputBoundary outputBoundary;
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
+    private final DashboardCounters dashboardCounters;
+    private final PasswordHasher passwordHasher;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public RegisterUseCaseControl(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters,
+            PasswordHasher passwordHasher) {
+        this(null, userRepository, cartRepository, dashboardCounters, passwordHasher);
+    }
+
     public RegisterUseCaseControl(
             RegisterOutputBoundary outputBoundary,
             UserRepository userRepository,
             CartRepository cartRepository) {
+        this(outputBoundary, userRepository, cartRepository, DashboardCounters.none());
+    }
+    
+    public RegisterUseCaseControl(
+            RegisterOutputBoundary outputBoundary,
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters) {
+        this(outputBoundary, userRepository, cartRepository, dashboardCounters, PasswordHasher.plainText());
+    }
+    
+    public RegisterUseCaseControl(
+            RegisterOutputBoundary outputBoundary,
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters,
+            PasswordHasher passwordHasher) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
         this.cartRepository = cartRepository;
+        this.dashboardCounters = dashboardCounters;
+        this.passwordHasher = passwordHasher;
     }
     
+    @Override
     public void execute(RegisterInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(RegisterInputData inputData, ResultPresenter<RegisterOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private RegisterOutputData handle(RegisterInputData inputData) {
         RegisterOutputData outputData = null;
         Exception errorException = null;
         
@@ -63,8 +110,11 @@ public class RegisterUseCaseControl {
                     inputData.getPhoneNumber(),
                     inputData.getAddress()
                 );
+                // Constructor đã kiểm tra mật khẩu gốc, chỉ lưu bản băm
+                taiKhoan.setMatKhau(passwordHasher.hash(inputData.getPassword()));
                 
                 TaiKhoan savedTaiKhoan = userRepository.save(taiKhoan);
+                dashboardCounters.userAdded(savedTaiKhoan);
                 
                 GioHang gioHang = new GioHang(savedTaiKhoan.getMaTaiKhoan());
                 cartRepository.save(gioHang);
@@ -96,6 +146,6 @@ public class RegisterUseCaseControl {
             outputData = RegisterOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -1,41 +1,102 @@
 package com.motorbike.business.usecase.control;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.motorbike.business.dto.accessory.SearchAccessoriesInputData;
 import com.motorbike.business.dto.accessory.SearchAccessoriesOutputData;
 import com.motorbike.business.dto.accessory.SearchAccessoriesOutputData.AccessoryItem;
 import com.motorbike.business.ports.repository.AccessoryRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
 import com.motorbike.business.usecase.input.SearchAccessoriesInputBoundary;
 import com.motorbike.business.usecase.output.SearchAccessoriesOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
 
 public class SearchAccessoriesUseCaseControl implements SearchAccessoriesInputBoundary {
 
     private final SearchAccessoriesOutputBoundary outputBoundary;
     private final AccessoryRepository accessoryRepository;
+    private final ProductRepository productRepository;
+    private final CatalogSearchEngine catalogSearchEngine;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public SearchAccessoriesUseCaseControl(
+            AccessoryRepository accessoryRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine) {
+        this(null, accessoryRepository, productRepository, catalogSearchEngine);
+    }
 
     public SearchAccessoriesUseCaseControl(
             SearchAccessoriesOutputBoundary outputBoundary,
             AccessoryRepository accessoryRepository
+    ) {
+        this(outputBoundary, accessoryRepository, null, CatalogSearchEngine.none());
+    }
+
+    public SearchAccessoriesUseCaseControl(
+            SearchAccessoriesOutputBoundary outputBoundary,
+            AccessoryRepository accessoryRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine
     ) {
         this.outputBoundary = outputBoundary;
         this.accessoryRepository = accessoryRepository;
+        this.productRepository = productRepository;
+        this.catalogSearchEngine = catalogSearchEngine;
     }
 
     @Override
     public void execute(SearchAccessoriesInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(SearchAccessoriesInputData inputData, ResultPresenter<SearchAccessoriesOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private SearchAccessoriesOutputData handle(SearchAccessoriesInputData inputData) {
         SearchAccessoriesOutputData outputData = null;
         Exception errorException = null;
 
         try {
-                List<PhuKienXeMay> allAccessories = accessoryRepository.findAllAccessories();
-
-                List<AccessoryItem> accessories = allAccessories.stream()
-                    .filter(p -> matchesSearchCriteria(p, inputData))
-                    .map(this::mapToAccessoryItem)
-                    .collect(Collectors.toList());
+                // Có từ khóa và chỉ mục đã sẵn sàng: chỉ mục lọc theo loại/thương hiệu/chất liệu/giá,
+                // giữ thứ tự theo độ liên quan; chỉ nạp lại các phụ kiện đã khớp
+                Optional<List<SanPham>> ranked = hasKeyword(inputData)
+                    ? catalogSearchEngine.searchProducts(inputData.keyword, CatalogSearchEngine.ProductType.ACCESSORY,
+                        p -> p instanceof PhuKienXeMay && matchesSearchCriteria((PhuKienXeMay) p, inputData, false),
+                        null)
+                    : Optional.empty();
+
+                List<AccessoryItem> accessories;
+                if (ranked.isPresent()) {
+                    List<Long> matchedIds = ranked.get().stream()
+                        .map(SanPham::getMaSanPham)
+                        .collect(Collectors.toList());
+                    Map<Long, SanPham> products = productRepository.findAllByIds(matchedIds);
+                    accessories = matchedIds.stream()
+                        .map(products::get)
+                        .filter(p -> p instanceof PhuKienXeMay)
+                        .map(p -> (PhuKienXeMay) p)
+                        .map(this::mapToAccessoryItem)
+                        .collect(Collectors.toList());
+                } else {
+                    List<PhuKienXeMay> allAccessories = accessoryRepository.findAllAccessories();
+
+                    accessories = allAccessories.stream()
+                        .filter(p -> matchesSearchCriteria(p, inputData, true))
+                        .map(this::mapToAccessoryItem)
+                        .collect(Collectors.toList());
+                }
 
             outputData = new SearchAccessoriesOutputData(accessories);
         } catch (Exception e) {
@@ -46,15 +107,20 @@ public class SearchAccessoriesUseCaseControl implements SearchAccessoriesInputBo
             outputData = new SearchAccessoriesOutputData("SYSTEM_ERROR", errorException.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
+    }
+
+    private static boolean hasKeyword(SearchAccessoriesInputData criteria) {
+        return criteria != null && criteria.keyword != null && !criteria.keyword.isBlank();
     }
 
-    private boolean matchesSearchCriteria(PhuKienXeMay accessory, SearchAccessoriesInputData criteria) {
+    private boolean matchesSearchCriteria(PhuKienXeMay accessory, SearchAccessoriesInputData criteria,
+                                          boolean checkKeyword) {
         if (criteria == null) {
             return true;
         }
 
-        if (criteria.keyword != null && !criteria.keyword.isEmpty()) {
+        if (checkKeyword && criteria.keyword != null && !criteria.keyword.isEmpty()) {
             String keyword = criteria.keyword.toLowerCase();
             boolean matchesName = accessory.getTenSanPham().toLowerCase().contains(keyword);
             boolean matchesDescription = accessory.getMoTa() != null && 
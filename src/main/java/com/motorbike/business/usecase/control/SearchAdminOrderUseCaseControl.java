@@ -1,29 +1,64 @@
 package com.motorbike.business.usecase.control;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.motorbike.business.dto.searchadminorder.SearchAdminOrderInputData;
 import com.motorbike.business.dto.searchadminorder.SearchAdminOrderOutputData;
 import com.motorbike.business.dto.searchadminorder.SearchAdminOrderOutputData.OrderItemData;
+import com.motorbike.business.ports.repository.OrderCursor;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.search.OrderSearchIndex;
+import com.motorbike.business.usecase.input.SearchAdminOrderInputBoundary;
 import com.motorbike.business.usecase.output.SearchAdminOrderOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class SearchAdminOrderUseCaseControl {
+public class SearchAdminOrderUseCaseControl implements SearchAdminOrderInputBoundary {
     
+    // Từ khóa ngắn ("CHO", một chữ số điện thoại) khớp gần hết bảng: chỉ nạp chừng này đơn mới nhất
+    static final int MAX_RESULTS = 200;
+
     private final SearchAdminOrderOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
+    private final OrderSearchIndex orderSearchIndex;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public SearchAdminOrderUseCaseControl(
+            OrderRepository orderRepository,
+            OrderSearchIndex orderSearchIndex) {
+        this(null, orderRepository, orderSearchIndex);
+    }
 
     public SearchAdminOrderUseCaseControl(SearchAdminOrderOutputBoundary outputBoundary,
                                          OrderRepository orderRepository) {
+        this(outputBoundary, orderRepository, OrderSearchIndex.none());
+    }
+
+    public SearchAdminOrderUseCaseControl(SearchAdminOrderOutputBoundary outputBoundary,
+                                         OrderRepository orderRepository,
+                                         OrderSearchIndex orderSearchIndex) {
         this.outputBoundary = outputBoundary;
         this.orderRepository = orderRepository;
+        this.orderSearchIndex = orderSearchIndex;
     }
 
+    @Override
     public void execute(SearchAdminOrderInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(SearchAdminOrderInputData inputData, ResultPresenter<SearchAdminOrderOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private SearchAdminOrderOutputData handle(SearchAdminOrderInputData inputData) {
         SearchAdminOrderOutputData outputData = null;
         Exception errorException = null;
 
@@ -39,10 +74,20 @@ public class SearchAdminOrderUseCaseControl {
         }
 
         List<DonHang> matchedOrders = null;
+        boolean truncated = false;
         if (errorException == null) {
             try {
                 String searchQuery = inputData.getSearchQuery().trim();
-                matchedOrders = orderRepository.searchForAdmin(searchQuery);
+                // Ưu tiên chỉ mục trong bộ nhớ; chỉ truy vấn SQL khi chỉ mục chưa sẵn sàng
+                Optional<List<Long>> indexedIds = orderSearchIndex.search(searchQuery);
+                if (indexedIds.isPresent()) {
+                    List<Long> ids = indexedIds.get();
+                    truncated = ids.size() > MAX_RESULTS;
+                    matchedOrders = orderRepository.findAllByIds(truncated ? ids.subList(0, MAX_RESULTS) : ids);
+                } else {
+                    matchedOrders = orderRepository.searchForAdmin(searchQuery, MAX_RESULTS + 1);
+                    truncated = matchedOrders.size() > MAX_RESULTS;
+                }
             } catch (Exception e) {
                 errorException = e;
             }
@@ -51,7 +96,8 @@ public class SearchAdminOrderUseCaseControl {
         if (errorException == null && matchedOrders != null) {
             try {
                 List<OrderItemData> orderItems = matchedOrders.stream()
-                    .sorted(Comparator.comparing(DonHang::getNgayDat).reversed())
+                    .sorted(OrderCursor.NEWEST_FIRST)
+                    .limit(MAX_RESULTS)
                     .map(donHang -> new OrderItemData(
                         donHang.getMaDonHang(),
                         donHang.getMaTaiKhoan(),
@@ -69,7 +115,7 @@ public class SearchAdminOrderUseCaseControl {
                     ))
                     .collect(Collectors.toList());
 
-                outputData = SearchAdminOrderOutputData.forSuccess(orderItems);
+                outputData = SearchAdminOrderOutputData.forSuccess(orderItems, truncated);
             } catch (Exception e) {
                 errorException = e;
             }
@@ -88,6 +134,6 @@ public class SearchAdminOrderUseCaseControl {
             outputData = SearchAdminOrderOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
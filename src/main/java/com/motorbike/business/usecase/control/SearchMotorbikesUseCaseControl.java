@@ -4,41 +4,103 @@ import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
 import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData;
 import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData.MotorbikeItem;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.repository.MotorbikeSearchCriteria;
+import com.motorbike.business.ports.repository.PageResult;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
 import com.motorbike.business.usecase.output.SearchMotorbikesOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
+import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.XeMay;
+import com.motorbike.domain.exceptions.ValidationException;
 import com.motorbike.business.usecase.input.SearchMotorbikesInputBoundary;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class SearchMotorbikesUseCaseControl implements SearchMotorbikesInputBoundary{
 
     private final SearchMotorbikesOutputBoundary outputBoundary;
     private final MotorbikeRepository motorbikeRepository;
+    private final ProductRepository productRepository;
+    private final CatalogSearchEngine catalogSearchEngine;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public SearchMotorbikesUseCaseControl(
+            MotorbikeRepository motorbikeRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine) {
+        this(null, motorbikeRepository, productRepository, catalogSearchEngine);
+    }
 
     public SearchMotorbikesUseCaseControl(
             SearchMotorbikesOutputBoundary outputBoundary,
             MotorbikeRepository motorbikeRepository
+    ) {
+        this(outputBoundary, motorbikeRepository, null, CatalogSearchEngine.none());
+    }
+
+    public SearchMotorbikesUseCaseControl(
+            SearchMotorbikesOutputBoundary outputBoundary,
+            MotorbikeRepository motorbikeRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine
     ) {
         this.outputBoundary = outputBoundary;
         this.motorbikeRepository = motorbikeRepository;
+        this.productRepository = productRepository;
+        this.catalogSearchEngine = catalogSearchEngine;
     }
 
     @Override
     public void execute(SearchMotorbikesInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(SearchMotorbikesInputData input, ResultPresenter<SearchMotorbikesOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private SearchMotorbikesOutputData handle(SearchMotorbikesInputData input) {
         SearchMotorbikesOutputData outputData = null;
         Exception errorException = null;
 
         try {
-            List<XeMay> all = motorbikeRepository.findAllMotorbikes();
-
-            List<MotorbikeItem> filtered = all.stream()
-                    .filter(x -> input.keyword == null || x.getTenSanPham().toLowerCase().contains(input.keyword.toLowerCase()))
-                    .filter(x -> input.brand == null || x.getHangXe().equalsIgnoreCase(input.brand))
-                    .filter(x -> input.model == null || x.getDongXe().equalsIgnoreCase(input.model))
-                    .filter(x -> input.color == null || x.getMauSac().equalsIgnoreCase(input.color))
-                    .filter(x -> input.minCC == null || x.getDungTich() >= input.minCC)
-                    .filter(x -> input.maxCC == null || x.getDungTich() <= input.maxCC)
+            MotorbikeSearchCriteria criteria = new MotorbikeSearchCriteria(
+                    input.keyword,
+                    input.brand,
+                    input.model,
+                    input.color,
+                    input.minCC,
+                    input.maxCC,
+                    input.page,
+                    input.size,
+                    input.sortBy,
+                    input.sortDirection
+            );
+
+            // Có từ khóa và chỉ mục đã sẵn sàng: chỉ mục lọc/sắp xếp theo độ liên quan, chỉ nạp trang cần hiển thị
+            Optional<List<SanPham>> ranked = criteria.getKeyword() == null
+                    ? Optional.empty()
+                    : catalogSearchEngine.searchProducts(
+                            criteria.getKeyword(),
+                            CatalogSearchEngine.ProductType.MOTORBIKE,
+                            p -> p instanceof XeMay && criteria.matchesFilters((XeMay) p),
+                            criteria.isSortRequested()
+                                    ? Comparator.comparing((SanPham p) -> (XeMay) p, criteria.comparator())
+                                    : null);
+            PageResult<XeMay> result = ranked.isPresent()
+                    ? loadPage(ranked.get(), criteria)
+                    : motorbikeRepository.search(criteria);
+
+            List<MotorbikeItem> items = result.getContent().stream()
                     .map(x -> new MotorbikeItem(
                             x.getMaSanPham(),
                             x.getTenSanPham(),
@@ -54,15 +116,40 @@ public class SearchMotorbikesUseCaseControl implements SearchMotorbikesInputBoun
                     ))
                     .collect(Collectors.toList());
 
-            outputData = new SearchMotorbikesOutputData(filtered);
+            outputData = new SearchMotorbikesOutputData(
+                    items,
+                    result.getPage(),
+                    result.getSize(),
+                    result.getTotalElements(),
+                    result.getTotalPages()
+            );
         } catch (Exception e) {
             errorException = e;
         }
 
         if (errorException != null) {
-            outputData = new SearchMotorbikesOutputData("SYSTEM_ERROR", errorException.getMessage());
+            String errorCode = "SYSTEM_ERROR";
+            if (errorException instanceof ValidationException) {
+                errorCode = ((ValidationException) errorException).getErrorCode();
+            }
+            outputData = new SearchMotorbikesOutputData(errorCode, errorException.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
+    }
+
+    // Cắt trang trên danh sách của chỉ mục rồi nạp lại đúng các xe đó (giá, tồn kho mới nhất)
+    private PageResult<XeMay> loadPage(List<SanPham> ranked, MotorbikeSearchCriteria criteria) {
+        PageResult<SanPham> page = PageResult.slice(ranked, criteria.getPage(), criteria.getSize());
+        List<Long> pageIds = page.getContent().stream()
+                .map(SanPham::getMaSanPham)
+                .collect(Collectors.toList());
+        Map<Long, SanPham> products = productRepository.findAllByIds(pageIds);
+        List<XeMay> content = pageIds.stream()
+                .map(products::get)
+                .filter(p -> p instanceof XeMay)
+                .map(p -> (XeMay) p)
+                .collect(Collectors.toList());
+        return new PageResult<>(content, page.getPage(), page.getSize(), page.getTotalElements());
     }
 }
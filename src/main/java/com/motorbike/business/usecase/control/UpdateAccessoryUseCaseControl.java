@@ -5,26 +5,57 @@ import java.util.Optional;
 import com.motorbike.business.dto.accessory.UpdateAccessoryInputData;
 import com.motorbike.business.dto.accessory.UpdateAccessoryOutputData;
 import com.motorbike.business.dto.accessory.UpdateAccessoryOutputData.AccessoryItem;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.usecase.input.UpdateAccessoryInputBoundary;
 import com.motorbike.business.usecase.output.UpdateAccessoryOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.PhuKienXeMay;
 
 public class UpdateAccessoryUseCaseControl implements UpdateAccessoryInputBoundary {
 
     private final UpdateAccessoryOutputBoundary outputBoundary;
     private final AccessoryRepository accessoryRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateAccessoryUseCaseControl(
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, accessoryRepository, productChangeListener);
+    }
 
     public UpdateAccessoryUseCaseControl(
             UpdateAccessoryOutputBoundary outputBoundary,
             AccessoryRepository accessoryRepository
+    ) {
+        this(outputBoundary, accessoryRepository, ProductChangeListener.none());
+    }
+
+    public UpdateAccessoryUseCaseControl(
+            UpdateAccessoryOutputBoundary outputBoundary,
+            AccessoryRepository accessoryRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.accessoryRepository = accessoryRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(UpdateAccessoryInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(UpdateAccessoryInputData input, ResultPresenter<UpdateAccessoryOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private UpdateAccessoryOutputData handle(UpdateAccessoryInputData input) {
         UpdateAccessoryOutputData outputData;
 
         try {
@@ -70,6 +101,7 @@ public class UpdateAccessoryUseCaseControl implements UpdateAccessoryInputBounda
             }
 
             PhuKienXeMay saved = accessoryRepository.save(accessory);
+            productChangeListener.onProductSaved(saved.getMaSanPham());
 
             AccessoryItem item = new AccessoryItem(
                     saved.getMaSanPham(),
@@ -92,6 +124,6 @@ public class UpdateAccessoryUseCaseControl implements UpdateAccessoryInputBounda
             outputData = new UpdateAccessoryOutputData("SYSTEM_ERROR", e.getMessage());
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
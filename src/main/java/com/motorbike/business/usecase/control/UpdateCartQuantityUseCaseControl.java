@@ -3,7 +3,10 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.updatecart.UpdateCartQuantityInputData;
 import com.motorbike.business.dto.updatecart.UpdateCartQuantityOutputData;
 import com.motorbike.business.ports.repository.CartRepository;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.input.UpdateCartQuantityInputBoundary;
 import com.motorbike.business.usecase.output.UpdateCartQuantityOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.ChiTietGioHang;
 import com.motorbike.domain.exceptions.DomainException;
@@ -12,19 +15,48 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
-public class UpdateCartQuantityUseCaseControl {
+public class UpdateCartQuantityUseCaseControl implements UpdateCartQuantityInputBoundary {
     
     private final UpdateCartQuantityOutputBoundary outputBoundary;
     private final CartRepository cartRepository;
+    private final TransactionRunner transactionRunner;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateCartQuantityUseCaseControl(
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner) {
+        this(null, cartRepository, transactionRunner);
+    }
+
     public UpdateCartQuantityUseCaseControl(
             UpdateCartQuantityOutputBoundary outputBoundary,
             CartRepository cartRepository) {
+        this(outputBoundary, cartRepository, TransactionRunner.direct());
+    }
+    
+    public UpdateCartQuantityUseCaseControl(
+            UpdateCartQuantityOutputBoundary outputBoundary,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner) {
         this.outputBoundary = outputBoundary;
         this.cartRepository = cartRepository;
+        this.transactionRunner = transactionRunner;
     }
     
+    @Override
     public void execute(UpdateCartQuantityInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(UpdateCartQuantityInputData inputData, ResultPresenter<UpdateCartQuantityOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private UpdateCartQuantityOutputData handle(UpdateCartQuantityInputData inputData) {
         UpdateCartQuantityOutputData outputData = null;
         Exception errorException = null;
         
@@ -51,10 +83,7 @@ public class UpdateCartQuantityUseCaseControl {
                 gioHang = cartRepository.findById(inputData.getCartId())
                     .orElseThrow(DomainException::cartNotFound);
                 
-                existingItem = gioHang.getDanhSachSanPham().stream()
-                    .filter(item -> item.getMaSanPham().equals(inputData.getProductId()))
-                    .findFirst()
-                    .orElse(null);
+                existingItem = gioHang.timSanPhamTheoMa(inputData.getProductId()).orElse(null);
                 
                 if (existingItem != null) {
                     oldQuantity = existingItem.getSoLuong();
@@ -67,13 +96,18 @@ public class UpdateCartQuantityUseCaseControl {
         
         if (errorException == null && gioHang != null) {
             try {
-                if (inputData.getNewQuantity() == 0) {
-                    gioHang.xoaSanPham(inputData.getProductId());
-                } else {
-                    gioHang.capNhatSoLuong(inputData.getProductId(), inputData.getNewQuantity());
-                }
-                
-                GioHang savedCart = cartRepository.save(gioHang);
+                // Đọc lại giỏ có khóa trong giao dịch rồi mới sửa: tổng tiền của giỏ được ghi từ bản vừa đọc,
+                // nên hai request sửa hai dòng khác nhau cùng lúc không ghi đè tổng tiền của nhau
+                GioHang savedCart = transactionRunner.inTransaction(() -> {
+                    GioHang gioHangKhoa = cartRepository.findByIdForUpdate(inputData.getCartId())
+                        .orElseThrow(DomainException::cartNotFound);
+                    if (inputData.getNewQuantity() == 0) {
+                        gioHangKhoa.xoaSanPham(inputData.getProductId());
+                    } else {
+                        gioHangKhoa.capNhatSoLuong(inputData.getProductId(), inputData.getNewQuantity());
+                    }
+                    return cartRepository.save(gioHangKhoa);
+                });
                 
                 List<UpdateCartQuantityOutputData.CartItemData> allItems = new ArrayList<>();
                 BigDecimal newSubtotal = BigDecimal.ZERO;
@@ -98,8 +132,8 @@ public class UpdateCartQuantityUseCaseControl {
                     oldQuantity,
                     inputData.getNewQuantity(),
                     inputData.getNewQuantity() == 0,
-                    savedCart.getDanhSachSanPham().size(),
-                    savedCart.getDanhSachSanPham().stream().mapToInt(ChiTietGioHang::getSoLuong).sum(),
+                    savedCart.demSoSanPham(),
+                    savedCart.tongSoLuong(),
                     savedCart.getTongTien(),
                     newSubtotal,
                     allItems
@@ -124,6 +158,6 @@ public class UpdateCartQuantityUseCaseControl {
             outputData = UpdateCartQuantityOutputData.forError(errorCode, message);
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -3,26 +3,57 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeInputData;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData.MotorbikeItem;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
 import com.motorbike.business.usecase.input.UpdateMotorbikeInputBoundary;
 import com.motorbike.business.usecase.output.UpdateMotorbikeOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.XeMay;
 
 public class UpdateMotorbikeUseCaseControl implements UpdateMotorbikeInputBoundary {
 
     private final UpdateMotorbikeOutputBoundary outputBoundary;
     private final MotorbikeRepository motorbikeRepository;
+    private final ProductChangeListener productChangeListener;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateMotorbikeUseCaseControl(
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener) {
+        this(null, motorbikeRepository, productChangeListener);
+    }
 
     public UpdateMotorbikeUseCaseControl(
             UpdateMotorbikeOutputBoundary outputBoundary,
             MotorbikeRepository motorbikeRepository
+    ) {
+        this(outputBoundary, motorbikeRepository, ProductChangeListener.none());
+    }
+
+    public UpdateMotorbikeUseCaseControl(
+            UpdateMotorbikeOutputBoundary outputBoundary,
+            MotorbikeRepository motorbikeRepository,
+            ProductChangeListener productChangeListener
     ) {
         this.outputBoundary = outputBoundary;
         this.motorbikeRepository = motorbikeRepository;
+        this.productChangeListener = productChangeListener;
     }
 
     @Override
     public void execute(UpdateMotorbikeInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(UpdateMotorbikeInputData input, ResultPresenter<UpdateMotorbikeOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private UpdateMotorbikeOutputData handle(UpdateMotorbikeInputData input) {
         UpdateMotorbikeOutputData output;
 
         try {
@@ -30,8 +61,7 @@ public class UpdateMotorbikeUseCaseControl implements UpdateMotorbikeInputBounda
 
             if (existing == null) {
                 output = new UpdateMotorbikeOutputData("NOT_FOUND", "Motorbike not found");
-                outputBoundary.present(output);
-                return;
+                return output;
             }
 
             if (input.name != null) existing.setTenSanPham(input.name);
@@ -46,6 +76,7 @@ public class UpdateMotorbikeUseCaseControl implements UpdateMotorbikeInputBounda
             if (input.displacement != null) existing.setDungTich(input.displacement);
 
             XeMay saved = motorbikeRepository.save(existing);
+            productChangeListener.onProductSaved(saved.getMaSanPham());
 
             MotorbikeItem item = new MotorbikeItem(
                     saved.getMaSanPham(),
@@ -67,7 +98,7 @@ public class UpdateMotorbikeUseCaseControl implements UpdateMotorbikeInputBounda
             output = new UpdateMotorbikeOutputData("SYSTEM_ERROR", e.getMessage());
         }
 
-        outputBoundary.present(output);
+        return output;
     }
 
 }
@@ -3,24 +3,44 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.updateorderinfor.UpdateOrderInforInputData;
 import com.motorbike.business.dto.updateorderinfor.UpdateOrderInforOutputData;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.usecase.input.UpdateOrderInforInputBoundary;
 import com.motorbike.business.usecase.output.UpdateOrderInforOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.SystemException;
 import com.motorbike.domain.exceptions.ValidationException;
 
-public class UpdateOrderInforUseCaseControl {
+public class UpdateOrderInforUseCaseControl implements UpdateOrderInforInputBoundary {
 
     private final UpdateOrderInforOutputBoundary outputBoundary;
     private final OrderRepository orderRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateOrderInforUseCaseControl(OrderRepository orderRepository) {
+        this(null, orderRepository);
+    }
+
     public UpdateOrderInforUseCaseControl(UpdateOrderInforOutputBoundary outputBoundary,
                                           OrderRepository orderRepository) {
         this.outputBoundary = outputBoundary;
         this.orderRepository = orderRepository;
     }
 
+    @Override
     public void execute(UpdateOrderInforInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(UpdateOrderInforInputData inputData, ResultPresenter<UpdateOrderInforOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private UpdateOrderInforOutputData handle(UpdateOrderInforInputData inputData) {
         UpdateOrderInforOutputData outputData = null;
         Exception errorException = null;
 
@@ -94,6 +114,6 @@ public class UpdateOrderInforUseCaseControl {
             outputData = UpdateOrderInforOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -8,6 +8,7 @@ import com.motorbike.business.dto.userprofile.UpdateUserProfileOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
 import com.motorbike.business.usecase.input.UpdateUserProfileInputBoundary;
 import com.motorbike.business.usecase.output.UpdateUserProfileOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.exceptions.ValidationException;
 
@@ -16,6 +17,12 @@ public class UpdateUserProfileUseCaseControl implements UpdateUserProfileInputBo
     private final UpdateUserProfileOutputBoundary outputBoundary;
     private final UserRepository userRepository;
 
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateUserProfileUseCaseControl(
+            UserRepository userRepository) {
+        this(null, userRepository);
+    }
+
     public UpdateUserProfileUseCaseControl(UpdateUserProfileOutputBoundary outputBoundary,
                                            UserRepository userRepository) {
         this.outputBoundary = outputBoundary;
@@ -24,6 +31,18 @@ public class UpdateUserProfileUseCaseControl implements UpdateUserProfileInputBo
 
     @Override
     public void execute(UpdateUserProfileInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(UpdateUserProfileInputData input, ResultPresenter<UpdateUserProfileOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private UpdateUserProfileOutputData handle(UpdateUserProfileInputData input) {
         UpdateUserProfileOutputData outputData = null;
         Exception errorException = null;
 
@@ -78,6 +97,6 @@ public class UpdateUserProfileUseCaseControl implements UpdateUserProfileInputBo
             outputData = UpdateUserProfileOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -6,26 +6,61 @@ import java.util.Optional;
 import com.motorbike.business.dto.updateuser.UpdateUserInputData;
 import com.motorbike.business.dto.updateuser.UpdateUserOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
 import com.motorbike.business.usecase.input.UpdateUserInputBoundary;
 import com.motorbike.business.usecase.output.UpdateUserOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.VaiTro;
 import com.motorbike.domain.exceptions.DomainException;
+import com.motorbike.domain.exceptions.SystemException;
 import com.motorbike.domain.exceptions.ValidationException;
 
 public class UpdateUserUseCaseControl implements UpdateUserInputBoundary {
 
     private final UpdateUserOutputBoundary outputBoundary;
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public UpdateUserUseCaseControl(
+            UserRepository userRepository) {
+        this(null, userRepository);
+    }
+
+    public UpdateUserUseCaseControl(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher) {
+        this(null, userRepository, passwordHasher);
+    }
 
     public UpdateUserUseCaseControl(UpdateUserOutputBoundary outputBoundary,
                                     UserRepository userRepository) {
+        this(outputBoundary, userRepository, PasswordHasher.plainText());
+    }
+
+    public UpdateUserUseCaseControl(UpdateUserOutputBoundary outputBoundary,
+                                    UserRepository userRepository,
+                                    PasswordHasher passwordHasher) {
         this.outputBoundary = outputBoundary;
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
     public void execute(UpdateUserInputData input) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(input));
+    }
+
+    @Override
+    public <R> R execute(UpdateUserInputData input, ResultPresenter<UpdateUserOutputData, R> presenter) {
+        return presenter.present(handle(input));
+    }
+
+    private UpdateUserOutputData handle(UpdateUserInputData input) {
         UpdateUserOutputData outputData = null;
         Exception errorException = null;
 
@@ -59,7 +94,8 @@ public class UpdateUserUseCaseControl implements UpdateUserInputBoundary {
                     existing.setTenDangNhap(input.username);
                 }
                 if (input.password != null && !input.password.isBlank()) {
-                    existing.setMatKhau(input.password);
+                    TaiKhoan.validateMatKhau(input.password);
+                    existing.setMatKhau(passwordHasher.hash(input.password));
                 }
                 if (input.phoneNumber != null) {
                     existing.setSoDienThoai(input.phoneNumber);
@@ -102,10 +138,12 @@ public class UpdateUserUseCaseControl implements UpdateUserInputBoundary {
                 errorCode = ((ValidationException) errorException).getErrorCode();
             } else if (errorException instanceof DomainException) {
                 errorCode = ((DomainException) errorException).getErrorCode();
+            } else if (errorException instanceof SystemException) {
+                errorCode = ((SystemException) errorException).getErrorCode();
             }
             outputData = UpdateUserOutputData.forError(errorCode, message);
         }
 
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
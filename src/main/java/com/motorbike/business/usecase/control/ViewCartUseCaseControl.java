@@ -4,20 +4,31 @@ import com.motorbike.business.dto.viewcart.ViewCartInputData;
 import com.motorbike.business.dto.viewcart.ViewCartOutputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.usecase.input.ViewCartInputBoundary;
 import com.motorbike.business.usecase.output.ViewCartOutputBoundary;
+import com.motorbike.business.usecase.output.ResultPresenter;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.exceptions.DomainException;
 import com.motorbike.domain.exceptions.ValidationException;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
+import java.util.stream.Collectors;
 
-public class ViewCartUseCaseControl {
+public class ViewCartUseCaseControl implements ViewCartInputBoundary {
     
     private final ViewCartOutputBoundary outputBoundary;
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     
+    // Chế độ trả về: chỉ gọi execute(input, presenter), use case không giữ presenter
+    public ViewCartUseCaseControl(
+            CartRepository cartRepository,
+            ProductRepository productRepository) {
+        this(null, cartRepository, productRepository);
+    }
+
     public ViewCartUseCaseControl(
             ViewCartOutputBoundary outputBoundary,
             CartRepository cartRepository,
@@ -27,7 +38,20 @@ public class ViewCartUseCaseControl {
         this.productRepository = productRepository;
     }
     
+    @Override
     public void execute(ViewCartInputData inputData) {
+        if (outputBoundary == null) {
+            throw new IllegalStateException("Use case không có OutputBoundary, hãy gọi execute(input, presenter)");
+        }
+        outputBoundary.present(handle(inputData));
+    }
+
+    @Override
+    public <R> R execute(ViewCartInputData inputData, ResultPresenter<ViewCartOutputData, R> presenter) {
+        return presenter.present(handle(inputData));
+    }
+
+    private ViewCartOutputData handle(ViewCartInputData inputData) {
         ViewCartOutputData outputData = null;
         Exception errorException = null;
         
@@ -56,10 +80,15 @@ public class ViewCartUseCaseControl {
         
         if (errorException == null && gioHang != null) {
             try {
+                List<com.motorbike.domain.entities.ChiTietGioHang> cartItems = gioHang.getDanhSachSanPham();
+                Map<Long, SanPham> sanPhamTheoMa = productRepository.findAllByIds(
+                    cartItems.stream()
+                        .map(com.motorbike.domain.entities.ChiTietGioHang::getMaSanPham)
+                        .collect(Collectors.toList()));
+                
                 List<ViewCartOutputData.CartItemData> itemList = new ArrayList<>();
-                for (com.motorbike.domain.entities.ChiTietGioHang item : gioHang.getDanhSachSanPham()) {
-                    SanPham product = productRepository.findById(item.getMaSanPham())
-                        .orElse(null);
+                for (com.motorbike.domain.entities.ChiTietGioHang item : cartItems) {
+                    SanPham product = sanPhamTheoMa.get(item.getMaSanPham());
                     
                     int availableStock = 0;
                     String imageUrl = null;
@@ -122,6 +151,6 @@ public class ViewCartUseCaseControl {
             }
         }
         
-        outputBoundary.present(outputData);
+        return outputData;
     }
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.accessory.AddAccessoryInputData;
+import com.motorbike.business.dto.accessory.AddAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface AddAccessoryInputBoundary {
     void execute(AddAccessoryInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(AddAccessoryInputData inputData, ResultPresenter<AddAccessoryOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.motorbike.AddMotorbikeInputData;
+import com.motorbike.business.dto.motorbike.AddMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface AddMotorbikeInputBoundary {
     void execute(AddMotorbikeInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(AddMotorbikeInputData inputData, ResultPresenter<AddMotorbikeOutputData, R> presenter);
 }
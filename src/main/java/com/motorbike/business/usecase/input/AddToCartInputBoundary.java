@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.addtocart.AddToCartInputData;
+import com.motorbike.business.dto.addtocart.AddToCartOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface AddToCartInputBoundary {
     
     void execute(AddToCartInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(AddToCartInputData inputData, ResultPresenter<AddToCartOutputData, R> presenter);
 }
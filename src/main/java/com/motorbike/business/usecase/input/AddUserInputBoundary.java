@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.adduser.AddUserInputData;
+import com.motorbike.business.dto.adduser.AddUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface AddUserInputBoundary {
     void execute(AddUserInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(AddUserInputData inputData, ResultPresenter<AddUserOutputData, R> presenter);
 }
@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.cancelorder.CancelOrderInputData;
+import com.motorbike.business.dto.cancelorder.CancelOrderOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface CancelOrderInputBoundary {
     
     void execute(CancelOrderInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(CancelOrderInputData inputData, ResultPresenter<CancelOrderOutputData, R> presenter);
 }
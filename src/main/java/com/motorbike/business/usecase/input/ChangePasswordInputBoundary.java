@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.changepassword.ChangePasswordInputData;
+import com.motorbike.business.dto.changepassword.ChangePasswordOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface ChangePasswordInputBoundary {
     
     void execute(ChangePasswordInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(ChangePasswordInputData inputData, ResultPresenter<ChangePasswordOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.checkout.CheckoutInputData;
+import com.motorbike.business.dto.checkout.CheckoutOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface CheckoutInputBoundary {
     void execute(CheckoutInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(CheckoutInputData inputData, ResultPresenter<CheckoutOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.accessory.DeleteAccessoryInputData;
+import com.motorbike.business.dto.accessory.DeleteAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface DeleteAccessoryInputBoundary {
     void execute(DeleteAccessoryInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(DeleteAccessoryInputData inputData, ResultPresenter<DeleteAccessoryOutputData, R> presenter);
 }
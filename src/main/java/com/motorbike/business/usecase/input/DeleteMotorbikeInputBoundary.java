@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.motorbike.DeleteMotorbikeInputData;
+import com.motorbike.business.dto.motorbike.DeleteMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface DeleteMotorbikeInputBoundary {
     void execute(DeleteMotorbikeInputData input);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(DeleteMotorbikeInputData input, ResultPresenter<DeleteMotorbikeOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.deleteuser.DeleteUserInputData;
+import com.motorbike.business.dto.deleteuser.DeleteUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface DeleteUserInputBoundary {
     void execute(DeleteUserInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(DeleteUserInputData inputData, ResultPresenter<DeleteUserOutputData, R> presenter);
 }
@@ -1,5 +1,12 @@
 package com.motorbike.business.usecase.input;
 
+import com.motorbike.business.dto.accessory.GetAllAccessoriesInputData;
+import com.motorbike.business.dto.accessory.GetAllAccessoriesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
 public interface GetAllAccessoriesInputBoundary {
-    void execute(Void inputData);
+    void execute(GetAllAccessoriesInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(GetAllAccessoriesInputData inputData, ResultPresenter<GetAllAccessoriesOutputData, R> presenter);
 }
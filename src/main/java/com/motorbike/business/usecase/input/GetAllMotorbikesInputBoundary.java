@@ -1,7 +1,13 @@
 package com.motorbike.business.usecase.input;
 
+import com.motorbike.business.dto.motorbike.GetAllMotorbikesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
 public interface GetAllMotorbikesInputBoundary {
 
     // Dùng Void làm input, trùng với AbstractUseCaseControl<Void, ...>
     void execute(Void inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(Void inputData, ResultPresenter<GetAllMotorbikesOutputData, R> presenter);
 }
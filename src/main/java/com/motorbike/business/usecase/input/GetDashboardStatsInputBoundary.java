@@ -0,0 +1,9 @@
+package com.motorbike.business.usecase.input;
+
+import com.motorbike.business.dto.dashboard.GetDashboardStatsInputData;
+import com.motorbike.business.dto.dashboard.GetDashboardStatsOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public interface GetDashboardStatsInputBoundary {
+    <R> R execute(GetDashboardStatsInputData inputData, ResultPresenter<GetDashboardStatsOutputData, R> presenter);
+}
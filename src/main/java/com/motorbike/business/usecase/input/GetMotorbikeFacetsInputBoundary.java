@@ -0,0 +1,10 @@
+package com.motorbike.business.usecase.input;
+
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsInputData;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+public interface GetMotorbikeFacetsInputBoundary {
+    // Chỉ có chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(GetMotorbikeFacetsInputData inputData, ResultPresenter<GetMotorbikeFacetsOutputData, R> presenter);
+}
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.productdetail.GetProductDetailInputData;
+import com.motorbike.business.dto.productdetail.GetProductDetailOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface GetProductDetailInputBoundary {
     void execute(GetProductDetailInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(GetProductDetailInputData inputData, ResultPresenter<GetProductDetailOutputData, R> presenter);
 }
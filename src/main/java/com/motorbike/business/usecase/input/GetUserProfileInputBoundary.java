@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.userprofile.GetUserProfileInputData;
+import com.motorbike.business.dto.userprofile.GetUserProfileOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface GetUserProfileInputBoundary {
     
     void execute(GetUserProfileInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(GetUserProfileInputData inputData, ResultPresenter<GetUserProfileOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.listallorders.ListAllOrdersInputData;
+import com.motorbike.business.dto.listallorders.ListAllOrdersOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface ListAllOrdersInputBoundary {
     void execute(ListAllOrdersInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(ListAllOrdersInputData inputData, ResultPresenter<ListAllOrdersOutputData, R> presenter);
 }
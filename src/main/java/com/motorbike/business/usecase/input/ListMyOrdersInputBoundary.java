@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.listmyorders.ListMyOrdersInputData;
+import com.motorbike.business.dto.listmyorders.ListMyOrdersOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface ListMyOrdersInputBoundary {
     void execute(ListMyOrdersInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(ListMyOrdersInputData inputData, ResultPresenter<ListMyOrdersOutputData, R> presenter);
 }
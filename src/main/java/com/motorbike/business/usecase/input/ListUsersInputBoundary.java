@@ -1,5 +1,10 @@
 package com.motorbike.business.usecase.input;
 import com.motorbike.business.dto.listusers.ListUsersInputData;
+import com.motorbike.business.dto.listusers.ListUsersOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 public interface  ListUsersInputBoundary {
     void execute(ListUsersInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(ListUsersInputData inputData, ResultPresenter<ListUsersOutputData, R> presenter);
 }
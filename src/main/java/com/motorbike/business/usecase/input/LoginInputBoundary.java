@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.login.LoginInputData;
+import com.motorbike.business.dto.login.LoginOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface LoginInputBoundary {
     
     void execute(LoginInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(LoginInputData inputData, ResultPresenter<LoginOutputData, R> presenter);
 }
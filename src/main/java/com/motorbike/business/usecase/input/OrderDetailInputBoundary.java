@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.orderdetail.OrderDetailInputData;
+import com.motorbike.business.dto.orderdetail.OrderDetailOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface OrderDetailInputBoundary {
     void execute(OrderDetailInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(OrderDetailInputData inputData, ResultPresenter<OrderDetailOutputData, R> presenter);
 }
@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.register.RegisterInputData;
+import com.motorbike.business.dto.register.RegisterOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface RegisterInputBoundary {
     
     void execute(RegisterInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(RegisterInputData inputData, ResultPresenter<RegisterOutputData, R> presenter);
 }
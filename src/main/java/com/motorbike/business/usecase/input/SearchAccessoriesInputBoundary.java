@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.accessory.SearchAccessoriesInputData;
+import com.motorbike.business.dto.accessory.SearchAccessoriesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface SearchAccessoriesInputBoundary {
     void execute(SearchAccessoriesInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(SearchAccessoriesInputData inputData, ResultPresenter<SearchAccessoriesOutputData, R> presenter);
 }
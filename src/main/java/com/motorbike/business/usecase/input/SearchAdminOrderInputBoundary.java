@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.searchadminorder.SearchAdminOrderInputData;
+import com.motorbike.business.dto.searchadminorder.SearchAdminOrderOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface SearchAdminOrderInputBoundary {
     void execute(SearchAdminOrderInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(SearchAdminOrderInputData inputData, ResultPresenter<SearchAdminOrderOutputData, R> presenter);
 }
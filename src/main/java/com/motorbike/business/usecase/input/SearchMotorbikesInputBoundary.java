@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
+import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface SearchMotorbikesInputBoundary {
     void execute(SearchMotorbikesInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(SearchMotorbikesInputData inputData, ResultPresenter<SearchMotorbikesOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.accessory.UpdateAccessoryInputData;
+import com.motorbike.business.dto.accessory.UpdateAccessoryOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateAccessoryInputBoundary {
     void execute(UpdateAccessoryInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateAccessoryInputData inputData, ResultPresenter<UpdateAccessoryOutputData, R> presenter);
 }
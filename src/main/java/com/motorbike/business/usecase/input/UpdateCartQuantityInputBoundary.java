@@ -1,9 +1,14 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.updatecart.UpdateCartQuantityInputData;
+import com.motorbike.business.dto.updatecart.UpdateCartQuantityOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateCartQuantityInputBoundary {
     
     
     void execute(UpdateCartQuantityInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateCartQuantityInputData inputData, ResultPresenter<UpdateCartQuantityOutputData, R> presenter);
 }
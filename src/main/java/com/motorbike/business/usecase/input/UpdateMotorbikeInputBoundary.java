@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeInputData;
+import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateMotorbikeInputBoundary {
     void execute(UpdateMotorbikeInputData input);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateMotorbikeInputData input, ResultPresenter<UpdateMotorbikeOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.updateorderinfor.UpdateOrderInforInputData;
+import com.motorbike.business.dto.updateorderinfor.UpdateOrderInforOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateOrderInforInputBoundary {
     void execute(UpdateOrderInforInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateOrderInforInputData inputData, ResultPresenter<UpdateOrderInforOutputData, R> presenter);
 }
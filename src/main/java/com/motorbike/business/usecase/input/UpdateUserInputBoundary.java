@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.updateuser.UpdateUserInputData;
+import com.motorbike.business.dto.updateuser.UpdateUserOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateUserInputBoundary {
     void execute(UpdateUserInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateUserInputData inputData, ResultPresenter<UpdateUserOutputData, R> presenter);
 }
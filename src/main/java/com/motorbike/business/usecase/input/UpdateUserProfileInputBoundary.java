@@ -1,8 +1,13 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.userprofile.UpdateUserProfileInputData;
+import com.motorbike.business.dto.userprofile.UpdateUserProfileOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface UpdateUserProfileInputBoundary {
     
     void execute(UpdateUserProfileInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(UpdateUserProfileInputData inputData, ResultPresenter<UpdateUserProfileOutputData, R> presenter);
 }
@@ -1,7 +1,12 @@
 package com.motorbike.business.usecase.input;
 
 import com.motorbike.business.dto.viewcart.ViewCartInputData;
+import com.motorbike.business.dto.viewcart.ViewCartOutputData;
+import com.motorbike.business.usecase.output.ResultPresenter;
 
 public interface ViewCartInputBoundary {
     void execute(ViewCartInputData inputData);
+
+    // Chế độ trả về: presenter của riêng lần gọi này dựng và trả kết quả
+    <R> R execute(ViewCartInputData inputData, ResultPresenter<ViewCartOutputData, R> presenter);
 }
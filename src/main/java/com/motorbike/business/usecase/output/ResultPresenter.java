@@ -0,0 +1,13 @@
+package com.motorbike.business.usecase.output;
+
+/**
+ * Presenter trả kết quả trực tiếp cho lần gọi use case (không ghi vào ViewModel dùng chung).
+ * Use case không giữ presenter làm field nên một bean dùng được đồng thời từ nhiều luồng.
+ *
+ * @param <O> OutputData của use case
+ * @param <R> giá trị trả về cho controller (thường là ResponseEntity)
+ */
+@FunctionalInterface
+public interface ResultPresenter<O, R> {
+    R present(O outputData);
+}
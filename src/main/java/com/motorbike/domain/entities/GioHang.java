@@ -4,20 +4,35 @@ import com.motorbike.domain.exceptions.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class GioHang {
     private Long maGioHang;
     private Long maTaiKhoan;
-    private List<ChiTietGioHang> danhSachSanPham;
+    // Các dòng theo mã sản phẩm, giữ thứ tự thêm vào: tìm/sửa/xóa một dòng không phải quét cả giỏ
+    private final Map<Long, ChiTietGioHang> dongTheoMaSanPham = new LinkedHashMap<>();
+    // Danh sách chỉ đọc trả cho bên ngoài; dựng lại ở lần đọc đầu tiên sau mỗi thay đổi
+    private List<ChiTietGioHang> danhSachChiDoc;
+    // Tổng tiền và tổng số lượng được cộng/trừ theo từng thay đổi, không cộng lại cả giỏ
     private BigDecimal tongTien;
+    private int tongSoLuong;
     private LocalDateTime ngayTao;
     private LocalDateTime ngayCapNhat;
 
+    // Mã sản phẩm của các dòng đã thêm / sửa / xóa kể từ khi nạp từ DB,
+    // để repository chỉ ghi đúng các dòng này thay vì ghi lại cả giỏ
+    private final Set<Long> dongDaThem = new LinkedHashSet<>();
+    private final Set<Long> dongDaSua = new LinkedHashSet<>();
+    private final Set<Long> dongDaXoa = new LinkedHashSet<>();
+
     public GioHang(Long maTaiKhoan) {
         this.maTaiKhoan = maTaiKhoan;
-        this.danhSachSanPham = new ArrayList<>();
         this.tongTien = BigDecimal.ZERO;
         this.ngayTao = LocalDateTime.now();
         this.ngayCapNhat = LocalDateTime.now();
@@ -27,8 +42,15 @@ public class GioHang {
                    BigDecimal tongTien, LocalDateTime ngayTao, LocalDateTime ngayCapNhat) {
         this.maGioHang = maGioHang;
         this.maTaiKhoan = maTaiKhoan;
-        this.danhSachSanPham = danhSachSanPham != null ? danhSachSanPham : new ArrayList<>();
-        this.tongTien = tongTien;
+        BigDecimal tongTheoDong = BigDecimal.ZERO;
+        if (danhSachSanPham != null) {
+            for (ChiTietGioHang chiTiet : danhSachSanPham) {
+                this.dongTheoMaSanPham.put(chiTiet.getMaSanPham(), chiTiet);
+                this.tongSoLuong += chiTiet.getSoLuong();
+                tongTheoDong = tongTheoDong.add(chiTiet.tinhTamTinh());
+            }
+        }
+        this.tongTien = tongTien != null ? tongTien : tongTheoDong;
         this.ngayTao = ngayTao;
         this.ngayCapNhat = ngayCapNhat;
     }
@@ -37,13 +59,17 @@ public class GioHang {
         if (chiTiet == null) {
             throw ValidationException.nullItem();
         }
-        Optional<ChiTietGioHang> existing = timSanPhamTheoMa(chiTiet.getMaSanPham());
-        if (existing.isPresent()) {
-            existing.get().tangSoLuong(chiTiet.getSoLuong());
+        ChiTietGioHang existing = dongTheoMaSanPham.get(chiTiet.getMaSanPham());
+        if (existing != null) {
+            BigDecimal tamTinhCu = existing.tinhTamTinh();
+            existing.tangSoLuong(chiTiet.getSoLuong());
+            congDon(existing.tinhTamTinh().subtract(tamTinhCu), chiTiet.getSoLuong());
+            ghiNhanSua(chiTiet.getMaSanPham());
         } else {
-            this.danhSachSanPham.add(chiTiet);
+            dongTheoMaSanPham.put(chiTiet.getMaSanPham(), chiTiet);
+            congDon(chiTiet.tinhTamTinh(), chiTiet.getSoLuong());
+            ghiNhanThem(chiTiet.getMaSanPham());
         }
-        tinhLaiTongTien();
         this.ngayCapNhat = LocalDateTime.now();
     }
 
@@ -51,10 +77,10 @@ public class GioHang {
         if (maSanPham == null) {
             throw ValidationException.nullProductId();
         }
-        Optional<ChiTietGioHang> item = timSanPhamTheoMa(maSanPham);
-        if (item.isPresent()) {
-            this.danhSachSanPham.remove(item.get());
-            tinhLaiTongTien();
+        ChiTietGioHang item = dongTheoMaSanPham.remove(maSanPham);
+        if (item != null) {
+            congDon(item.tinhTamTinh().negate(), -item.getSoLuong());
+            ghiNhanXoa(maSanPham);
             this.ngayCapNhat = LocalDateTime.now();
         } else {
             throw DomainException.productNotInCart();
@@ -72,22 +98,61 @@ public class GioHang {
             xoaSanPham(maSanPham);
             return;
         }
-        Optional<ChiTietGioHang> item = timSanPhamTheoMa(maSanPham);
-        if (item.isPresent()) {
-            item.get().datSoLuong(soLuongMoi);
-            tinhLaiTongTien();
+        ChiTietGioHang item = dongTheoMaSanPham.get(maSanPham);
+        if (item != null) {
+            BigDecimal tamTinhCu = item.tinhTamTinh();
+            int soLuongCu = item.getSoLuong();
+            item.datSoLuong(soLuongMoi);
+            congDon(item.tinhTamTinh().subtract(tamTinhCu), soLuongMoi - soLuongCu);
+            ghiNhanSua(maSanPham);
             this.ngayCapNhat = LocalDateTime.now();
         } else {
             throw DomainException.productNotInCart();
         }
     }
 
-    public void xoaToanBoGioHang() {this.danhSachSanPham.clear(); this.tongTien = BigDecimal.ZERO; this.ngayCapNhat = LocalDateTime.now();}
-    public boolean coTrong() {return this.danhSachSanPham.isEmpty();}
-    public int demSoSanPham() {return this.danhSachSanPham.size();}
-    public int tongSoLuong() {return this.danhSachSanPham.stream().mapToInt(ChiTietGioHang::getSoLuong).sum();}
-    private Optional<ChiTietGioHang> timSanPhamTheoMa(Long maSanPham) {return this.danhSachSanPham.stream().filter(item -> item.getMaSanPham().equals(maSanPham)).findFirst();}
-    private void tinhLaiTongTien() {this.tongTien = this.danhSachSanPham.stream().map(ChiTietGioHang::tinhTamTinh).reduce(BigDecimal.ZERO, BigDecimal::add);}
+    public void xoaToanBoGioHang() {
+        this.dongTheoMaSanPham.keySet().forEach(this::ghiNhanXoa);
+        this.dongTheoMaSanPham.clear();
+        this.danhSachChiDoc = null;
+        this.tongTien = BigDecimal.ZERO;
+        this.tongSoLuong = 0;
+        this.ngayCapNhat = LocalDateTime.now();
+    }
+
+    public boolean coTrong() {return this.dongTheoMaSanPham.isEmpty();}
+    public int demSoSanPham() {return this.dongTheoMaSanPham.size();}
+    public int tongSoLuong() {return this.tongSoLuong;}
+    public Optional<ChiTietGioHang> timSanPhamTheoMa(Long maSanPham) {return Optional.ofNullable(this.dongTheoMaSanPham.get(maSanPham));}
+
+    private void congDon(BigDecimal chenhLechTien, int chenhLechSoLuong) {
+        this.tongTien = this.tongTien.add(chenhLechTien);
+        this.tongSoLuong += chenhLechSoLuong;
+        this.danhSachChiDoc = null;
+    }
+
+    private void ghiNhanThem(Long maSanPham) {
+        // Xóa rồi thêm lại cùng sản phẩm: dòng cũ vẫn còn trong DB nên chỉ cần sửa
+        if (dongDaXoa.remove(maSanPham)) {
+            dongDaSua.add(maSanPham);
+        } else {
+            dongDaThem.add(maSanPham);
+        }
+    }
+
+    private void ghiNhanSua(Long maSanPham) {
+        if (!dongDaThem.contains(maSanPham)) {
+            dongDaSua.add(maSanPham);
+        }
+    }
+
+    private void ghiNhanXoa(Long maSanPham) {
+        // Dòng mới thêm chưa có trong DB thì bỏ luôn, không cần xóa
+        if (!dongDaThem.remove(maSanPham)) {
+            dongDaSua.remove(maSanPham);
+            dongDaXoa.add(maSanPham);
+        }
+    }
 
     public static void checkInput(Long cartId, Long productId, int quantity) {
         if (cartId == null) {
@@ -103,10 +168,18 @@ public class GioHang {
 
     public Long getMaGioHang() {return maGioHang;}
     public Long getMaTaiKhoan() {return maTaiKhoan;}
-    public List<ChiTietGioHang> getDanhSachSanPham() {return new ArrayList<>(danhSachSanPham);}
+    public List<ChiTietGioHang> getDanhSachSanPham() {
+        if (danhSachChiDoc == null) {
+            danhSachChiDoc = Collections.unmodifiableList(new ArrayList<>(dongTheoMaSanPham.values()));
+        }
+        return danhSachChiDoc;
+    }
     public BigDecimal getTongTien() {return tongTien;}
     public LocalDateTime getNgayTao() {return ngayTao;}
     public LocalDateTime getNgayCapNhat() {return ngayCapNhat;}
+    public Set<Long> getDongDaThem() {return Collections.unmodifiableSet(dongDaThem);}
+    public Set<Long> getDongDaSua() {return Collections.unmodifiableSet(dongDaSua);}
+    public Set<Long> getDongDaXoa() {return Collections.unmodifiableSet(dongDaXoa);}
     public void setMaGioHang(Long maGioHang) {this.maGioHang = maGioHang;}
     public void setMaTaiKhoan(Long maTaiKhoan) {this.maTaiKhoan = maTaiKhoan;}
 }
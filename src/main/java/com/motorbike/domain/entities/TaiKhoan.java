@@ -134,7 +134,6 @@ public class TaiKhoan {
     public void capNhatMatKhau(String matKhauMoi) {validateMatKhau(matKhauMoi); this.matKhau = matKhauMoi; this.ngayCapNhat = LocalDateTime.now();}
     public boolean laAdmin() {return this.vaiTro == VaiTro.ADMIN;}
     public boolean laCustomer() {return this.vaiTro == VaiTro.CUSTOMER;}
-    public boolean kiemTraMatKhau(String matKhauNhap) {return this.matKhau.equals(matKhauNhap);}
 
     public Long getMaTaiKhoan() {return maTaiKhoan;}
     public String getEmail() {return email;}
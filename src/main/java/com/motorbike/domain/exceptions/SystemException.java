@@ -13,5 +13,14 @@ public class SystemException extends RuntimeException {
         this.errorCode = "SYSTEM_ERROR";
     }
     
+    public SystemException(String errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+    
+    public static SystemException passwordHashingBusy() {
+        return new SystemException("SERVICE_BUSY", "Hệ thống đang bận, vui lòng thử lại sau giây lát");
+    }
+    
     public String getErrorCode() {return errorCode;}
 }
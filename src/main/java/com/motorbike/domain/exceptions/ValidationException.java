@@ -173,4 +173,21 @@ public class ValidationException extends IllegalArgumentException {
     public static ValidationException invalidOrderPrice(String message) {
         return new ValidationException(message, "INVALID_PRICE");
     }
+    
+    // ===== VALIDATION METHODS - SEARCH / PAGING =====
+    public static ValidationException invalidSortField(String field) {
+        return new ValidationException("Trường sắp xếp không hợp lệ: " + field, "INVALID_SORT_FIELD");
+    }
+    
+    public static ValidationException invalidPageRequest() {
+        return new ValidationException("Tham số phân trang không hợp lệ", "INVALID_PAGE_REQUEST");
+    }
+    
+    public static ValidationException invalidCursor() {
+        return new ValidationException("Con trỏ phân trang không hợp lệ", "INVALID_CURSOR");
+    }
+    
+    public static ValidationException invalidOrderStatus(String status) {
+        return new ValidationException("Trạng thái đơn hàng không hợp lệ: " + status, "INVALID_ORDER_STATUS");
+    }
 }
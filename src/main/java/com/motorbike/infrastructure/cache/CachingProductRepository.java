@@ -0,0 +1,275 @@
+package com.motorbike.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.motorbike.business.ports.event.ProductChangeListener;
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Cache đọc xuyên (read-through) cho ProductRepository.findById.
+ * Giới hạn theo số phần tử (LRU) và thời gian sống (TTL); bị xóa khi save()
+ * hoặc khi các use case thêm/sửa/xóa sản phẩm báo qua ProductChangeListener.
+ * Ghi trong giao dịch thì xóa cả ngay lúc ghi lẫn sau khi giao dịch kết thúc: giữa hai thời điểm đó
+ * một luồng khác (snapshot/RCSI) hoặc chính giao dịch này có thể nạp lại giá trị chưa commit / đã cũ.
+ * Luôn trả về bản sao vì SanPham là entity có trạng thái (giamTonKho, setGia...).
+ */
+public class CachingProductRepository implements ProductRepository, ProductChangeListener {
+
+    private final ProductRepository delegate;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Long, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CachingProductRepository(ProductRepository delegate, int maxSize, long ttlMillis) {
+        this(delegate, maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    public CachingProductRepository(ProductRepository delegate, int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize và ttlMillis phải > 0");
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > CachingProductRepository.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<SanPham> findById(Long productId) {
+        if (productId == null) {
+            return delegate.findById(null);
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry != null) {
+                if (entry.expiresAt > clock.getAsLong()) {
+                    hitCount.incrementAndGet();
+                    return Optional.of(copyOf(entry.value));
+                }
+                entries.remove(productId);
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        missCount.incrementAndGet();
+        long generation = invalidations.get();
+        Optional<SanPham> loaded = delegate.findById(productId);
+        loaded.filter(CachingProductRepository::isCacheable).ifPresent(p -> {
+            synchronized (entries) {
+                // Bỏ qua nếu có invalidate xảy ra trong lúc đang đọc DB (tránh ghi đè dữ liệu cũ)
+                if (generation == invalidations.get()) {
+                    entries.put(productId, new Entry(copyOf(p), clock.getAsLong() + ttlMillis));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    @Override
+    public Map<Long, SanPham> findAllByIds(Collection<Long> productIds) {
+        Map<Long, SanPham> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+
+        synchronized (entries) {
+            long now = clock.getAsLong();
+            for (Long id : productIds) {
+                if (id == null || result.containsKey(id) || missing.contains(id)) {
+                    continue;
+                }
+                Entry entry = entries.get(id);
+                if (entry != null && entry.expiresAt > now) {
+                    hitCount.incrementAndGet();
+                    result.put(id, copyOf(entry.value));
+                    continue;
+                }
+                if (entry != null) {
+                    entries.remove(id);
+                    evictionCount.incrementAndGet();
+                }
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            missCount.addAndGet(missing.size());
+            long generation = invalidations.get();
+            Map<Long, SanPham> loaded = delegate.findAllByIds(missing);
+            synchronized (entries) {
+                boolean fresh = generation == invalidations.get();
+                long expiresAt = clock.getAsLong() + ttlMillis;
+                for (Map.Entry<Long, SanPham> e : loaded.entrySet()) {
+                    if (fresh && isCacheable(e.getValue())) {
+                        entries.put(e.getKey(), new Entry(copyOf(e.getValue()), expiresAt));
+                    }
+                }
+            }
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    @Override
+    public SanPham save(SanPham sanPham) {
+        try {
+            return delegate.save(sanPham);
+        } finally {
+            invalidateNowAndAfterCompletion(Collections.singletonList(sanPham.getMaSanPham()));
+        }
+    }
+
+    @Override
+    public List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities) {
+        try {
+            return delegate.decrementStockIfAvailable(quantities);
+        } finally {
+            invalidateNowAndAfterCompletion(quantities.keySet());
+        }
+    }
+
+    @Override
+    public List<Long> incrementStock(Map<Long, Integer> quantities) {
+        try {
+            return delegate.incrementStock(quantities);
+        } finally {
+            invalidateNowAndAfterCompletion(quantities.keySet());
+        }
+    }
+
+    @Override
+    public boolean existsById(Long productId) {
+        if (productId != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(productId);
+                if (entry != null && entry.expiresAt > clock.getAsLong()) {
+                    return true;
+                }
+            }
+        }
+        return delegate.existsById(productId);
+    }
+
+    @Override
+    public List<SanPham> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void addProductStatistics(DashboardStats.Builder builder, int lowStockThreshold) {
+        delegate.addProductStatistics(builder, lowStockThreshold);
+    }
+
+    @Override
+    public void onProductSaved(Long productId) {
+        invalidateNowAndAfterCompletion(Collections.singletonList(productId));
+    }
+
+    @Override
+    public void onProductDeleted(Long productId) {
+        invalidateNowAndAfterCompletion(Collections.singletonList(productId));
+    }
+
+    public void invalidate(Long productId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            if (productId != null) {
+                entries.remove(productId);
+            }
+        }
+    }
+
+    private void invalidateNowAndAfterCompletion(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        ids.forEach(this::invalidate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(CachingProductRepository.this::invalidate);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    // ===== Thống kê =====
+    public long getHitCount() {return hitCount.get();}
+    public long getMissCount() {return missCount.get();}
+    public long getEvictionCount() {return evictionCount.get();}
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static boolean isCacheable(SanPham p) {
+        return p instanceof XeMay || p instanceof PhuKienXeMay;
+    }
+
+    private static SanPham copyOf(SanPham p) {
+        if (p instanceof XeMay) {
+            XeMay x = (XeMay) p;
+            return new XeMay(x.getMaSanPham(), x.getTenSanPham(), x.getMoTa(), x.getGia(),
+                    x.getHinhAnh(), x.getSoLuongTonKho(), x.isConHang(),
+                    x.getNgayTao(), x.getNgayCapNhat(),
+                    x.getHangXe(), x.getDongXe(), x.getMauSac(), x.getNamSanXuat(), x.getDungTich());
+        }
+        PhuKienXeMay pk = (PhuKienXeMay) p;
+        return new PhuKienXeMay(pk.getMaSanPham(), pk.getTenSanPham(), pk.getMoTa(), pk.getGia(),
+                pk.getHinhAnh(), pk.getSoLuongTonKho(), pk.isConHang(),
+                pk.getNgayTao(), pk.getNgayCapNhat(),
+                pk.getLoaiPhuKien(), pk.getThuongHieu(), pk.getChatLieu(), pk.getKichThuoc());
+    }
+
+    private static final class Entry {
+        private final SanPham value;
+        private final long expiresAt;
+
+        private Entry(SanPham value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
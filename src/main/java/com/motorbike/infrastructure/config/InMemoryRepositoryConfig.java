@@ -0,0 +1,89 @@
+package com.motorbike.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.motorbike.business.ports.repository.AccessoryRepository;
+import com.motorbike.business.ports.repository.CartRepository;
+import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.infrastructure.persistence.memory.InMemoryAccessoryRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryCartRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryMotorbikeRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemorySeedData;
+import com.motorbike.infrastructure.persistence.memory.InMemoryUserRepository;
+
+/**
+ * Profile inmemory: thay toàn bộ adapter JPA bằng repository trong bộ nhớ (không cần SQL Server),
+ * để đo tải / profile lớp use case và web tách khỏi chi phí DB. Xem application-inmemory.properties.
+ *
+ * Các bean repository gốc mang cùng tên bean với adapter JPA (productRepositoryAdapter, ...)
+ * nên UseCaseConfig vẫn bọc cache, chỉ mục tìm kiếm và bộ đếm dashboard quanh chúng như bình thường.
+ * Dữ liệu mẫu được nạp ngay khi tạo bean, trước khi cache / chỉ mục đọc lần đầu.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryRepositoryConfig {
+
+    @Bean("productRepositoryAdapter")
+    public InMemoryProductRepository inMemoryProductRepository(
+            @Value("${inmemory.seed.motorbikes:200}") int motorbikes,
+            @Value("${inmemory.seed.accessories:100}") int accessories
+    ) {
+        InMemoryProductRepository repository = new InMemoryProductRepository();
+        InMemorySeedData.seedCatalog(repository, motorbikes, accessories);
+        return repository;
+    }
+
+    @Bean("motorbikeRepository")
+    public MotorbikeRepository inMemoryMotorbikeRepository(InMemoryProductRepository products) {
+        return new InMemoryMotorbikeRepository(products);
+    }
+
+    @Bean("accessoryRepository")
+    public AccessoryRepository inMemoryAccessoryRepository(InMemoryProductRepository products) {
+        return new InMemoryAccessoryRepository(products);
+    }
+
+    @Bean("userRepositoryAdapter")
+    public InMemoryUserRepository inMemoryUserRepository(
+            PasswordHasher passwordHasher,
+            @Value("${inmemory.seed.customers:100}") int customers,
+            @Value("${inmemory.seed.password:matkhau123}") String password
+    ) {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        InMemorySeedData.seedUsers(repository, passwordHasher, customers, password);
+        return repository;
+    }
+
+    @Bean("orderRepositoryAdapter")
+    public InMemoryOrderRepository inMemoryOrderRepository(
+            @Qualifier("productRepositoryAdapter") ProductRepository products,
+            @Qualifier("userRepositoryAdapter") UserRepository users,
+            @Value("${inmemory.seed.orders:2000}") int orders
+    ) {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository();
+        InMemorySeedData.seedOrders(repository, products, users, orders);
+        return repository;
+    }
+
+    @Bean("cartRepositoryAdapter")
+    public CartRepository inMemoryCartRepository() {
+        return new InMemoryCartRepository();
+    }
+
+    // Không có giao dịch: trừ tồn kho theo lô tự hoàn tác khi thiếu hàng (xem InMemoryProductRepository),
+    // các bước còn lại của use case không được rollback nếu lỗi giữa chừng
+    @Bean
+    public TransactionRunner transactionRunner() {
+        return TransactionRunner.direct();
+    }
+}
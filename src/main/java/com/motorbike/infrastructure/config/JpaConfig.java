@@ -0,0 +1,12 @@
+package com.motorbike.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// Repository Spring Data cho SQL Server; profile inmemory không có DataSource nên bỏ qua
+@Configuration
+@Profile("!inmemory")
+@EnableJpaRepositories(basePackages = "com.motorbike.infrastructure.persistence.jpa.repositories")
+public class JpaConfig {
+}
@@ -0,0 +1,124 @@
+package com.motorbike.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.motorbike.infrastructure.cache.CachingProductRepository;
+import com.motorbike.infrastructure.metrics.RepositoryMetricsAspect;
+import com.motorbike.infrastructure.metrics.SqlBudgetFilter;
+import com.motorbike.infrastructure.metrics.UseCaseMetricsAspect;
+import com.motorbike.infrastructure.persistence.WriteBehindLastLoginRecorder;
+import com.motorbike.infrastructure.persistence.statements.JdbcTimingSessionListener;
+import com.motorbike.infrastructure.persistence.statements.SqlStatementInspector;
+import com.motorbike.infrastructure.search.InMemoryCatalogSearchEngine;
+import com.motorbike.infrastructure.search.InMemoryOrderSearchIndex;
+import com.motorbike.infrastructure.security.BoundedPasswordHasher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics xuất qua /actuator/prometheus. Pool kết nối (hikaricp.*), luồng Tomcat (tomcat.threads.*)
+ * và JVM do Actuator tự đăng ký; ở đây thêm timer cho use case / repository, ngân sách SQL mỗi request và gauge cho
+ * các cache, hàng đợi trong bộ nhớ của ứng dụng.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public UseCaseMetricsAspect useCaseMetricsAspect(MeterRegistry registry) {
+        return new UseCaseMetricsAspect(registry);
+    }
+
+    @Bean
+    public RepositoryMetricsAspect repositoryMetricsAspect(MeterRegistry registry) {
+        return new RepositoryMetricsAspect(registry);
+    }
+
+    // Móc vào Hibernate để đếm câu SQL / đo thời gian JDBC theo từng request (xem SqlBudgetFilter)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementHooks() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            MeterRegistry registry,
+            @Value("${sql.budget.max-statements:30}") int maxStatements,
+            @Value("${sql.budget.max-repeats:5}") int maxRepeats,
+            @Value("${sql.budget.fail-on-exceed:false}") boolean failOnExceed
+    ) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(registry, maxStatements, maxRepeats, failOnExceed));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder productCacheMetrics(CachingProductRepository cache) {
+        return registry -> {
+            Gauge.builder("cache.size", cache, CachingProductRepository::size)
+                    .tag("cache", "product").register(registry);
+            FunctionCounter.builder("cache.gets", cache, CachingProductRepository::getHitCount)
+                    .tag("cache", "product").tag("result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", cache, CachingProductRepository::getMissCount)
+                    .tag("cache", "product").tag("result", "miss").register(registry);
+            FunctionCounter.builder("cache.evictions", cache, CachingProductRepository::getEvictionCount)
+                    .tag("cache", "product").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder searchIndexMetrics(InMemoryCatalogSearchEngine catalogSearchEngine,
+                                          InMemoryOrderSearchIndex orderSearchIndex) {
+        return registry -> {
+            Gauge.builder("search.index.size", catalogSearchEngine, InMemoryCatalogSearchEngine::size)
+                    .tag("index", "catalog").register(registry);
+            Gauge.builder("search.index.size", orderSearchIndex, InMemoryOrderSearchIndex::size)
+                    .tag("index", "order").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHasherMetrics(BoundedPasswordHasher hasher) {
+        return registry -> {
+            Gauge.builder("password.hasher.queue.depth", hasher, BoundedPasswordHasher::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("password.hasher.queue.max.depth", hasher, BoundedPasswordHasher::getMaxQueueDepth)
+                    .register(registry);
+            Gauge.builder("password.hasher.active", hasher, BoundedPasswordHasher::getActiveCount)
+                    .register(registry);
+            FunctionCounter.builder("password.hasher.completed", hasher, BoundedPasswordHasher::getCompletedCount)
+                    .register(registry);
+            FunctionCounter.builder("password.hasher.rejected", hasher, BoundedPasswordHasher::getRejectedCount)
+                    .register(registry);
+            FunctionCounter.builder("password.hasher.timed.out", hasher, BoundedPasswordHasher::getTimedOutCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder lastLoginRecorderMetrics(WriteBehindLastLoginRecorder recorder) {
+        return registry -> {
+            Gauge.builder("login.last.login.pending", recorder, WriteBehindLastLoginRecorder::getPendingCount)
+                    .register(registry);
+            FunctionCounter.builder("login.last.login.recorded", recorder, WriteBehindLastLoginRecorder::getRecordedCount)
+                    .register(registry);
+            FunctionCounter.builder("login.last.login.flushed", recorder, WriteBehindLastLoginRecorder::getFlushedCount)
+                    .register(registry);
+            FunctionCounter.builder("login.last.login.dropped", recorder, WriteBehindLastLoginRecorder::getDroppedCount)
+                    .register(registry);
+            FunctionCounter.builder("login.last.login.failed.flushes", recorder, WriteBehindLastLoginRecorder::getFailedFlushCount)
+                    .register(registry);
+        };
+    }
+}
@@ -1,70 +1,58 @@
 package com.motorbike.infrastructure.config;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.annotation.RequestScope;
-
-import com.motorbike.adapters.presenters.AddAccessoryPresenter;
-import com.motorbike.adapters.presenters.AddMotorbikePresenter;
-import com.motorbike.adapters.presenters.AddToCartPresenter;
-import com.motorbike.adapters.presenters.CancelOrderPresenter;
-import com.motorbike.adapters.presenters.CheckoutPresenter;
-import com.motorbike.adapters.presenters.DeleteAccessoryPresenter;
-import com.motorbike.adapters.presenters.DeleteMotorbikePresenter;
-import com.motorbike.adapters.presenters.GetAllAccessoriesPresenter;
-import com.motorbike.adapters.presenters.GetAllMotorbikesPresenter;
-import com.motorbike.adapters.presenters.ListAllOrdersPresenter;
-import com.motorbike.adapters.presenters.ListMyOrdersPresenter;
-import com.motorbike.adapters.presenters.LoginPresenter;
-import com.motorbike.adapters.presenters.OrderDetailPresenter;
-import com.motorbike.adapters.presenters.ProductDetailPresenter;
-import com.motorbike.adapters.presenters.RegisterPresenter;
-import com.motorbike.adapters.presenters.SearchAccessoriesPresenter;
-import com.motorbike.adapters.presenters.SearchAdminOrderPresenter;
-import com.motorbike.adapters.presenters.SearchMotorbikesPresenter;
-import com.motorbike.adapters.presenters.UpdateAccessoryPresenter;
-import com.motorbike.adapters.presenters.UpdateCartQuantityPresenter;
-import com.motorbike.adapters.presenters.UpdateMotorbikePresenter;
-import com.motorbike.adapters.presenters.UpdateOrderInforPresenter;
-import com.motorbike.adapters.presenters.ViewCartPresenter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.motorbike.adapters.presenters.AddAccessoryResponsePresenter;
+import com.motorbike.adapters.presenters.AddMotorbikeResponsePresenter;
+import com.motorbike.adapters.presenters.AddToCartResponsePresenter;
+import com.motorbike.adapters.presenters.AddUserResponsePresenter;
+import com.motorbike.adapters.presenters.CancelOrderResponsePresenter;
+import com.motorbike.adapters.presenters.ChangePasswordResponsePresenter;
+import com.motorbike.adapters.presenters.CheckoutResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteAccessoryResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteMotorbikeResponsePresenter;
+import com.motorbike.adapters.presenters.DeleteUserResponsePresenter;
+import com.motorbike.adapters.presenters.GetAllAccessoriesResponsePresenter;
+import com.motorbike.adapters.presenters.GetAllMotorbikesResponsePresenter;
+import com.motorbike.adapters.presenters.GetDashboardStatsResponsePresenter;
+import com.motorbike.adapters.presenters.GetMotorbikeFacetsResponsePresenter;
+import com.motorbike.adapters.presenters.GetUserProfileResponsePresenter;
+import com.motorbike.adapters.presenters.ListAllOrdersResponsePresenter;
+import com.motorbike.adapters.presenters.ListMyOrdersResponsePresenter;
+import com.motorbike.adapters.presenters.ListUsersResponsePresenter;
+import com.motorbike.adapters.presenters.LoginResponsePresenter;
+import com.motorbike.adapters.presenters.OrderDetailResponsePresenter;
+import com.motorbike.adapters.presenters.ProductDetailResponsePresenter;
+import com.motorbike.adapters.presenters.RegisterResponsePresenter;
+import com.motorbike.adapters.presenters.SearchAccessoriesResponsePresenter;
+import com.motorbike.adapters.presenters.SearchAdminOrderResponsePresenter;
+import com.motorbike.adapters.presenters.SearchMotorbikesResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateAccessoryResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateCartQuantityResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateMotorbikeResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateOrderInforResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateUserProfileResponsePresenter;
+import com.motorbike.adapters.presenters.UpdateUserResponsePresenter;
 import com.motorbike.adapters.repositories.MotorbikeRepositoryAdapter;
-import com.motorbike.adapters.viewmodels.AddAccessoryViewModel;
-import com.motorbike.adapters.viewmodels.AddMotorbikeViewModel;
-import com.motorbike.adapters.viewmodels.AddToCartViewModel;
-import com.motorbike.adapters.viewmodels.AddUserViewModel;
-import com.motorbike.adapters.viewmodels.CancelOrderViewModel;
-import com.motorbike.adapters.viewmodels.ChangePasswordViewModelImpl;
-import com.motorbike.adapters.viewmodels.CheckoutViewModel;
-import com.motorbike.adapters.viewmodels.DeleteAccessoryViewModel;
-import com.motorbike.adapters.viewmodels.DeleteMotorbikeViewModel;
-import com.motorbike.adapters.viewmodels.DeleteUserViewModel;
-import com.motorbike.adapters.viewmodels.GetAllAccessoriesViewModel;
-import com.motorbike.adapters.viewmodels.GetAllMotorbikesViewModel;
-import com.motorbike.adapters.viewmodels.GetUserProfileViewModel;
-import com.motorbike.adapters.viewmodels.ListAllOrdersViewModel;
-import com.motorbike.adapters.viewmodels.ListMyOrdersViewModel;
-import com.motorbike.adapters.viewmodels.ListUsersViewModel;
-import com.motorbike.adapters.viewmodels.LoginViewModel;
-import com.motorbike.adapters.viewmodels.OrderDetailViewModel;
-import com.motorbike.adapters.viewmodels.ProductDetailViewModel;
-import com.motorbike.adapters.viewmodels.RegisterViewModel;
-import com.motorbike.adapters.viewmodels.SearchAccessoriesViewModel;
-import com.motorbike.adapters.viewmodels.SearchAdminOrderViewModel;
-import com.motorbike.adapters.viewmodels.SearchMotorbikesViewModel;
-import com.motorbike.adapters.viewmodels.UpdateAccessoryViewModel;
-import com.motorbike.adapters.viewmodels.UpdateCartQuantityViewModel;
-import com.motorbike.adapters.viewmodels.UpdateMotorbikeViewModel;
-import com.motorbike.adapters.viewmodels.UpdateOrderInforViewModel;
-import com.motorbike.adapters.viewmodels.UpdateUserProfileViewModel;
-import com.motorbike.adapters.viewmodels.UpdateUserViewModel;
-import com.motorbike.adapters.viewmodels.ViewCartViewModel;
+import com.motorbike.business.ports.event.LastLoginRecorder;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
 import com.motorbike.business.ports.repository.OrderRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.business.ports.search.OrderSearchIndex;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.ports.transaction.TransactionRunner;
 import com.motorbike.business.usecase.control.AddAccessoryUseCaseControl;
 import com.motorbike.business.usecase.control.AddMotorbikeUseCaseControl;
 import com.motorbike.business.usecase.control.AddToCartUseCaseControl;
@@ -75,6 +63,7 @@ import com.motorbike.business.usecase.control.CheckoutUseCaseControl;
 import com.motorbike.business.usecase.control.DeleteAccessoryUseCaseControl;
 import com.motorbike.business.usecase.control.DeleteMotorbikeUseCaseControl;
 import com.motorbike.business.usecase.control.DeleteUserUseCaseControl;
+import com.motorbike.business.usecase.control.GetDashboardStatsUseCaseControl;
 import com.motorbike.business.usecase.control.GetAllAccessoriesUseCaseControl;
 import com.motorbike.business.usecase.control.GetAllMotorbikesUseCaseControl;
 import com.motorbike.business.usecase.control.GetProductDetailUseCaseControl;
@@ -85,6 +74,7 @@ import com.motorbike.business.usecase.control.ListUsersUseCaseControl;
 import com.motorbike.business.usecase.control.LoginUseCaseControl;
 import com.motorbike.business.usecase.control.OrderDetailUseCaseControl;
 import com.motorbike.business.usecase.control.RegisterUseCaseControl;
+import com.motorbike.business.usecase.control.GetMotorbikeFacetsUseCaseControl;
 import com.motorbike.business.usecase.control.SearchAccessoriesUseCaseControl;
 import com.motorbike.business.usecase.control.SearchAdminOrderUseCaseControl;
 import com.motorbike.business.usecase.control.SearchMotorbikesUseCaseControl;
@@ -101,327 +91,273 @@ import com.motorbike.business.usecase.input.DeleteAccessoryInputBoundary;
 import com.motorbike.business.usecase.input.DeleteMotorbikeInputBoundary;
 import com.motorbike.business.usecase.input.GetAllAccessoriesInputBoundary;
 import com.motorbike.business.usecase.input.GetAllMotorbikesInputBoundary;
+import com.motorbike.business.usecase.input.GetMotorbikeFacetsInputBoundary;
 import com.motorbike.business.usecase.input.GetUserProfileInputBoundary;
 import com.motorbike.business.usecase.input.SearchAccessoriesInputBoundary;
 import com.motorbike.business.usecase.input.SearchMotorbikesInputBoundary;
 import com.motorbike.business.usecase.input.UpdateAccessoryInputBoundary;
 import com.motorbike.business.usecase.input.UpdateMotorbikeInputBoundary;
 import com.motorbike.business.usecase.input.UpdateUserProfileInputBoundary;
-import com.motorbike.business.usecase.output.AddAccessoryOutputBoundary;
-import com.motorbike.business.usecase.output.AddMotorbikeOutputBoundary;
-import com.motorbike.business.usecase.output.AddToCartOutputBoundary;
-import com.motorbike.business.usecase.output.CancelOrderOutputBoundary;
-import com.motorbike.business.usecase.output.ChangePasswordOutputBoundary;
-import com.motorbike.business.usecase.output.CheckoutOutputBoundary;
-import com.motorbike.business.usecase.output.DeleteAccessoryOutputBoundary;
-import com.motorbike.business.usecase.output.DeleteMotorbikeOutputBoundary;
-import com.motorbike.business.usecase.output.GetAllAccessoriesOutputBoundary;
-import com.motorbike.business.usecase.output.GetAllMotorbikesOutputBoundary;
-import com.motorbike.business.usecase.output.GetProductDetailOutputBoundary;
-import com.motorbike.business.usecase.output.GetUserProfileOutputBoundary;
-import com.motorbike.business.usecase.output.ListAllOrdersOutputBoundary;
-import com.motorbike.business.usecase.output.ListMyOrdersOutputBoundary;
-import com.motorbike.business.usecase.output.LoginOutputBoundary;
-import com.motorbike.business.usecase.output.OrderDetailOutputBoundary;
-import com.motorbike.business.usecase.output.RegisterOutputBoundary;
-import com.motorbike.business.usecase.output.SearchAccessoriesOutputBoundary;
-import com.motorbike.business.usecase.output.SearchAdminOrderOutputBoundary;
-import com.motorbike.business.usecase.output.SearchMotorbikesOutputBoundary;
-import com.motorbike.business.usecase.output.UpdateAccessoryOutputBoundary;
-import com.motorbike.business.usecase.output.UpdateCartQuantityOutputBoundary;
-import com.motorbike.business.usecase.output.UpdateOrderInforOutputBoundary;
-import com.motorbike.business.usecase.output.UpdateUserProfileOutputBoundary;
-import com.motorbike.business.usecase.output.ViewCartOutputBoundary;
+import com.motorbike.infrastructure.cache.CachingProductRepository;
 import com.motorbike.infrastructure.persistence.jpa.repositories.PhuKienXeMayJpaRepository;
 import com.motorbike.infrastructure.persistence.jpa.repositories.XeMayJpaRepository;
+import com.motorbike.infrastructure.persistence.transaction.SpringTransactionRunner;
+import com.motorbike.infrastructure.search.InMemoryCatalogSearchEngine;
+import com.motorbike.infrastructure.search.InMemoryOrderSearchIndex;
+import com.motorbike.infrastructure.persistence.WriteBehindLastLoginRecorder;
+import com.motorbike.infrastructure.search.IndexingOrderRepository;
+import com.motorbike.infrastructure.security.BoundedPasswordHasher;
+import com.motorbike.infrastructure.security.Pbkdf2PasswordHasher;
+import com.motorbike.infrastructure.stats.InMemoryDashboardCounters;
 import com.motorbike.infrastructure.persistence.repository.AccessoryRepositoryImpl;
 
 @Configuration
 public class UseCaseConfig {
 
+    // Thêm: danh sách người dùng
     @Bean
-    @RequestScope
-    public LoginViewModel loginViewModel() {
-        return new LoginViewModel();
+    public ListUsersUseCaseControl listUsersUseCaseControl(UserRepository userRepository) {
+        return new ListUsersUseCaseControl(userRepository);
     }
 
     @Bean
-    @RequestScope
-    public RegisterViewModel registerViewModel() {
-        return new RegisterViewModel();
+    public ListUsersResponsePresenter listUsersResponsePresenter() {
+        return new ListUsersResponsePresenter();
     }
-
+    // Thêm: thêm người dùng
     @Bean
-    @RequestScope
-    public ProductDetailViewModel productDetailViewModel() {
-        return new ProductDetailViewModel();
+    public AddUserUseCaseControl addUserUseCaseControl(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters,
+            PasswordHasher passwordHasher) {
+        return new AddUserUseCaseControl(userRepository, cartRepository, dashboardCounters, passwordHasher);
     }
 
     @Bean
-    @RequestScope
-    public AddToCartViewModel addToCartViewModel() {
-        return new AddToCartViewModel();
+    public AddUserResponsePresenter addUserResponsePresenter() {
+        return new AddUserResponsePresenter();
     }
-
+        // Thêm xoá người dùng
     @Bean
-    @RequestScope
-    public ViewCartViewModel viewCartViewModel() {
-        return new ViewCartViewModel();
+    public DeleteUserUseCaseControl deleteUserUseCaseControl(
+            UserRepository userRepository,
+            DashboardCounters dashboardCounters) {
+        return new DeleteUserUseCaseControl(userRepository, dashboardCounters);
     }
 
     @Bean
-    @RequestScope
-    public UpdateCartQuantityViewModel updateCartQuantityViewModel() {
-        return new UpdateCartQuantityViewModel();
+    public DeleteUserResponsePresenter deleteUserResponsePresenter() {
+        return new DeleteUserResponsePresenter();
+    }
+    //sữa thong tin người dùng
+     @Bean
+    public UpdateUserUseCaseControl updateUserUseCaseControl(UserRepository userRepository, PasswordHasher passwordHasher) {
+        return new UpdateUserUseCaseControl(userRepository, passwordHasher);
     }
 
     @Bean
-    @RequestScope
-    public CheckoutViewModel checkoutViewModel() {
-        return new CheckoutViewModel();
+    public UpdateUserResponsePresenter updateUserResponsePresenter() {
+        return new UpdateUserResponsePresenter();
     }
-    // Thêm: danh sách người dùng
+
     @Bean
-    public ListUsersUseCaseControl listUsersUseCaseControl(ListUsersViewModel viewModel, UserRepository userRepository) {
-        return new ListUsersUseCaseControl(viewModel, userRepository);
-    }
-    // Thêm: thêm người dùng
-        @Bean
-    public AddUserUseCaseControl addUserUseCaseControl(AddUserViewModel addUserViewModel, UserRepository userRepository, CartRepository cartRepository) {
-        return new AddUserUseCaseControl(addUserViewModel, userRepository, cartRepository);
+    public LoginUseCaseControl loginUseCase(
+            UserRepository userRepository,
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner,
+            LastLoginRecorder lastLoginRecorder,
+            PasswordHasher passwordHasher) {
+        return new LoginUseCaseControl(userRepository, cartRepository, transactionRunner, lastLoginRecorder, passwordHasher);
     }
-        // Thêm xoá người dùng
+
     @Bean
-    public DeleteUserUseCaseControl deleteUserUseCaseControl(DeleteUserViewModel deleteUserViewModel, UserRepository userRepository) {
-        return new DeleteUserUseCaseControl(deleteUserViewModel, userRepository);
-    }
-    //sữa thong tin người dùng
-     @Bean
-    public UpdateUserUseCaseControl updateUserUseCaseControl(UpdateUserViewModel updateUserViewModel, UserRepository userRepository) {
-        return new UpdateUserUseCaseControl(updateUserViewModel, userRepository);
+    public LoginResponsePresenter loginResponsePresenter() {
+        return new LoginResponsePresenter();
     }
 
+    // Ghi lần đăng nhập cuối theo lô ở luồng nền; close() khi tắt ứng dụng ghi nốt phần còn chờ
     @Bean
-    public LoginUseCaseControl loginUseCase(
-            LoginOutputBoundary loginPresenter,
+    public WriteBehindLastLoginRecorder lastLoginRecorder(
             UserRepository userRepository,
-            CartRepository cartRepository) {
-        return new LoginUseCaseControl(loginPresenter, userRepository, cartRepository);
+            @Value("${login.last-login.max-pending:1000}") int maxPending,
+            @Value("${login.last-login.flush-interval-millis:5000}") long flushIntervalMillis
+    ) {
+        return new WriteBehindLastLoginRecorder(userRepository, maxPending, flushIntervalMillis);
     }
 
+    // Băm mật khẩu trên pool riêng; iterations = 0 thì tự đo số vòng lúc khởi động theo target-millis
     @Bean
-    public LoginOutputBoundary loginPresenter(LoginViewModel loginViewModel) {
-        return new LoginPresenter(loginViewModel);
+    public BoundedPasswordHasher passwordHasher(
+            @Value("${security.password.iterations:0}") int iterations,
+            @Value("${security.password.target-millis:100}") long targetMillis,
+            @Value("${security.password.min-iterations:100000}") int minIterations,
+            @Value("${security.password.max-iterations:2000000}") int maxIterations,
+            @Value("${security.password.hasher-threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.max-wait-millis:2000}") long maxWaitMillis
+    ) {
+        int soVong = iterations > 0 ? iterations : Pbkdf2PasswordHasher.calibrate(targetMillis, minIterations, maxIterations);
+        int soLuong = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordHasher(new Pbkdf2PasswordHasher(soVong), soLuong, queueCapacity, maxWaitMillis);
     }
 
     @Bean
     public RegisterUseCaseControl registerUseCase(
-            RegisterOutputBoundary registerPresenter,
             UserRepository userRepository,
-            CartRepository cartRepository) {
-        return new RegisterUseCaseControl(registerPresenter, userRepository, cartRepository);
+            CartRepository cartRepository,
+            DashboardCounters dashboardCounters,
+            PasswordHasher passwordHasher) {
+        return new RegisterUseCaseControl(userRepository, cartRepository, dashboardCounters, passwordHasher);
     }
 
     @Bean
-    public RegisterOutputBoundary registerPresenter(RegisterViewModel registerViewModel) {
-        return new RegisterPresenter(registerViewModel);
+    public RegisterResponsePresenter registerResponsePresenter() {
+        return new RegisterResponsePresenter();
     }
 
     @Bean
     public GetProductDetailUseCaseControl getProductDetailUseCase(
-            GetProductDetailOutputBoundary productDetailPresenter,
             ProductRepository productRepository) {
-        return new GetProductDetailUseCaseControl(productDetailPresenter, productRepository);
+        return new GetProductDetailUseCaseControl(productRepository);
     }
 
     @Bean
-    public GetProductDetailOutputBoundary productDetailPresenter(ProductDetailViewModel productDetailViewModel) {
-        return new ProductDetailPresenter(productDetailViewModel);
+    public ProductDetailResponsePresenter productDetailResponsePresenter() {
+        return new ProductDetailResponsePresenter();
     }
 
     @Bean
     public AddToCartUseCaseControl addToCartUseCase(
-            AddToCartOutputBoundary addToCartPresenter,
             CartRepository cartRepository,
-            ProductRepository productRepository) {
-        return new AddToCartUseCaseControl(addToCartPresenter, cartRepository, productRepository);
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner) {
+        return new AddToCartUseCaseControl(cartRepository, productRepository, transactionRunner);
     }
 
     @Bean
-    public AddToCartOutputBoundary addToCartPresenter(AddToCartViewModel addToCartViewModel) {
-        return new AddToCartPresenter(addToCartViewModel);
+    public AddToCartResponsePresenter addToCartResponsePresenter() {
+        return new AddToCartResponsePresenter();
     }
 
     @Bean
     public ViewCartUseCaseControl viewCartUseCase(
-            ViewCartOutputBoundary viewCartPresenter,
             CartRepository cartRepository,
             ProductRepository productRepository) {
-        return new ViewCartUseCaseControl(viewCartPresenter, cartRepository, productRepository);
-    }
-
-    @Bean
-    public ViewCartOutputBoundary viewCartPresenter(ViewCartViewModel viewCartViewModel) {
-        return new ViewCartPresenter(viewCartViewModel);
+        return new ViewCartUseCaseControl(cartRepository, productRepository);
     }
 
     @Bean
     public UpdateCartQuantityUseCaseControl updateCartQuantityUseCase(
-            UpdateCartQuantityOutputBoundary updateCartQuantityPresenter,
-            CartRepository cartRepository) {
-        return new UpdateCartQuantityUseCaseControl(updateCartQuantityPresenter, cartRepository);
+            CartRepository cartRepository,
+            TransactionRunner transactionRunner) {
+        return new UpdateCartQuantityUseCaseControl(cartRepository, transactionRunner);
     }
 
     @Bean
-    public UpdateCartQuantityOutputBoundary updateCartQuantityPresenter(UpdateCartQuantityViewModel updateCartQuantityViewModel) {
-        return new UpdateCartQuantityPresenter(updateCartQuantityViewModel);
+    public UpdateCartQuantityResponsePresenter updateCartQuantityResponsePresenter() {
+        return new UpdateCartQuantityResponsePresenter();
     }
 
     @Bean
     public CheckoutUseCaseControl checkoutUseCase(
-            CheckoutOutputBoundary checkoutPresenter,
             CartRepository cartRepository,
             ProductRepository productRepository,
-            OrderRepository orderRepository) {
-        return new CheckoutUseCaseControl(checkoutPresenter, cartRepository, productRepository, orderRepository);
+            OrderRepository orderRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
+        return new CheckoutUseCaseControl(cartRepository, productRepository, orderRepository,
+                transactionRunner, dashboardCounters);
     }
 
     @Bean
-    public CheckoutOutputBoundary checkoutPresenter(CheckoutViewModel checkoutViewModel) {
-        return new CheckoutPresenter(checkoutViewModel);
-    }
-    @Bean
-    @RequestScope
-    public ListAllOrdersViewModel listAllOrdersViewModel() {
-        return new ListAllOrdersViewModel();
+    public CheckoutResponsePresenter checkoutResponsePresenter() {
+        return new CheckoutResponsePresenter();
     }
 
     @Bean
     public ListAllOrdersUseCaseControl listAllOrdersUseCase(
-            ListAllOrdersOutputBoundary listAllOrdersPresenter,
             OrderRepository orderRepository) {
-        return new ListAllOrdersUseCaseControl(listAllOrdersPresenter, orderRepository);
+        return new ListAllOrdersUseCaseControl(orderRepository);
     }
 
     @Bean
-    public ListAllOrdersOutputBoundary listAllOrdersPresenter(ListAllOrdersViewModel listAllOrdersViewModel) {
-        return new ListAllOrdersPresenter(listAllOrdersViewModel);
-    }
-
-    @Bean
-    @RequestScope
-    public SearchAdminOrderViewModel searchAdminOrderViewModel() {
-        return new SearchAdminOrderViewModel();
+    public ListAllOrdersResponsePresenter listAllOrdersResponsePresenter() {
+        return new ListAllOrdersResponsePresenter();
     }
 
     @Bean
     public SearchAdminOrderUseCaseControl searchAdminOrderUseCase(
-            SearchAdminOrderOutputBoundary searchAdminOrderPresenter,
-            OrderRepository orderRepository) {
-        return new SearchAdminOrderUseCaseControl(searchAdminOrderPresenter, orderRepository);
-    }
-
-    @Bean
-    public SearchAdminOrderOutputBoundary searchAdminOrderPresenter(SearchAdminOrderViewModel searchAdminOrderViewModel) {
-        return new SearchAdminOrderPresenter(searchAdminOrderViewModel);
+            OrderRepository orderRepository,
+            OrderSearchIndex orderSearchIndex) {
+        return new SearchAdminOrderUseCaseControl(orderRepository, orderSearchIndex);
     }
 
     @Bean
-    @RequestScope
-    public ListMyOrdersViewModel listMyOrdersViewModel() {
-        return new ListMyOrdersViewModel();
+    public SearchAdminOrderResponsePresenter searchAdminOrderResponsePresenter() {
+        return new SearchAdminOrderResponsePresenter();
     }
 
     @Bean
     public ListMyOrdersUseCaseControl listMyOrdersUseCase(
-            ListMyOrdersOutputBoundary listMyOrdersPresenter,
             OrderRepository orderRepository) {
-        return new ListMyOrdersUseCaseControl(listMyOrdersPresenter, orderRepository);
+        return new ListMyOrdersUseCaseControl(orderRepository);
     }
 
     @Bean
-    public ListMyOrdersOutputBoundary listMyOrdersPresenter(
-            ListMyOrdersViewModel listMyOrdersViewModel) {
-        return new ListMyOrdersPresenter(listMyOrdersViewModel);
-    }
-
-    @Bean
-    @RequestScope
-    public OrderDetailViewModel orderDetailViewModel() {
-        return new OrderDetailViewModel();
+    public ListMyOrdersResponsePresenter listMyOrdersResponsePresenter() {
+        return new ListMyOrdersResponsePresenter();
     }
 
     @Bean
     public OrderDetailUseCaseControl orderDetailUseCase(
-            OrderDetailOutputBoundary orderDetailPresenter,
             OrderRepository orderRepository) {
-        return new OrderDetailUseCaseControl(orderDetailPresenter, orderRepository);
-    }
-
-    @Bean
-    public OrderDetailOutputBoundary orderDetailPresenter(OrderDetailViewModel orderDetailViewModel) {
-        return new OrderDetailPresenter(orderDetailViewModel);
+        return new OrderDetailUseCaseControl(orderRepository);
     }
 
-
     @Bean
-    @RequestScope
-    public CancelOrderViewModel cancelOrderViewModel() {
-        return new CancelOrderViewModel();
+    public OrderDetailResponsePresenter orderDetailResponsePresenter() {
+        return new OrderDetailResponsePresenter();
     }
 
     @Bean
     public CancelOrderUseCaseControl cancelOrderUseCase(
-            CancelOrderOutputBoundary cancelOrderPresenter,
             OrderRepository orderRepository,
-            ProductRepository productRepository) {
-        return new CancelOrderUseCaseControl(cancelOrderPresenter, orderRepository, productRepository);
-    }
-
-    @Bean
-    public CancelOrderOutputBoundary cancelOrderPresenter(CancelOrderViewModel cancelOrderViewModel) {
-        return new CancelOrderPresenter(cancelOrderViewModel);
+            ProductRepository productRepository,
+            TransactionRunner transactionRunner,
+            DashboardCounters dashboardCounters) {
+        return new CancelOrderUseCaseControl(orderRepository, productRepository,
+                transactionRunner, dashboardCounters);
     }
 
     @Bean
-    @RequestScope
-    public UpdateOrderInforViewModel updateOrderInforViewModel() {
-        return new UpdateOrderInforViewModel();
+    public CancelOrderResponsePresenter cancelOrderResponsePresenter() {
+        return new CancelOrderResponsePresenter();
     }
 
     @Bean
     public UpdateOrderInforUseCaseControl updateOrderInforUseCase(
-            UpdateOrderInforOutputBoundary updateOrderInforPresenter,
             OrderRepository orderRepository) {
-        return new UpdateOrderInforUseCaseControl(updateOrderInforPresenter, orderRepository);
+        return new UpdateOrderInforUseCaseControl(orderRepository);
     }
 
     @Bean
-    public UpdateOrderInforOutputBoundary updateOrderInforPresenter(UpdateOrderInforViewModel updateOrderInforViewModel) {
-        return new UpdateOrderInforPresenter(updateOrderInforViewModel);
+    public UpdateOrderInforResponsePresenter updateOrderInforResponsePresenter() {
+        return new UpdateOrderInforResponsePresenter();
     }
 
 //motorbike use case beans
 
-    @Bean
-    @RequestScope
-    public GetAllMotorbikesViewModel getAllMotorbikesViewModel() {
-        return new GetAllMotorbikesViewModel();
-    }
-
     @Bean
     public GetAllMotorbikesUseCaseControl getAllMotorbikesUseCase(
-            GetAllMotorbikesOutputBoundary presenter,
             ProductRepository productRepository
     ) {
-        return new GetAllMotorbikesUseCaseControl(presenter, productRepository);
+        return new GetAllMotorbikesUseCaseControl(productRepository);
     }
 
     @Bean
-    public GetAllMotorbikesOutputBoundary getAllMotorbikesPresenter(
-            GetAllMotorbikesViewModel viewModel
-    ) {
-        return new GetAllMotorbikesPresenter(viewModel);
+    public GetAllMotorbikesResponsePresenter getAllMotorbikesResponsePresenter() {
+        return new GetAllMotorbikesResponsePresenter();
     }
 
     @Bean
@@ -435,66 +371,58 @@ public class UseCaseConfig {
 
     @Bean
     public SearchMotorbikesInputBoundary searchMotorbikesUseCase(
-            SearchMotorbikesOutputBoundary outputBoundary,
-            MotorbikeRepository motorbikeRepository
-    ) {
-        return new SearchMotorbikesUseCaseControl(outputBoundary, motorbikeRepository);
-    }
-
-    @Bean
-    public SearchMotorbikesOutputBoundary searchMotorbikesOutputBoundary(
-            SearchMotorbikesViewModel viewModel
+            MotorbikeRepository motorbikeRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine
     ) {
-        return new SearchMotorbikesPresenter(viewModel);
+        return new SearchMotorbikesUseCaseControl(motorbikeRepository, productRepository, catalogSearchEngine);
     }
 
     @Bean
-    public SearchMotorbikesViewModel searchMotorbikesViewModel() {
-        return new SearchMotorbikesViewModel();
+    public SearchMotorbikesResponsePresenter searchMotorbikesResponsePresenter() {
+        return new SearchMotorbikesResponsePresenter();
     }
 
-// ADD MOTORBIKE USE CASE BEANS
+//motorbike facets use case beans
 
     @Bean
-    @RequestScope
-    public AddMotorbikeViewModel addMotorbikeViewModel() {
-        return new AddMotorbikeViewModel();
+    public GetMotorbikeFacetsInputBoundary getMotorbikeFacetsUseCase(
+            MotorbikeRepository motorbikeRepository,
+            CatalogSearchEngine catalogSearchEngine
+    ) {
+        return new GetMotorbikeFacetsUseCaseControl(motorbikeRepository, catalogSearchEngine);
     }
 
     @Bean
-    public AddMotorbikeOutputBoundary addMotorbikePresenter(
-            AddMotorbikeViewModel viewModel
-    ) {
-        return new AddMotorbikePresenter(viewModel);
+    public GetMotorbikeFacetsResponsePresenter getMotorbikeFacetsResponsePresenter() {
+        return new GetMotorbikeFacetsResponsePresenter();
     }
 
+// ADD MOTORBIKE USE CASE BEANS
+
     @Bean
     public AddMotorbikeUseCaseControl addMotorbikeUseCase(
-            AddMotorbikeOutputBoundary presenter,
-            MotorbikeRepository motorbikeRepository
+            MotorbikeRepository motorbikeRepository,
+            @Qualifier("productChangeListener") ProductChangeListener productChangeListener
     ) {
-        return new AddMotorbikeUseCaseControl(presenter, motorbikeRepository);
+        return new AddMotorbikeUseCaseControl(motorbikeRepository, productChangeListener);
     }
 
     @Bean
-    @RequestScope
-    public GetAllAccessoriesViewModel getAllAccessoriesViewModel() {
-        return new GetAllAccessoriesViewModel();
+    public AddMotorbikeResponsePresenter addMotorbikeResponsePresenter() {
+        return new AddMotorbikeResponsePresenter();
     }
 
     @Bean
     public GetAllAccessoriesUseCaseControl getAllAccessoriesUseCase(
-            GetAllAccessoriesOutputBoundary presenter,
             AccessoryRepository accessoryRepository
     ) {
-        return new GetAllAccessoriesUseCaseControl(presenter, accessoryRepository);
+        return new GetAllAccessoriesUseCaseControl(accessoryRepository);
     }
 
     @Bean
-    public GetAllAccessoriesOutputBoundary getAllAccessoriesPresenter(
-            GetAllAccessoriesViewModel viewModel
-    ) {
-        return new GetAllAccessoriesPresenter(viewModel);
+    public GetAllAccessoriesResponsePresenter getAllAccessoriesResponsePresenter() {
+        return new GetAllAccessoriesResponsePresenter();
     }
 
     @Bean
@@ -504,182 +432,205 @@ public class UseCaseConfig {
         return useCase;
     }
 
+    // Một giao dịch cho cả use case (checkout, hủy đơn, gộp giỏ khi đăng nhập)
     @Bean
-    public MotorbikeRepository motorbikeRepository(
-            XeMayJpaRepository jpaRepository
-    ) {
-        return new MotorbikeRepositoryAdapter(jpaRepository);
+    @Profile("!inmemory")
+    public TransactionRunner transactionRunner(PlatformTransactionManager transactionManager) {
+        return new SpringTransactionRunner(transactionManager);
     }
 
+    // Chỉ mục tìm kiếm đơn hàng trong bộ nhớ, nạp từ adapter JPA ở lần tìm đầu tiên
     @Bean
-    public SearchAccessoriesInputBoundary searchAccessoriesUseCase(
-            SearchAccessoriesOutputBoundary outputBoundary,
-            AccessoryRepository accessoryRepository
-    ) {
-        return new SearchAccessoriesUseCaseControl(outputBoundary, accessoryRepository);
+    public InMemoryOrderSearchIndex orderSearchIndex(@Qualifier("orderRepositoryAdapter") OrderRepository orderRepositoryAdapter) {
+        return new InMemoryOrderSearchIndex(orderRepositoryAdapter);
+    }
+
+    // Mọi lần lưu/xóa đơn đi qua lớp bọc này để cập nhật chỉ mục
+    @Bean
+    @Primary
+    public IndexingOrderRepository orderRepository(
+            @Qualifier("orderRepositoryAdapter") OrderRepository orderRepositoryAdapter,
+            InMemoryOrderSearchIndex orderSearchIndex) {
+        return new IndexingOrderRepository(orderRepositoryAdapter, orderSearchIndex);
     }
 
+    // Cache đọc xuyên cho sản phẩm, bọc ngoài adapter JPA
     @Bean
-    public SearchAccessoriesOutputBoundary searchAccessoriesOutputBoundary(
-            SearchAccessoriesViewModel viewModel
+    @Primary
+    public CachingProductRepository productRepository(
+            @Qualifier("productRepositoryAdapter") ProductRepository productRepositoryAdapter,
+            @Value("${catalog.cache.max-size:1000}") int maxSize,
+            @Value("${catalog.cache.ttl-seconds:60}") long ttlSeconds
     ) {
-        return new SearchAccessoriesPresenter(viewModel);
+        return new CachingProductRepository(productRepositoryAdapter, maxSize, ttlSeconds * 1000);
     }
 
+    // Chỉ mục tìm kiếm sản phẩm trong bộ nhớ, nạp từ adapter JPA ở lần tìm đầu tiên
     @Bean
-    public SearchAccessoriesViewModel searchAccessoriesViewModel() {
-        return new SearchAccessoriesViewModel();
+    public InMemoryCatalogSearchEngine catalogSearchEngine(@Qualifier("productRepositoryAdapter") ProductRepository productRepositoryAdapter) {
+        return new InMemoryCatalogSearchEngine(productRepositoryAdapter);
     }
 
-// UPDATE MOTORBIKE USE CASE BEANS
+    // Thêm/sửa/xóa sản phẩm báo cho cache, chỉ mục tìm kiếm và bộ đếm dashboard
     @Bean
-    public UpdateMotorbikeInputBoundary updateMotorbikeUseCase(
-            UpdateMotorbikePresenter presenter,
-            MotorbikeRepository motorbikeRepository
+    public ProductChangeListener productChangeListener(
+            CachingProductRepository productRepository,
+            InMemoryCatalogSearchEngine catalogSearchEngine,
+            InMemoryDashboardCounters dashboardCounters) {
+        return ProductChangeListener.of(productRepository, catalogSearchEngine, dashboardCounters);
+    }
+
+    // Bộ đếm dashboard admin: cộng dồn theo sự kiện từ use case, đối soát định kỳ bằng truy vấn GROUP BY
+    @Bean
+    public InMemoryDashboardCounters dashboardCounters(
+            @Qualifier("orderRepositoryAdapter") OrderRepository orderRepositoryAdapter,
+            @Qualifier("userRepositoryAdapter") UserRepository userRepositoryAdapter,
+            @Qualifier("productRepositoryAdapter") ProductRepository productRepositoryAdapter,
+            @Value("${dashboard.low-stock-threshold:5}") int lowStockThreshold,
+            @Value("${dashboard.reconcile-interval-seconds:600}") long reconcileIntervalSeconds
     ) {
-        return new UpdateMotorbikeUseCaseControl(presenter, motorbikeRepository);
+        return new InMemoryDashboardCounters(orderRepositoryAdapter, userRepositoryAdapter, productRepositoryAdapter,
+                lowStockThreshold, reconcileIntervalSeconds * 1000);
     }
 
+    @Bean
+    public GetDashboardStatsUseCaseControl getDashboardStatsUseCase(
+            DashboardCounters dashboardCounters,
+            OrderRepository orderRepository,
+            UserRepository userRepository,
+            ProductRepository productRepository,
+            @Value("${dashboard.low-stock-threshold:5}") int lowStockThreshold
+    ) {
+        return new GetDashboardStatsUseCaseControl(
+                dashboardCounters, orderRepository, userRepository, productRepository, lowStockThreshold);
+    }
 
     @Bean
-    @RequestScope
-    public UpdateMotorbikeViewModel updateMotorbikeViewModel() {
-        return new UpdateMotorbikeViewModel();
+    public GetDashboardStatsResponsePresenter getDashboardStatsResponsePresenter() {
+        return new GetDashboardStatsResponsePresenter();
     }
 
     @Bean
-    public UpdateMotorbikePresenter updateMotorbikePresenter(UpdateMotorbikeViewModel viewModel) {
-        return new UpdateMotorbikePresenter(viewModel);
+    @Profile("!inmemory")
+    public MotorbikeRepository motorbikeRepository(
+            XeMayJpaRepository jpaRepository
+    ) {
+        return new MotorbikeRepositoryAdapter(jpaRepository);
     }
 
-// DELETE MOTORBIKE USE CASE BEANS
     @Bean
-    @RequestScope
-    public DeleteMotorbikeViewModel deleteMotorbikeViewModel() {
-        return new DeleteMotorbikeViewModel();
+    public SearchAccessoriesInputBoundary searchAccessoriesUseCase(
+            AccessoryRepository accessoryRepository,
+            ProductRepository productRepository,
+            CatalogSearchEngine catalogSearchEngine
+    ) {
+        return new SearchAccessoriesUseCaseControl(accessoryRepository, productRepository, catalogSearchEngine);
     }
 
     @Bean
-    public DeleteMotorbikeOutputBoundary deleteMotorbikePresenter(DeleteMotorbikeViewModel vm) {
-        return new DeleteMotorbikePresenter(vm);
+    public SearchAccessoriesResponsePresenter searchAccessoriesResponsePresenter() {
+        return new SearchAccessoriesResponsePresenter();
     }
 
+// UPDATE MOTORBIKE USE CASE BEANS
     @Bean
-    public DeleteMotorbikeInputBoundary deleteMotorbikeUseCase(
-            DeleteMotorbikeOutputBoundary presenter,
-            MotorbikeRepository motorbikeRepository
+    public UpdateMotorbikeInputBoundary updateMotorbikeUseCase(
+            MotorbikeRepository motorbikeRepository,
+            @Qualifier("productChangeListener") ProductChangeListener productChangeListener
     ) {
-        return new DeleteMotorbikeUseCaseControl(presenter, motorbikeRepository);
+        return new UpdateMotorbikeUseCaseControl(motorbikeRepository, productChangeListener);
     }
 
-@Bean
-@RequestScope
-public AddAccessoryViewModel addAccessoryViewModel() {
-    return new AddAccessoryViewModel();
-}
+    @Bean
+    public UpdateMotorbikeResponsePresenter updateMotorbikeResponsePresenter() {
+        return new UpdateMotorbikeResponsePresenter();
+    }
 
-@Bean
-public AddAccessoryOutputBoundary addAccessoryPresenter(AddAccessoryViewModel viewModel) {
-    return new AddAccessoryPresenter(viewModel);
-}
+// DELETE MOTORBIKE USE CASE BEANS
 
-@Bean
-public AddAccessoryInputBoundary addAccessoryUseCase(AddAccessoryOutputBoundary presenter, AccessoryRepository repo) {
-    return new AddAccessoryUseCaseControl(presenter, repo);
-}
+    @Bean
+    public DeleteMotorbikeInputBoundary deleteMotorbikeUseCase(
+            MotorbikeRepository motorbikeRepository,
+            @Qualifier("productChangeListener") ProductChangeListener productChangeListener
+    ) {
+        return new DeleteMotorbikeUseCaseControl(motorbikeRepository, productChangeListener);
+    }
+
+    @Bean
+    public DeleteMotorbikeResponsePresenter deleteMotorbikeResponsePresenter() {
+        return new DeleteMotorbikeResponsePresenter();
+    }
 
 @Bean
-@RequestScope
-public UpdateAccessoryViewModel updateAccessoryViewModel() {
-    return new UpdateAccessoryViewModel();
+public AddAccessoryInputBoundary addAccessoryUseCase(AccessoryRepository repo,
+        @Qualifier("productChangeListener") ProductChangeListener productChangeListener) {
+    return new AddAccessoryUseCaseControl(repo, productChangeListener);
 }
 
 @Bean
-public UpdateAccessoryOutputBoundary updateAccessoryPresenter(UpdateAccessoryViewModel viewModel) {
-    return new UpdateAccessoryPresenter(viewModel);
+public AddAccessoryResponsePresenter addAccessoryResponsePresenter() {
+    return new AddAccessoryResponsePresenter();
 }
 
 @Bean
-public UpdateAccessoryInputBoundary updateAccessoryUseCase(UpdateAccessoryOutputBoundary presenter, AccessoryRepository repo) {
-    return new UpdateAccessoryUseCaseControl(presenter, repo);
+public UpdateAccessoryInputBoundary updateAccessoryUseCase(AccessoryRepository repo,
+        @Qualifier("productChangeListener") ProductChangeListener productChangeListener) {
+    return new UpdateAccessoryUseCaseControl(repo, productChangeListener);
 }
 
 @Bean
-@RequestScope
-public DeleteAccessoryViewModel deleteAccessoryViewModel() {
-    return new DeleteAccessoryViewModel();
+public UpdateAccessoryResponsePresenter updateAccessoryResponsePresenter() {
+    return new UpdateAccessoryResponsePresenter();
 }
 
 @Bean
-public DeleteAccessoryOutputBoundary deleteAccessoryPresenter(DeleteAccessoryViewModel viewModel) {
-    return new DeleteAccessoryPresenter(viewModel);
+public DeleteAccessoryInputBoundary deleteAccessoryUseCase(AccessoryRepository repo,
+        @Qualifier("productChangeListener") ProductChangeListener productChangeListener) {
+    return new DeleteAccessoryUseCaseControl(repo, productChangeListener);
 }
 
 @Bean
-public DeleteAccessoryInputBoundary deleteAccessoryUseCase(DeleteAccessoryOutputBoundary presenter, AccessoryRepository repo) {
-    return new DeleteAccessoryUseCaseControl(presenter, repo);
+public DeleteAccessoryResponsePresenter deleteAccessoryResponsePresenter() {
+    return new DeleteAccessoryResponsePresenter();
 }
 
 @Bean
+@Profile("!inmemory")
 public AccessoryRepository accessoryRepository(PhuKienXeMayJpaRepository jpa) {
     return new AccessoryRepositoryImpl(jpa);
 }
 
 // GET USER PROFILE USE CASE BEANS
 @Bean
-@RequestScope
-public GetUserProfileViewModel getUserProfileViewModel() {
-    return new GetUserProfileViewModel();
-}
-
-@Bean
-public GetUserProfileOutputBoundary getUserProfileOutputBoundary(@Qualifier("getUserProfileViewModel") GetUserProfileViewModel viewModel) {
-    return viewModel;
+public GetUserProfileResponsePresenter getUserProfileResponsePresenter() {
+    return new GetUserProfileResponsePresenter();
 }
 
 @Bean
-public GetUserProfileInputBoundary getUserProfileUseCase(
-        @Qualifier("getUserProfileOutputBoundary") GetUserProfileOutputBoundary outputBoundary,
-        UserRepository userRepository) {
-    return new GetUserProfileUseCaseControl(outputBoundary, userRepository);
+public GetUserProfileInputBoundary getUserProfileUseCase(UserRepository userRepository) {
+    return new GetUserProfileUseCaseControl(userRepository);
 }
 
 // UPDATE USER PROFILE USE CASE BEANS
 @Bean
-@RequestScope
-public UpdateUserProfileViewModel updateUserProfileViewModel() {
-    return new UpdateUserProfileViewModel();
-}
-
-@Bean
-public UpdateUserProfileOutputBoundary updateUserProfileOutputBoundary(@Qualifier("updateUserProfileViewModel") UpdateUserProfileViewModel viewModel) {
-    return viewModel;
+public UpdateUserProfileResponsePresenter updateUserProfileResponsePresenter() {
+    return new UpdateUserProfileResponsePresenter();
 }
 
 @Bean
-public UpdateUserProfileInputBoundary updateUserProfileUseCase(
-        @Qualifier("updateUserProfileOutputBoundary") UpdateUserProfileOutputBoundary outputBoundary,
-        UserRepository userRepository) {
-    return new UpdateUserProfileUseCaseControl(outputBoundary, userRepository);
+public UpdateUserProfileInputBoundary updateUserProfileUseCase(UserRepository userRepository) {
+    return new UpdateUserProfileUseCaseControl(userRepository);
 }
 
 // CHANGE PASSWORD USE CASE BEANS
 @Bean
-@RequestScope
-public ChangePasswordViewModelImpl changePasswordViewModel() {
-    return new ChangePasswordViewModelImpl();
-}
-
-@Bean
-public ChangePasswordOutputBoundary changePasswordOutputBoundary(@Qualifier("changePasswordViewModel") ChangePasswordViewModelImpl viewModel) {
-    return viewModel;
+public ChangePasswordResponsePresenter changePasswordResponsePresenter() {
+    return new ChangePasswordResponsePresenter();
 }
 
 @Bean
-public ChangePasswordInputBoundary changePasswordUseCase(
-        @Qualifier("changePasswordOutputBoundary") ChangePasswordOutputBoundary outputBoundary,
-        UserRepository userRepository) {
-    return new ChangePasswordUseCaseControl(outputBoundary, userRepository);
+public ChangePasswordInputBoundary changePasswordUseCase(UserRepository userRepository, PasswordHasher passwordHasher) {
+    return new ChangePasswordUseCaseControl(userRepository, passwordHasher);
 }
 
 }
\ No newline at end of file
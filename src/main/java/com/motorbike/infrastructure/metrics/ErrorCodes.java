@@ -0,0 +1,62 @@
+package com.motorbike.infrastructure.metrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Đọc errorCode từ OutputData của use case. Các OutputData không chung kiểu cha:
+ * có lớp dùng getErrorCode(), có lớp để field public errorCode, nên tìm một lần cho mỗi lớp
+ * (ClassValue) rồi dùng lại cách đọc đó.
+ */
+final class ErrorCodes {
+
+    private static final Function<Object, String> NONE = output -> null;
+
+    private static final ClassValue<Function<Object, String>> READERS = new ClassValue<>() {
+        @Override
+        protected Function<Object, String> computeValue(Class<?> type) {
+            return readerFor(type);
+        }
+    };
+
+    private ErrorCodes() {
+    }
+
+    static String of(Object outputData) {
+        return outputData == null ? null : READERS.get(outputData.getClass()).apply(outputData);
+    }
+
+    private static Function<Object, String> readerFor(Class<?> type) {
+        try {
+            Method getter = type.getMethod("getErrorCode");
+            if (getter.getReturnType() == String.class) {
+                return output -> {
+                    try {
+                        return (String) getter.invoke(output);
+                    } catch (ReflectiveOperationException e) {
+                        return null;
+                    }
+                };
+            }
+        } catch (NoSuchMethodException e) {
+            // thử field public bên dưới
+        }
+        try {
+            Field field = type.getField("errorCode");
+            if (field.getType() == String.class && !Modifier.isStatic(field.getModifiers())) {
+                return output -> {
+                    try {
+                        return (String) field.get(output);
+                    } catch (IllegalAccessException e) {
+                        return null;
+                    }
+                };
+            }
+        } catch (NoSuchFieldException e) {
+            // OutputData không có errorCode
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.motorbike.infrastructure.metrics;
+
+import java.time.Duration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Đo thời gian từng phương thức của các port trong business.ports.repository vào timer
+ * "repository.call" (tag repository = lớp cài đặt, method, outcome). Lớp bọc (cache, index)
+ * và adapter JPA phía sau được đo riêng, nên thấy được phần thời gian nằm ở DB.
+ */
+@Aspect
+public class RepositoryMetricsAspect {
+
+    static final String TIMER = "repository.call";
+
+    private final MeterRegistry registry;
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.motorbike.business.ports.repository.*Repository.*(..))")
+    public Object timeCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String outcome = "exception";
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .description("Thời gian gọi repository")
+                    .tag("repository", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.motorbike.infrastructure.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.motorbike.infrastructure.persistence.statements.SqlStatementStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Ngân sách SQL cho mỗi HTTP request: đếm câu lệnh / thời gian JDBC / số lần lặp của cùng một dạng câu
+ * (SqlStatementStats), trả về qua header X-Sql-*, ghi metrics http.server.sql.* theo uri pattern
+ * và log WARN khi vượt maxStatements hoặc maxRepeats. failOnExceed ném lỗi thay vì chỉ log,
+ * dùng trong test để chặn hồi quy số câu truy vấn.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String HEADER_STATEMENTS = "X-Sql-Statements";
+    static final String HEADER_TIME = "X-Sql-Time-Ms";
+    static final String HEADER_MAX_REPEATS = "X-Sql-Max-Repeats";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final MeterRegistry registry;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean failOnExceed;
+
+    public SqlBudgetFilter(MeterRegistry registry, int maxStatements, int maxRepeats, boolean failOnExceed) {
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+            chain.doFilter(request, wrapped);
+            wrapped.writeHeaders();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("Số câu SQL mỗi request")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(registry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.sql.time")
+                .description("Tổng thời gian JDBC mỗi request")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        String reason = stats.getStatementCount() > maxStatements ? "statements"
+                : stats.getMaxRepeats() > maxRepeats ? "repeats"
+                : null;
+        if (reason == null) {
+            return;
+        }
+        Counter.builder("http.server.sql.budget.exceeded")
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+
+        String message = String.format(
+                "SQL budget exceeded: %s %s -> %d statements (max %d), %d ms JDBC, most repeated %dx (max %d): %s",
+                request.getMethod(), request.getRequestURI(), stats.getStatementCount(), maxStatements,
+                stats.getJdbcMillis(), stats.getMaxRepeats(), maxRepeats, stats.getMostRepeatedShape());
+        if (failOnExceed) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * Header phải đặt trước khi response được commit: đặt ngay lúc controller/view bắt đầu ghi body
+     * (lúc đó phần xử lý chính đã chạy xong), hoặc cuối filter nếu request không có body.
+     * Câu lệnh phát sinh khi đang render view vẫn được tính vào metrics và log.
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean headersWritten;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(HEADER_STATEMENTS, Integer.toString(stats.getStatementCount()));
+            setHeader(HEADER_TIME, Long.toString(stats.getJdbcMillis()));
+            setHeader(HEADER_MAX_REPEATS, Integer.toString(stats.getMaxRepeats()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.motorbike.infrastructure.metrics;
+
+import java.time.Duration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.aop.support.AopUtils;
+
+import com.motorbike.business.usecase.output.ResultPresenter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Đo thời gian mọi *UseCaseControl.execute(..) vào timer "usecase.execute"
+ * (tag usecase, outcome = success | error | exception, error_code), có histogram để tính p99.
+ *
+ * errorCode lấy từ OutputData mà use case trả cho presenter: chế độ trả về thì bọc ResultPresenter
+ * được truyền vào, chế độ presenter giữ sẵn thì bắt lời gọi *OutputBoundary.present(..) trên cùng luồng.
+ */
+@Aspect
+public class UseCaseMetricsAspect {
+
+    static final String TIMER = "usecase.execute";
+    private static final String SUFFIX = "UseCaseControl";
+
+    private final MeterRegistry registry;
+    private final ThreadLocal<Object[]> currentOutput = new ThreadLocal<>();
+
+    public UseCaseMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.motorbike.business.usecase.control.*UseCaseControl.execute(..))")
+    public Object timeExecute(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] output = new Object[1];
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof ResultPresenter<?, ?> presenter) {
+                args[i] = capturing(presenter, output);
+            }
+        }
+
+        Object[] outer = currentOutput.get();
+        currentOutput.set(output);
+        String outcome = "exception";
+        String errorCode = null;
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed(args);
+            errorCode = ErrorCodes.of(output[0]);
+            outcome = errorCode == null ? "success" : "error";
+            return result;
+        } catch (Throwable e) {
+            errorCode = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(useCaseName(joinPoint), outcome, errorCode));
+            if (outer == null) {
+                currentOutput.remove();
+            } else {
+                currentOutput.set(outer);
+            }
+        }
+    }
+
+    @Before("execution(* com.motorbike.business.usecase.output.*OutputBoundary.present(..)) && args(outputData)")
+    public void captureOutput(Object outputData) {
+        Object[] output = currentOutput.get();
+        if (output != null) {
+            output[0] = outputData;
+        }
+    }
+
+    private Timer timer(String useCase, String outcome, String errorCode) {
+        return Timer.builder(TIMER)
+                .description("Thời gian chạy use case")
+                .tag("usecase", useCase)
+                .tag("outcome", outcome)
+                .tag("error_code", errorCode == null ? "none" : errorCode)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+
+    private static String useCaseName(ProceedingJoinPoint joinPoint) {
+        // Lớp thật của bean: chữ ký có thể là InputBoundary khi gọi qua interface
+        String name = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        return name.endsWith(SUFFIX) ? name.substring(0, name.length() - SUFFIX.length()) : name;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ResultPresenter<?, ?> capturing(ResultPresenter presenter, Object[] output) {
+        return outputData -> {
+            output[0] = outputData;
+            return presenter.present(outputData);
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.motorbike.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.motorbike.business.ports.event.LastLoginRecorder;
+import com.motorbike.business.ports.repository.UserRepository;
+
+/**
+ * Ghi lần đăng nhập cuối theo kiểu ghi trễ: mỗi lần đăng nhập chỉ đặt vào hàng đợi trong bộ nhớ,
+ * gộp theo tài khoản (giữ mốc mới nhất), rồi định kỳ ghi cả lô bằng userRepository.updateLastLogins.
+ *
+ * Hàng đợi có giới hạn số tài khoản chỉ để chặn bộ nhớ: đầy thì nhờ luồng ghi nền ghi ngay một lô,
+ * luồng đăng nhập không bao giờ tự chạm DB. Trong lúc chờ luồng ghi, đăng nhập của tài khoản mới bị bỏ
+ * (đếm ở droppedCount); lần đăng nhập sau của tài khoản đó sẽ ghi lại.
+ * Lô ghi lỗi được đưa lại hàng đợi nếu còn chỗ để thử ở lần sau. close() ghi nốt phần còn lại.
+ */
+public class WriteBehindLastLoginRecorder implements LastLoginRecorder, AutoCloseable {
+
+    private final UserRepository userRepository;
+    private final int maxPending;
+    private final ScheduledExecutorService scheduler;
+
+    // Chỉ truy cập khi giữ khóa this
+    private Map<Long, LocalDateTime> pending = new HashMap<>();
+
+    // Đã có một lần ghi sớm đang chờ trên luồng ghi
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    public WriteBehindLastLoginRecorder(UserRepository userRepository, int maxPending, long flushIntervalMillis) {
+        this.userRepository = userRepository;
+        this.maxPending = maxPending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "last-login-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordLogin(Long maTaiKhoan, LocalDateTime thoiGian) {
+        recordedCount.incrementAndGet();
+        boolean full;
+        synchronized (this) {
+            if (pending.size() >= maxPending && !pending.containsKey(maTaiKhoan)) {
+                droppedCount.incrementAndGet();
+                full = true;
+            } else {
+                pending.merge(maTaiKhoan, thoiGian, WriteBehindLastLoginRecorder::later);
+                full = pending.size() >= maxPending;
+            }
+        }
+        if (full && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                // Đã close(): phần còn chờ được close() ghi
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    // Ghi toàn bộ phần đang chờ; không ném lỗi ra ngoài (đăng nhập không được hỏng vì bước này)
+    public void flush() {
+        Map<Long, LocalDateTime> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        try {
+            userRepository.updateLastLogins(batch);
+            flushedCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failedFlushCount.incrementAndGet();
+            requeue(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    private synchronized void requeue(Map<Long, LocalDateTime> batch) {
+        for (Map.Entry<Long, LocalDateTime> entry : batch.entrySet()) {
+            if (pending.size() >= maxPending && !pending.containsKey(entry.getKey())) {
+                // Hết chỗ: bỏ mốc cũ, lần đăng nhập sau của tài khoản đó sẽ ghi lại
+                continue;
+            }
+            pending.merge(entry.getKey(), entry.getValue(), WriteBehindLastLoginRecorder::later);
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
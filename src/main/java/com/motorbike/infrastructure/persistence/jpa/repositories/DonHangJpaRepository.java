@@ -1,8 +1,16 @@
 package com.motorbike.infrastructure.persistence.jpa.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +21,24 @@ import com.motorbike.infrastructure.persistence.jpa.entities.DonHangJpaEntity;
 public interface DonHangJpaRepository extends JpaRepository<DonHangJpaEntity, Long> {
     
     
+    @Query("SELECT d FROM DonHangJpaEntity d LEFT JOIN FETCH d.danhSachSanPham WHERE d.maDonHang = :id")
+    Optional<DonHangJpaEntity> findByIdWithItems(@Param("id") Long id);
+    
+    
+    // Chuyển trạng thái nguyên tử: chỉ cập nhật khi đơn còn ở trạng thái cũ; trả về số dòng bị ảnh hưởng
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE don_hang
+            SET trang_thai = :trangThaiMoi,
+                ngay_cap_nhat = :now
+            WHERE ma_don_hang = :id AND trang_thai = :trangThaiCu
+            """, nativeQuery = true)
+    int updateTrangThaiIfCurrent(@Param("id") Long id,
+                                 @Param("trangThaiCu") String trangThaiCu,
+                                 @Param("trangThaiMoi") String trangThaiMoi,
+                                 @Param("now") LocalDateTime now);
+    
+    
     @Query("SELECT d FROM DonHangJpaEntity d WHERE d.maTaiKhoan = :userId ORDER BY d.ngayDat DESC")
     List<DonHangJpaEntity> findByMaTaiKhoan(@Param("userId") Long userId);
     
@@ -49,4 +75,105 @@ public interface DonHangJpaRepository extends JpaRepository<DonHangJpaEntity, Lo
             ORDER BY d.ngayDat DESC
             """)
     List<DonHangJpaEntity> searchAdminOrders(@Param("keyword") String keyword);
+
+
+    // Cùng điều kiện như searchAdminOrders nhưng chỉ đọc mã đơn, mới nhất trước, để phân trang được (TOP n);
+    // tên sản phẩm kiểm tra bằng EXISTS thay vì fetch join
+    @Query("""
+            SELECT d.maDonHang
+            FROM DonHangJpaEntity d
+            WHERE LOWER(CONCAT(d.maDonHang, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(CONCAT(d.maTaiKhoan, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(d.tenNguoiNhan) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(d.soDienThoai) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(d.diaChiGiaoHang) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(d.trangThai) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR EXISTS (SELECT 1 FROM ChiTietDonHangJpaEntity p
+                          WHERE p.donHang = d AND LOWER(p.tenSanPham) LIKE LOWER(CONCAT('%', :keyword, '%')))
+            ORDER BY d.ngayDat DESC, d.maDonHang DESC
+            """)
+    List<Long> searchAdminOrderIds(@Param("keyword") String keyword, Pageable pageable);
+
+
+    // Keyset: chỉ đọc khóa theo thứ tự chỉ mục ngay_dat, sau đó nạp chi tiết bằng findAllWithItemsByIds
+    @Query("""
+            SELECT d.maDonHang
+            FROM DonHangJpaEntity d
+            WHERE (:trangThai IS NULL OR d.trangThai = :trangThai)
+            ORDER BY d.ngayDat DESC, d.maDonHang DESC
+            """)
+    List<Long> findAdminPageIds(@Param("trangThai") String trangThai, Pageable pageable);
+
+
+    @Query("""
+            SELECT d.maDonHang
+            FROM DonHangJpaEntity d
+            WHERE (:trangThai IS NULL OR d.trangThai = :trangThai)
+              AND (d.ngayDat < :ngayDat OR (d.ngayDat = :ngayDat AND d.maDonHang < :maDonHang))
+            ORDER BY d.ngayDat DESC, d.maDonHang DESC
+            """)
+    List<Long> findAdminPageIdsAfter(
+            @Param("trangThai") String trangThai,
+            @Param("ngayDat") LocalDateTime ngayDat,
+            @Param("maDonHang") Long maDonHang,
+            Pageable pageable);
+
+
+    @Query("""
+            SELECT DISTINCT d
+            FROM DonHangJpaEntity d
+            LEFT JOIN FETCH d.danhSachSanPham
+            WHERE d.maDonHang IN :ids
+            """)
+    List<DonHangJpaEntity> findAllWithItemsByIds(@Param("ids") Collection<Long> ids);
+
+
+    // Số dòng và tổng số lượng theo đơn, tính trong DB (không nạp ChiTietDonHang)
+    interface LineTotals {
+        Long getMaDonHang();
+        Long getSoSanPham();
+        Long getTongSoLuong();
+    }
+
+
+    @Query("""
+            SELECT c.donHang.maDonHang AS maDonHang,
+                   COUNT(c) AS soSanPham,
+                   COALESCE(SUM(c.soLuong), 0) AS tongSoLuong
+            FROM ChiTietDonHangJpaEntity c
+            WHERE c.donHang.maTaiKhoan = :userId
+            GROUP BY c.donHang.maDonHang
+            """)
+    List<LineTotals> sumLineTotalsByUserId(@Param("userId") Long userId);
+
+
+    @Query("""
+            SELECT c.donHang.maDonHang AS maDonHang,
+                   COUNT(c) AS soSanPham,
+                   COALESCE(SUM(c.soLuong), 0) AS tongSoLuong
+            FROM ChiTietDonHangJpaEntity c
+            WHERE c.donHang.maDonHang IN :ids
+            GROUP BY c.donHang.maDonHang
+            """)
+    List<LineTotals> sumLineTotalsByOrderIds(@Param("ids") Collection<Long> ids);
+
+
+    // Số đơn và tổng tiền theo (trạng thái, ngày đặt) cho dashboard admin
+    interface DailyTotals {
+        String getTrangThai();
+        LocalDate getNgayDat();
+        BigDecimal getTongTien();
+        Long getSoDon();
+    }
+
+
+    @Query("""
+            SELECT d.trangThai AS trangThai,
+                   CAST(d.ngayDat AS LocalDate) AS ngayDat,
+                   SUM(d.tongTien) AS tongTien,
+                   COUNT(d) AS soDon
+            FROM DonHangJpaEntity d
+            GROUP BY d.trangThai, CAST(d.ngayDat AS LocalDate)
+            """)
+    List<DailyTotals> sumDailyTotalsByTrangThai();
 }
@@ -1,11 +1,15 @@
 package com.motorbike.infrastructure.persistence.jpa.repositories;
 
 import com.motorbike.infrastructure.persistence.jpa.entities.GioHangJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +28,68 @@ public interface GioHangJpaRepository extends JpaRepository<GioHangJpaEntity, Lo
     
     @Query("SELECT g FROM GioHangJpaEntity g LEFT JOIN FETCH g.danhSachSanPham WHERE g.maTaiKhoan = :maTaiKhoan")
     Optional<GioHangJpaEntity> findByUserIdWithItems(@Param("maTaiKhoan") Long maTaiKhoan);
+    
+    
+    // SELECT ... FOR UPDATE (SQL Server: WITH (UPDLOCK, HOLDLOCK, ROWLOCK)) chỉ trên dòng gio_hang;
+    // các dòng chi tiết nạp sau bằng findByIdWithItems trong cùng giao dịch
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GioHangJpaEntity g WHERE g.maTaiKhoan = :maTaiKhoan")
+    Optional<GioHangJpaEntity> lockByMaTaiKhoan(@Param("maTaiKhoan") Long maTaiKhoan);
+    
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GioHangJpaEntity g WHERE g.maGioHang = :maGioHang")
+    Optional<GioHangJpaEntity> lockById(@Param("maGioHang") Long maGioHang);
+    
+    
+    @Query("SELECT g.maGioHang FROM GioHangJpaEntity g WHERE g.maTaiKhoan = :maTaiKhoan")
+    Optional<Long> findIdByMaTaiKhoan(@Param("maTaiKhoan") Long maTaiKhoan);
+    
+    
+    // Gộp các dòng của giỏ nguồn vào giỏ đích trong một câu lệnh:
+    // trùng sản phẩm thì cộng số lượng (giữ giá của giỏ đích), chưa có thì chép sang.
+    // Trả về số dòng của giỏ đích được cập nhật hoặc thêm mới
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            MERGE INTO chi_tiet_gio_hang AS dich
+            USING (
+                SELECT ma_san_pham,
+                       MAX(ten_san_pham) AS ten_san_pham,
+                       MAX(gia_san_pham) AS gia_san_pham,
+                       SUM(so_luong) AS so_luong
+                FROM chi_tiet_gio_hang
+                WHERE ma_gio_hang = :nguon
+                GROUP BY ma_san_pham
+            ) AS nguon
+            ON dich.ma_gio_hang = :dich AND dich.ma_san_pham = nguon.ma_san_pham
+            WHEN MATCHED THEN
+                UPDATE SET so_luong = dich.so_luong + nguon.so_luong,
+                           tam_tinh = dich.gia_san_pham * (dich.so_luong + nguon.so_luong)
+            WHEN NOT MATCHED THEN
+                INSERT (ma_gio_hang, ma_san_pham, ten_san_pham, gia_san_pham, so_luong, tam_tinh)
+                VALUES (:dich, nguon.ma_san_pham, nguon.ten_san_pham, nguon.gia_san_pham,
+                        nguon.so_luong, nguon.gia_san_pham * nguon.so_luong);
+            """, nativeQuery = true)
+    int mergeItems(@Param("nguon") Long nguon, @Param("dich") Long dich);
+    
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE gio_hang
+            SET tong_tien = COALESCE((SELECT SUM(tam_tinh) FROM chi_tiet_gio_hang WHERE ma_gio_hang = :maGioHang), 0),
+                ngay_cap_nhat = :now
+            WHERE ma_gio_hang = :maGioHang
+            """, nativeQuery = true)
+    int recomputeTongTien(@Param("maGioHang") Long maGioHang, @Param("now") LocalDateTime now);
+    
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM chi_tiet_gio_hang WHERE ma_gio_hang = :maGioHang", nativeQuery = true)
+    int deleteItemsByMaGioHang(@Param("maGioHang") Long maGioHang);
+    
+    
+    // Xóa thẳng trong DB: bỏ các entity giỏ đã nạp trong phiên để không còn bản cũ
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM gio_hang WHERE ma_gio_hang = :maGioHang", nativeQuery = true)
+    int deleteCartRow(@Param("maGioHang") Long maGioHang);
 }
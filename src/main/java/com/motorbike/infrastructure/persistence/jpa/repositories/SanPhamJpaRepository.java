@@ -2,10 +2,12 @@ package com.motorbike.infrastructure.persistence.jpa.repositories;
 
 import com.motorbike.infrastructure.persistence.jpa.entities.SanPhamJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -26,4 +28,46 @@ public interface SanPhamJpaRepository extends JpaRepository<SanPhamJpaEntity, Lo
     
     @Query("SELECT p FROM SanPhamJpaEntity p WHERE p.soLuongTonKho <= :threshold AND p.conHang = true")
     List<SanPhamJpaEntity> findLowStockProducts(@Param("threshold") int threshold);
+    
+    
+    // Số sản phẩm và số sản phẩm có tồn kho <= threshold theo từng loại (dashboard admin)
+    interface StockCounts {
+        String getLoaiSanPham();
+        Long getSoSanPham();
+        Long getSapHetHang();
+    }
+    
+    
+    @Query("""
+            SELECT p.loaiSanPham AS loaiSanPham,
+                   COUNT(p) AS soSanPham,
+                   COALESCE(SUM(CASE WHEN p.soLuongTonKho <= :threshold THEN 1 ELSE 0 END), 0) AS sapHetHang
+            FROM SanPhamJpaEntity p
+            GROUP BY p.loaiSanPham
+            """)
+    List<StockCounts> countStockByLoaiSanPham(@Param("threshold") int threshold);
+    
+    
+    // Trừ kho nguyên tử: chỉ cập nhật khi còn đủ hàng; trả về số dòng bị ảnh hưởng (0 = không đủ).
+    // con_hang chỉ tắt khi về 0 như SanPham.giamTonKho, sản phẩm đã ngừng kinh doanh giữ nguyên con_hang = 0
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE san_pham
+            SET so_luong_ton_kho = so_luong_ton_kho - :qty,
+                con_hang = CASE WHEN so_luong_ton_kho - :qty = 0 THEN 0 ELSE con_hang END,
+                ngay_cap_nhat = :now
+            WHERE ma_san_pham = :id AND so_luong_ton_kho >= :qty
+            """, nativeQuery = true)
+    int decrementStockIfAvailable(@Param("id") Long id, @Param("qty") int qty, @Param("now") LocalDateTime now);
+    
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE san_pham
+            SET so_luong_ton_kho = so_luong_ton_kho + :qty,
+                con_hang = 1,
+                ngay_cap_nhat = :now
+            WHERE ma_san_pham = :id
+            """, nativeQuery = true)
+    int incrementStock(@Param("id") Long id, @Param("qty") int qty, @Param("now") LocalDateTime now);
 }
@@ -2,8 +2,10 @@ package com.motorbike.infrastructure.persistence.jpa.repositories;
 
 import com.motorbike.infrastructure.persistence.jpa.entities.TaiKhoanJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +22,22 @@ public interface TaiKhoanJpaRepository extends JpaRepository<TaiKhoanJpaEntity,
     
     
     boolean existsByTenDangNhap(String tenDangNhap);
+    
+    
+    // Số tài khoản theo (vai trò, hoạt động) cho dashboard admin
+    interface RoleCounts {
+        TaiKhoanJpaEntity.VaiTroEnum getVaiTro();
+        Boolean getHoatDong();
+        Long getSoTaiKhoan();
+    }
+    
+    
+    @Query("""
+            SELECT t.vaiTro AS vaiTro,
+                   t.hoatDong AS hoatDong,
+                   COUNT(t) AS soTaiKhoan
+            FROM TaiKhoanJpaEntity t
+            GROUP BY t.vaiTro, t.hoatDong
+            """)
+    List<RoleCounts> countByVaiTroAndHoatDong();
 }
@@ -2,6 +2,7 @@ package com.motorbike.infrastructure.persistence.jpa.repositories;
 
 import com.motorbike.infrastructure.persistence.jpa.entities.XeMayJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface XeMayJpaRepository extends JpaRepository<XeMayJpaEntity, Long> {
+public interface XeMayJpaRepository extends JpaRepository<XeMayJpaEntity, Long>, JpaSpecificationExecutor<XeMayJpaEntity> {
     
     
     List<XeMayJpaEntity> findByHangXe(String hangXe);
@@ -23,4 +24,37 @@ public interface XeMayJpaRepository extends JpaRepository<XeMayJpaEntity, Long>
     
     @Query("SELECT x FROM XeMayJpaEntity x WHERE x.dungTich BETWEEN :min AND :max")
     List<XeMayJpaEntity> findByDungTichRange(@Param("min") int minDungTich, @Param("max") int maxDungTich);
+
+
+    // Một dòng cho mỗi tổ hợp (hãng, dòng, màu, năm, dung tích) kèm số xe
+    interface FacetRow {
+        String getHangXe();
+        String getDongXe();
+        String getMauSac();
+        Integer getNamSanXuat();
+        Integer getDungTich();
+        Long getSoLuong();
+    }
+
+
+    // Tham số null = không lọc theo trường đó; keyword đã hạ chữ thường và escape cho LIKE
+    @Query("""
+            SELECT x.hangXe AS hangXe, x.dongXe AS dongXe, x.mauSac AS mauSac,
+                   x.namSanXuat AS namSanXuat, x.dungTich AS dungTich,
+                   COUNT(x) AS soLuong
+            FROM XeMayJpaEntity x
+            WHERE (:keyword IS NULL OR LOWER(x.tenSanPham) LIKE :keyword ESCAPE '\\')
+              AND (:brand IS NULL OR LOWER(x.hangXe) = :brand)
+              AND (:model IS NULL OR LOWER(x.dongXe) = :model)
+              AND (:color IS NULL OR LOWER(x.mauSac) = :color)
+              AND (:minCC IS NULL OR x.dungTich >= :minCC)
+              AND (:maxCC IS NULL OR x.dungTich <= :maxCC)
+            GROUP BY x.hangXe, x.dongXe, x.mauSac, x.namSanXuat, x.dungTich
+            """)
+    List<FacetRow> countFacets(@Param("keyword") String keyword,
+                               @Param("brand") String brand,
+                               @Param("model") String model,
+                               @Param("color") String color,
+                               @Param("minCC") Integer minCC,
+                               @Param("maxCC") Integer maxCC);
 }
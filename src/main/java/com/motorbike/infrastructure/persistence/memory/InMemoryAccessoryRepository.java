@@ -0,0 +1,47 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.motorbike.business.ports.repository.AccessoryRepository;
+import com.motorbike.domain.entities.PhuKienXeMay;
+
+/**
+ * AccessoryRepository trong bộ nhớ: các bản ghi PhuKienXeMay của InMemoryProductRepository.
+ */
+public class InMemoryAccessoryRepository implements AccessoryRepository {
+
+    private final InMemoryProductRepository products;
+
+    public InMemoryAccessoryRepository(InMemoryProductRepository products) {
+        this.products = products;
+    }
+
+    @Override
+    public PhuKienXeMay save(PhuKienXeMay accessory) {
+        return (PhuKienXeMay) products.save(accessory);
+    }
+
+    @Override
+    public Optional<PhuKienXeMay> findById(Long id) {
+        return products.findById(id).filter(PhuKienXeMay.class::isInstance).map(PhuKienXeMay.class::cast);
+    }
+
+    @Override
+    public List<PhuKienXeMay> findAllAccessories() {
+        return products.storedValues().stream()
+                .filter(PhuKienXeMay.class::isInstance)
+                .map(p -> Snapshots.copy((PhuKienXeMay) p))
+                .sorted(Comparator.comparing(PhuKienXeMay::getMaSanPham))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (findById(id).isPresent()) {
+            products.deleteById(id);
+        }
+    }
+}
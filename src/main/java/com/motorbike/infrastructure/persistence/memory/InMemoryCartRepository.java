@@ -0,0 +1,164 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.motorbike.business.ports.repository.CartRepository;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.GioHang;
+
+/**
+ * CartRepository trong bộ nhớ (profile inmemory), có chỉ mục phụ mã tài khoản -> mã giỏ
+ * (mỗi tài khoản một giỏ, giỏ khách có maTaiKhoan null).
+ *
+ * save trên giỏ đã có chỉ áp các dòng đã thêm / sửa / xóa lên bản đang lưu - cùng cách
+ * CartRepositoryAdapter ghi từng dòng - nên hai request sửa hai dòng khác nhau của cùng giỏ
+ * không ghi đè nhau. Mỗi giỏ được cập nhật nguyên tử bằng compute, không có khóa chung.
+ */
+public class InMemoryCartRepository implements CartRepository {
+
+    private final ConcurrentHashMap<Long, GioHang> carts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> idByUser = new ConcurrentHashMap<>();
+    private final AtomicLong cartSequence = new AtomicLong();
+    private final AtomicLong lineSequence = new AtomicLong();
+
+    @Override
+    public Optional<GioHang> findByUserId(Long userId) {
+        return findIdByUserId(userId).flatMap(this::findById);
+    }
+
+    @Override
+    public Optional<Long> findIdByUserId(Long userId) {
+        return userId == null ? Optional.empty() : Optional.ofNullable(idByUser.get(userId));
+    }
+
+    @Override
+    public Optional<GioHang> findById(Long cartId) {
+        GioHang cart = cartId == null ? null : carts.get(cartId);
+        return cart == null ? Optional.empty() : Optional.of(Snapshots.copy(cart));
+    }
+
+    @Override
+    public GioHang save(GioHang gioHang) {
+        Long cartId = gioHang.getMaGioHang();
+        GioHang saved = cartId == null ? null : carts.computeIfPresent(cartId, (id, current) -> applyChanges(current, gioHang));
+        if (saved == null) {
+            saved = insert(gioHang);
+        }
+        return Snapshots.copy(saved);
+    }
+
+    @Override
+    public void delete(Long cartId) {
+        GioHang removed = carts.remove(cartId);
+        if (removed != null && removed.getMaTaiKhoan() != null) {
+            idByUser.remove(removed.getMaTaiKhoan(), cartId);
+        }
+    }
+
+    // Cộng số lượng nếu giỏ người dùng đã có sản phẩm (như câu MERGE của adapter JPA), rồi xóa giỏ khách
+    @Override
+    public int mergeGuestCartToUserCart(Long guestCartId, Long userCartId) {
+        if (guestCartId.equals(userCartId)) {
+            return 0;
+        }
+        GioHang guest = carts.remove(guestCartId);
+        if (guest == null) {
+            return -1;
+        }
+        if (guest.getMaTaiKhoan() != null) {
+            idByUser.remove(guest.getMaTaiKhoan(), guestCartId);
+        }
+        carts.computeIfPresent(userCartId, (id, current) -> {
+            Map<Long, ChiTietGioHang> lines = linesByProduct(current);
+            for (ChiTietGioHang line : guest.getDanhSachSanPham()) {
+                ChiTietGioHang existing = lines.get(line.getMaSanPham());
+                if (existing == null) {
+                    lines.put(line.getMaSanPham(), newLine(id, line));
+                } else {
+                    int soLuong = existing.getSoLuong() + line.getSoLuong();
+                    lines.put(line.getMaSanPham(), new ChiTietGioHang(existing.getMaChiTiet(), id,
+                            existing.getMaSanPham(), existing.getTenSanPham(), existing.getGiaSanPham(),
+                            soLuong, existing.getGiaSanPham().multiply(BigDecimal.valueOf(soLuong))));
+                }
+            }
+            return rebuild(current, lines);
+        });
+        return guest.getDanhSachSanPham().size();
+    }
+
+    public int size() {
+        return carts.size();
+    }
+
+    private GioHang insert(GioHang gioHang) {
+        Long cartId = gioHang.getMaGioHang() != null ? gioHang.getMaGioHang() : cartSequence.incrementAndGet();
+        cartSequence.accumulateAndGet(cartId, Math::max);
+        Map<Long, ChiTietGioHang> lines = new LinkedHashMap<>();
+        for (ChiTietGioHang line : gioHang.getDanhSachSanPham()) {
+            lines.put(line.getMaSanPham(), newLine(cartId, line));
+        }
+        GioHang stored = new GioHang(cartId, gioHang.getMaTaiKhoan(), new ArrayList<>(lines.values()), null,
+                gioHang.getNgayTao(), gioHang.getNgayCapNhat());
+        Long userId = gioHang.getMaTaiKhoan();
+        if (userId != null) {
+            Long existing = idByUser.putIfAbsent(userId, cartId);
+            if (existing != null && !existing.equals(cartId)) {
+                throw new DataIntegrityViolationException("User " + userId + " already has cart " + existing);
+            }
+        }
+        carts.put(cartId, stored);
+        return stored;
+    }
+
+    private GioHang applyChanges(GioHang current, GioHang changed) {
+        Map<Long, ChiTietGioHang> lines = linesByProduct(current);
+        for (Long maSanPham : changed.getDongDaXoa()) {
+            lines.remove(maSanPham);
+        }
+        Set<Long> touched = new LinkedHashSet<>(changed.getDongDaSua());
+        touched.addAll(changed.getDongDaThem());
+        for (Long maSanPham : touched) {
+            changed.timSanPhamTheoMa(maSanPham).ifPresent(line -> {
+                ChiTietGioHang existing = lines.get(maSanPham);
+                lines.put(maSanPham, existing == null
+                        ? newLine(current.getMaGioHang(), line)
+                        : new ChiTietGioHang(existing.getMaChiTiet(), current.getMaGioHang(), maSanPham,
+                                line.getTenSanPham(), line.getGiaSanPham(), line.getSoLuong(), line.tinhTamTinh()));
+            });
+        }
+        if (changed.getMaTaiKhoan() != null && !changed.getMaTaiKhoan().equals(current.getMaTaiKhoan())) {
+            idByUser.put(changed.getMaTaiKhoan(), current.getMaGioHang());
+        }
+        return new GioHang(current.getMaGioHang(), changed.getMaTaiKhoan(), new ArrayList<>(lines.values()), null,
+                current.getNgayTao(), LocalDateTime.now());
+    }
+
+    private GioHang rebuild(GioHang current, Map<Long, ChiTietGioHang> lines) {
+        return new GioHang(current.getMaGioHang(), current.getMaTaiKhoan(), new ArrayList<>(lines.values()), null,
+                current.getNgayTao(), LocalDateTime.now());
+    }
+
+    private Map<Long, ChiTietGioHang> linesByProduct(GioHang cart) {
+        Map<Long, ChiTietGioHang> lines = new LinkedHashMap<>();
+        for (ChiTietGioHang line : cart.getDanhSachSanPham()) {
+            lines.put(line.getMaSanPham(), line);
+        }
+        return lines;
+    }
+
+    private ChiTietGioHang newLine(Long cartId, ChiTietGioHang line) {
+        return new ChiTietGioHang(lineSequence.incrementAndGet(), cartId, line.getMaSanPham(),
+                line.getTenSanPham(), line.getGiaSanPham(), line.getSoLuong(), line.tinhTamTinh());
+    }
+}
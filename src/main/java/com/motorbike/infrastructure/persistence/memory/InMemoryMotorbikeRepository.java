@@ -0,0 +1,48 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * MotorbikeRepository trong bộ nhớ: các bản ghi XeMay của InMemoryProductRepository.
+ * search/facets dùng bản mặc định của port (lọc và đếm trên findAllMotorbikes).
+ */
+public class InMemoryMotorbikeRepository implements MotorbikeRepository {
+
+    private final InMemoryProductRepository products;
+
+    public InMemoryMotorbikeRepository(InMemoryProductRepository products) {
+        this.products = products;
+    }
+
+    @Override
+    public List<XeMay> findAllMotorbikes() {
+        return products.storedValues().stream()
+                .filter(XeMay.class::isInstance)
+                .map(p -> Snapshots.copy((XeMay) p))
+                .sorted(Comparator.comparing(XeMay::getMaSanPham))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<XeMay> findById(Long id) {
+        return products.findById(id).filter(XeMay.class::isInstance).map(XeMay.class::cast);
+    }
+
+    @Override
+    public XeMay save(XeMay xeMay) {
+        return (XeMay) products.save(xeMay);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (findById(id).isPresent()) {
+            products.deleteById(id);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.OrderCursor;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+/**
+ * OrderRepository trong bộ nhớ (profile inmemory) với các chỉ mục phụ:
+ * mã tài khoản -> mã đơn, trạng thái -> mã đơn và (ngayDat, maDonHang) giảm dần cho phân trang keyset
+ * (tương ứng idx_don_hang_ngay_dat). Chỉ mục được cập nhật trong compute của chính đơn đó,
+ * nên lưu hai đơn khác nhau không chặn nhau.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private static final Comparator<OrderCursor> NEWEST_FIRST = Comparator
+            .comparing(OrderCursor::getNgayDat, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderCursor::getMaDonHang, Comparator.reverseOrder());
+
+    private final ConcurrentHashMap<Long, DonHang> orders = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> idsByUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TrangThaiDonHang, Set<Long>> idsByStatus = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<OrderCursor, Long> newest = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final AtomicLong lineSequence = new AtomicLong();
+
+    @Override
+    public DonHang save(DonHang donHang) {
+        Long orderId = donHang.getMaDonHang() != null ? donHang.getMaDonHang() : orderSequence.incrementAndGet();
+        orderSequence.accumulateAndGet(orderId, Math::max);
+        DonHang saved = orders.compute(orderId, (id, previous) -> {
+            DonHang stored = toStored(id, donHang);
+            reindex(previous, stored);
+            return stored;
+        });
+        return Snapshots.copy(saved);
+    }
+
+    @Override
+    public Optional<DonHang> findById(Long orderId) {
+        DonHang order = orderId == null ? null : orders.get(orderId);
+        return order == null ? Optional.empty() : Optional.of(Snapshots.copy(order));
+    }
+
+    @Override
+    public List<DonHang> findAllByIds(Collection<Long> orderIds) {
+        return orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DonHang> findByUserId(Long userId) {
+        return userId == null ? List.of() : newestFirst(idsByUser.getOrDefault(userId, Set.of()));
+    }
+
+    @Override
+    public List<DonHang> findByStatus(TrangThaiDonHang trangThai) {
+        return trangThai == null ? List.of() : newestFirst(idsByStatus.getOrDefault(trangThai, Set.of()));
+    }
+
+    @Override
+    public List<DonHang> findByUserIdAndStatus(Long userId, TrangThaiDonHang trangThai) {
+        return findByUserId(userId).stream()
+                .filter(d -> d.getTrangThai() == trangThai)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DonHang> findAll() {
+        return orders.values().stream()
+                .sorted(Comparator.comparing(DonHang::getMaDonHang))
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    // Cùng các cột với truy vấn searchAdminOrders của adapter JPA (LIKE không phân biệt hoa thường)
+    @Override
+    public List<DonHang> searchForAdmin(String keyword) {
+        String normalized = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return orders.values().stream()
+                .filter(d -> matches(d, normalized))
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    // Đi theo chỉ mục (ngayDat, maDonHang) từ sau con trỏ, dừng khi đủ limit + 1 đơn
+    @Override
+    public CursorPage<DonHang> findPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        Collection<Long> ids = after == null ? newest.values() : newest.tailMap(after, false).values();
+        List<DonHang> fetched = new ArrayList<>(limit + 1);
+        for (Long id : ids) {
+            DonHang order = orders.get(id);
+            if (order != null && (trangThai == null || order.getTrangThai() == trangThai)) {
+                fetched.add(Snapshots.copy(order));
+                if (fetched.size() > limit) {
+                    break;
+                }
+            }
+        }
+        return CursorPage.of(fetched, limit, OrderCursor::encode);
+    }
+
+    // Kiểm tra và đổi trạng thái trong compute của chính đơn đó (như UPDATE ... WHERE trang_thai = ?)
+    @Override
+    public boolean cancelIfPending(Long orderId) {
+        if (orderId == null) {
+            return false;
+        }
+        boolean[] cancelled = new boolean[1];
+        orders.computeIfPresent(orderId, (id, previous) -> {
+            if (previous.getTrangThai() != TrangThaiDonHang.CHO_XAC_NHAN) {
+                return previous;
+            }
+            DonHang stored = Snapshots.copy(previous);
+            stored.huyDonHang();
+            reindex(previous, stored);
+            cancelled[0] = true;
+            return stored;
+        });
+        return cancelled[0];
+    }
+
+    @Override
+    public void deleteById(Long orderId) {
+        orders.computeIfPresent(orderId, (id, previous) -> {
+            reindex(previous, null);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(Long orderId) {
+        return orderId != null && orders.containsKey(orderId);
+    }
+
+    public int size() {
+        return orders.size();
+    }
+
+    private DonHang toStored(Long orderId, DonHang donHang) {
+        List<ChiTietDonHang> lines = new ArrayList<>();
+        for (ChiTietDonHang line : donHang.getDanhSachSanPham()) {
+            Long lineId = line.getMaChiTiet() != null ? line.getMaChiTiet() : lineSequence.incrementAndGet();
+            lines.add(new ChiTietDonHang(lineId, orderId, line.getMaSanPham(), line.getTenSanPham(),
+                    line.getGiaBan(), line.getSoLuong(), line.getThanhTien()));
+        }
+        return new DonHang(orderId, donHang.getMaTaiKhoan(), lines, donHang.getTongTien(), donHang.getTrangThai(),
+                donHang.getTenNguoiNhan(), donHang.getSoDienThoai(), donHang.getDiaChiGiaoHang(), donHang.getGhiChu(),
+                donHang.getNgayDat(), donHang.getNgayCapNhat());
+    }
+
+    // Chỉ đụng tới các chỉ mục có khóa thay đổi (thường chỉ trạng thái), để người đọc song song
+    // không thấy đơn tạm biến mất khỏi chỉ mục; current == null nghĩa là xóa
+    private void reindex(DonHang previous, DonHang current) {
+        Long id = previous != null ? previous.getMaDonHang() : current.getMaDonHang();
+        moveKey(idsByUser, previous == null ? null : previous.getMaTaiKhoan(),
+                current == null ? null : current.getMaTaiKhoan(), id);
+        moveKey(idsByStatus, previous == null ? null : previous.getTrangThai(),
+                current == null ? null : current.getTrangThai(), id);
+        OrderCursor oldKey = previous == null ? null : OrderCursor.of(previous);
+        OrderCursor newKey = current == null ? null : OrderCursor.of(current);
+        if (newKey != null) {
+            newest.put(newKey, id);
+        }
+        if (oldKey != null && (newKey == null || NEWEST_FIRST.compare(oldKey, newKey) != 0)) {
+            newest.remove(oldKey);
+        }
+    }
+
+    private static <K> void moveKey(ConcurrentHashMap<K, Set<Long>> index, K oldKey, K newKey, Long id) {
+        if (Objects.equals(oldKey, newKey)) {
+            return;
+        }
+        if (newKey != null) {
+            index.computeIfAbsent(newKey, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        Set<Long> ids = oldKey == null ? null : index.get(oldKey);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+
+    private List<DonHang> newestFirst(Set<Long> ids) {
+        return ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    private static boolean matches(DonHang d, String keyword) {
+        if (contains(String.valueOf(d.getMaDonHang()), keyword)
+                || contains(String.valueOf(d.getMaTaiKhoan()), keyword)
+                || contains(d.getTenNguoiNhan(), keyword)
+                || contains(d.getSoDienThoai(), keyword)
+                || contains(d.getDiaChiGiaoHang(), keyword)
+                || (d.getTrangThai() != null && contains(d.getTrangThai().name(), keyword))) {
+            return true;
+        }
+        return d.getDanhSachSanPham().stream().anyMatch(line -> contains(line.getTenSanPham(), keyword));
+    }
+
+    private static boolean contains(String value, String keyword) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+}
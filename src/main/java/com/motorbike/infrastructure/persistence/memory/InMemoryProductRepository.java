@@ -0,0 +1,146 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.exceptions.ValidationException;
+
+/**
+ * ProductRepository trong bộ nhớ (profile inmemory) - một bảng sản phẩm dùng chung cho
+ * InMemoryMotorbikeRepository và InMemoryAccessoryRepository, giống bảng san_pham.
+ *
+ * Mỗi giá trị trong map là bản sao không bị sửa tại chỗ: trừ / cộng tồn kho thay cả bản ghi
+ * bằng compute nên an toàn khi nhiều luồng checkout cùng lúc mà không cần khóa chung.
+ */
+public class InMemoryProductRepository implements ProductRepository {
+
+    private final ConcurrentHashMap<Long, SanPham> products = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Optional<SanPham> findById(Long productId) {
+        SanPham product = productId == null ? null : products.get(productId);
+        return product == null ? Optional.empty() : Optional.of(Snapshots.copy(product));
+    }
+
+    @Override
+    public SanPham save(SanPham sanPham) {
+        SanPham stored = Snapshots.copy(sanPham);
+        if (stored.getMaSanPham() == null) {
+            stored.setMaSanPham(sequence.incrementAndGet());
+        } else {
+            sequence.accumulateAndGet(stored.getMaSanPham(), Math::max);
+        }
+        products.put(stored.getMaSanPham(), stored);
+        return Snapshots.copy(stored);
+    }
+
+    @Override
+    public boolean existsById(Long productId) {
+        return productId != null && products.containsKey(productId);
+    }
+
+    @Override
+    public List<SanPham> findAll() {
+        return products.values().stream()
+                .sorted((a, b) -> a.getMaSanPham().compareTo(b.getMaSanPham()))
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, SanPham> findAllByIds(Collection<Long> productIds) {
+        Map<Long, SanPham> result = new HashMap<>();
+        for (Long id : productIds) {
+            SanPham product = id == null ? null : products.get(id);
+            if (product != null) {
+                result.put(id, Snapshots.copy(product));
+            }
+        }
+        return result;
+    }
+
+    // Từng dòng được trừ nguyên tử bằng compute (như UPDATE ... WHERE so_luong_ton_kho >= ?);
+    // có dòng thiếu hàng thì cộng trả các dòng đã trừ, thay cho rollback giao dịch
+    @Override
+    public List<Long> decrementStockIfAvailable(Map<Long, Integer> quantities) {
+        Map<Long, Integer> applied = new LinkedHashMap<>();
+        List<Long> failed = new ArrayList<>();
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            int qty = requirePositive(line.getValue());
+            boolean[] ok = new boolean[1];
+            products.computeIfPresent(line.getKey(), (id, current) -> {
+                if (current.getSoLuongTonKho() < qty) {
+                    return current;
+                }
+                SanPham updated = Snapshots.copy(current);
+                updated.giamTonKho(qty);
+                ok[0] = true;
+                return updated;
+            });
+            if (ok[0]) {
+                applied.put(line.getKey(), qty);
+            } else {
+                failed.add(line.getKey());
+            }
+        }
+        if (!failed.isEmpty()) {
+            applied.forEach(this::addStock);
+        }
+        return failed;
+    }
+
+    @Override
+    public List<Long> incrementStock(Map<Long, Integer> quantities) {
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : quantities.keySet()) {
+            requirePositive(quantities.get(productId));
+            if (!products.containsKey(productId)) {
+                missing.add(productId);
+            }
+        }
+        if (missing.isEmpty()) {
+            quantities.forEach(this::addStock);
+        }
+        return missing;
+    }
+
+    // Dùng cho xóa xe máy / phụ kiện
+    void deleteById(Long productId) {
+        products.remove(productId);
+    }
+
+    // Duyệt trực tiếp các bản ghi đã lưu (không sao chép); người gọi chỉ được đọc
+    Collection<SanPham> storedValues() {
+        return products.values();
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    private void addStock(Long productId, int qty) {
+        products.computeIfPresent(productId, (id, current) -> {
+            SanPham updated = Snapshots.copy(current);
+            updated.tangTonKho(qty);
+            return updated;
+        });
+    }
+
+    private static int requirePositive(Integer qty) {
+        if (qty == null || qty <= 0) {
+            throw ValidationException.invalidQuantity();
+        }
+        return qty;
+    }
+}
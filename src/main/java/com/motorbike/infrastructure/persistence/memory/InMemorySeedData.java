@@ -0,0 +1,107 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Dữ liệu mẫu cho profile inmemory: danh mục xe / phụ kiện, một tài khoản admin,
+ * các tài khoản khách và đơn hàng rải trong 90 ngày gần nhất.
+ * Dùng Random có hạt giống cố định để mỗi lần khởi động ra cùng một bộ dữ liệu.
+ */
+public final class InMemorySeedData {
+
+    public static final String ADMIN_EMAIL = "admin@motorbike.local";
+
+    private static final String[] HANG_XE = {"Honda", "Yamaha", "Suzuki", "Piaggio", "SYM", "Kawasaki"};
+    private static final String[] DONG_XE = {"Vision", "Air Blade", "SH", "Exciter", "Sirius", "Raider", "Vespa", "Liberty"};
+    private static final String[] MAU_SAC = {"Đỏ", "Đen", "Trắng", "Xanh", "Xám", "Vàng"};
+    private static final int[] DUNG_TICH = {110, 125, 150, 160, 300, 650};
+    private static final String[] LOAI_PHU_KIEN = {"Mũ bảo hiểm", "Găng tay", "Áo giáp", "Gương", "Thùng sau", "Khóa đĩa"};
+    private static final String[] DIA_CHI = {"12 Lê Lợi, Quận 1, TP.HCM", "45 Trần Phú, Hà Đông, Hà Nội",
+            "8 Nguyễn Văn Linh, Hải Châu, Đà Nẵng", "101 Hùng Vương, Ninh Kiều, Cần Thơ"};
+
+    private InMemorySeedData() {
+    }
+
+    public static void seedCatalog(ProductRepository products, int motorbikes, int accessories) {
+        Random random = new Random(1L);
+        for (int i = 1; i <= motorbikes; i++) {
+            String hang = HANG_XE[random.nextInt(HANG_XE.length)];
+            String dong = DONG_XE[random.nextInt(DONG_XE.length)];
+            products.save(new XeMay(hang + " " + dong + " " + i, "Xe " + hang + " " + dong + " bản mẫu",
+                    BigDecimal.valueOf(18_000_000L + random.nextInt(180) * 500_000L), "xe-" + i + ".jpg",
+                    5 + random.nextInt(200), hang, dong, MAU_SAC[random.nextInt(MAU_SAC.length)],
+                    2019 + random.nextInt(7), DUNG_TICH[random.nextInt(DUNG_TICH.length)]));
+        }
+        for (int i = 1; i <= accessories; i++) {
+            String loai = LOAI_PHU_KIEN[random.nextInt(LOAI_PHU_KIEN.length)];
+            products.save(new PhuKienXeMay(loai + " " + i, loai + " bản mẫu",
+                    BigDecimal.valueOf(90_000L + random.nextInt(100) * 10_000L), "pk-" + i + ".jpg",
+                    10 + random.nextInt(300), loai, HANG_XE[random.nextInt(HANG_XE.length)], "Nhựa ABS", "L"));
+        }
+    }
+
+    // Mọi tài khoản mẫu dùng chung một mật khẩu, băm một lần (KDF chậm, không băm lại cho từng tài khoản)
+    public static void seedUsers(UserRepository users, PasswordHasher passwordHasher, int customers, String password) {
+        String matKhauDaBam = passwordHasher.hash(password);
+        TaiKhoan admin = new TaiKhoan(ADMIN_EMAIL, "admin", matKhauDaBam, "0900000000", DIA_CHI[0]);
+        admin.thangCapAdmin();
+        users.save(admin);
+        for (int i = 1; i <= customers; i++) {
+            users.save(new TaiKhoan(customerEmail(i), "khach" + i, matKhauDaBam,
+                    String.format("09%08d", i), DIA_CHI[i % DIA_CHI.length]));
+        }
+    }
+
+    public static String customerEmail(int i) {
+        return "khach" + i + "@motorbike.local";
+    }
+
+    // Đơn của các tài khoản khách (không phải admin), 1-5 dòng mỗi đơn, trạng thái ngẫu nhiên
+    public static void seedOrders(OrderRepository orders, ProductRepository products, UserRepository users, int count) {
+        List<SanPham> catalog = products.findAll();
+        List<TaiKhoan> customers = new ArrayList<>();
+        for (TaiKhoan taiKhoan : users.findAll()) {
+            if (taiKhoan.laCustomer()) {
+                customers.add(taiKhoan);
+            }
+        }
+        if (catalog.isEmpty() || customers.isEmpty()) {
+            return;
+        }
+        Random random = new Random(2L);
+        TrangThaiDonHang[] trangThai = TrangThaiDonHang.values();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            TaiKhoan khach = customers.get(random.nextInt(customers.size()));
+            List<ChiTietDonHang> lines = new ArrayList<>();
+            BigDecimal tongTien = BigDecimal.ZERO;
+            int soDong = 1 + random.nextInt(5);
+            for (int line = 0; line < soDong; line++) {
+                SanPham sp = catalog.get(random.nextInt(catalog.size()));
+                ChiTietDonHang chiTiet = new ChiTietDonHang(sp.getMaSanPham(), sp.getTenSanPham(), sp.getGia(), 1 + random.nextInt(3));
+                lines.add(chiTiet);
+                tongTien = tongTien.add(chiTiet.getThanhTien());
+            }
+            LocalDateTime ngayDat = now.minusMinutes(random.nextInt(90 * 24 * 60));
+            orders.save(new DonHang(null, khach.getMaTaiKhoan(), lines, tongTien,
+                    trangThai[random.nextInt(trangThai.length)], khach.getTenDangNhap(), khach.getSoDienThoai(),
+                    khach.getDiaChi(), null, ngayDat, ngayDat));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.domain.entities.TaiKhoan;
+
+/**
+ * UserRepository trong bộ nhớ (profile inmemory), có chỉ mục phụ email -> mã tài khoản.
+ * Email so khớp không phân biệt hoa thường như collation của SQL Server và là duy nhất
+ * (trùng thì ném DataIntegrityViolationException như ràng buộc UNIQUE).
+ * Ghi (save/xóa) tuần tự hóa trên this để map và chỉ mục luôn khớp nhau; đọc không khóa.
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final ConcurrentHashMap<Long, TaiKhoan> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> idByEmail = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Optional<TaiKhoan> findByEmail(String email) {
+        Long id = email == null ? null : idByEmail.get(emailKey(email));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public Optional<TaiKhoan> findById(Long id) {
+        TaiKhoan user = id == null ? null : users.get(id);
+        return user == null ? Optional.empty() : Optional.of(Snapshots.copy(user));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return email != null && idByEmail.containsKey(emailKey(email));
+    }
+
+    @Override
+    public synchronized TaiKhoan save(TaiKhoan taiKhoan) {
+        TaiKhoan stored = Snapshots.copy(taiKhoan);
+        Long id = stored.getMaTaiKhoan();
+        String key = emailKey(stored.getEmail());
+        Long owner = idByEmail.get(key);
+        if (owner != null && !owner.equals(id)) {
+            throw new DataIntegrityViolationException("Email already exists: " + stored.getEmail());
+        }
+        if (id == null) {
+            id = sequence.incrementAndGet();
+            stored.setMaTaiKhoan(id);
+        } else {
+            sequence.accumulateAndGet(id, Math::max);
+        }
+        TaiKhoan previous = users.put(id, stored);
+        if (previous != null && !emailKey(previous.getEmail()).equals(key)) {
+            idByEmail.remove(emailKey(previous.getEmail()), id);
+        }
+        idByEmail.put(key, id);
+        return Snapshots.copy(stored);
+    }
+
+    @Override
+    public void updateLastLogin(Long userId) {
+        updateLastLogins(Map.of(userId, LocalDateTime.now()));
+    }
+
+    // Chỉ đổi một trường, không lùi mốc nếu đã có lần đăng nhập mới hơn
+    @Override
+    public void updateLastLogins(Map<Long, LocalDateTime> lanDangNhapCuoi) {
+        lanDangNhapCuoi.forEach((maTaiKhoan, thoiGian) -> users.computeIfPresent(maTaiKhoan, (id, current) -> {
+            if (current.getLanDangNhapCuoi() != null && !current.getLanDangNhapCuoi().isBefore(thoiGian)) {
+                return current;
+            }
+            return new TaiKhoan(current.getMaTaiKhoan(), current.getEmail(), current.getTenDangNhap(),
+                    current.getMatKhau(), current.getSoDienThoai(), current.getDiaChi(), current.getVaiTro(),
+                    current.isHoatDong(), current.getNgayTao(), current.getNgayCapNhat(), thoiGian);
+        }));
+    }
+
+    // Kiểm tra và đổi trong compute của chính tài khoản đó (như UPDATE ... WHERE mat_khau = ?)
+    @Override
+    public boolean updatePasswordIfCurrent(Long userId, String matKhauCu, String matKhauMoi) {
+        if (userId == null) {
+            return false;
+        }
+        boolean[] updated = new boolean[1];
+        users.computeIfPresent(userId, (id, current) -> {
+            if (!current.getMatKhau().equals(matKhauCu)) {
+                return current;
+            }
+            TaiKhoan stored = Snapshots.copy(current);
+            stored.setMatKhau(matKhauMoi);
+            updated[0] = true;
+            return stored;
+        });
+        return updated[0];
+    }
+
+    @Override
+    public List<TaiKhoan> findAll() {
+        return users.values().stream()
+                .sorted(Comparator.comparing(TaiKhoan::getMaTaiKhoan))
+                .map(Snapshots::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized void deleteById(Long id) {
+        TaiKhoan removed = users.remove(id);
+        if (removed != null) {
+            idByEmail.remove(emailKey(removed.getEmail()), id);
+        }
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
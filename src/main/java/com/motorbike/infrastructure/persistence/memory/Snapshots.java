@@ -0,0 +1,86 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.GioHang;
+import com.motorbike.domain.entities.PhuKien;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Bản sao sâu của entity domain. Các repository trong bộ nhớ chỉ lưu và trả bản sao,
+ * giống adapter JPA trả đối tượng mới mỗi lần đọc: use case sửa đối tượng đã đọc
+ * không làm đổi dữ liệu đã lưu cho tới khi gọi save, và hai luồng không dùng chung một đối tượng.
+ */
+final class Snapshots {
+
+    private Snapshots() {
+    }
+
+    static SanPham copy(SanPham p) {
+        if (p instanceof XeMay) {
+            return copy((XeMay) p);
+        }
+        if (p instanceof PhuKienXeMay) {
+            return copy((PhuKienXeMay) p);
+        }
+        if (p instanceof PhuKien) {
+            PhuKien pk = (PhuKien) p;
+            return new PhuKien(pk.getMaSanPham(), pk.getTenSanPham(), pk.getMoTa(), pk.getGia(), pk.getHinhAnh(),
+                    pk.getSoLuongTonKho(), pk.isConHang(), pk.getNgayTao(), pk.getNgayCapNhat(), pk.getLoai());
+        }
+        throw new IllegalArgumentException("Unsupported product type: " + p.getClass().getName());
+    }
+
+    static XeMay copy(XeMay x) {
+        return new XeMay(x.getMaSanPham(), x.getTenSanPham(), x.getMoTa(), x.getGia(), x.getHinhAnh(),
+                x.getSoLuongTonKho(), x.isConHang(), x.getNgayTao(), x.getNgayCapNhat(),
+                x.getHangXe(), x.getDongXe(), x.getMauSac(), x.getNamSanXuat(), x.getDungTich());
+    }
+
+    static PhuKienXeMay copy(PhuKienXeMay pk) {
+        return new PhuKienXeMay(pk.getMaSanPham(), pk.getTenSanPham(), pk.getMoTa(), pk.getGia(), pk.getHinhAnh(),
+                pk.getSoLuongTonKho(), pk.isConHang(), pk.getNgayTao(), pk.getNgayCapNhat(),
+                pk.getLoaiPhuKien(), pk.getThuongHieu(), pk.getChatLieu(), pk.getKichThuoc());
+    }
+
+    static TaiKhoan copy(TaiKhoan t) {
+        return new TaiKhoan(t.getMaTaiKhoan(), t.getEmail(), t.getTenDangNhap(), t.getMatKhau(),
+                t.getSoDienThoai(), t.getDiaChi(), t.getVaiTro(), t.isHoatDong(),
+                t.getNgayTao(), t.getNgayCapNhat(), t.getLanDangNhapCuoi());
+    }
+
+    static GioHang copy(GioHang g) {
+        List<ChiTietGioHang> lines = new ArrayList<>();
+        for (ChiTietGioHang line : g.getDanhSachSanPham()) {
+            lines.add(copy(line));
+        }
+        return new GioHang(g.getMaGioHang(), g.getMaTaiKhoan(), lines, g.getTongTien(), g.getNgayTao(), g.getNgayCapNhat());
+    }
+
+    static ChiTietGioHang copy(ChiTietGioHang c) {
+        return new ChiTietGioHang(c.getMaChiTiet(), c.getMaGioHang(), c.getMaSanPham(),
+                c.getTenSanPham(), c.getGiaSanPham(), c.getSoLuong(), c.getTamTinh());
+    }
+
+    static DonHang copy(DonHang d) {
+        List<ChiTietDonHang> lines = new ArrayList<>();
+        for (ChiTietDonHang line : d.getDanhSachSanPham()) {
+            lines.add(copy(line));
+        }
+        return new DonHang(d.getMaDonHang(), d.getMaTaiKhoan(), lines, d.getTongTien(), d.getTrangThai(),
+                d.getTenNguoiNhan(), d.getSoDienThoai(), d.getDiaChiGiaoHang(), d.getGhiChu(),
+                d.getNgayDat(), d.getNgayCapNhat());
+    }
+
+    static ChiTietDonHang copy(ChiTietDonHang c) {
+        return new ChiTietDonHang(c.getMaChiTiet(), c.getMaDonHang(), c.getMaSanPham(),
+                c.getTenSanPham(), c.getGiaBan(), c.getSoLuong(), c.getThanhTien());
+    }
+}
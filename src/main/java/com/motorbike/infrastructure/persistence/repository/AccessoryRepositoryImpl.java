@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.domain.entities.PhuKienXeMay;
 import com.motorbike.infrastructure.persistence.jpa.entities.PhuKienXeMayJpaEntity;
@@ -36,6 +39,13 @@ public class AccessoryRepositoryImpl implements AccessoryRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<PhuKienXeMay> findAccessories(int limit) {
+        return jpaRepository.findAll(PageRequest.of(0, limit, Sort.by("maSanPham"))).stream()
+                .map(this::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
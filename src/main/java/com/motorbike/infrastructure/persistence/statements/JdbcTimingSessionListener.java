@@ -0,0 +1,32 @@
+package com.motorbike.infrastructure.persistence.statements;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Đo thời gian thực thi JDBC (câu đơn và batch) của một Session. Hibernate tạo một instance
+ * cho mỗi Session qua hibernate.session.events.auto; Session chỉ dùng trên một luồng.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.recordJdbcTime(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.recordJdbcTime(System.nanoTime() - startedAt);
+    }
+}
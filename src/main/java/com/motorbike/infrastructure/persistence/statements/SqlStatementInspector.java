@@ -0,0 +1,16 @@
+package com.motorbike.infrastructure.persistence.statements;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate gọi inspect() cho mỗi câu SQL trước khi prepare: ghi vào SqlStatementStats
+ * của luồng hiện tại, câu lệnh giữ nguyên.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.recordStatement(sql);
+        return sql;
+    }
+}
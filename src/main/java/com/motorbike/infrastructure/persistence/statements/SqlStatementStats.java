@@ -0,0 +1,114 @@
+package com.motorbike.infrastructure.persistence.statements;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Thống kê câu SQL Hibernate gửi xuống trên luồng hiện tại trong một phạm vi (thường là một HTTP request):
+ * số câu lệnh, tổng thời gian JDBC và số lần lặp của từng "dạng" câu (bỏ tham số, gộp IN (?, ?, ...)).
+ * Một dạng lặp nhiều lần trong cùng request là dấu hiệu N+1.
+ *
+ * Dùng: try (SqlStatementStats stats = SqlStatementStats.open()) { ... }. Phạm vi lồng nhau được:
+ * câu lệnh được cộng vào mọi phạm vi đang mở trên luồng. Luồng không mở phạm vi (luồng nền) bị bỏ qua.
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementStats outer;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+    private boolean closed;
+
+    private SqlStatementStats(SqlStatementStats outer) {
+        this.outer = outer;
+    }
+
+    public static SqlStatementStats open() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void recordStatement(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; stats != null; stats = stats.outer) {
+            stats.statementCount++;
+            stats.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.outer) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    // Số lần lặp lớn nhất của một dạng câu lệnh (1 = không lặp, 0 = chưa có câu nào)
+    public int getMaxRepeats() {
+        int max = 0;
+        for (int count : shapes.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    public String getMostRepeatedShape() {
+        String shape = null;
+        int max = 0;
+        for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+            if (entry.getValue() > max) {
+                max = entry.getValue();
+                shape = entry.getKey();
+            }
+        }
+        return shape;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return Map.copyOf(shapes);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+}
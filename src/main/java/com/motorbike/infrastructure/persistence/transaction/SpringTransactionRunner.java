@@ -0,0 +1,28 @@
+package com.motorbike.infrastructure.persistence.transaction;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.motorbike.business.ports.transaction.TransactionRunner;
+
+/**
+ * TransactionRunner dùng TransactionTemplate của Spring (PROPAGATION_REQUIRED).
+ * Các adapter @Transactional được gọi bên trong sẽ tham gia cùng giao dịch,
+ * nên một lần checkout chỉ commit một lần; câu lệnh ghi được gom theo
+ * hibernate.jdbc.batch_size khi flush.
+ */
+public class SpringTransactionRunner implements TransactionRunner {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SpringTransactionRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,314 @@
+package com.motorbike.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import com.motorbike.business.ports.event.ProductChangeListener;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Chỉ mục đảo trong bộ nhớ cho danh mục sản phẩm.
+ * Từ điển token (đã fold) được giữ sắp xếp nên khớp tiền tố là một subMap;
+ * mỗi token trỏ về (mã sản phẩm -> trọng số trường). Điểm của một sản phẩm là tổng,
+ * trên các từ của truy vấn, trọng số lớn nhất của token khớp (khớp đúng cả từ được điểm cao hơn khớp tiền tố).
+ *
+ * Nạp toàn bộ ở luồng nền khi có lượt tìm đầu tiên; sau đó cập nhật từng sản phẩm
+ * qua ProductChangeListener khi admin thêm/sửa/xóa.
+ *
+ * Mỗi tài liệu giữ kèm bản sao sản phẩm đã lập chỉ mục, nên searchProducts lọc theo
+ * hãng/dòng/màu/dung tích và sắp xếp trên chính chỉ mục, không phải nạp cả tập kết quả từ DB.
+ */
+public class InMemoryCatalogSearchEngine implements CatalogSearchEngine, ProductChangeListener {
+
+    static final float NAME_WEIGHT = 3.0f;
+    static final float ATTRIBUTE_WEIGHT = 2.0f;
+    static final float MATERIAL_WEIGHT = 1.5f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+    static final float PREFIX_FACTOR = 0.6f;
+
+    private final ProductRepository source;
+    private final Executor warmUpExecutor;
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicBoolean warmUpStarted = new AtomicBoolean();
+    private volatile boolean ready;
+    private final Set<Long> writtenDuringWarmUp = new HashSet<>();
+
+    public InMemoryCatalogSearchEngine(ProductRepository source) {
+        this(source, task -> {
+            Thread thread = new Thread(task, "catalog-search-warm-up");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    public InMemoryCatalogSearchEngine(ProductRepository source, Executor warmUpExecutor) {
+        this.source = source;
+        this.warmUpExecutor = warmUpExecutor;
+    }
+
+    @Override
+    public Optional<List<Long>> search(String keyword, ProductType type) {
+        if (!ready) {
+            startWarmUp();
+            return Optional.empty();
+        }
+
+        List<String> terms = TextFolding.tokens(keyword);
+        if (terms.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        Map<Long, Float> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                Map<Long, Float> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Float>> posting
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    float factor = posting.getKey().equals(term) ? 1.0f : PREFIX_FACTOR;
+                    for (Map.Entry<Long, Float> hit : posting.getValue().entrySet()) {
+                        termScores.merge(hit.getKey(), hit.getValue() * factor, Math::max);
+                    }
+                }
+
+                if (scores == null) {
+                    scores = new HashMap<>();
+                    for (Map.Entry<Long, Float> hit : termScores.entrySet()) {
+                        if (documents.get(hit.getKey()).type == type) {
+                            scores.put(hit.getKey(), hit.getValue());
+                        }
+                    }
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    for (Map.Entry<Long, Float> hit : scores.entrySet()) {
+                        hit.setValue(hit.getValue() + termScores.get(hit.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Optional.of(List.of());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Float> hit : ranked) {
+            ids.add(hit.getKey());
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public Optional<List<SanPham>> searchProducts(String keyword, ProductType type,
+                                                  Predicate<SanPham> filter, Comparator<SanPham> order) {
+        Optional<List<Long>> rankedIds = search(keyword, type);
+        if (rankedIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SanPham> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : rankedIds.get()) {
+                // Sản phẩm có thể vừa bị xóa giữa hai lần giữ khóa
+                Document document = documents.get(id);
+                if (document != null && filter.test(document.product)) {
+                    matched.add(document.product);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (order != null) {
+            matched.sort(order);
+        }
+        return Optional.of(matched);
+    }
+
+    @Override
+    public void onProductSaved(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        Optional<SanPham> product = source.findById(productId);
+        if (product.isPresent()) {
+            index(product.get());
+        } else {
+            remove(productId);
+        }
+    }
+
+    @Override
+    public void onProductDeleted(Long productId) {
+        remove(productId);
+    }
+
+    public void index(SanPham product) {
+        Document document = toDocument(product);
+        if (document == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                writtenDuringWarmUp.add(product.getMaSanPham());
+            }
+            putLocked(product.getMaSanPham(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                writtenDuringWarmUp.add(productId);
+            }
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void warmUp() {
+        List<SanPham> products = source.findAll();
+        Map<Long, Document> loaded = new HashMap<>();
+        for (SanPham product : products) {
+            Document document = toDocument(product);
+            if (document != null) {
+                loaded.put(product.getMaSanPham(), document);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Document> entry : loaded.entrySet()) {
+                if (!writtenDuringWarmUp.contains(entry.getKey())) {
+                    putLocked(entry.getKey(), entry.getValue());
+                }
+            }
+            ready = true;
+            writtenDuringWarmUp.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {return ready;}
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void startWarmUp() {
+        if (warmUpStarted.compareAndSet(false, true)) {
+            warmUpExecutor.execute(() -> {
+                try {
+                    warmUp();
+                } catch (RuntimeException e) {
+                    warmUpStarted.set(false);
+                }
+            });
+        }
+    }
+
+    private void putLocked(Long id, Document document) {
+        removeLocked(id);
+        documents.put(id, document);
+        for (Map.Entry<String, Float> term : document.weights.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+        }
+    }
+
+    private void removeLocked(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.weights.keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static Document toDocument(SanPham product) {
+        if (product == null || product.getMaSanPham() == null) {
+            return null;
+        }
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, product.getTenSanPham(), NAME_WEIGHT);
+        addField(weights, product.getMoTa(), DESCRIPTION_WEIGHT);
+
+        if (product instanceof XeMay) {
+            XeMay xe = (XeMay) product;
+            addField(weights, xe.getHangXe(), ATTRIBUTE_WEIGHT);
+            addField(weights, xe.getDongXe(), ATTRIBUTE_WEIGHT);
+            return new Document(ProductType.MOTORBIKE, product, weights);
+        }
+        if (product instanceof PhuKienXeMay) {
+            PhuKienXeMay pk = (PhuKienXeMay) product;
+            addField(weights, pk.getLoaiPhuKien(), ATTRIBUTE_WEIGHT);
+            addField(weights, pk.getThuongHieu(), ATTRIBUTE_WEIGHT);
+            addField(weights, pk.getChatLieu(), MATERIAL_WEIGHT);
+            return new Document(ProductType.ACCESSORY, product, weights);
+        }
+        return null;
+    }
+
+    private static void addField(Map<String, Float> weights, String value, float weight) {
+        for (String token : TextFolding.tokens(value)) {
+            weights.merge(token, weight, Math::max);
+        }
+    }
+
+    private static final class Document {
+        private final ProductType type;
+        private final SanPham product;
+        private final Map<String, Float> weights;
+
+        private Document(ProductType type, SanPham product, Map<String, Float> weights) {
+            this.type = type;
+            this.product = product;
+            this.weights = weights;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.motorbike.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.OrderCursor;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.search.OrderSearchIndex;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+
+/**
+ * Chỉ mục đảo trigram trong bộ nhớ cho tìm kiếm đơn hàng của admin.
+ * Mỗi đơn được lưu thành một chuỗi đã fold (TextFolding); trigram của từng từ trỏ về mã đơn.
+ * Truy vấn: giao các danh sách trigram để lấy ứng viên rồi kiểm tra chuỗi con trên văn bản đã fold;
+ * kết quả xếp mới nhất trước theo (ngayDat, maDonHang) giữ kèm mỗi đơn.
+ *
+ * Lần tìm kiếm đầu tiên kích hoạt nạp toàn bộ đơn theo keyset (warmUp) ở luồng nền;
+ * trong lúc đó search() trả về Optional.empty() để use case dùng truy vấn SQL.
+ * Cập nhật tăng dần qua index()/remove() (IndexingOrderRepository gọi sau khi lưu/xóa).
+ */
+public class InMemoryOrderSearchIndex implements OrderSearchIndex {
+
+    static final int GRAM = 3;
+    static final int WARM_UP_BATCH = 500;
+
+    private final OrderRepository source;
+    private final Executor warmUpExecutor;
+
+    private static final Comparator<OrderCursor> NEWEST_FIRST = Comparator
+            .comparing(OrderCursor::getNgayDat, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderCursor::getMaDonHang, Comparator.reverseOrder());
+
+    private final Map<Long, String> documents = new HashMap<>();
+    private final Map<Long, OrderCursor> sortKeys = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicBoolean warmUpStarted = new AtomicBoolean();
+    private volatile boolean ready;
+    // Đơn đã được index()/remove() trong lúc warmUp: bản đọc từ warmUp có thể cũ hơn nên bỏ qua
+    private final Set<Long> writtenDuringWarmUp = new HashSet<>();
+
+    public InMemoryOrderSearchIndex(OrderRepository source) {
+        this(source, task -> {
+            Thread thread = new Thread(task, "order-search-warm-up");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    public InMemoryOrderSearchIndex(OrderRepository source, Executor warmUpExecutor) {
+        this.source = source;
+        this.warmUpExecutor = warmUpExecutor;
+    }
+
+    @Override
+    public Optional<List<Long>> search(String query) {
+        if (!ready) {
+            startWarmUp();
+            return Optional.empty();
+        }
+
+        List<String> terms = TextFolding.terms(query);
+        if (terms.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                if (term.length() < GRAM) {
+                    continue;
+                }
+                for (String gram : grams(term)) {
+                    Set<Long> posting = postings.get(gram);
+                    if (posting == null) {
+                        return Optional.of(List.of());
+                    }
+                    if (candidates == null) {
+                        candidates = new LinkedHashSet<>(posting);
+                    } else {
+                        candidates.retainAll(posting);
+                    }
+                    if (candidates.isEmpty()) {
+                        return Optional.of(List.of());
+                    }
+                }
+            }
+
+            // Từ khóa ngắn hơn một trigram: duyệt toàn bộ văn bản (vẫn trong bộ nhớ)
+            Set<Long> scan = candidates != null ? candidates : documents.keySet();
+            List<Long> matched = new ArrayList<>();
+            for (Long id : scan) {
+                String text = documents.get(id);
+                if (text != null && containsAll(text, terms)) {
+                    matched.add(id);
+                }
+            }
+            matched.sort(Comparator.comparing(sortKeys::get, NEWEST_FIRST));
+            return Optional.of(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(DonHang donHang) {
+        if (donHang == null || donHang.getMaDonHang() == null) {
+            return;
+        }
+        String text = documentText(donHang);
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                writtenDuringWarmUp.add(donHang.getMaDonHang());
+            }
+            putLocked(donHang.getMaDonHang(), OrderCursor.of(donHang), text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long maDonHang) {
+        if (maDonHang == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                writtenDuringWarmUp.add(maDonHang);
+            }
+            removeLocked(maDonHang);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Nạp toàn bộ đơn hàng theo từng trang keyset rồi đánh dấu sẵn sàng
+    public void warmUp() {
+        OrderCursor after = null;
+        CursorPage<DonHang> page;
+        do {
+            page = source.findPageForAdmin(null, after, WARM_UP_BATCH);
+            List<String> texts = new ArrayList<>();
+            for (DonHang donHang : page.getContent()) {
+                texts.add(documentText(donHang));
+            }
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < texts.size(); i++) {
+                    DonHang donHang = page.getContent().get(i);
+                    if (!writtenDuringWarmUp.contains(donHang.getMaDonHang())) {
+                        putLocked(donHang.getMaDonHang(), OrderCursor.of(donHang), texts.get(i));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            after = OrderCursor.decode(page.getNextCursor());
+        } while (page.hasMore());
+
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            writtenDuringWarmUp.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {return ready;}
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void startWarmUp() {
+        if (warmUpStarted.compareAndSet(false, true)) {
+            warmUpExecutor.execute(() -> {
+                try {
+                    warmUp();
+                } catch (RuntimeException e) {
+                    // Cho phép thử lại ở lần tìm kiếm sau; trong lúc đó vẫn dùng SQL
+                    warmUpStarted.set(false);
+                }
+            });
+        }
+    }
+
+    private void putLocked(Long id, OrderCursor sortKey, String text) {
+        removeLocked(id);
+        documents.put(id, text);
+        sortKeys.put(id, sortKey);
+        for (String word : text.split(" ")) {
+            for (String gram : grams(word)) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    private void removeLocked(Long id) {
+        sortKeys.remove(id);
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.split(" ")) {
+            for (String gram : grams(word)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(String text, List<String> terms) {
+        for (String term : terms) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // Các trường trước đây được LIKE trong DonHangJpaRepository.searchAdminOrders
+    static String documentText(DonHang donHang) {
+        StringBuilder text = new StringBuilder()
+                .append(donHang.getMaDonHang()).append(' ')
+                .append(donHang.getMaTaiKhoan()).append(' ')
+                .append(nullToEmpty(donHang.getTenNguoiNhan())).append(' ')
+                .append(nullToEmpty(donHang.getSoDienThoai())).append(' ')
+                .append(nullToEmpty(donHang.getDiaChiGiaoHang())).append(' ')
+                .append(donHang.getTrangThai() == null ? "" : donHang.getTrangThai().name());
+        for (ChiTietDonHang item : donHang.getDanhSachSanPham()) {
+            text.append(' ').append(nullToEmpty(item.getTenSanPham()));
+        }
+        return TextFolding.fold(text.toString());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
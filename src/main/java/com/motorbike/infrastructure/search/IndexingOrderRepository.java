@@ -0,0 +1,133 @@
+package com.motorbike.infrastructure.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.OrderCursor;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.OrderSummary;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+/**
+ * Bọc OrderRepository để cập nhật InMemoryOrderSearchIndex mỗi khi lưu/xóa/hủy đơn.
+ * Nếu đang trong giao dịch thì chỉ cập nhật sau khi commit (rollback không làm bẩn chỉ mục).
+ * Mọi phương thức khác chuyển thẳng cho delegate, kể cả các phương thức default của port.
+ */
+public class IndexingOrderRepository implements OrderRepository {
+
+    private final OrderRepository delegate;
+    private final InMemoryOrderSearchIndex index;
+
+    public IndexingOrderRepository(OrderRepository delegate, InMemoryOrderSearchIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public DonHang save(DonHang donHang) {
+        DonHang saved = delegate.save(donHang);
+        afterCommit(() -> index.index(saved));
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long orderId) {
+        delegate.deleteById(orderId);
+        afterCommit(() -> index.remove(orderId));
+    }
+
+    // Hủy bằng UPDATE có điều kiện, không đi qua save: đọc lại đơn sau commit để chỉ mục thấy trạng thái mới
+    @Override
+    public boolean cancelIfPending(Long orderId) {
+        boolean cancelled = delegate.cancelIfPending(orderId);
+        if (cancelled) {
+            afterCommit(() -> delegate.findById(orderId).ifPresent(index::index));
+        }
+        return cancelled;
+    }
+
+    @Override
+    public Optional<DonHang> findById(Long orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public List<DonHang> findAllByIds(Collection<Long> orderIds) {
+        return delegate.findAllByIds(orderIds);
+    }
+
+    @Override
+    public List<DonHang> findByUserId(Long userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<DonHang> findByStatus(TrangThaiDonHang trangThai) {
+        return delegate.findByStatus(trangThai);
+    }
+
+    @Override
+    public List<DonHang> findByUserIdAndStatus(Long userId, TrangThaiDonHang trangThai) {
+        return delegate.findByUserIdAndStatus(userId, trangThai);
+    }
+
+    @Override
+    public List<DonHang> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<DonHang> searchForAdmin(String keyword) {
+        return delegate.searchForAdmin(keyword);
+    }
+
+    @Override
+    public List<DonHang> searchForAdmin(String keyword, int limit) {
+        return delegate.searchForAdmin(keyword, limit);
+    }
+
+    @Override
+    public CursorPage<DonHang> findPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        return delegate.findPageForAdmin(trangThai, after, limit);
+    }
+
+    @Override
+    public List<OrderSummary> findSummariesByUserId(Long userId) {
+        return delegate.findSummariesByUserId(userId);
+    }
+
+    @Override
+    public CursorPage<OrderSummary> findSummaryPageForAdmin(TrangThaiDonHang trangThai, OrderCursor after, int limit) {
+        return delegate.findSummaryPageForAdmin(trangThai, after, limit);
+    }
+
+    @Override
+    public boolean existsById(Long orderId) {
+        return delegate.existsById(orderId);
+    }
+
+    @Override
+    public void addOrderStatistics(DashboardStats.Builder builder) {
+        delegate.addOrderStatistics(builder);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
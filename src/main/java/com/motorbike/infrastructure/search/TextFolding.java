@@ -0,0 +1,54 @@
+package com.motorbike.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Chuẩn hóa văn bản tiếng Việt để so khớp: bỏ dấu, đ -> d, chữ thường,
+ * gộp khoảng trắng. "Nguyễn Văn Đạt" -> "nguyen van dat".
+ */
+public final class TextFolding {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D');
+        return WHITESPACE.matcher(stripped.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    // Các từ (đã fold) của chuỗi, tách theo khoảng trắng
+    public static List<String> terms(String text) {
+        String folded = fold(text);
+        List<String> terms = new ArrayList<>();
+        if (!folded.isEmpty()) {
+            for (String term : folded.split(" ")) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Các token chữ/số (đã fold) của chuỗi, bỏ dấu câu: "Wave-Alpha 110cc" -> [wave, alpha, 110cc]
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
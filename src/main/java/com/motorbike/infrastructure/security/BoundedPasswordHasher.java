@@ -0,0 +1,120 @@
+package com.motorbike.infrastructure.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.domain.exceptions.SystemException;
+
+/**
+ * Chạy các lần băm/kiểm tra mật khẩu trên một pool riêng có số luồng và hàng đợi giới hạn.
+ * KDF chậm và ngốn CPU: giới hạn số luồng để một đợt đăng nhập dồn dập không chiếm hết CPU
+ * của các request xem hàng / checkout; hàng đợi đầy hoặc chờ quá maxWaitMillis thì báo
+ * SystemException.passwordHashingBusy() ngay thay vì giữ luồng Tomcat chờ mãi.
+ */
+public class BoundedPasswordHasher implements PasswordHasher, AutoCloseable {
+
+    private final PasswordHasher delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    public BoundedPasswordHasher(PasswordHasher delegate, int threads, int queueCapacity, long maxWaitMillis) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWaitMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String hash(String matKhau) {
+        return run(() -> delegate.hash(matKhau));
+    }
+
+    @Override
+    public boolean matches(String matKhau, String matKhauDaLuu) {
+        return run(() -> delegate.matches(matKhau, matKhauDaLuu));
+    }
+
+    // Chỉ đọc tiền tố / số vòng, không băm: chạy ngay trên luồng gọi
+    @Override
+    public boolean needsRehash(String matKhauDaLuu) {
+        return delegate.needsRehash(matKhauDaLuu);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw SystemException.passwordHashingBusy();
+        }
+        maxQueueDepth.accumulateAndGet(executor.getQueue().size(), Math::max);
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOutCount.incrementAndGet();
+            throw SystemException.passwordHashingBusy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SystemException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SystemException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.motorbike.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import com.motorbike.business.ports.security.PasswordHasher;
+
+/**
+ * PBKDF2-HMAC-SHA256 của JDK, lưu dạng "pbkdf2-sha256$&lt;số vòng&gt;$&lt;salt&gt;$&lt;hash&gt;" (Base64).
+ * Giá trị không có tiền tố là mật khẩu cũ chưa băm: vẫn so khớp được (so sánh thời gian hằng)
+ * và luôn bị báo needsRehash, cũng như hash có số vòng thấp hơn cấu hình hiện tại.
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    static final String PREFIX = "pbkdf2-sha256$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String hash(String matKhau) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = derive(matKhau, salt, iterations);
+        Base64.Encoder base64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + base64.encodeToString(salt) + "$" + base64.encodeToString(key);
+    }
+
+    @Override
+    public boolean matches(String matKhau, String matKhauDaLuu) {
+        if (matKhau == null || matKhauDaLuu == null) {
+            return false;
+        }
+        if (!matKhauDaLuu.startsWith(PREFIX)) {
+            return MessageDigest.isEqual(
+                    matKhau.getBytes(StandardCharsets.UTF_8), matKhauDaLuu.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = matKhauDaLuu.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[0]);
+            byte[] salt = Base64.getDecoder().decode(parts[1]);
+            byte[] expected = Base64.getDecoder().decode(parts[2]);
+            return MessageDigest.isEqual(expected, derive(matKhau, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String matKhauDaLuu) {
+        if (matKhauDaLuu == null || !matKhauDaLuu.startsWith(PREFIX)) {
+            return true;
+        }
+        int end = matKhauDaLuu.indexOf('$', PREFIX.length());
+        try {
+            return end < 0 || Integer.parseInt(matKhauDaLuu.substring(PREFIX.length(), end)) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Chọn số vòng sao cho một lần băm trên máy hiện tại mất khoảng targetMillis,
+     * giới hạn trong [minIterations, maxIterations]. Gọi một lần lúc khởi động.
+     */
+    public static int calibrate(long targetMillis, int minIterations, int maxIterations) {
+        int probe = 20_000;
+        byte[] salt = new byte[SALT_BYTES];
+        // Làm nóng JIT trước khi đo
+        for (int i = 0; i < 3; i++) {
+            derive("calibration", salt, probe);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            derive("calibration", salt, probe);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double nanosPerIteration = Math.max(1.0, (double) best / probe);
+        long wanted = (long) (targetMillis * 1_000_000L / nanosPerIteration);
+        return (int) Math.max(minIterations, Math.min(maxIterations, wanted));
+    }
+
+    private static byte[] derive(String matKhau, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(matKhau.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
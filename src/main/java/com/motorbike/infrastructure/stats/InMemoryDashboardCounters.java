@@ -0,0 +1,193 @@
+package com.motorbike.infrastructure.stats;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.motorbike.business.ports.event.ProductChangeListener;
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+/**
+ * Bộ đếm dashboard trong bộ nhớ.
+ * Số đơn, doanh thu và số tài khoản được cộng/trừ theo sự kiện từ use case (sau khi commit).
+ * Số sản phẩm sắp hết hàng thì đổi theo cả checkout, hủy đơn lẫn admin sửa sản phẩm nên không cộng dồn:
+ * chỉ đánh dấu cũ và đếm lại bằng một truy vấn ở lần đọc kế tiếp.
+ *
+ * Lần đọc đầu tiên nạp toàn bộ từ DB ở luồng nền; sau đó cứ mỗi reconcileIntervalMillis lại
+ * nạp lại để sửa sai lệch (luồng không đi qua bộ đếm, sự kiện xảy ra đúng lúc đang nạp...).
+ */
+public class InMemoryDashboardCounters implements DashboardCounters, ProductChangeListener {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final int lowStockThreshold;
+    private final long reconcileIntervalMillis;
+    private final Executor reconcileExecutor;
+    private final LongSupplier clock;
+
+    // Chỉ truy cập khi giữ khóa this; null khi chưa nạp lần đầu
+    private DashboardStats.Builder counts;
+    private long reconciledAtMillis;
+
+    private final AtomicBoolean reconcileStarted = new AtomicBoolean();
+    private volatile boolean productsStale;
+
+    public InMemoryDashboardCounters(OrderRepository orderRepository,
+                                     UserRepository userRepository,
+                                     ProductRepository productRepository,
+                                     int lowStockThreshold,
+                                     long reconcileIntervalMillis) {
+        this(orderRepository, userRepository, productRepository, lowStockThreshold, reconcileIntervalMillis,
+                task -> {
+                    Thread thread = new Thread(task, "dashboard-reconcile");
+                    thread.setDaemon(true);
+                    thread.start();
+                },
+                System::currentTimeMillis);
+    }
+
+    public InMemoryDashboardCounters(OrderRepository orderRepository,
+                                     UserRepository userRepository,
+                                     ProductRepository productRepository,
+                                     int lowStockThreshold,
+                                     long reconcileIntervalMillis,
+                                     Executor reconcileExecutor,
+                                     LongSupplier clock) {
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.lowStockThreshold = lowStockThreshold;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.reconcileExecutor = reconcileExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public void orderPlaced(DonHang donHang) {
+        afterCommit(() -> {
+            apply(counts -> counts.addOrders(
+                    donHang.getTrangThai(), donHang.getNgayDat().toLocalDate(), donHang.getTongTien(), 1));
+            productsStale = true;
+        });
+    }
+
+    @Override
+    public void orderStatusChanged(DonHang donHang, TrangThaiDonHang trangThaiCu) {
+        afterCommit(() -> {
+            apply(counts -> counts
+                    .addOrders(trangThaiCu, donHang.getNgayDat().toLocalDate(), donHang.getTongTien().negate(), -1)
+                    .addOrders(donHang.getTrangThai(), donHang.getNgayDat().toLocalDate(), donHang.getTongTien(), 1));
+            // Hủy đơn hoàn lại tồn kho
+            productsStale = true;
+        });
+    }
+
+    @Override
+    public void userAdded(TaiKhoan taiKhoan) {
+        afterCommit(() -> apply(counts -> counts.addUsers(taiKhoan.getVaiTro(), taiKhoan.isHoatDong(), 1)));
+    }
+
+    @Override
+    public void userDeleted(TaiKhoan taiKhoan) {
+        afterCommit(() -> apply(counts -> counts.addUsers(taiKhoan.getVaiTro(), taiKhoan.isHoatDong(), -1)));
+    }
+
+    @Override
+    public void onProductSaved(Long productId) {
+        productsStale = true;
+    }
+
+    @Override
+    public void onProductDeleted(Long productId) {
+        productsStale = true;
+    }
+
+    @Override
+    public Optional<DashboardStats> snapshot() {
+        synchronized (this) {
+            if (counts == null) {
+                startReconcile();
+                return Optional.empty();
+            }
+            if (clock.getAsLong() - reconciledAtMillis >= reconcileIntervalMillis) {
+                startReconcile();
+            }
+        }
+
+        if (productsStale) {
+            recountProducts();
+        }
+
+        synchronized (this) {
+            return Optional.of(counts.build());
+        }
+    }
+
+    // Nạp lại toàn bộ từ DB, thay cho số đã cộng dồn
+    public void reconcile() {
+        long startedAt = clock.getAsLong();
+        DashboardStats fresh = DashboardStats.collect(orderRepository, userRepository, productRepository, lowStockThreshold);
+        synchronized (this) {
+            counts = fresh.toBuilder();
+            reconciledAtMillis = startedAt;
+        }
+    }
+
+    public synchronized boolean isReady() {
+        return counts != null;
+    }
+
+    private void recountProducts() {
+        // Hạ cờ trước khi đếm: thay đổi xảy ra trong lúc đếm sẽ bật lại cờ cho lần đọc sau
+        productsStale = false;
+        DashboardStats.Builder counted = new DashboardStats.Builder();
+        productRepository.addProductStatistics(counted, lowStockThreshold);
+        DashboardStats products = counted.build();
+        apply(counts -> counts.replaceProducts(products));
+    }
+
+    private synchronized void apply(Consumer<DashboardStats.Builder> change) {
+        // Chưa nạp lần đầu thì bỏ qua: lần nạp sẽ đọc thẳng từ DB
+        if (counts != null) {
+            change.accept(counts);
+        }
+    }
+
+    private void startReconcile() {
+        if (reconcileStarted.compareAndSet(false, true)) {
+            reconcileExecutor.execute(() -> {
+                try {
+                    reconcile();
+                } finally {
+                    reconcileStarted.set(false);
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
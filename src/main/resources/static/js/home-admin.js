@@ -1,5 +1,7 @@
 // Home Admin Page JavaScript
 const API_BASE_URL = 'http://localhost:8080/api';
+// Số dòng mỗi bảng trên dashboard: server chỉ trả đúng chừng này, không tải cả danh sách
+const DASHBOARD_ROWS = 5;
 
 // Check admin role on page load
 document.addEventListener('DOMContentLoaded', function() {
@@ -99,11 +101,17 @@ async function loadDashboardData() {
 // Load statistics
 async function loadStatistics() {
     try {
-        // Placeholder - thay thế bằng API thực tế
-        document.getElementById('totalRevenue').textContent = '125,000,000 ₫';
-        document.getElementById('totalProducts').textContent = '42';
-        document.getElementById('totalUsers').textContent = '156';
-        document.getElementById('pendingOrders').textContent = '8';
+        const response = await fetch(`${API_BASE_URL}/admin/dashboard/stats?admin=true`);
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+        }
+        const data = await response.json();
+
+        const pending = (data.orders.byStatus || []).find(item => item.key === 'CHO_XAC_NHAN');
+        document.getElementById('totalRevenue').textContent = formatCurrency(data.revenue.total || 0);
+        document.getElementById('totalProducts').textContent = data.products.total;
+        document.getElementById('totalUsers').textContent = data.users.total;
+        document.getElementById('pendingOrders').textContent = pending ? pending.count : 0;
     } catch (error) {
         console.error('Error loading statistics:', error);
     }
@@ -112,7 +120,7 @@ async function loadStatistics() {
 // Load accessories list
 async function loadAccessories() {
     try {
-        const response = await fetch(`${API_BASE_URL}/accessories`);
+        const response = await fetch(`${API_BASE_URL}/accessories?limit=${DASHBOARD_ROWS}`);
         if (!response.ok) {
             throw new Error(`HTTP ${response.status}`);
         }
@@ -131,7 +139,7 @@ async function loadAccessories() {
             return;
         }
 
-        tbody.innerHTML = data.slice(0, 5).map(accessory => `
+        tbody.innerHTML = data.map(accessory => `
             <tr>
                 <td>${accessory.maSanPham || 'N/A'}</td>
                 <td><strong>${accessory.tenSanPham || 'N/A'}</strong></td>
@@ -160,7 +168,7 @@ async function loadAccessories() {
 async function loadOrders() {
     try {
         // Use ListAllOrders use case endpoint
-        const response = await fetch(`${API_BASE_URL}/admin/orders/all`);
+        const response = await fetch(`${API_BASE_URL}/admin/orders/all?size=10`);
         const data = await response.json();
 
         const tbody = document.getElementById('ordersTableBody');
@@ -207,7 +215,7 @@ async function loadOrders() {
 // Load users list
 async function loadUsers() {
     try {
-        const response = await fetch(`${API_BASE_URL}/admin/users?admin=true`);
+        const response = await fetch(`${API_BASE_URL}/admin/users?admin=true&limit=${DASHBOARD_ROWS}`);
         if (!response.ok) {
             throw new Error(`HTTP ${response.status}`);
         }
@@ -227,7 +235,7 @@ async function loadUsers() {
             return;
         }
 
-        tbody.innerHTML = users.slice(0, 10).map(user => `
+        tbody.innerHTML = users.map(user => `
             <tr>
                 <td>${user.id ?? 'N/A'}</td>
                 <td>${user.email ?? 'N/A'}</td>
@@ -319,8 +327,8 @@ function logout() {
 // Load motorbikes
 async function loadMotorbikes() {
     try {
-        // ✅ Dùng API đang có: /api/motorbikes
-        const response = await fetch(`${API_BASE_URL}/motorbikes`);
+        // Trang đầu của /api/motorbikes/search (body vẫn là mảng xe)
+        const response = await fetch(`${API_BASE_URL}/motorbikes/search?page=0&size=${DASHBOARD_ROWS}`);
 
         if (!response.ok) {
             throw new Error(`HTTP status ${response.status}`);
@@ -343,7 +351,7 @@ async function loadMotorbikes() {
         }
 
         // ✅ Dùng nhiều tên field khác nhau cho chắc: tenXe / tenSanPham / name,...
-        tbody.innerHTML = data.slice(0, 10).map(bike => {
+        tbody.innerHTML = data.map(bike => {
             const id = bike.id ?? bike.maSanPham ?? 'N/A';
             const ten =
                 bike.tenXe ||
@@ -15,6 +15,8 @@ async function searchMotorbikes() {
     if (minCC) params.append("minCC", minCC);
     if (maxCC) params.append("maxCC", maxCC);
 
+    loadFacets(params);
+
     try {
         const response = await fetch(`/api/motorbikes/search?${params.toString()}`);
         const data = await response.json();
@@ -40,3 +42,27 @@ async function searchMotorbikes() {
         alert("Không thể tìm kiếm xe máy.");
     }
 }
+
+// Gợi ý hãng/dòng/màu theo bộ lọc hiện tại (server đếm sẵn, không tải cả danh mục)
+async function loadFacets(params) {
+    try {
+        const response = await fetch(`/api/motorbikes/facets?${params.toString()}`);
+        if (!response.ok) return;
+        const facets = await response.json();
+
+        fillOptions("brandOptions", facets.brands);
+        fillOptions("modelOptions", facets.models);
+        fillOptions("colorOptions", facets.colors);
+    } catch (error) {
+        console.error("Facets error:", error);
+    }
+}
+
+function fillOptions(listId, values) {
+    const list = document.getElementById(listId);
+    if (!list) return;
+
+    list.innerHTML = (values || [])
+        .map(f => `<option value="${f.value}">${f.value} (${f.count})</option>`)
+        .join("");
+}
@@ -4,6 +4,7 @@ window.onload = function () {
     checkAuth();
     loadCartInfo();
     loadMotorbikes();
+    loadFacets(new URLSearchParams());
 };
 
 async function loadMotorbikes() {
@@ -1,5 +1,6 @@
 const API_BASE_URL = 'http://localhost:8080/api';
 let ordersCache = [];
+let nextCursor = null;
 let searchDebounceTimer = null;
 
 const STATUS_LABEL_FROM_CODE = {
@@ -78,6 +79,7 @@ async function loadAllOrders() {
         }
 
         ordersCache = data.orders || [];
+        nextCursor = data.nextCursor || null;
         renderOrders();
     } catch (err) {
         console.error(err);
@@ -87,6 +89,27 @@ async function loadAllOrders() {
     }
 }
 
+// Trang tiếp theo (keyset): gửi lại nextCursor của trang trước
+async function loadMoreOrders() {
+    if (!nextCursor) return;
+    try {
+        const res = await fetch(`${API_BASE_URL}/admin/orders/all?cursor=${encodeURIComponent(nextCursor)}`);
+        const data = await res.json();
+
+        if (!data.success) {
+            showError(data.errorMessage || data.message || 'Không tải được đơn hàng');
+            return;
+        }
+
+        ordersCache = ordersCache.concat(data.orders || []);
+        nextCursor = data.nextCursor || null;
+        renderOrders();
+    } catch (err) {
+        console.error(err);
+        showError('Lỗi khi tải đơn hàng');
+    }
+}
+
 async function handleSearch(rawQuery) {
     const query = (rawQuery || '').trim();
     if (!query) {
@@ -106,7 +129,15 @@ async function handleSearch(rawQuery) {
         }
 
         ordersCache = data.orders || [];
+        nextCursor = null;
         renderOrders();
+        if (data.truncated) {
+            // Chỉ trả về các đơn mới nhất: nhắc admin thu hẹp từ khóa
+            const tbody = document.getElementById('ordersTableBody');
+            if (tbody) {
+                tbody.insertAdjacentHTML('beforeend', `<tr><td colspan="8" style="text-align:center; padding:15px; color:#999;">${data.message}</td></tr>`);
+            }
+        }
     } catch (err) {
         console.error(err);
         showError('Lỗi khi tìm kiếm đơn hàng');
@@ -153,7 +184,13 @@ function renderOrders() {
             <td><button class="btn-secondary" style="padding:6px 12px; font-size:0.85em;" onclick="viewOrder(${order.orderId})">Xem</button></td>
         </tr>
         `;
-    }).join('');
+    }).join('') + (nextCursor ? `
+        <tr>
+            <td colspan="8" style="text-align:center; padding:15px;">
+                <button class="btn-secondary" onclick="loadMoreOrders()">Tải thêm</button>
+            </td>
+        </tr>
+    ` : '');
 }
 
 function showError(msg) {
@@ -0,0 +1,109 @@
+package com.motorbike.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.GioHang;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.XeMay;
+
+/**
+ * Các phương thức thực thể nằm trên đường nóng của request: dựng đơn từ giỏ khi checkout,
+ * kiểm tra email/mật khẩu khi đăng nhập, tính giá khuyến mãi khi liệt kê sản phẩm.
+ * GioHang.themSanPham/capNhatSoLuong đã có trong GioHangBenchmark.
+ *
+ * Chạy: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DomainEntityBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEntityBenchmark {
+
+    @Param({"1", "20"})
+    int soDong;
+
+    private GioHang gioHang;
+    private XeMay xeMoi;
+    private XeMay xeCu;
+    private PhuKienXeMay phuKienTonNhieu;
+    private PhuKienXeMay phuKienTonIt;
+
+    // Xen kẽ email hợp lệ / không hợp lệ để nhánh regex không bị đoán trước
+    private final String[] emails = {
+            "khach42@motorbike.local", "nguyen.van.an+shop@gmail.com", "khong-hop-le@", "a@b.c"
+    };
+    private int lanGoi;
+
+    @Setup
+    public void setUp() {
+        gioHang = new GioHang(1L);
+        for (long ma = 1; ma <= soDong; ma++) {
+            gioHang.themSanPham(new ChiTietGioHang(ma, "Phụ kiện " + ma, BigDecimal.valueOf(150000 + ma), 2));
+        }
+        xeMoi = new XeMay("Honda Vision", "Xe tay ga", BigDecimal.valueOf(31_000_000), "vision.jpg", 10,
+                "Honda", "Vision", "Đỏ", 2025, 110);
+        xeCu = new XeMay("Yamaha Sirius", "Xe số", BigDecimal.valueOf(21_000_000), "sirius.jpg", 10,
+                "Yamaha", "Sirius", "Đen", 2019, 110);
+        phuKienTonNhieu = new PhuKienXeMay("Mũ bảo hiểm", "Mũ 3/4", BigDecimal.valueOf(450_000), "mu.jpg", 150,
+                "Mũ bảo hiểm", "Honda", "Nhựa ABS", "L");
+        phuKienTonIt = new PhuKienXeMay("Găng tay", "Găng tay chống nắng", BigDecimal.valueOf(120_000), "gang.jpg", 20,
+                "Găng tay", "Yamaha", "Vải", "M");
+    }
+
+    // Phần thuần domain của checkout: sao chép các dòng giỏ thành chi tiết đơn + tính tổng
+    @Benchmark
+    public DonHang donHangTuGioHang() {
+        return DonHang.fromGioHang(gioHang, "Nguyễn Văn An", "0901234567", "12 Lê Lợi, Quận 1", null);
+    }
+
+    @Benchmark
+    public void kiemTraEmail(Blackhole bh) {
+        try {
+            TaiKhoan.validateEmail(emails[++lanGoi & 3]);
+            bh.consume(true);
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void kiemTraDauVaoDangNhap(Blackhole bh) {
+        try {
+            TaiKhoan.checkInputForLogin(emails[++lanGoi & 3], "matkhau123");
+            bh.consume(true);
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void giaKhuyenMaiXeMay(Blackhole bh) {
+        bh.consume(xeMoi.tinhGiaSauKhuyenMai());
+        bh.consume(xeCu.tinhGiaSauKhuyenMai());
+    }
+
+    @Benchmark
+    public void giaKhuyenMaiPhuKien(Blackhole bh) {
+        bh.consume(phuKienTonNhieu.tinhGiaSauKhuyenMai());
+        bh.consume(phuKienTonIt.tinhGiaSauKhuyenMai());
+    }
+}
@@ -0,0 +1,144 @@
+package com.motorbike.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.GioHang;
+
+/**
+ * So sánh giỏ hàng theo chỉ mục mã sản phẩm (GioHang hiện tại) với cách cũ:
+ * danh sách + quét tuyến tính + cộng lại cả giỏ sau mỗi thay đổi + sao chép danh sách mỗi lần đọc.
+ *
+ * Chạy: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=GioHangBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GioHangBenchmark {
+
+    @Param({"1", "20", "200"})
+    int soDong;
+
+    private GioHang gioHang;
+    private GioHangDanhSach gioHangCu;
+    private int lanCapNhat;
+
+    @Setup
+    public void setUp() {
+        gioHang = new GioHang(1L);
+        gioHangCu = new GioHangDanhSach();
+        for (long ma = 1; ma <= soDong; ma++) {
+            gioHang.themSanPham(dong(ma));
+            gioHangCu.themSanPham(dong(ma));
+        }
+    }
+
+    private static ChiTietGioHang dong(long maSanPham) {
+        return new ChiTietGioHang(maSanPham, "Phụ kiện " + maSanPham, BigDecimal.valueOf(150000 + maSanPham), 1);
+    }
+
+    // Dựng cả giỏ từ đầu: mỗi lần thêm là một lần tìm dòng + tính lại tổng
+    @Benchmark
+    public BigDecimal themTungDong_ChiMuc() {
+        GioHang moi = new GioHang(1L);
+        for (long ma = 1; ma <= soDong; ma++) {
+            moi.themSanPham(dong(ma));
+        }
+        return moi.getTongTien();
+    }
+
+    @Benchmark
+    public BigDecimal themTungDong_DanhSach() {
+        GioHangDanhSach moi = new GioHangDanhSach();
+        for (long ma = 1; ma <= soDong; ma++) {
+            moi.themSanPham(dong(ma));
+        }
+        return moi.getTongTien();
+    }
+
+    // Một lần /api/cart/update: đổi số lượng dòng cuối rồi đọc lại tổng
+    @Benchmark
+    public BigDecimal capNhatSoLuong_ChiMuc() {
+        gioHang.capNhatSoLuong((long) soDong, 1 + (++lanCapNhat & 1));
+        return gioHang.getTongTien();
+    }
+
+    @Benchmark
+    public BigDecimal capNhatSoLuong_DanhSach() {
+        gioHangCu.capNhatSoLuong((long) soDong, 1 + (++lanCapNhat & 1));
+        return gioHangCu.getTongTien();
+    }
+
+    // Cách checkout đọc giỏ: kiểm tra rỗng, duyệt các dòng, gom số lượng
+    @Benchmark
+    public int docDanhSach_ChiMuc() {
+        return docNhuCheckout(gioHang.getDanhSachSanPham(), gioHang.getDanhSachSanPham(), gioHang.getDanhSachSanPham());
+    }
+
+    @Benchmark
+    public int docDanhSach_DanhSach() {
+        return docNhuCheckout(gioHangCu.getDanhSachSanPham(), gioHangCu.getDanhSachSanPham(), gioHangCu.getDanhSachSanPham());
+    }
+
+    private static int docNhuCheckout(List<ChiTietGioHang> lan1, List<ChiTietGioHang> lan2, List<ChiTietGioHang> lan3) {
+        if (lan1.isEmpty()) {
+            return 0;
+        }
+        int tong = 0;
+        for (ChiTietGioHang item : lan2) {
+            tong += item.getSoLuong();
+        }
+        return tong + lan3.size();
+    }
+
+    // Bản sao cách làm cũ của GioHang, chỉ giữ phần liên quan tới hiệu năng
+    static final class GioHangDanhSach {
+        private final List<ChiTietGioHang> danhSachSanPham = new ArrayList<>();
+        private BigDecimal tongTien = BigDecimal.ZERO;
+
+        void themSanPham(ChiTietGioHang chiTiet) {
+            Optional<ChiTietGioHang> existing = timSanPhamTheoMa(chiTiet.getMaSanPham());
+            if (existing.isPresent()) {
+                existing.get().tangSoLuong(chiTiet.getSoLuong());
+            } else {
+                danhSachSanPham.add(chiTiet);
+            }
+            tinhLaiTongTien();
+        }
+
+        void capNhatSoLuong(Long maSanPham, int soLuongMoi) {
+            timSanPhamTheoMa(maSanPham).orElseThrow().datSoLuong(soLuongMoi);
+            tinhLaiTongTien();
+        }
+
+        List<ChiTietGioHang> getDanhSachSanPham() {return new ArrayList<>(danhSachSanPham);}
+        BigDecimal getTongTien() {return tongTien;}
+
+        private Optional<ChiTietGioHang> timSanPhamTheoMa(Long maSanPham) {
+            return danhSachSanPham.stream().filter(item -> item.getMaSanPham().equals(maSanPham)).findFirst();
+        }
+
+        private void tinhLaiTongTien() {
+            tongTien = danhSachSanPham.stream().map(ChiTietGioHang::tinhTamTinh).reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+}
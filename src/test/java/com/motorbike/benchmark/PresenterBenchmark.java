@@ -0,0 +1,81 @@
+package com.motorbike.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.motorbike.adapters.presenters.CheckoutPresenter;
+import com.motorbike.adapters.presenters.ViewCartPresenter;
+import com.motorbike.adapters.viewmodels.CheckoutViewModel;
+import com.motorbike.adapters.viewmodels.ViewCartViewModel;
+import com.motorbike.business.dto.checkout.CheckoutOutputData;
+import com.motorbike.business.dto.viewcart.ViewCartOutputData;
+
+/**
+ * Chi phí riêng của presenter: dựng view model và định dạng tiền (NumberFormat vi_VN) cho từng dòng.
+ * Output data dựng sẵn một lần nên chỉ đo phần presenter, không gồm repository.
+ *
+ * Chạy: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PresenterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresenterBenchmark {
+
+    @Param({"1", "20"})
+    int soDong;
+
+    private ViewCartOutputData gioHang;
+    private CheckoutOutputData donHang;
+
+    @Setup
+    public void setUp() {
+        List<ViewCartOutputData.CartItemData> dongGio = new ArrayList<>();
+        List<CheckoutOutputData.OrderItemData> dongDon = new ArrayList<>();
+        BigDecimal tong = BigDecimal.ZERO;
+        for (long ma = 1; ma <= soDong; ma++) {
+            BigDecimal gia = BigDecimal.valueOf(150_000 + ma * 1_000);
+            BigDecimal tamTinh = gia.multiply(BigDecimal.valueOf(2));
+            tong = tong.add(tamTinh);
+            // Một nửa số dòng có cảnh báo tồn kho để presenter đi cả hai nhánh
+            boolean canhBao = (ma & 1) == 0;
+            dongGio.add(new ViewCartOutputData.CartItemData(ma, "Phụ kiện " + ma, "pk-" + ma + ".jpg",
+                    gia, 2, tamTinh, canhBao ? 1 : 50, canhBao, canhBao ? "Chỉ còn 1 sản phẩm" : null));
+            dongDon.add(new CheckoutOutputData.OrderItemData(ma, "Phụ kiện " + ma, gia, 2, tamTinh));
+        }
+        gioHang = ViewCartOutputData.forSuccess(1L, dongGio, tong);
+        donHang = CheckoutOutputData.forSuccess(1L, 1L, "Nguyễn Văn An", "0901234567",
+                "12 Lê Lợi, Quận 1", "CHO_XAC_NHAN", tong, soDong, dongDon);
+    }
+
+    // Mỗi request có view model mới, giống cách controller tạo presenter
+    @Benchmark
+    public ViewCartViewModel xemGioHang() {
+        ViewCartViewModel viewModel = new ViewCartViewModel();
+        new ViewCartPresenter(viewModel).present(gioHang);
+        return viewModel;
+    }
+
+    @Benchmark
+    public CheckoutViewModel thanhToan() {
+        CheckoutViewModel viewModel = new CheckoutViewModel();
+        new CheckoutPresenter(viewModel).present(donHang);
+        return viewModel;
+    }
+}
@@ -0,0 +1,156 @@
+package com.motorbike.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.motorbike.adapters.presenters.CheckoutPresenter;
+import com.motorbike.adapters.presenters.SearchMotorbikesPresenter;
+import com.motorbike.adapters.presenters.ViewCartPresenter;
+import com.motorbike.adapters.viewmodels.CheckoutViewModel;
+import com.motorbike.adapters.viewmodels.SearchMotorbikesViewModel;
+import com.motorbike.adapters.viewmodels.ViewCartViewModel;
+import com.motorbike.business.dto.checkout.CheckoutInputData;
+import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
+import com.motorbike.business.dto.viewcart.ViewCartInputData;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.control.CheckoutUseCaseControl;
+import com.motorbike.business.usecase.control.SearchMotorbikesUseCaseControl;
+import com.motorbike.business.usecase.control.ViewCartUseCaseControl;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.GioHang;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.infrastructure.persistence.memory.InMemoryCartRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryMotorbikeRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryProductRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemorySeedData;
+import com.motorbike.infrastructure.search.InMemoryCatalogSearchEngine;
+
+/**
+ * execute() đầy đủ của các use case nóng nhất (checkout, xem giỏ, tìm xe) trên repository trong bộ nhớ,
+ * gồm cả presenter. Không có I/O nên kết quả là phần CPU + cấp phát của tầng business/adapter;
+ * chênh lệch với thời gian đo qua HTTP là chi phí của DB và Spring.
+ *
+ * Chạy: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UseCaseBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UseCaseBenchmark {
+
+    private static final int SO_DONG = 20;
+    private static final Long MA_KHACH_THANH_TOAN = 1L;
+    private static final Long MA_KHACH_XEM_GIO = 2L;
+
+    private InMemoryProductRepository productRepository;
+    private InMemoryCartRepository cartRepository;
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryMotorbikeRepository motorbikeRepository;
+    private InMemoryCatalogSearchEngine searchEngine;
+
+    private final Long[] maPhuKien = new Long[SO_DONG];
+    private Long maDonTruoc;
+
+    @Setup
+    public void setUp() {
+        productRepository = new InMemoryProductRepository();
+        cartRepository = new InMemoryCartRepository();
+        orderRepository = new InMemoryOrderRepository();
+        motorbikeRepository = new InMemoryMotorbikeRepository(productRepository);
+        InMemorySeedData.seedCatalog(productRepository, 200, 100);
+
+        // Tồn kho đủ lớn để mọi lần checkout trong cả phiên đo đều thành công
+        for (int i = 0; i < SO_DONG; i++) {
+            SanPham sanPham = productRepository.save(new PhuKienXeMay("Phụ kiện đo " + i, "Dùng cho benchmark",
+                    BigDecimal.valueOf(150_000 + i * 1_000L), "pk.jpg", 1_000_000_000,
+                    "Mũ bảo hiểm", "Honda", "Nhựa ABS", "L"));
+            maPhuKien[i] = sanPham.getMaSanPham();
+        }
+        cartRepository.save(gioDay(MA_KHACH_XEM_GIO));
+        cartRepository.save(new GioHang(MA_KHACH_THANH_TOAN));
+
+        // Dựng chỉ mục ngay trên luồng setup (không qua luồng nền) để phần đo luôn đi đường chỉ mục
+        searchEngine = new InMemoryCatalogSearchEngine(productRepository, Runnable::run);
+        searchEngine.warmUp();
+    }
+
+    // Checkout làm rỗng giỏ: nạp lại trước mỗi lần gọi và bỏ đơn vừa tạo để bộ nhớ không phình theo số lần đo
+    @Setup(Level.Invocation)
+    public void napLaiGioThanhToan() {
+        if (maDonTruoc != null) {
+            orderRepository.deleteById(maDonTruoc);
+        }
+        GioHang gioHang = cartRepository.findByUserId(MA_KHACH_THANH_TOAN).orElseThrow();
+        for (int i = 0; i < SO_DONG; i++) {
+            gioHang.themSanPham(dong(i));
+        }
+        cartRepository.save(gioHang);
+    }
+
+    private GioHang gioDay(Long maKhach) {
+        GioHang gioHang = new GioHang(maKhach);
+        for (int i = 0; i < SO_DONG; i++) {
+            gioHang.themSanPham(dong(i));
+        }
+        return gioHang;
+    }
+
+    private ChiTietGioHang dong(int i) {
+        return new ChiTietGioHang(maPhuKien[i], "Phụ kiện đo " + i, BigDecimal.valueOf(150_000 + i * 1_000L), 1);
+    }
+
+    @Benchmark
+    public CheckoutViewModel thanhToan20Dong() {
+        CheckoutViewModel viewModel = new CheckoutViewModel();
+        new CheckoutUseCaseControl(new CheckoutPresenter(viewModel), cartRepository, productRepository,
+                orderRepository, TransactionRunner.direct())
+                .execute(new CheckoutInputData(MA_KHACH_THANH_TOAN, "Nguyễn Văn An", "0901234567",
+                        "12 Lê Lợi, Quận 1", null));
+        maDonTruoc = viewModel.orderId;
+        return viewModel;
+    }
+
+    @Benchmark
+    public ViewCartViewModel xemGio20Dong() {
+        ViewCartViewModel viewModel = new ViewCartViewModel();
+        new ViewCartUseCaseControl(new ViewCartPresenter(viewModel), cartRepository, productRepository)
+                .execute(ViewCartInputData.forLoggedInUser(MA_KHACH_XEM_GIO));
+        return viewModel;
+    }
+
+    // Cùng một truy vấn trên 200 xe: quét toàn bộ (CatalogSearchEngine.none()) và qua chỉ mục
+    @Benchmark
+    public SearchMotorbikesViewModel timXe_QuetToanBo() {
+        return timXe(CatalogSearchEngine.none());
+    }
+
+    @Benchmark
+    public SearchMotorbikesViewModel timXe_ChiMuc() {
+        return timXe(searchEngine);
+    }
+
+    private SearchMotorbikesViewModel timXe(CatalogSearchEngine engine) {
+        SearchMotorbikesViewModel viewModel = new SearchMotorbikesViewModel();
+        new SearchMotorbikesUseCaseControl(new SearchMotorbikesPresenter(viewModel), motorbikeRepository,
+                productRepository, engine)
+                .execute(new SearchMotorbikesInputData("honda", null, null, null, null, null, 0, 20, null, null));
+        return viewModel;
+    }
+}
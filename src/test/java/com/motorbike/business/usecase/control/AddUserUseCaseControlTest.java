@@ -49,7 +49,7 @@ class AddUserUseCaseControlTest {
     @Test
     void should_return_error_when_email_exists() {
         AddUserInputData input = AddUserInputData.of(
-                "a@gmail.com", "user", "pw", "0909", "HCM", "USER", true
+                "a@gmail.com", "user", "matkhau123", "0909090909", "HCM", "USER", true
         );
 
         when(userRepository.existsByEmail("a@gmail.com")).thenReturn(true);
@@ -65,7 +65,7 @@ class AddUserUseCaseControlTest {
     @Test
     void should_create_user_and_cart_successfully() {
         AddUserInputData input = AddUserInputData.of(
-                "a@gmail.com", "user", "pw", "0909090909", "HCM", "USER", true
+                "a@gmail.com", "user", "matkhau123", "0909090909", "HCM", "USER", true
         );
 
         when(userRepository.existsByEmail("a@gmail.com")).thenReturn(false);
@@ -74,7 +74,7 @@ class AddUserUseCaseControlTest {
         when(userRepository.save(any())).thenAnswer(inv -> {
             var user = inv.getArgument(0, com.motorbike.domain.entities.TaiKhoan.class);
             // giả lập ID được tạo sau khi save
-            user.setMaTaiKhoan(1);
+            user.setMaTaiKhoan(1L);
             return user;
         });
         
@@ -85,7 +85,7 @@ class AddUserUseCaseControlTest {
 
         AddUserOutputData output = captureOutput();
         assertTrue(output.isSuccess());
-        assertNotNull(output.getUserId());
+        assertNotNull(output.getId());
         assertEquals("a@gmail.com", output.getEmail());
         assertEquals("user", output.getUsername());
 
@@ -98,7 +98,7 @@ class AddUserUseCaseControlTest {
     @Test
     void should_return_system_error_when_repository_throw_exception() {
         AddUserInputData input = AddUserInputData.of(
-                "a@gmail.com", "user", "pw", "0909", "HCM", "USER", true
+                "a@gmail.com", "user", "matkhau123", "0909090909", "HCM", "USER", true
         );
 
         when(userRepository.existsByEmail(any())).thenThrow(new RuntimeException("DB error"));
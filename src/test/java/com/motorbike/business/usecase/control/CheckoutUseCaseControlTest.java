@@ -7,6 +7,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import com.motorbike.adapters.presenters.CheckoutPresenter;
@@ -15,6 +16,8 @@ import com.motorbike.business.dto.checkout.CheckoutInputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.OrderRepository;
 import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
+import com.motorbike.business.ports.transaction.TransactionRunner;
 import com.motorbike.business.usecase.output.CheckoutOutputBoundary;
 import com.motorbike.domain.entities.ChiTietGioHang;
 import com.motorbike.domain.entities.DonHang;
@@ -362,6 +365,213 @@ public class CheckoutUseCaseControlTest {
 		assertEquals(false, viewModel.hasError);
 	}
 	
+	@Test
+	public void testExecute_LoadsCartProductsInOneBatch() {
+		CheckoutInputData inputData = new CheckoutInputData(
+			100L,
+			"Nguyen Van A",
+			"0912345678",
+			"123 Main St",
+			null
+		);
+		
+		BatchCountingProductRepository productRepo = new BatchCountingProductRepository();
+		CheckoutViewModel viewModel = new CheckoutViewModel();
+		CheckoutUseCaseControl control = new CheckoutUseCaseControl(
+			new CheckoutPresenter(viewModel), new MockCartRepository(), productRepo, new MockOrderRepository()
+		);
+		control.execute(inputData);
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(1, productRepo.batchCalls);
+		assertEquals(0, productRepo.singleCalls);
+	}
+	
+	private static class BatchCountingProductRepository extends MockProductRepository {
+		int batchCalls = 0;
+		int singleCalls = 0;
+		
+		@Override
+		public Optional<com.motorbike.domain.entities.SanPham> findById(Long id) {
+			singleCalls++;
+			return super.findById(id);
+		}
+		
+		@Override
+		public java.util.Map<Long, com.motorbike.domain.entities.SanPham> findAllByIds(java.util.Collection<Long> ids) {
+			batchCalls++;
+			java.util.Map<Long, com.motorbike.domain.entities.SanPham> result = new java.util.HashMap<>();
+			for (Long id : ids) {
+				super.findById(id).ifPresent(p -> result.put(id, p));
+			}
+			return result;
+		}
+		
+		@Override
+		public List<Long> decrementStockIfAvailable(java.util.Map<Long, Integer> quantities) {
+			// Giống adapter JPA: trừ kho bằng UPDATE có điều kiện, không nạp lại sản phẩm
+			return new ArrayList<>();
+		}
+	}
+	
+	@Test
+	public void testExecute_ConcurrentStockDecrementFails_NoOrderSaved() {
+		CheckoutInputData inputData = new CheckoutInputData(
+			100L,
+			"Nguyen Van A",
+			"0912345678",
+			"123 Main St",
+			null
+		);
+		
+		SoldOutProductRepository productRepo = new SoldOutProductRepository();
+		CountingOrderRepository orderRepo = new CountingOrderRepository();
+		CheckoutViewModel viewModel = new CheckoutViewModel();
+		CheckoutUseCaseControl control = new CheckoutUseCaseControl(
+			new CheckoutPresenter(viewModel), new MockCartRepository(), productRepo, orderRepo
+		);
+		control.execute(inputData);
+		
+		assertEquals(false, viewModel.success);
+		assertEquals("INSUFFICIENT_STOCK", viewModel.errorCode);
+		assertEquals(0, orderRepo.saveCalls);
+		assertEquals(0, productRepo.saveCalls);
+	}
+	
+	@Test
+	public void testExecute_ReturnModeWithoutPresenter_ThrowsBeforePlacingOrder() {
+		CheckoutInputData inputData = new CheckoutInputData(
+			100L, "Nguyen Van A", "0912345678", "123 Main St", null
+		);
+		CountingOrderRepository orderRepo = new CountingOrderRepository();
+		CheckoutUseCaseControl control = new CheckoutUseCaseControl(
+			new MockCartRepository(), new MockProductRepository(), orderRepo,
+			TransactionRunner.direct(), DashboardCounters.none()
+		);
+		
+		assertThrows(IllegalStateException.class, () -> control.execute(inputData));
+		assertEquals(0, orderRepo.saveCalls);
+	}
+	
+	@Test
+	public void testExecute_OrderSaveFails_RollsBackWholeUnitOfWork() {
+		CheckoutInputData inputData = new CheckoutInputData(
+			100L,
+			"Nguyen Van A",
+			"0912345678",
+			"123 Main St",
+			null
+		);
+		
+		RecordingStockProductRepository productRepo = new RecordingStockProductRepository();
+		RecordingTransactionRunner transactionRunner = new RecordingTransactionRunner();
+		CheckoutViewModel viewModel = new CheckoutViewModel();
+		CheckoutUseCaseControl control = new CheckoutUseCaseControl(
+			new CheckoutPresenter(viewModel), new MockCartRepository(), productRepo,
+			new FailingOrderRepository(), transactionRunner
+		);
+		control.execute(inputData);
+		
+		assertEquals(false, viewModel.success);
+		assertEquals(1, transactionRunner.transactions);
+		assertEquals(1, transactionRunner.rollbacks);
+		// Trừ kho nằm trong giao dịch bị hủy
+		assertEquals(java.util.Map.of(1L, 2), productRepo.decremented);
+	}
+	
+	@Test
+	public void testExecute_Success_CommitsOnce() {
+		CheckoutInputData inputData = new CheckoutInputData(
+			100L,
+			"Nguyen Van A",
+			"0912345678",
+			"123 Main St",
+			null
+		);
+		
+		RecordingTransactionRunner transactionRunner = new RecordingTransactionRunner();
+		CheckoutViewModel viewModel = new CheckoutViewModel();
+		CheckoutUseCaseControl control = new CheckoutUseCaseControl(
+			new CheckoutPresenter(viewModel), new MockCartRepository(), new MockProductRepository(),
+			new MockOrderRepository(), transactionRunner
+		);
+		control.execute(inputData);
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(1, transactionRunner.transactions);
+		assertEquals(0, transactionRunner.rollbacks);
+	}
+	
+	private static class RecordingTransactionRunner implements TransactionRunner {
+		int transactions = 0;
+		int rollbacks = 0;
+		
+		@Override
+		public <T> T inTransaction(java.util.function.Supplier<T> work) {
+			transactions++;
+			try {
+				return work.get();
+			} catch (RuntimeException e) {
+				rollbacks++;
+				throw e;
+			}
+		}
+	}
+	
+	// Kiểm tra trước thấy đủ hàng nhưng đơn khác đã mua hết trước khi trừ kho
+	private static class SoldOutProductRepository extends MockProductRepository {
+		boolean soldOut = false;
+		int saveCalls = 0;
+		
+		@Override
+		public Optional<com.motorbike.domain.entities.SanPham> findById(Long id) {
+			Optional<com.motorbike.domain.entities.SanPham> product = super.findById(id);
+			if (soldOut) {
+				product.ifPresent(p -> p.giamTonKho(p.getSoLuongTonKho()));
+			}
+			return product;
+		}
+		
+		@Override
+		public com.motorbike.domain.entities.SanPham save(com.motorbike.domain.entities.SanPham product) {
+			saveCalls++;
+			return product;
+		}
+		
+		@Override
+		public List<Long> decrementStockIfAvailable(java.util.Map<Long, Integer> quantities) {
+			soldOut = true;
+			return new ArrayList<>(quantities.keySet());
+		}
+	}
+	
+	private static class RecordingStockProductRepository extends MockProductRepository {
+		java.util.Map<Long, Integer> decremented;
+		
+		@Override
+		public List<Long> decrementStockIfAvailable(java.util.Map<Long, Integer> quantities) {
+			decremented = new java.util.HashMap<>(quantities);
+			return new ArrayList<>();
+		}
+	}
+	
+	private static class CountingOrderRepository extends MockOrderRepository {
+		int saveCalls = 0;
+		
+		@Override
+		public DonHang save(DonHang donHang) {
+			saveCalls++;
+			return super.save(donHang);
+		}
+	}
+	
+	private static class FailingOrderRepository extends MockOrderRepository {
+		@Override
+		public DonHang save(DonHang donHang) {
+			throw new RuntimeException("DB down");
+		}
+	}
+	
 	private static class MockCartRepository implements CartRepository {
 		@Override
 		public Optional<GioHang> findByUserId(Long userId) {
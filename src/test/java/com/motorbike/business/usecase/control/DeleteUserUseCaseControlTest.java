@@ -4,12 +4,14 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.when;
 import com.motorbike.business.dto.deleteuser.DeleteUserInputData;
 import com.motorbike.business.dto.deleteuser.DeleteUserOutputData;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.stats.DashboardCounters;
 import com.motorbike.business.usecase.output.DeleteUserOutputBoundary;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.exceptions.ValidationException;
@@ -119,6 +122,18 @@ class DeleteUserUseCaseControlTest {
         assertEquals("SYSTEM_ERROR", output.getErrorCode());
     }
 
+    // ===== TC07 =====Tạo ở chế độ trả về mà gọi execute(input): báo lỗi ngay, không xoá gì
+    @Test
+    void should_fail_fast_when_created_without_output_boundary() {
+        DeleteUserUseCaseControl returnModeUseCase =
+                new DeleteUserUseCaseControl(userRepository, DashboardCounters.none());
+
+        assertThrows(IllegalStateException.class,
+                () -> returnModeUseCase.execute(DeleteUserInputData.forAdmin(true, 1L)));
+
+        verify(userRepository, never()).deleteById(any());
+    }
+
     // ===== helper =====
     private DeleteUserOutputData captureOutput() {
         ArgumentCaptor<DeleteUserOutputData> captor =
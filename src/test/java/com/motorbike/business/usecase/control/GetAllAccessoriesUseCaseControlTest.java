@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import com.motorbike.adapters.presenters.GetAllAccessoriesPresenter;
 import com.motorbike.adapters.viewmodels.GetAllAccessoriesViewModel;
+import com.motorbike.business.dto.accessory.GetAllAccessoriesInputData;
 import com.motorbike.business.ports.repository.AccessoryRepository;
 import com.motorbike.business.usecase.output.GetAllAccessoriesOutputBoundary;
 import com.motorbike.domain.entities.PhuKienXeMay;
@@ -76,6 +77,33 @@ public class GetAllAccessoriesUseCaseControlTest {
         org.junit.jupiter.api.Assertions.assertNotNull(viewModel.errorMessage);
     }
 
+    @Test
+    public void testExecute_WithLimit_ReturnsFirstAccessoriesOnly() {
+        AccessoryRepository accessoryRepo = new MockAccessoryRepository();
+
+        GetAllAccessoriesViewModel viewModel = new GetAllAccessoriesViewModel();
+        GetAllAccessoriesOutputBoundary presenter = new GetAllAccessoriesPresenter(viewModel);
+
+        GetAllAccessoriesUseCaseControl control = new GetAllAccessoriesUseCaseControl(presenter, accessoryRepo);
+        control.execute(new GetAllAccessoriesInputData(2));
+
+        assertFalse(viewModel.hasError);
+        assertEquals(2, viewModel.accessories.size());
+        assertEquals(1L, viewModel.accessories.get(0).getId());
+    }
+
+    @Test
+    public void testExecute_NonPositiveLimit_InvalidPageRequest() {
+        GetAllAccessoriesViewModel viewModel = new GetAllAccessoriesViewModel();
+        GetAllAccessoriesOutputBoundary presenter = new GetAllAccessoriesPresenter(viewModel);
+
+        GetAllAccessoriesUseCaseControl control = new GetAllAccessoriesUseCaseControl(presenter, new MockAccessoryRepository());
+        control.execute(new GetAllAccessoriesInputData(0));
+
+        assertEquals(true, viewModel.hasError);
+        assertEquals("INVALID_PAGE_REQUEST", viewModel.errorCode);
+    }
+
     private static class MockAccessoryRepository implements AccessoryRepository {
 
         @Override
@@ -0,0 +1,121 @@
+package com.motorbike.business.usecase.control;
+
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsInputData;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData;
+import com.motorbike.business.dto.motorbike.GetMotorbikeFacetsOutputData.FacetValue;
+import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.domain.entities.XeMay;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GetMotorbikeFacetsUseCaseControlTest {
+
+    private static class MockMotorbikeRepository implements MotorbikeRepository {
+        private final List<XeMay> data;
+
+        MockMotorbikeRepository(List<XeMay> data) {
+            this.data = data;
+        }
+
+        @Override
+        public List<XeMay> findAllMotorbikes() {
+            return data;
+        }
+
+        @Override
+        public Optional<XeMay> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public XeMay save(XeMay xeMay) {
+            return xeMay;
+        }
+
+        @Override
+        public void deleteById(Long id) {
+        }
+    }
+
+    private List<XeMay> sampleData() {
+        return List.of(
+                xe(1L, "Honda", "Wave Alpha", "Đỏ", 2024, 110),
+                xe(2L, "Yamaha", "Exciter", "Xanh", 2025, 155),
+                xe(3L, "Yamaha", "Sirius", "Đỏ", 2023, 110),
+                xe(4L, "honda", "SH", "Trắng", 2025, 150));
+    }
+
+    private static XeMay xe(Long id, String hang, String dong, String mau, int nam, int cc) {
+        XeMay xe = new XeMay(hang + " " + dong, "Mô tả", BigDecimal.valueOf(30000000), "x.jpg",
+                5, hang, dong, mau, nam, cc);
+        xe.setMaSanPham(id);
+        return xe;
+    }
+
+    private static Map<String, Long> asMap(List<FacetValue> values) {
+        return values.stream().collect(Collectors.toMap(v -> v.value, v -> v.count, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Test
+    void testFacets_NoFilter_CountsWholeCatalog() {
+        GetMotorbikeFacetsUseCaseControl control =
+                new GetMotorbikeFacetsUseCaseControl(new MockMotorbikeRepository(sampleData()));
+
+        GetMotorbikeFacetsOutputData out = control.execute(
+                new GetMotorbikeFacetsInputData(null, null, null, null, null, null), o -> o);
+        assertFalse(out.hasError);
+        assertEquals(4, out.total);
+        // Hãng gộp không phân biệt hoa thường, giữ cách viết gặp đầu tiên
+        assertEquals(Map.of("Honda", 2L, "Yamaha", 2L), asMap(out.brands));
+        assertEquals(2L, asMap(out.colors).get("Đỏ"));
+        assertEquals(List.of("2025", "2024", "2023"),
+                out.years.stream().map(v -> v.value).collect(Collectors.toList()));
+        assertEquals("UP_TO_110", out.displacements.get(0).bucket);
+        assertEquals(2, out.displacements.get(0).count);
+        assertEquals(111, out.displacements.get(1).minCC);
+        assertEquals(150, out.displacements.get(1).maxCC);
+        assertEquals(1, out.displacements.get(1).count);
+    }
+
+    @Test
+    void testFacets_WithFilter_CountsOnlyMatchingMotorbikes() {
+        GetMotorbikeFacetsUseCaseControl control =
+                new GetMotorbikeFacetsUseCaseControl(new MockMotorbikeRepository(sampleData()));
+
+        GetMotorbikeFacetsOutputData out = control.execute(
+                new GetMotorbikeFacetsInputData(null, "yamaha", null, null, null, null), o -> o);
+        assertEquals(2, out.total);
+        assertEquals(Map.of("Exciter", 1L, "Sirius", 1L), asMap(out.models));
+    }
+
+    @Test
+    void testFacets_NullInput_ReturnsValidationError() {
+        GetMotorbikeFacetsUseCaseControl control =
+                new GetMotorbikeFacetsUseCaseControl(new MockMotorbikeRepository(sampleData()));
+
+        GetMotorbikeFacetsOutputData out = control.execute(null, o -> o);
+
+        assertTrue(out.hasError);
+        assertNotEquals("SYSTEM_ERROR", out.errorCode);
+    }
+
+    @Test
+    void testFacets_ReturnMode_HandsOutputToPerCallPresenter() {
+        GetMotorbikeFacetsUseCaseControl control = new GetMotorbikeFacetsUseCaseControl(
+                new MockMotorbikeRepository(sampleData()), CatalogSearchEngine.none());
+
+        Long total = control.execute(
+                new GetMotorbikeFacetsInputData(null, null, null, "đỏ", null, null), out -> out.total);
+        String errorCode = control.execute(null, out -> out.errorCode);
+
+        assertEquals(2L, total);
+        assertNotNull(errorCode);
+    }
+}
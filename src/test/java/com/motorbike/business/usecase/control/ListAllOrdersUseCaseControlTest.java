@@ -95,6 +95,48 @@ public class ListAllOrdersUseCaseControlTest {
 		assertNotNull(viewModel.orders);
 	}
 
+	// Kịch bản 5: Phân trang keyset, đi theo nextCursor
+	@Test
+	@DisplayName("Kịch bản 5: Phân trang theo con trỏ")
+	public void testExecute_PagedByCursor_ShouldWalkAllOrdersNewestFirst() {
+		OrderRepository orderRepo = new MockOrderRepository();
+		
+		ListAllOrdersViewModel viewModel = new ListAllOrdersViewModel();
+		ListAllOrdersUseCaseControl control = new ListAllOrdersUseCaseControl(
+			new ListAllOrdersPresenter(viewModel), orderRepo
+		);
+		control.execute(ListAllOrdersInputData.forAdmin(null, null, 2));
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(2, viewModel.orders.size());
+		assertEquals(1L, viewModel.orders.get(0).orderId);
+		assertEquals(2L, viewModel.orders.get(1).orderId);
+		assertEquals(true, viewModel.hasMore);
+		assertNotNull(viewModel.nextCursor);
+		
+		control.execute(ListAllOrdersInputData.forAdmin(null, viewModel.nextCursor, 2));
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(1, viewModel.orders.size());
+		assertEquals(3L, viewModel.orders.get(0).orderId);
+		assertEquals(false, viewModel.hasMore);
+		assertEquals(null, viewModel.nextCursor);
+	}
+
+	// Kịch bản 6: Con trỏ không hợp lệ
+	@Test
+	@DisplayName("Kịch bản 6: Con trỏ không hợp lệ")
+	public void testExecute_InvalidCursor_ShouldReturnError() {
+		ListAllOrdersViewModel viewModel = new ListAllOrdersViewModel();
+		ListAllOrdersUseCaseControl control = new ListAllOrdersUseCaseControl(
+			new ListAllOrdersPresenter(viewModel), new MockOrderRepository()
+		);
+		control.execute(ListAllOrdersInputData.forAdmin(null, "khong-hop-le", null));
+		
+		assertEquals(false, viewModel.success);
+		assertEquals("INVALID_CURSOR", viewModel.errorCode);
+	}
+
 	// Mock OrderRepository implementation
 	private static class MockOrderRepository implements OrderRepository {
 		@Override
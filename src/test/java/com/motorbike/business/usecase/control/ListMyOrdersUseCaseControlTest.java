@@ -15,6 +15,7 @@ import com.motorbike.adapters.presenters.ListMyOrdersPresenter;
 import com.motorbike.adapters.viewmodels.ListMyOrdersViewModel;
 import com.motorbike.business.dto.listmyorders.ListMyOrdersInputData;
 import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.OrderSummary;
 import com.motorbike.business.usecase.output.ListMyOrdersOutputBoundary;
 import com.motorbike.domain.entities.DonHang;
 import com.motorbike.domain.entities.TrangThaiDonHang;
@@ -108,6 +109,42 @@ public class ListMyOrdersUseCaseControlTest {
 	}
 
 
+	// Kịch bản 5: Dùng bản tóm tắt của repository, không nạp chi tiết đơn
+	@Test
+	@DisplayName("Kịch bản 5: Lấy đơn hàng từ bản tóm tắt")
+	public void testExecute_UsesOrderSummaries_WithoutLoadingOrderLines() {
+		SummaryOnlyOrderRepository orderRepo = new SummaryOnlyOrderRepository();
+		
+		ListMyOrdersViewModel viewModel = new ListMyOrdersViewModel();
+		ListMyOrdersUseCaseControl control = new ListMyOrdersUseCaseControl(
+			new ListMyOrdersPresenter(viewModel), orderRepo
+		);
+		control.execute(ListMyOrdersInputData.forUser(1L));
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(1, viewModel.orders.size());
+		assertEquals(3, viewModel.orders.get(0).totalItems);
+		assertEquals(7, viewModel.orders.get(0).totalQuantity);
+	}
+
+	private static class SummaryOnlyOrderRepository extends MockOrderRepository {
+		@Override
+		public List<DonHang> findByUserId(Long userId) {
+			throw new AssertionError("Không được nạp toàn bộ đơn hàng");
+		}
+
+		@Override
+		public List<OrderSummary> findSummariesByUserId(Long userId) {
+			List<OrderSummary> summaries = new ArrayList<>();
+			summaries.add(new OrderSummary(
+				10L, userId, "Customer", "0123456789", "Address",
+				TrangThaiDonHang.CHO_XAC_NHAN, new BigDecimal("5000000"),
+				3, 7, LocalDateTime.now(), null
+			));
+			return summaries;
+		}
+	}
+
 	// Mock OrderRepository implementation
 	private static class MockOrderRepository implements OrderRepository {
 		@Override
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -142,6 +143,34 @@ void should_trim_keyword_before_filtering() {
     assertEquals("admin@gmail.com", output.getUsers().get(0).email);
 }
 
+    // ===== TC08: có limit, không keyword -> để repository giới hạn, không nạp tất cả =====
+    @Test
+    void should_load_only_limited_users_when_limit_given() {
+        when(userRepository.findAll(1)).thenReturn(mockUsers().subList(0, 1));
+
+        useCase.execute(ListUsersInputData.forAdmin(true, null, 1));
+
+        ArgumentCaptor<ListUsersOutputData> captor = ArgumentCaptor.forClass(ListUsersOutputData.class);
+        verify(outputBoundary).present(captor.capture());
+
+        ListUsersOutputData output = captor.getValue();
+        assertTrue(output.isSuccess());
+        assertEquals(1, output.getUsers().size());
+        verify(userRepository, never()).findAll();
+    }
+
+    // ===== TC09: limit <= 0 -> INVALID_PAGE_REQUEST =====
+    @Test
+    void should_reject_non_positive_limit() {
+        useCase.execute(ListUsersInputData.forAdmin(true, null, 0));
+
+        ArgumentCaptor<ListUsersOutputData> captor = ArgumentCaptor.forClass(ListUsersOutputData.class);
+        verify(outputBoundary).present(captor.capture());
+
+        assertFalse(captor.getValue().isSuccess());
+        assertEquals("INVALID_PAGE_REQUEST", captor.getValue().getErrorCode());
+    }
+
     // ===== Test data =====
     private List<TaiKhoan> mockUsers() {
         LocalDateTime now = LocalDateTime.now();
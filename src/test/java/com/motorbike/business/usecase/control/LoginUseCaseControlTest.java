@@ -1,22 +1,32 @@
 package com.motorbike.business.usecase.control;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
 
+import com.motorbike.adapters.dto.response.LoginResponse;
 import com.motorbike.adapters.presenters.LoginPresenter;
+import com.motorbike.adapters.presenters.LoginResponsePresenter;
 import com.motorbike.adapters.viewmodels.LoginViewModel;
 import com.motorbike.business.dto.login.LoginInputData;
 import com.motorbike.business.ports.repository.CartRepository;
 import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.business.ports.transaction.TransactionRunner;
 import com.motorbike.business.usecase.output.LoginOutputBoundary;
 import com.motorbike.domain.entities.GioHang;
 import com.motorbike.domain.entities.TaiKhoan;
 import com.motorbike.domain.entities.VaiTro;
+import com.motorbike.domain.exceptions.SystemException;
+import com.motorbike.infrastructure.security.Pbkdf2PasswordHasher;
 
 public class LoginUseCaseControlTest {
 
@@ -55,6 +65,26 @@ public class LoginUseCaseControlTest {
 		assertEquals(true, viewModel.success);
 		assertEquals(false, viewModel.hasError);
 		assertEquals(true, viewModel.cartMerged);
+		assertEquals(2, viewModel.mergedItemsCount);
+	}
+	
+	@Test
+	public void testExecute_ValidCredentials_MissingGuestCart() {
+		LoginInputData inputData = new LoginInputData("user@test.com", "password123", 404L);
+		
+		UserRepository userRepo = new MockUserRepository();
+		CartRepository cartRepo = new MockCartRepository();
+		
+		LoginViewModel viewModel = new LoginViewModel();
+		LoginOutputBoundary outputBoundary = new LoginPresenter(viewModel);
+		
+		LoginUseCaseControl control = new LoginUseCaseControl(outputBoundary, userRepo, cartRepo);
+		control.execute(inputData);
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(false, viewModel.cartMerged);
+		assertEquals(0, viewModel.mergedItemsCount);
+		assertEquals(1L, viewModel.cartId);
 	}
 	
 	@Test
@@ -262,6 +292,115 @@ public class LoginUseCaseControlTest {
 		assertEquals(false, viewModel.hasError);
 	}
 	
+	@Test
+	public void testExecute_ValidCredentials_RecordsLastLoginThroughRecorder() {
+		LoginInputData inputData = new LoginInputData("user@test.com", "password123");
+		List<Long> recorded = new ArrayList<>();
+		
+		LoginViewModel viewModel = new LoginViewModel();
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new LoginPresenter(viewModel), new MockUserRepository(), new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> recorded.add(maTaiKhoan));
+		control.execute(inputData);
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(List.of(1L), recorded);
+	}
+	
+	@Test
+	public void testExecute_WrongPassword_DoesNotRecordLastLogin() {
+		LoginInputData inputData = new LoginInputData("user@test.com", "wrongpass1");
+		List<Long> recorded = new ArrayList<>();
+		
+		LoginViewModel viewModel = new LoginViewModel();
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new LoginPresenter(viewModel), new MockUserRepository(), new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> recorded.add(maTaiKhoan));
+		control.execute(inputData);
+		
+		assertEquals(false, viewModel.success);
+		assertEquals(List.of(), recorded);
+	}
+	
+	@Test
+	public void testExecute_LegacyPlainTextPassword_IsRehashedOnLogin() {
+		LoginInputData inputData = new LoginInputData("user@test.com", "password123");
+		List<String[]> updated = new ArrayList<>();
+		UserRepository userRepo = new MockUserRepository() {
+			@Override
+			public TaiKhoan save(TaiKhoan taiKhoan) {
+				throw new AssertionError("rehash must not rewrite the whole account");
+			}
+			
+			@Override
+			public boolean updatePasswordIfCurrent(Long userId, String matKhauCu, String matKhauMoi) {
+				updated.add(new String[] {String.valueOf(userId), matKhauCu, matKhauMoi});
+				return true;
+			}
+		};
+		Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(1_000);
+		
+		LoginViewModel viewModel = new LoginViewModel();
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new LoginPresenter(viewModel), userRepo, new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> { }, hasher);
+		control.execute(inputData);
+		
+		assertEquals(true, viewModel.success);
+		assertEquals(1, updated.size());
+		assertEquals("1", updated.get(0)[0]);
+		assertEquals("password123", updated.get(0)[1]);
+		assertTrue(updated.get(0)[2].startsWith("pbkdf2-sha256$"));
+		assertTrue(hasher.matches("password123", updated.get(0)[2]));
+	}
+	
+	@Test
+	public void testExecute_HashingServiceBusy_ReturnsServiceBusy() {
+		LoginInputData inputData = new LoginInputData("user@test.com", "password123");
+		PasswordHasher busy = new PasswordHasher() {
+			public String hash(String matKhau) { throw SystemException.passwordHashingBusy(); }
+			public boolean matches(String matKhau, String matKhauDaLuu) { throw SystemException.passwordHashingBusy(); }
+			public boolean needsRehash(String matKhauDaLuu) { return false; }
+		};
+		
+		LoginViewModel viewModel = new LoginViewModel();
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new LoginPresenter(viewModel), new MockUserRepository(), new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> { }, busy);
+		control.execute(inputData);
+		
+		assertEquals(false, viewModel.success);
+		assertEquals("SERVICE_BUSY", viewModel.errorCode);
+	}
+	
+	@Test
+	public void testExecute_ReturnMode_EachCallGetsItsOwnResponse() {
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new MockUserRepository(), new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> { }, PasswordHasher.plainText());
+		LoginResponsePresenter presenter = new LoginResponsePresenter();
+		
+		ResponseEntity<LoginResponse> ok = control.execute(new LoginInputData("user@test.com", "password123"), presenter);
+		ResponseEntity<LoginResponse> failed = control.execute(new LoginInputData("user@test.com", "wrongpassword"), presenter);
+		
+		assertEquals(200, ok.getStatusCode().value());
+		assertEquals(true, ok.getBody().isSuccess());
+		assertEquals("user@test.com", ok.getBody().getEmail());
+		assertEquals(401, failed.getStatusCode().value());
+		assertEquals(false, failed.getBody().isSuccess());
+		assertEquals(null, failed.getBody().getEmail());
+	}
+	
+	@Test
+	public void testExecute_ReturnModeWithoutPresenter_Throws() {
+		LoginUseCaseControl control = new LoginUseCaseControl(
+			new MockUserRepository(), new MockCartRepository(),
+			TransactionRunner.direct(), (maTaiKhoan, thoiGian) -> { }, PasswordHasher.plainText());
+		
+		assertThrows(IllegalStateException.class,
+			() -> control.execute(new LoginInputData("user@test.com", "password123")));
+	}
+	
 	private static class MockUserRepository implements UserRepository {
 		@Override
 		public Optional<TaiKhoan> findByEmail(String email) {
@@ -357,7 +496,7 @@ public class LoginUseCaseControlTest {
 		
 		@Override
 		public int mergeGuestCartToUserCart(Long guestCartId, Long userCartId) {
-			return 0;
+			return guestCartId == 999L ? 2 : -1;
 		}
 	}
 }
@@ -85,6 +85,104 @@ public class SearchAdminOrderUseCaseControlTest {
         assertEquals(2, viewModel.orders.size());
     }
 
+    @Test
+    @DisplayName("Kịch bản 5: Chỉ mục sẵn sàng thì không truy vấn SQL")
+    public void testExecute_WarmIndex_LoadsMatchedOrdersByIds() {
+        SearchAdminOrderInputData inputData = SearchAdminOrderInputData.forAdmin("nguyen");
+        
+        List<Long> requestedIds = new ArrayList<>();
+        OrderRepository orderRepo = new MockOrderRepository() {
+            @Override
+            public List<DonHang> searchForAdmin(String query) {
+                throw new AssertionError("Không được truy vấn SQL khi chỉ mục đã sẵn sàng");
+            }
+            
+            @Override
+            public List<DonHang> findAllByIds(java.util.Collection<Long> orderIds) {
+                requestedIds.addAll(orderIds);
+                return List.of();
+            }
+        };
+        SearchAdminOrderViewModel viewModel = new SearchAdminOrderViewModel();
+        SearchAdminOrderPresenter presenter = new SearchAdminOrderPresenter(viewModel);
+        
+        SearchAdminOrderUseCaseControl useCase = new SearchAdminOrderUseCaseControl(
+            presenter, orderRepo, query -> Optional.of(List.of(7L, 3L)));
+        useCase.execute(inputData);
+        
+        assertEquals(true, viewModel.success);
+        assertEquals(List.of(7L, 3L), requestedIds);
+    }
+
+    @Test
+    @DisplayName("Kịch bản 6: Quá nhiều kết quả thì chỉ nạp các đơn mới nhất và báo bị cắt bớt")
+    public void testExecute_TooManyMatches_LoadsNewestSliceAndFlagsTruncation() {
+        SearchAdminOrderInputData inputData = SearchAdminOrderInputData.forAdmin("cho");
+        
+        List<Long> indexedIds = new ArrayList<>();
+        for (long id = 5000; id > 0; id--) {
+            indexedIds.add(id);
+        }
+        List<Long> requestedIds = new ArrayList<>();
+        OrderRepository orderRepo = new MockOrderRepository() {
+            @Override
+            public List<DonHang> findAllByIds(java.util.Collection<Long> orderIds) {
+                requestedIds.addAll(orderIds);
+                List<DonHang> orders = new ArrayList<>();
+                for (Long id : orderIds) {
+                    orders.add(order(id, LocalDateTime.now().minusMinutes(5000 - id)));
+                }
+                return orders;
+            }
+        };
+        SearchAdminOrderViewModel viewModel = new SearchAdminOrderViewModel();
+        SearchAdminOrderPresenter presenter = new SearchAdminOrderPresenter(viewModel);
+        
+        SearchAdminOrderUseCaseControl useCase = new SearchAdminOrderUseCaseControl(
+            presenter, orderRepo, query -> Optional.of(indexedIds));
+        useCase.execute(inputData);
+        
+        assertEquals(true, viewModel.success);
+        assertEquals(true, viewModel.truncated);
+        assertEquals(indexedIds.subList(0, SearchAdminOrderUseCaseControl.MAX_RESULTS), requestedIds);
+        assertEquals(SearchAdminOrderUseCaseControl.MAX_RESULTS, viewModel.orders.size());
+        assertEquals(5000L, viewModel.orders.get(0).orderId);
+    }
+
+    @Test
+    @DisplayName("Kịch bản 7: Chỉ mục chưa sẵn sàng thì truy vấn SQL có giới hạn")
+    public void testExecute_ColdIndex_QueriesSqlWithLimit() {
+        SearchAdminOrderInputData inputData = SearchAdminOrderInputData.forAdmin("cho");
+        
+        List<Integer> limits = new ArrayList<>();
+        OrderRepository orderRepo = new MockOrderRepository() {
+            @Override
+            public List<DonHang> searchForAdmin(String query, int limit) {
+                limits.add(limit);
+                List<DonHang> orders = new ArrayList<>();
+                for (long id = 1; id <= limit; id++) {
+                    orders.add(order(id, LocalDateTime.now().minusMinutes(id)));
+                }
+                return orders;
+            }
+        };
+        SearchAdminOrderViewModel viewModel = new SearchAdminOrderViewModel();
+        SearchAdminOrderPresenter presenter = new SearchAdminOrderPresenter(viewModel);
+        
+        SearchAdminOrderUseCaseControl useCase = new SearchAdminOrderUseCaseControl(
+            presenter, orderRepo, query -> Optional.empty());
+        useCase.execute(inputData);
+        
+        assertEquals(List.of(SearchAdminOrderUseCaseControl.MAX_RESULTS + 1), limits);
+        assertEquals(true, viewModel.truncated);
+        assertEquals(SearchAdminOrderUseCaseControl.MAX_RESULTS, viewModel.orders.size());
+    }
+
+    private static DonHang order(Long id, LocalDateTime orderedAt) {
+        return new DonHang(id, 1L, new ArrayList<>(), new BigDecimal("50000000"), TrangThaiDonHang.CHO_XAC_NHAN,
+            "Nguyen Van A", "0123456789", "123 Test Street", null, orderedAt, orderedAt);
+    }
+
     // Mock implementation of OrderRepository for testing
     private static class MockOrderRepository implements OrderRepository {
         @Override
@@ -4,7 +4,10 @@ import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
 import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData;
 import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData.MotorbikeItem;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
 import com.motorbike.business.usecase.output.SearchMotorbikesOutputBoundary;
+import com.motorbike.domain.entities.SanPham;
 import com.motorbike.domain.entities.XeMay;
 
 import org.junit.jupiter.api.Test;
@@ -65,6 +68,64 @@ class SearchMotorbikesUseCaseControlTest {
 
     }
 
+    private static class MapProductRepository implements ProductRepository {
+        final Map<Long, SanPham> store = new HashMap<>();
+
+        MapProductRepository(List<XeMay> data) {
+            data.forEach(x -> store.put(x.getMaSanPham(), x));
+        }
+
+        @Override
+        public Optional<SanPham> findById(Long productId) {
+            return Optional.ofNullable(store.get(productId));
+        }
+
+        @Override
+        public SanPham save(SanPham sanPham) {
+            return sanPham;
+        }
+
+        @Override
+        public boolean existsById(Long productId) {
+            return store.containsKey(productId);
+        }
+
+        @Override
+        public List<SanPham> findAll() {
+            return new ArrayList<>(store.values());
+        }
+    }
+
+    // Chỉ mục giả: trả các sản phẩm theo đúng thứ tự liên quan cho trước, lọc/sắp xếp như chỉ mục thật
+    private static class RankedSearchEngine implements CatalogSearchEngine {
+        final List<? extends SanPham> ranked;
+
+        RankedSearchEngine(List<? extends SanPham> ranked) {
+            this.ranked = ranked;
+        }
+
+        @Override
+        public Optional<List<Long>> search(String keyword, ProductType type) {
+            return Optional.of(ranked.stream().map(SanPham::getMaSanPham).collect(java.util.stream.Collectors.toList()));
+        }
+
+        @Override
+        public Optional<List<SanPham>> searchProducts(String keyword, ProductType type,
+                                                      java.util.function.Predicate<SanPham> filter,
+                                                      Comparator<SanPham> order) {
+            List<SanPham> matched = new ArrayList<>();
+            for (SanPham p : ranked) {
+                if (filter.test(p)) {
+                    matched.add(p);
+                }
+            }
+            if (order != null) {
+                matched.sort(order);
+            }
+            return Optional.of(matched);
+        }
+    }
+
     private List<XeMay> sampleData() {
         List<XeMay> list = new ArrayList<>();
 
@@ -166,4 +227,134 @@ class SearchMotorbikesUseCaseControlTest {
         assertEquals("SYSTEM_ERROR", presenter.receivedData.errorCode);
         assertNotNull(presenter.receivedData.errorMessage);
     }
+
+    @Test
+    void testSearch_PagedAndSortedByPriceDesc() {
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control =
+                new SearchMotorbikesUseCaseControl(presenter, new MockMotorbikeRepository(sampleData()));
+
+        SearchMotorbikesInputData input =
+                new SearchMotorbikesInputData(null, null, null, null, null, null, 0, 2, "price", "desc");
+
+        control.execute(input);
+
+        assertFalse(presenter.receivedData.hasError);
+        assertEquals(2, presenter.receivedData.motorbikes.size());
+        assertEquals(2L, presenter.receivedData.motorbikes.get(0).id);
+        assertEquals(3L, presenter.receivedData.motorbikes.get(1).id);
+        assertEquals(3, presenter.receivedData.totalElements);
+        assertEquals(2, presenter.receivedData.totalPages);
+    }
+
+    @Test
+    void testSearch_SecondPage() {
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control =
+                new SearchMotorbikesUseCaseControl(presenter, new MockMotorbikeRepository(sampleData()));
+
+        SearchMotorbikesInputData input =
+                new SearchMotorbikesInputData(null, null, null, null, null, null, 1, 2, "name", "asc");
+
+        control.execute(input);
+
+        assertEquals(1, presenter.receivedData.motorbikes.size());
+        assertEquals("Yamaha Sirius", presenter.receivedData.motorbikes.get(0).name);
+        assertEquals(1, presenter.receivedData.page);
+    }
+
+    @Test
+    void testSearch_InvalidSortField() {
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control =
+                new SearchMotorbikesUseCaseControl(presenter, new MockMotorbikeRepository(sampleData()));
+
+        SearchMotorbikesInputData input =
+                new SearchMotorbikesInputData(null, null, null, null, null, null, 0, 10, "password", null);
+
+        control.execute(input);
+
+        assertTrue(presenter.receivedData.hasError);
+        assertEquals("INVALID_SORT_FIELD", presenter.receivedData.errorCode);
+    }
+
+    @Test
+    void testSearch_InvalidPageSize() {
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control =
+                new SearchMotorbikesUseCaseControl(presenter, new MockMotorbikeRepository(sampleData()));
+
+        SearchMotorbikesInputData input =
+                new SearchMotorbikesInputData(null, null, null, null, null, null, 0, 0, null, null);
+
+        control.execute(input);
+
+        assertEquals("INVALID_PAGE_REQUEST", presenter.receivedData.errorCode);
+    }
+
+    @Test
+    void testSearch_WithSearchEngine_KeepsRelevanceOrderAndAppliesFilters() {
+        MockPresenter presenter = new MockPresenter();
+        List<XeMay> data = sampleData();
+        CatalogSearchEngine engine = new RankedSearchEngine(List.of(data.get(2), data.get(1), data.get(0)));
+        SearchMotorbikesUseCaseControl control = new SearchMotorbikesUseCaseControl(presenter,
+                new MockMotorbikeRepository(true), new MapProductRepository(data), engine);
+
+        SearchMotorbikesInputData input =
+                new SearchMotorbikesInputData("xe so", null, null, null, null, 150);
+
+        control.execute(input);
+
+        assertFalse(presenter.receivedData.hasError);
+        assertEquals(2, presenter.receivedData.motorbikes.size());
+        assertEquals(3L, presenter.receivedData.motorbikes.get(0).id);
+        assertEquals(1L, presenter.receivedData.motorbikes.get(1).id);
+    }
+
+    @Test
+    void testSearch_SearchEngineNotReady_FallsBackToRepository() {
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control = new SearchMotorbikesUseCaseControl(presenter,
+                new MockMotorbikeRepository(sampleData()), new MapProductRepository(List.of()),
+                CatalogSearchEngine.none());
+
+        control.execute(new SearchMotorbikesInputData("exciter", null, null, null, null, null));
+
+        assertEquals(1, presenter.receivedData.motorbikes.size());
+        assertEquals(2L, presenter.receivedData.motorbikes.get(0).id);
+    }
+
+    @Test
+    void testSearch_WithSearchEngine_LoadsOnlyRequestedPageOfManyRankedIds() {
+        // Nhiều mã hơn một lô IN (1000): chỉ mục lọc và sắp xếp, use case chỉ nạp 20 xe của trang
+        List<XeMay> ranked = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            XeMay xe = new XeMay("Xe " + id, "Xe số", BigDecimal.valueOf(20_000_000L + id * 1000), "xe.jpg",
+                    10, id % 2 == 0 ? "Honda" : "Yamaha", "Dòng " + id % 7, "Đỏ", 2024, id % 2 == 0 ? 110 : 155);
+            xe.setMaSanPham(id);
+            ranked.add(xe);
+        }
+        List<Collection<Long>> loads = new ArrayList<>();
+        MapProductRepository products = new MapProductRepository(ranked) {
+            @Override
+            public Map<Long, SanPham> findAllByIds(Collection<Long> productIds) {
+                loads.add(new ArrayList<>(productIds));
+                return super.findAllByIds(productIds);
+            }
+        };
+        MockPresenter presenter = new MockPresenter();
+        SearchMotorbikesUseCaseControl control = new SearchMotorbikesUseCaseControl(presenter,
+                new MockMotorbikeRepository(true), products, new RankedSearchEngine(ranked));
+
+        control.execute(new SearchMotorbikesInputData("xe", "Honda", null, null, null, 150, 3, 20, "price", "desc"));
+
+        assertFalse(presenter.receivedData.hasError);
+        assertEquals(1, loads.size());
+        assertEquals(20, loads.get(0).size());
+        assertEquals(1250, presenter.receivedData.totalElements);
+        assertEquals(20, presenter.receivedData.motorbikes.size());
+        // Honda giá giảm dần: trang 3 bắt đầu từ xe thứ 61, tức mã 2500 - 60 * 2
+        assertEquals(2380L, presenter.receivedData.motorbikes.get(0).id);
+        assertTrue(presenter.receivedData.motorbikes.stream().allMatch(m -> "Honda".equals(m.brand)));
+    }
 }
@@ -3,6 +3,7 @@ package com.motorbike.business.usecase.control;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeInputData;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData;
 import com.motorbike.business.dto.motorbike.UpdateMotorbikeOutputData.MotorbikeItem;
+import com.motorbike.business.ports.event.ProductChangeListener;
 import com.motorbike.business.ports.repository.MotorbikeRepository;
 import com.motorbike.business.usecase.output.UpdateMotorbikeOutputBoundary;
 import com.motorbike.domain.entities.XeMay;
@@ -171,4 +172,42 @@ class UpdateMotorbikeUseCaseControlTest {
         assertEquals("SYSTEM_ERROR", presenter.received.getErrorCode());
         assertNotNull(presenter.received.getErrorMessage());
     }
+
+    @Test
+    void testUpdate_NotifiesProductChangeListener() {
+        MockPresenter presenter = new MockPresenter();
+        MockRepo repo = new MockRepo();
+
+        XeMay xe = new XeMay(
+                "Name", "Desc", new BigDecimal("1000"),
+                "img.jpg", 5, "Yamaha", "Sirius", "Xanh", 2021, 110
+        );
+        xe.setMaSanPham(7L);
+        repo.store.add(xe);
+
+        List<Long> savedIds = new ArrayList<>();
+        ProductChangeListener listener = new ProductChangeListener() {
+            @Override
+            public void onProductSaved(Long productId) {
+                savedIds.add(productId);
+            }
+
+            @Override
+            public void onProductDeleted(Long productId) {
+            }
+        };
+
+        UpdateMotorbikeUseCaseControl control =
+                new UpdateMotorbikeUseCaseControl(presenter, repo, listener);
+
+        UpdateMotorbikeInputData input = new UpdateMotorbikeInputData(
+                7L, null, null, new BigDecimal("1500"), null, null,
+                null, null, null, null, null
+        );
+
+        control.execute(input);
+
+        assertNull(presenter.received.getErrorCode());
+        assertEquals(List.of(7L), savedIds);
+    }
 }
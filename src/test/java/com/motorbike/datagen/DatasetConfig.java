@@ -0,0 +1,99 @@
+package com.motorbike.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tham số sinh dữ liệu, đọc từ các cặp key=value (cho phép nhiều cặp trong một đối số, cách nhau bởi khoảng trắng).
+ * Cùng seed + endDate + số lượng thì ra cùng một bộ dữ liệu; mỗi bảng dùng seed riêng suy ra từ seed chung,
+ * nên đổi số đơn hàng không làm đổi danh mục hay tài khoản.
+ */
+final class DatasetConfig {
+
+    String jdbcUrl = "jdbc:sqlserver://localhost\\MSSQLSERVER01;databaseName=MotorcycleShop;encrypt=false;trustServerCertificate=true";
+    String user = "sa";
+    String password = "";
+
+    int motorbikes = 2_000;
+    int accessories = 8_000;
+    int users = 1_000_000;
+    int orders = 3_000_000;
+    // Tỉ lệ tài khoản có giỏ hàng đang dở (mọi tài khoản đều có một dòng gio_hang như khi đăng ký)
+    double cartFill = 0.3;
+
+    double productSkew = 1.1;
+    double userSkew = 0.8;
+    // Đơn hàng trải đều theo thời gian trong days ngày tính tới endDate, mã đơn tăng theo ngày đặt
+    int days = 730;
+    LocalDate endDate = LocalDate.now();
+
+    // Tài khoản khachN@motorbike.local bắt đầu từ N = firstCustomer (tránh trùng khi nạp thêm lần nữa)
+    int firstCustomer = 1;
+    String accountPassword = "matkhau123";
+    int passwordIterations = 100_000;
+
+    int batchSize = 1_000;
+    int batchesPerCommit = 20;
+    long seed = 42L;
+
+    static DatasetConfig parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            for (String pair : arg.trim().split("\\s+")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Expected key=value but got: " + pair);
+                }
+                values.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+
+        DatasetConfig config = new DatasetConfig();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "jdbcUrl" -> config.jdbcUrl = value;
+                case "user" -> config.user = value;
+                case "password" -> config.password = value;
+                case "motorbikes" -> config.motorbikes = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "accessories" -> config.accessories = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "users" -> config.users = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "orders" -> config.orders = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "cartFill" -> config.cartFill = Double.parseDouble(value);
+                case "productSkew" -> config.productSkew = Double.parseDouble(value);
+                case "userSkew" -> config.userSkew = Double.parseDouble(value);
+                case "days" -> config.days = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "endDate" -> config.endDate = LocalDate.parse(value);
+                case "firstCustomer" -> config.firstCustomer = nonNegative(entry.getKey(), Integer.parseInt(value));
+                case "accountPassword" -> config.accountPassword = value;
+                case "passwordIterations" -> config.passwordIterations = positive(entry.getKey(), Integer.parseInt(value));
+                case "batchSize" -> config.batchSize = positive(entry.getKey(), Integer.parseInt(value));
+                case "batchesPerCommit" -> config.batchesPerCommit = positive(entry.getKey(), Integer.parseInt(value));
+                case "seed" -> config.seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + entry.getKey());
+            }
+        }
+        if (config.orders > 0 && (config.users == 0 || config.motorbikes + config.accessories == 0)) {
+            throw new IllegalArgumentException("orders need at least one user and one product");
+        }
+        return config;
+    }
+
+    private static int positive(String key, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+        return value;
+    }
+
+    private static int nonNegative(String key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must not be negative");
+        }
+        return value;
+    }
+}
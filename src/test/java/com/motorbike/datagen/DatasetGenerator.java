@@ -0,0 +1,508 @@
+package com.motorbike.datagen;
+
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.infrastructure.persistence.memory.InMemorySeedData;
+import com.motorbike.infrastructure.security.Pbkdf2PasswordHasher;
+
+/**
+ * Sinh dữ liệu lớn cho benchmark / thử tải: danh mục xe + phụ kiện, tài khoản khách, giỏ hàng, đơn hàng
+ * và chi tiết, ghi thẳng bằng JDBC theo lô (executeBatch, commit sau batchesPerCommit lô).
+ *
+ * - Sản phẩm được mua / bỏ giỏ theo Zipf (productSkew), khách đặt đơn theo Zipf (userSkew).
+ * - Họ tên, số điện thoại, địa chỉ tiếng Việt có dấu; trạng thái đơn phụ thuộc tuổi đơn
+ *   (đơn vài ngày gần đây còn chờ xác nhận / đang giao, đơn cũ đã giao hoặc đã hủy).
+ * - Mã của bảng cha (san_pham, tai_khoan, gio_hang, don_hang) được gán tường minh nối tiếp MAX hiện có,
+ *   để bảng con trỏ đúng mà không phải đọc lại khóa sinh tự động.
+ * - Tài khoản là khachN@motorbike.local với cùng một mật khẩu (băm một lần), khớp với LoadGenerator.
+ *   Cột ho_ten (có trong database-setup.sql, entity không ánh xạ) được ghi khi bảng có cột đó.
+ *
+ * Chạy: mvn -Pdatagen test-compile exec:exec -Ddatagen.args="jdbcUrl=... user=... password=... users=1000000 orders=3000000"
+ */
+public final class DatasetGenerator {
+
+    record Summary(long products, long users, long carts, long cartLines, long orders, long orderLines) {}
+
+    private record Catalog(long[] ids, String[] names, BigDecimal[] prices, boolean[] motorbike) {}
+
+    private static final String[] GHI_CHU = {
+            "Giao giờ hành chính", "Gọi trước khi giao", "Giao buổi tối sau 18h", "Để hàng ở bảo vệ", "Kiểm tra hàng trước khi nhận"
+    };
+    private static final int[] SO_DONG_WEIGHT = {55, 25, 12, 5, 3};
+
+    private final DatasetConfig config;
+    private final PrintStream out;
+    private int batchesSinceCommit;
+
+    DatasetGenerator(DatasetConfig config, PrintStream out) {
+        this.config = config;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        DatasetConfig config = DatasetConfig.parse(args);
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl, config.user, config.password)) {
+            new DatasetGenerator(config, System.out).load(connection);
+        }
+    }
+
+    Summary load(Connection connection) throws SQLException {
+        Dialect dialect = Dialect.of(connection);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        out.printf("Sinh dữ liệu vào %s (seed %d, tới ngày %s)%n", dialect, config.seed, config.endDate);
+        try {
+            Catalog catalog = loadCatalog(connection, dialect);
+            long firstUserId = loadUsers(connection, dialect);
+            long[] carts = loadCarts(connection, dialect, catalog, firstUserId);
+            long[] orders = loadOrders(connection, dialect, catalog, firstUserId);
+            connection.commit();
+            return new Summary(catalog.ids().length, config.users, carts[0], carts[1], orders[0], orders[1]);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // ============================
+    // san_pham + xe_may / phu_kien_xe_may
+    // ============================
+    private Catalog loadCatalog(Connection connection, Dialect dialect) throws SQLException {
+        int total = config.motorbikes + config.accessories;
+        Catalog catalog = new Catalog(new long[total], new String[total], new BigDecimal[total], new boolean[total]);
+        Random random = new Random(config.seed * 1_000_003L + 1);
+        long nextId = nextId(connection, "san_pham", "ma_san_pham");
+        LocalDateTime end = config.endDate.atStartOfDay();
+        long started = System.nanoTime();
+
+        dialect.beginExplicitIds(connection, "san_pham");
+        try (Batch sanPham = new Batch(connection, "INSERT INTO san_pham (ma_san_pham, ten_san_pham, mo_ta, gia, hinh_anh,"
+                     + " so_luong_ton_kho, con_hang, ngay_tao, ngay_cap_nhat, loai_san_pham) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch xeMay = new Batch(connection, "INSERT INTO xe_may (ma_san_pham, hang_xe, dong_xe, mau_sac, nam_san_xuat, dung_tich)"
+                     + " VALUES (?, ?, ?, ?, ?, ?)");
+             Batch phuKien = new Batch(connection, "INSERT INTO phu_kien_xe_may (ma_san_pham, loai_phu_kien, thuong_hieu, chat_lieu,"
+                     + " kich_thuoc) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < total; i++) {
+                long id = nextId + i;
+                boolean laXe = i < config.motorbikes;
+                // ~3% hết hàng; còn lại tồn kho lệch về số nhỏ
+                int tonKho = random.nextInt(100) < 3 ? 0 : 1 + (int) (Math.pow(random.nextDouble(), 2) * (laXe ? 60 : 400));
+                LocalDateTime ngayTao = end.minusDays(random.nextInt(Math.max(1, config.days)));
+                String ten;
+                BigDecimal gia;
+                if (laXe) {
+                    VietnameseData.Model model = VietnameseData.MODELS[VietnameseData.weighted(random, VietnameseData.MODEL_WEIGHT)];
+                    int tuoi = Math.min(6, (int) (-Math.log(1 - random.nextDouble()) * 1.5));
+                    int nam = config.endDate.getYear() - tuoi;
+                    String mau = VietnameseData.pick(random, VietnameseData.MAU_SAC);
+                    gia = roundTo(model.giaVnd() * (0.95 + random.nextDouble() * 0.15) * Math.pow(0.96, tuoi), 100_000);
+                    ten = model.hangXe() + " " + model.dongXe() + " " + nam + " " + mau;
+                    sanPham.add(id, ten, "Xe " + model.hangXe() + " " + model.dongXe()
+                                    + (model.dungTich() > 0 ? " " + model.dungTich() + "cc" : " điện") + ", màu " + mau + ", đời " + nam,
+                            gia, "xe-" + id + ".jpg", tonKho, tonKho > 0, ngayTao, ngayTao, "XE_MAY");
+                    xeMay.add(id, model.hangXe(), model.dongXe(), mau, nam, model.dungTich());
+                } else {
+                    String loai = VietnameseData.pick(random, VietnameseData.LOAI_PHU_KIEN);
+                    String thuongHieu = VietnameseData.pick(random, VietnameseData.THUONG_HIEU);
+                    String kichThuoc = VietnameseData.pick(random, VietnameseData.KICH_THUOC);
+                    gia = roundTo(50_000 + Math.pow(random.nextDouble(), 3) * 3_000_000, 1_000);
+                    ten = loai + " " + thuongHieu + " " + kichThuoc + " #" + (i - config.motorbikes + 1);
+                    sanPham.add(id, ten, loai + " chính hãng " + thuongHieu, gia, "pk-" + id + ".jpg",
+                            tonKho, tonKho > 0, ngayTao, ngayTao, "PHU_KIEN");
+                    phuKien.add(id, loai, thuongHieu, VietnameseData.pick(random, VietnameseData.CHAT_LIEU), kichThuoc);
+                }
+                catalog.ids()[i] = id;
+                catalog.names()[i] = ten;
+                catalog.prices()[i] = gia;
+                catalog.motorbike()[i] = laXe;
+
+                if (sanPham.full()) {
+                    flush(connection, sanPham, xeMay, phuKien);
+                }
+            }
+            flush(connection, sanPham, xeMay, phuKien);
+        }
+        dialect.endExplicitIds(connection, "san_pham", "ma_san_pham", nextId + total);
+        progress("san_pham", total, started);
+        return catalog;
+    }
+
+    // ============================
+    // tai_khoan
+    // ============================
+    private long loadUsers(Connection connection, Dialect dialect) throws SQLException {
+        long nextId = nextId(connection, "tai_khoan", "ma_tai_khoan");
+        Random random = new Random(config.seed * 1_000_003L + 2);
+        // KDF chậm: băm một lần cho mọi tài khoản
+        String matKhau = new Pbkdf2PasswordHasher(config.passwordIterations).hash(config.accountPassword);
+        LocalDateTime end = config.endDate.atStartOfDay();
+        long started = System.nanoTime();
+        long rows = 0;
+        boolean coHoTen = hasColumn(connection, "tai_khoan", "ho_ten");
+
+        dialect.beginExplicitIds(connection, "tai_khoan");
+        try (Batch taiKhoan = new Batch(connection, "INSERT INTO tai_khoan (ma_tai_khoan," + (coHoTen ? " ho_ten," : "")
+                + " email, ten_dang_nhap, mat_khau, so_dien_thoai, dia_chi, vai_tro, hoat_dong, ngay_tao, ngay_cap_nhat,"
+                + " lan_dang_nhap_cuoi) VALUES (?," + (coHoTen ? " ?," : "") + " ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            if (!exists(connection, "SELECT 1 FROM tai_khoan WHERE email = ?", InMemorySeedData.ADMIN_EMAIL)) {
+                taiKhoan.add(taiKhoanRow(coHoTen, "Quản Trị Viên", nextId++, InMemorySeedData.ADMIN_EMAIL, "admin", matKhau,
+                        "0900000000", "1 Lê Lợi, Quận 1, TP. Hồ Chí Minh", "ADMIN", true, end.minusDays(config.days), end,
+                        Batch.NULL_TIMESTAMP));
+                rows++;
+            }
+            for (int u = 0; u < config.users; u++) {
+                VietnameseData.Person person = VietnameseData.person(config.seed, u);
+                int so = config.firstCustomer + u;
+                // Tài khoản mã nhỏ đăng ký sớm hơn
+                LocalDateTime ngayTao = end.minusSeconds((long) ((1 - (double) u / Math.max(1, config.users)) * config.days * 86_400L));
+                Object lanDangNhapCuoi = random.nextInt(100) < 70
+                        ? end.minusMinutes(random.nextInt(60 * 24 * 60))
+                        : Batch.NULL_TIMESTAMP;
+                taiKhoan.add(taiKhoanRow(coHoTen, person.hoTen(), nextId + u, InMemorySeedData.customerEmail(so), "khach" + so,
+                        matKhau, person.soDienThoai(), person.diaChi(), "CUSTOMER", true, ngayTao, ngayTao, lanDangNhapCuoi));
+                rows++;
+                if (taiKhoan.full()) {
+                    flush(connection, taiKhoan);
+                }
+            }
+            flush(connection, taiKhoan);
+        }
+        dialect.endExplicitIds(connection, "tai_khoan", "ma_tai_khoan", nextId + config.users);
+        progress("tai_khoan", rows, started);
+        return nextId;
+    }
+
+    // Chèn ho_ten ngay sau ma_tai_khoan (values[0]) khi bảng có cột này
+    private static Object[] taiKhoanRow(boolean coHoTen, String hoTen, Object... values) {
+        if (!coHoTen) {
+            return values;
+        }
+        Object[] row = new Object[values.length + 1];
+        row[0] = values[0];
+        row[1] = hoTen;
+        System.arraycopy(values, 1, row, 2, values.length - 1);
+        return row;
+    }
+
+    // ============================
+    // gio_hang + chi_tiet_gio_hang: mỗi tài khoản một giỏ, cartFill trong số đó đang có hàng
+    // ============================
+    private long[] loadCarts(Connection connection, Dialect dialect, Catalog catalog, long firstUserId) throws SQLException {
+        long nextId = nextId(connection, "gio_hang", "ma_gio_hang");
+        Random random = new Random(config.seed * 1_000_003L + 3);
+        ZipfSampler products = catalog.ids().length == 0 ? null
+                : new ZipfSampler(catalog.ids().length, config.productSkew, config.seed);
+        LocalDateTime end = config.endDate.atStartOfDay();
+        long started = System.nanoTime();
+        long lines = 0;
+
+        dialect.beginExplicitIds(connection, "gio_hang");
+        try (Batch gioHang = new Batch(connection, "INSERT INTO gio_hang (ma_gio_hang, ma_tai_khoan, tong_tien, ngay_tao,"
+                     + " ngay_cap_nhat) VALUES (?, ?, ?, ?, ?)");
+             Batch chiTiet = new Batch(connection, "INSERT INTO chi_tiet_gio_hang (ma_gio_hang, ma_san_pham, ten_san_pham,"
+                     + " gia_san_pham, so_luong, tam_tinh) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int u = 0; u < config.users; u++) {
+                long cartId = nextId + u;
+                BigDecimal tong = BigDecimal.ZERO;
+                if (products != null && random.nextDouble() < config.cartFill) {
+                    int[] chon = distinctProducts(random, products, 1 + random.nextInt(4));
+                    for (int p : chon) {
+                        int soLuong = catalog.motorbike()[p] ? 1 : 1 + random.nextInt(2);
+                        BigDecimal tamTinh = catalog.prices()[p].multiply(BigDecimal.valueOf(soLuong));
+                        chiTiet.add(cartId, catalog.ids()[p], catalog.names()[p], catalog.prices()[p], soLuong, tamTinh);
+                        tong = tong.add(tamTinh);
+                        lines++;
+                    }
+                }
+                LocalDateTime capNhat = end.minusMinutes(random.nextInt(60 * 24 * 30));
+                gioHang.add(cartId, firstUserId + u, tong, capNhat, capNhat);
+                if (gioHang.full() || chiTiet.full()) {
+                    flush(connection, gioHang, chiTiet);
+                }
+            }
+            flush(connection, gioHang, chiTiet);
+        }
+        dialect.endExplicitIds(connection, "gio_hang", "ma_gio_hang", nextId + config.users);
+        progress("gio_hang", config.users, started);
+        progress("chi_tiet_gio_hang", lines, started);
+        return new long[] {config.users, lines};
+    }
+
+    // ============================
+    // don_hang + chi_tiet_don_hang
+    // ============================
+    private long[] loadOrders(Connection connection, Dialect dialect, Catalog catalog, long firstUserId) throws SQLException {
+        if (config.orders == 0) {
+            return new long[] {0, 0};
+        }
+        long nextId = nextId(connection, "don_hang", "ma_don_hang");
+        Random random = new Random(config.seed * 1_000_003L + 4);
+        ZipfSampler products = new ZipfSampler(catalog.ids().length, config.productSkew, config.seed);
+        ZipfSampler customers = new ZipfSampler(config.users, config.userSkew, config.seed + 1);
+        LocalDateTime end = config.endDate.atStartOfDay();
+        long spanSeconds = config.days * 86_400L;
+        long started = System.nanoTime();
+        long lines = 0;
+
+        dialect.beginExplicitIds(connection, "don_hang");
+        try (Batch donHang = new Batch(connection, "INSERT INTO don_hang (ma_don_hang, ma_tai_khoan, tong_tien, trang_thai,"
+                     + " ten_nguoi_nhan, so_dien_thoai, dia_chi_giao_hang, ghi_chu, ngay_dat, ngay_cap_nhat)"
+                     + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch chiTiet = new Batch(connection, "INSERT INTO chi_tiet_don_hang (ma_don_hang, ma_san_pham, ten_san_pham,"
+                     + " gia_san_pham, so_luong, tam_tinh) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int o = 0; o < config.orders; o++) {
+                long orderId = nextId + o;
+                // Mã đơn tăng theo thời gian đặt, như dữ liệu thật
+                long offset = (long) ((o + random.nextDouble()) / config.orders * spanSeconds);
+                LocalDateTime ngayDat = end.minusSeconds(spanSeconds).plusSeconds(offset);
+                double tuoiNgay = (spanSeconds - offset) / 86_400.0;
+                TrangThaiDonHang trangThai = statusFor(random, tuoiNgay);
+
+                int u = customers.sample(random);
+                // 15% đơn giao cho người khác (người thân, nơi làm việc)
+                VietnameseData.Person nguoiNhan = random.nextInt(100) < 15
+                        ? VietnameseData.person(config.seed + 1, o)
+                        : VietnameseData.person(config.seed, u);
+
+                BigDecimal tong = BigDecimal.ZERO;
+                for (int p : distinctProducts(random, products, 1 + VietnameseData.weighted(random, SO_DONG_WEIGHT))) {
+                    int soLuong = catalog.motorbike()[p]
+                            ? (random.nextInt(100) < 97 ? 1 : 2)
+                            : 1 + random.nextInt(3);
+                    BigDecimal tamTinh = catalog.prices()[p].multiply(BigDecimal.valueOf(soLuong));
+                    chiTiet.add(orderId, catalog.ids()[p], catalog.names()[p], catalog.prices()[p], soLuong, tamTinh);
+                    tong = tong.add(tamTinh);
+                    lines++;
+                }
+
+                Object ghiChu = random.nextInt(100) < 12 ? VietnameseData.pick(random, GHI_CHU) : Batch.NULL_STRING;
+                LocalDateTime capNhat = trangThai == TrangThaiDonHang.CHO_XAC_NHAN
+                        ? ngayDat
+                        : min(ngayDat.plusMinutes(30 + random.nextInt(60 * 24 * 4)), end);
+                donHang.add(orderId, firstUserId + u, tong, trangThai.name(), nguoiNhan.hoTen(), nguoiNhan.soDienThoai(),
+                        nguoiNhan.diaChi(), ghiChu, ngayDat, capNhat);
+                if (donHang.full() || chiTiet.full()) {
+                    flush(connection, donHang, chiTiet);
+                }
+            }
+            flush(connection, donHang, chiTiet);
+        }
+        dialect.endExplicitIds(connection, "don_hang", "ma_don_hang", nextId + config.orders);
+        progress("don_hang", config.orders, started);
+        progress("chi_tiet_don_hang", lines, started);
+        return new long[] {config.orders, lines};
+    }
+
+    // Đơn vài ngày gần đây còn đang xử lý; đơn cũ chỉ còn đã giao / đã hủy
+    private static TrangThaiDonHang statusFor(Random random, double tuoiNgay) {
+        if (tuoiNgay < 2) {
+            return pick(random, new int[] {50, 25, 15, 0, 10});
+        }
+        if (tuoiNgay < 10) {
+            return pick(random, new int[] {0, 5, 35, 48, 12});
+        }
+        return pick(random, new int[] {0, 0, 0, 85, 15});
+    }
+
+    private static TrangThaiDonHang pick(Random random, int[] weightsByOrdinal) {
+        return TrangThaiDonHang.values()[VietnameseData.weighted(random, weightsByOrdinal)];
+    }
+
+    private static int[] distinctProducts(Random random, ZipfSampler products, int wanted) {
+        int count = Math.min(wanted, products.size());
+        int[] chosen = new int[count];
+        int found = 0;
+        // Vài lần thử là đủ với Zipf; hết lượt thì chấp nhận ít dòng hơn
+        for (int attempt = 0; found < count && attempt < count * 10; attempt++) {
+            int p = products.sample(random);
+            boolean duplicate = false;
+            for (int i = 0; i < found; i++) {
+                duplicate |= chosen[i] == p;
+            }
+            if (!duplicate) {
+                chosen[found++] = p;
+            }
+        }
+        return found == count ? chosen : Arrays.copyOf(chosen, found);
+    }
+
+    // Ghi các lô theo thứ tự cha trước con, commit định kỳ
+    private void flush(Connection connection, Batch... batches) throws SQLException {
+        for (Batch batch : batches) {
+            batch.execute();
+        }
+        if (++batchesSinceCommit >= config.batchesPerCommit) {
+            connection.commit();
+            batchesSinceCommit = 0;
+        }
+    }
+
+    private void progress(String table, long rows, long startedNanos) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startedNanos) / 1e9);
+        out.printf(Locale.ROOT, "  %-18s %,12d dòng  %8.1fs  %,10.0f dòng/s%n", table, rows, seconds, rows / seconds);
+    }
+
+    private static long nextId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1) + 1;
+        }
+    }
+
+    // H2 lưu tên bảng/cột chữ hoa, SQL Server giữ nguyên: thử cả hai, so tên cột không phân biệt hoa thường
+    private static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                while (rs.next()) {
+                    if (column.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean exists(Connection connection, String sql, String param) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, param);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static BigDecimal roundTo(double value, long step) {
+        return BigDecimal.valueOf(Math.max(step, Math.round(value / step) * step)).setScale(2);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Cách ghi mã tường minh vào cột IDENTITY khác nhau giữa SQL Server (IDENTITY_INSERT, tự nâng seed)
+     * và H2 dùng cho test (cho ghi thẳng, phải đặt lại bộ đếm sau đó).
+     */
+    enum Dialect {
+        SQL_SERVER {
+            @Override
+            void beginExplicitIds(Connection connection, String table) throws SQLException {
+                execute(connection, "SET IDENTITY_INSERT " + table + " ON");
+            }
+
+            @Override
+            void endExplicitIds(Connection connection, String table, String column, long nextValue) throws SQLException {
+                execute(connection, "SET IDENTITY_INSERT " + table + " OFF");
+            }
+        },
+        H2 {
+            @Override
+            void beginExplicitIds(Connection connection, String table) {
+            }
+
+            @Override
+            void endExplicitIds(Connection connection, String table, String column, long nextValue) throws SQLException {
+                execute(connection, "ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + nextValue);
+            }
+        };
+
+        abstract void beginExplicitIds(Connection connection, String table) throws SQLException;
+
+        abstract void endExplicitIds(Connection connection, String table, String column, long nextValue) throws SQLException;
+
+        static Dialect of(Connection connection) throws SQLException {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product.contains("SQL Server")) {
+                return SQL_SERVER;
+            }
+            if (product.contains("H2")) {
+                return H2;
+            }
+            throw new SQLException("Unsupported database: " + product);
+        }
+
+        private static void execute(Connection connection, String sql) throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /** Một PreparedStatement gom lô; null phải đi kèm kiểu SQL nên dùng NULL_STRING / NULL_TIMESTAMP. */
+    private final class Batch implements AutoCloseable {
+
+        static final Object NULL_STRING = new Object();
+        static final Object NULL_TIMESTAMP = new Object();
+
+        private final PreparedStatement statement;
+        private int pending;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                int index = i + 1;
+                if (value == NULL_STRING) {
+                    statement.setNull(index, Types.NVARCHAR);
+                } else if (value == NULL_TIMESTAMP) {
+                    statement.setNull(index, Types.TIMESTAMP);
+                } else if (value instanceof String s) {
+                    statement.setString(index, s);
+                } else if (value instanceof Long l) {
+                    statement.setLong(index, l);
+                } else if (value instanceof Integer n) {
+                    statement.setInt(index, n);
+                } else if (value instanceof BigDecimal d) {
+                    statement.setBigDecimal(index, d);
+                } else if (value instanceof Boolean b) {
+                    statement.setBoolean(index, b);
+                } else if (value instanceof LocalDateTime t) {
+                    statement.setTimestamp(index, Timestamp.valueOf(t));
+                } else {
+                    throw new IllegalArgumentException("Unsupported value type: " + value.getClass());
+                }
+            }
+            statement.addBatch();
+            pending++;
+        }
+
+        boolean full() {
+            return pending >= config.batchSize;
+        }
+
+        void execute() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.motorbike.datagen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.motorbike.adapters.repositories.CartRepositoryAdapter;
+import com.motorbike.adapters.repositories.OrderRepositoryAdapter;
+import com.motorbike.adapters.repositories.ProductRepositoryAdapter;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.GioHang;
+
+/**
+ * Nạp một bộ dữ liệu nhỏ vào H2 (schema do Hibernate tạo từ entity, nên cột khớp với ứng dụng),
+ * kiểm tra phân phối và tính nhất quán, rồi đọc lại qua các adapter JPA thật. Nạp lần hai cùng seed
+ * (tài khoản đánh số tiếp) phải ra đúng cùng nội dung.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:datagen;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderRepositoryAdapter.class, CartRepositoryAdapter.class, ProductRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DatasetGeneratorTest {
+
+    private static final String OPTIONS = "motorbikes=30 accessories=50 users=200 orders=1500 cartFill=0.5"
+            + " days=90 endDate=2025-06-01 passwordIterations=1000 batchSize=100 batchesPerCommit=3 seed=7";
+
+    @Autowired private DataSource dataSource;
+    @Autowired private OrderRepositoryAdapter orderRepository;
+    @Autowired private ProductRepositoryAdapter productRepository;
+    @Autowired private CartRepositoryAdapter cartRepository;
+
+    private JdbcTemplate jdbc;
+    private DatasetGenerator.Summary first;
+    private DatasetGenerator.Summary second;
+
+    @BeforeAll
+    void loadTwice() throws Exception {
+        jdbc = new JdbcTemplate(dataSource);
+        first = load(OPTIONS);
+        second = load(OPTIONS + " firstCustomer=1001");
+    }
+
+    private DatasetGenerator.Summary load(String options) throws Exception {
+        PrintStream out = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+        try (Connection connection = dataSource.getConnection()) {
+            return new DatasetGenerator(DatasetConfig.parse(options), out).load(connection);
+        }
+    }
+
+    @Test
+    void rowCounts_MatchSummary() {
+        assertEquals(80, first.products());
+        assertEquals(1500, first.orders());
+        assertEquals(2 * 80, count("SELECT COUNT(*) FROM san_pham"));
+        assertEquals(2 * 30, count("SELECT COUNT(*) FROM xe_may"));
+        assertEquals(2 * 50, count("SELECT COUNT(*) FROM phu_kien_xe_may"));
+        // Một admin + 2 lần 200 khách
+        assertEquals(1 + 2 * 200, count("SELECT COUNT(*) FROM tai_khoan"));
+        assertEquals(2 * 200, count("SELECT COUNT(*) FROM gio_hang"));
+        assertEquals(first.cartLines() + second.cartLines(), count("SELECT COUNT(*) FROM chi_tiet_gio_hang"));
+        assertEquals(first.orderLines() + second.orderLines(), count("SELECT COUNT(*) FROM chi_tiet_don_hang"));
+    }
+
+    @Test
+    void orderTotals_EqualSumOfLines() {
+        assertEquals(0, count("SELECT COUNT(*) FROM don_hang d WHERE d.tong_tien <>"
+                + " (SELECT SUM(c.tam_tinh) FROM chi_tiet_don_hang c WHERE c.ma_don_hang = d.ma_don_hang)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM chi_tiet_don_hang WHERE tam_tinh <> gia_san_pham * so_luong"));
+    }
+
+    @Test
+    void statusMix_DependsOnOrderAge() {
+        Map<String, Long> byStatus = new HashMap<>();
+        jdbc.query("SELECT trang_thai, COUNT(*) FROM don_hang GROUP BY trang_thai",
+                rs -> {
+                    byStatus.put(rs.getString(1), rs.getLong(2));
+                });
+
+        assertEquals(5, byStatus.size(), byStatus.toString());
+        assertTrue(byStatus.get("DA_GIAO") > byStatus.values().stream().mapToLong(Long::longValue).sum() / 2);
+        // Chỉ đơn trong 2 ngày cuối còn chờ xác nhận
+        assertEquals(0, count("SELECT COUNT(*) FROM don_hang WHERE trang_thai = 'CHO_XAC_NHAN' AND ngay_dat < ?",
+                LocalDate.of(2025, 5, 30).atStartOfDay()));
+    }
+
+    @Test
+    void productPopularity_IsSkewed() {
+        List<Long> lineCounts = jdbc.queryForList(
+                "SELECT COUNT(*) FROM chi_tiet_don_hang GROUP BY ma_san_pham ORDER BY COUNT(*) DESC", Long.class);
+        long total = lineCounts.stream().mapToLong(Long::longValue).sum();
+        long top = lineCounts.stream().limit(16).mapToLong(Long::longValue).sum();
+
+        // 10% sản phẩm (8/80 mỗi lần nạp) chiếm phần lớn số dòng đơn
+        assertTrue(top * 2 > total, "top 10% products: " + top + " of " + total);
+    }
+
+    @Test
+    void namesAndAddresses_KeepVietnameseDiacritics() {
+        assertTrue(count("SELECT COUNT(*) FROM don_hang WHERE ten_nguoi_nhan LIKE 'Nguyễn %'") > 0);
+        assertTrue(count("SELECT COUNT(*) FROM tai_khoan WHERE dia_chi LIKE '%Hồ Chí Minh' OR dia_chi LIKE '%Hà Nội'") > 100);
+    }
+
+    @Test
+    void sameSeed_ProducesSameRowsOnSecondLoad() {
+        String orders = "SELECT tong_tien, trang_thai, ten_nguoi_nhan, so_dien_thoai, ngay_dat FROM don_hang"
+                + " WHERE ma_don_hang BETWEEN ? AND ? ORDER BY ma_don_hang";
+        assertEquals(jdbc.queryForList(orders, 1, 1500), jdbc.queryForList(orders, 1501, 3000));
+
+        String products = "SELECT ten_san_pham, gia, so_luong_ton_kho FROM san_pham"
+                + " WHERE ma_san_pham BETWEEN ? AND ? ORDER BY ma_san_pham";
+        assertEquals(jdbc.queryForList(products, 1, 80), jdbc.queryForList(products, 81, 160));
+    }
+
+    @Test
+    void generatedRows_AreReadableThroughAdapters() {
+        assertEquals(160, productRepository.findAll().size());
+
+        Long topCustomer = jdbc.queryForObject(
+                "SELECT TOP 1 ma_tai_khoan FROM don_hang GROUP BY ma_tai_khoan ORDER BY COUNT(*) DESC", Long.class);
+        List<Long> orderIds = jdbc.queryForList("SELECT ma_don_hang FROM don_hang WHERE ma_tai_khoan = ?", Long.class, topCustomer);
+        List<DonHang> orders = orderRepository.findAllByIds(orderIds);
+        assertEquals(orderIds.size(), orders.size());
+        for (DonHang order : orders) {
+            assertEquals(0, order.getTongTien().compareTo(order.getDanhSachSanPham().stream()
+                    .map(ChiTietDonHang::getThanhTien).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        }
+
+        GioHang cart = cartRepository.findByUserId(topCustomer).orElseThrow();
+        assertEquals(topCustomer, cart.getMaTaiKhoan());
+    }
+
+    @Test
+    void identityContinuesAfterExplicitIds() {
+        Map<String, Object> product = jdbc.queryForMap("SELECT ma_san_pham, ten_san_pham, gia FROM san_pham WHERE ma_san_pham = 1");
+        GioHang cart = new GioHang(1L);
+        cart.themSanPham(new ChiTietGioHang(((Number) product.get("ma_san_pham")).longValue(),
+                (String) product.get("ten_san_pham"), (BigDecimal) product.get("gia"), 1));
+
+        DonHang saved = orderRepository.save(DonHang.fromGioHang(cart, "Trần Thị Hoa", "0912345678", "5 Hùng Vương, TP. Huế", null));
+        try {
+            assertTrue(saved.getMaDonHang() > 3000, "id " + saved.getMaDonHang());
+        } finally {
+            orderRepository.deleteById(saved.getMaDonHang());
+        }
+    }
+
+    @Test
+    void fullName_IsWrittenWhenTaiKhoanHasHoTenColumn() throws Exception {
+        // Schema của database-setup.sql có ho_ten, schema sinh từ entity thì không
+        jdbc.execute("ALTER TABLE tai_khoan ADD ho_ten NVARCHAR(100)");
+        try {
+            load("motorbikes=0 accessories=0 users=3 orders=0 cartFill=0 passwordIterations=1000 seed=7 firstCustomer=5001");
+
+            List<String> names = jdbc.queryForList(
+                    "SELECT ho_ten FROM tai_khoan WHERE ten_dang_nhap LIKE 'khach500%' ORDER BY ma_tai_khoan", String.class);
+            assertEquals(3, names.size());
+            assertTrue(names.stream().allMatch(name -> name != null && name.contains(" ")), names.toString());
+        } finally {
+            jdbc.update("DELETE FROM gio_hang WHERE ma_tai_khoan IN"
+                    + " (SELECT ma_tai_khoan FROM tai_khoan WHERE ten_dang_nhap LIKE 'khach500%')");
+            jdbc.update("DELETE FROM tai_khoan WHERE ten_dang_nhap LIKE 'khach500%'");
+            jdbc.execute("ALTER TABLE tai_khoan DROP COLUMN ho_ten");
+        }
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbc.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,141 @@
+package com.motorbike.datagen;
+
+import java.util.Random;
+
+/**
+ * Nguồn dữ liệu giả có dấu: họ tên (tỉ lệ họ gần với thực tế), số di động theo đầu số nhà mạng,
+ * địa chỉ theo tỉnh/thành (TP.HCM, Hà Nội chiếm phần lớn), danh mục xe và phụ kiện.
+ */
+final class VietnameseData {
+
+    record Person(String hoTen, String soDienThoai, String diaChi) {}
+
+    record Model(String hangXe, String dongXe, int dungTich, long giaVnd) {}
+
+    // Họ: trọng số theo phần nghìn, Nguyễn ~38%
+    private static final String[] HO = {
+            "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng",
+            "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý", "Đinh", "Trương", "Mai", "Lâm"
+    };
+    private static final int[] HO_WEIGHT = {380, 110, 95, 70, 30, 21, 45, 22, 17, 21, 20, 14, 13, 13, 10, 5, 6, 5, 4, 4};
+
+    private static final String[] DEM_NAM = {"Văn", "Hữu", "Đức", "Minh", "Quang", "Thành", "Công", "Xuân", "Gia", "Hoàng"};
+    private static final String[] DEM_NU = {"Thị", "Ngọc", "Thu", "Thanh", "Phương", "Kim", "Bảo", "Mỹ", "Diệu", "Khánh"};
+    private static final String[] TEN_NAM = {
+            "An", "Bình", "Cường", "Dũng", "Đạt", "Hải", "Hiếu", "Hoàng", "Hùng", "Huy",
+            "Khang", "Khoa", "Kiên", "Long", "Lộc", "Nam", "Nghĩa", "Phúc", "Quân", "Sơn",
+            "Tài", "Thắng", "Thịnh", "Toàn", "Trung", "Tuấn", "Việt", "Vinh", "Vũ", "Đông"
+    };
+    private static final String[] TEN_NU = {
+            "Anh", "Châu", "Chi", "Dung", "Giang", "Hà", "Hạnh", "Hằng", "Hoa", "Hương",
+            "Huyền", "Lan", "Liên", "Linh", "Loan", "Mai", "My", "Nga", "Ngân", "Nhung",
+            "Oanh", "Phương", "Quỳnh", "Tâm", "Thảo", "Thủy", "Trang", "Trâm", "Uyên", "Yến"
+    };
+
+    private static final String[] DAU_SO = {"090", "093", "089", "070", "079", "077", "091", "094", "088", "083",
+            "084", "085", "096", "097", "098", "086", "032", "033", "034", "035", "036", "037", "038", "039"};
+
+    private static final String[] DUONG = {
+            "Lê Lợi", "Nguyễn Huệ", "Trần Hưng Đạo", "Hai Bà Trưng", "Lý Thường Kiệt", "Phan Đình Phùng",
+            "Nguyễn Trãi", "Lê Duẩn", "Điện Biên Phủ", "Võ Văn Tần", "Cách Mạng Tháng Tám", "Hoàng Văn Thụ",
+            "Nguyễn Văn Cừ", "Trường Chinh", "Quang Trung", "Bạch Đằng", "Hùng Vương", "Lạc Long Quân"
+    };
+
+    // Tỉnh/thành và quận/huyện, trọng số theo phần trăm
+    private static final String[] TINH = {
+            "TP. Hồ Chí Minh", "Hà Nội", "Đà Nẵng", "Hải Phòng", "Cần Thơ", "Bình Dương",
+            "Đồng Nai", "Khánh Hòa", "Thừa Thiên Huế", "Nghệ An", "Quảng Ninh", "Lâm Đồng"
+    };
+    private static final int[] TINH_WEIGHT = {34, 26, 7, 5, 5, 6, 5, 3, 3, 2, 2, 2};
+    private static final String[][] QUAN = {
+            {"Quận 1", "Quận 3", "Quận 5", "Quận 7", "Quận 10", "Quận Bình Thạnh", "Quận Gò Vấp", "Quận Tân Bình", "TP. Thủ Đức"},
+            {"Quận Ba Đình", "Quận Hoàn Kiếm", "Quận Đống Đa", "Quận Cầu Giấy", "Quận Hai Bà Trưng", "Quận Thanh Xuân", "Quận Long Biên"},
+            {"Quận Hải Châu", "Quận Thanh Khê", "Quận Sơn Trà", "Quận Ngũ Hành Sơn", "Quận Liên Chiểu"},
+            {"Quận Hồng Bàng", "Quận Lê Chân", "Quận Ngô Quyền", "Quận Hải An"},
+            {"Quận Ninh Kiều", "Quận Bình Thủy", "Quận Cái Răng"},
+            {"TP. Thủ Dầu Một", "TP. Dĩ An", "TP. Thuận An"},
+            {"TP. Biên Hòa", "TP. Long Khánh", "Huyện Nhơn Trạch"},
+            {"TP. Nha Trang", "TP. Cam Ranh"},
+            {"TP. Huế", "Thị xã Hương Thủy"},
+            {"TP. Vinh", "Thị xã Cửa Lò"},
+            {"TP. Hạ Long", "TP. Cẩm Phả", "TP. Uông Bí"},
+            {"TP. Đà Lạt", "TP. Bảo Lộc"}
+    };
+
+    // Dòng xe phổ biến: hãng, dòng, dung tích, giá niêm yết tham khảo (VND)
+    static final Model[] MODELS = {
+            new Model("Honda", "Wave Alpha", 110, 18_000_000L),
+            new Model("Honda", "Vision", 110, 31_000_000L),
+            new Model("Honda", "Air Blade", 125, 42_000_000L),
+            new Model("Honda", "Lead", 125, 40_000_000L),
+            new Model("Honda", "SH Mode", 125, 57_000_000L),
+            new Model("Honda", "SH", 160, 92_000_000L),
+            new Model("Honda", "Winner X", 150, 46_000_000L),
+            new Model("Honda", "Future", 125, 31_000_000L),
+            new Model("Yamaha", "Sirius", 110, 21_000_000L),
+            new Model("Yamaha", "Janus", 125, 29_000_000L),
+            new Model("Yamaha", "Grande", 125, 46_000_000L),
+            new Model("Yamaha", "Exciter", 155, 48_000_000L),
+            new Model("Yamaha", "NVX", 155, 53_000_000L),
+            new Model("Suzuki", "Raider", 150, 51_000_000L),
+            new Model("Suzuki", "Satria", 150, 53_000_000L),
+            new Model("Piaggio", "Liberty", 125, 58_000_000L),
+            new Model("Piaggio", "Vespa Sprint", 125, 80_000_000L),
+            new Model("VinFast", "Evo200", 0, 22_000_000L),
+            new Model("VinFast", "Feliz S", 0, 29_000_000L),
+            new Model("SYM", "Attila", 125, 32_000_000L)
+    };
+    // Honda chiếm phần lớn thị trường
+    static final int[] MODEL_WEIGHT = {14, 16, 10, 7, 6, 4, 5, 8, 7, 4, 3, 6, 2, 2, 1, 1, 1, 1, 1, 1};
+
+    static final String[] MAU_SAC = {"Đỏ", "Đen", "Trắng", "Xanh dương", "Xám", "Bạc", "Vàng", "Xanh lá", "Nâu", "Cam"};
+
+    static final String[] LOAI_PHU_KIEN = {
+            "Mũ bảo hiểm", "Găng tay", "Áo mưa", "Khóa chống trộm", "Gương chiếu hậu", "Baga sau",
+            "Dầu nhớt", "Lốp xe", "Bọc yên", "Đèn trợ sáng", "Giá đỡ điện thoại", "Thảm lót chân"
+    };
+    static final String[] THUONG_HIEU = {"Honda", "Yamaha", "Asia", "Royal", "Protec", "Givi", "Castrol", "Motul", "Michelin", "IRC"};
+    static final String[] CHAT_LIEU = {"Nhựa ABS", "Da tổng hợp", "Vải dù", "Thép không gỉ", "Nhôm", "Cao su"};
+    static final String[] KICH_THUOC = {"S", "M", "L", "XL", "Tiêu chuẩn"};
+
+    private VietnameseData() {
+    }
+
+    // Cùng seed + chỉ số luôn ra cùng một người, để đơn hàng dùng lại đúng thông tin của chủ tài khoản
+    static Person person(long seed, long index) {
+        Random random = new Random(seed * 31 + index);
+        boolean nam = random.nextBoolean();
+        String ho = HO[weighted(random, HO_WEIGHT)];
+        String dem = nam ? pick(random, DEM_NAM) : pick(random, DEM_NU);
+        String ten = nam ? pick(random, TEN_NAM) : pick(random, TEN_NU);
+        return new Person(ho + " " + dem + " " + ten, phone(random), address(random));
+    }
+
+    static String phone(Random random) {
+        return pick(random, DAU_SO) + String.format("%07d", random.nextInt(10_000_000));
+    }
+
+    static String address(Random random) {
+        int tinh = weighted(random, TINH_WEIGHT);
+        return (1 + random.nextInt(300)) + " " + pick(random, DUONG) + ", " + pick(random, QUAN[tinh]) + ", " + TINH[tinh];
+    }
+
+    static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    static int weighted(Random random, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.motorbike.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Chọn chỉ số trong [0, n) theo phân phối Zipf với số mũ s: chỉ số hạng k có xác suất tỉ lệ 1/(k+1)^s.
+ * Hạng được hoán vị ngẫu nhiên một lần (theo seed) để phần tử "hot" không luôn là mã nhỏ nhất.
+ * Dựng bảng phân phối tích lũy một lần (O(n)), mỗi lần chọn là một lần tìm nhị phân.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final int[] rankToIndex;
+
+    ZipfSampler(int n, double exponent, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+
+        rankToIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            rankToIndex[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = rankToIndex[i];
+            rankToIndex[i] = rankToIndex[j];
+            rankToIndex[j] = tmp;
+        }
+    }
+
+    int sample(Random random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return rankToIndex[Math.min(rank, rankToIndex.length - 1)];
+    }
+
+    int size() {
+        return rankToIndex.length;
+    }
+}
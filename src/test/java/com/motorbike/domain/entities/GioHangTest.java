@@ -5,6 +5,10 @@ import com.motorbike.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -207,4 +211,106 @@ class GioHangTest {
 
         assertEquals(10, gioHang.tongSoLuong());
     }
+
+    private static GioHang gioHangDaLuu() {
+        List<ChiTietGioHang> items = new ArrayList<>();
+        items.add(new ChiTietGioHang(10L, 5L, 1L, "Honda Winner X",
+                                     BigDecimal.valueOf(46000000), 1, BigDecimal.valueOf(46000000)));
+        items.add(new ChiTietGioHang(11L, 5L, 2L, "Mũ bảo hiểm",
+                                     BigDecimal.valueOf(850000), 2, BigDecimal.valueOf(1700000)));
+        return new GioHang(5L, 1L, items, BigDecimal.valueOf(47700000), LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void testThayDoiDong_LoadedCart_StartsClean() {
+        GioHang gioHang = gioHangDaLuu();
+
+        assertTrue(gioHang.getDongDaThem().isEmpty());
+        assertTrue(gioHang.getDongDaSua().isEmpty());
+        assertTrue(gioHang.getDongDaXoa().isEmpty());
+    }
+
+    @Test
+    void testThayDoiDong_TracksOnlyTouchedLines() {
+        GioHang gioHang = gioHangDaLuu();
+
+        gioHang.capNhatSoLuong(2L, 5);
+        gioHang.themSanPham(new ChiTietGioHang(3L, "Găng tay", BigDecimal.valueOf(450000), 1));
+
+        assertEquals(Set.of(3L), gioHang.getDongDaThem());
+        assertEquals(Set.of(2L), gioHang.getDongDaSua());
+        assertTrue(gioHang.getDongDaXoa().isEmpty());
+    }
+
+    @Test
+    void testThayDoiDong_RemovingNewLine_LeavesNothingToWrite() {
+        GioHang gioHang = gioHangDaLuu();
+
+        gioHang.themSanPham(new ChiTietGioHang(3L, "Găng tay", BigDecimal.valueOf(450000), 1));
+        gioHang.capNhatSoLuong(3L, 0);
+
+        assertTrue(gioHang.getDongDaThem().isEmpty());
+        assertTrue(gioHang.getDongDaXoa().isEmpty());
+    }
+
+    @Test
+    void testThayDoiDong_RemoveThenReAdd_BecomesUpdate() {
+        GioHang gioHang = gioHangDaLuu();
+
+        gioHang.xoaSanPham(1L);
+        gioHang.themSanPham(new ChiTietGioHang(1L, "Honda Winner X", BigDecimal.valueOf(46000000), 2));
+
+        assertTrue(gioHang.getDongDaThem().isEmpty());
+        assertEquals(Set.of(1L), gioHang.getDongDaSua());
+        assertTrue(gioHang.getDongDaXoa().isEmpty());
+    }
+
+    @Test
+    void testThayDoiDong_ClearCart_RemovesEveryStoredLine() {
+        GioHang gioHang = gioHangDaLuu();
+        gioHang.capNhatSoLuong(2L, 3);
+
+        gioHang.xoaToanBoGioHang();
+
+        assertEquals(Set.of(1L, 2L), gioHang.getDongDaXoa());
+        assertTrue(gioHang.getDongDaSua().isEmpty());
+    }
+
+    @Test
+    void testTongTien_TracksEveryMutationWithoutRecount() {
+        GioHang gioHang = gioHangDaLuu();
+
+        gioHang.themSanPham(new ChiTietGioHang(2L, "Mũ bảo hiểm", BigDecimal.valueOf(850000), 1));
+        gioHang.capNhatSoLuong(1L, 2);
+        gioHang.themSanPham(new ChiTietGioHang(3L, "Găng tay", BigDecimal.valueOf(450000), 4));
+        gioHang.xoaSanPham(2L);
+
+        assertEquals(0, BigDecimal.valueOf(92000000 + 1800000).compareTo(gioHang.getTongTien()));
+        assertEquals(6, gioHang.tongSoLuong());
+        assertEquals(2, gioHang.demSoSanPham());
+    }
+
+    @Test
+    void testGetDanhSachSanPham_IsReadOnlyAndReflectsLatestChange() {
+        GioHang gioHang = gioHangDaLuu();
+        List<ChiTietGioHang> truoc = gioHang.getDanhSachSanPham();
+
+        assertSame(truoc, gioHang.getDanhSachSanPham());
+        assertThrows(UnsupportedOperationException.class,
+                () -> truoc.add(new ChiTietGioHang(3L, "Găng tay", BigDecimal.valueOf(450000), 1)));
+
+        gioHang.xoaSanPham(1L);
+
+        assertEquals(2, truoc.size());
+        assertEquals(1, gioHang.getDanhSachSanPham().size());
+        assertEquals(2L, gioHang.getDanhSachSanPham().get(0).getMaSanPham());
+    }
+
+    @Test
+    void testTimSanPhamTheoMa_FindsLineByProductId() {
+        GioHang gioHang = gioHangDaLuu();
+
+        assertEquals(2, gioHang.timSanPhamTheoMa(2L).orElseThrow().getSoLuong());
+        assertTrue(gioHang.timSanPhamTheoMa(99L).isEmpty());
+    }
 }
@@ -66,22 +66,6 @@ class TaiKhoanTest {
         assertDoesNotThrow(() -> TaiKhoan.validateSoDienThoai("0123456789"));
     }
 
-    @Test
-    void testKiemTraMatKhau_CorrectPassword_ReturnsTrue() {
-        TaiKhoan taiKhoan = new TaiKhoan("test@gmail.com", "user1", "password123",
-                                        "0912345678", "Hà Nội");
-
-        assertTrue(taiKhoan.kiemTraMatKhau("password123"));
-    }
-
-    @Test
-    void testKiemTraMatKhau_WrongPassword_ReturnsFalse() {
-        TaiKhoan taiKhoan = new TaiKhoan("test@gmail.com", "user1", "password123",
-                                        "0912345678", "Hà Nội");
-
-        assertFalse(taiKhoan.kiemTraMatKhau("wrongpassword"));
-    }
-
     @Test
     void testCapNhatMatKhau_Success() {
         TaiKhoan taiKhoan = new TaiKhoan("test@gmail.com", "user1", "oldpassword",
@@ -89,8 +73,7 @@ class TaiKhoanTest {
 
         taiKhoan.capNhatMatKhau("newpassword123");
 
-        assertTrue(taiKhoan.kiemTraMatKhau("newpassword123"));
-        assertFalse(taiKhoan.kiemTraMatKhau("oldpassword"));
+        assertEquals("newpassword123", taiKhoan.getMatKhau());
     }
 
     @Test
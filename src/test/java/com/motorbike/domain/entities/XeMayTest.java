@@ -5,6 +5,7 @@ import com.motorbike.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,8 +126,9 @@ class XeMayTest {
 
     @Test
     void testLaXeMoi_ReturnsTrueForCurrentYear() {
+        int namHienTai = LocalDate.now().getYear();
         XeMay xeMay = new XeMay("Honda Winner X", "Mô tả", BigDecimal.valueOf(46000000),
-                               "/images/honda.jpg", 10, "Honda", "Winner X", "Đỏ", 2025, 150);
+                               "/images/honda.jpg", 10, "Honda", "Winner X", "Đỏ", namHienTai, 150);
 
         assertTrue(xeMay.laXeMoi());
     }
@@ -0,0 +1,190 @@
+package com.motorbike.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+
+class CachingProductRepositoryTest {
+
+    private static class CountingProductRepository implements ProductRepository {
+        final Map<Long, SanPham> store = new HashMap<>();
+        int findByIdCalls = 0;
+
+        @Override
+        public Optional<SanPham> findById(Long productId) {
+            findByIdCalls++;
+            return Optional.ofNullable(store.get(productId));
+        }
+
+        @Override
+        public SanPham save(SanPham sanPham) {
+            store.put(sanPham.getMaSanPham(), sanPham);
+            return sanPham;
+        }
+
+        @Override
+        public boolean existsById(Long productId) {
+            return store.containsKey(productId);
+        }
+
+        @Override
+        public List<SanPham> findAll() {
+            return new ArrayList<>(store.values());
+        }
+    }
+
+    private CountingProductRepository delegate;
+    private AtomicLong now;
+    private CachingProductRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingProductRepository();
+        for (long id = 1; id <= 3; id++) {
+            XeMay xe = new XeMay("Xe " + id, "Mô tả", new BigDecimal("1000"), "x.jpg",
+                    10, "Honda", "Wave", "Đỏ", 2024, 110);
+            xe.setMaSanPham(id);
+            delegate.store.put(id, xe);
+        }
+        now = new AtomicLong(0);
+        cache = new CachingProductRepository(delegate, 2, 1000, now::get);
+    }
+
+    @Test
+    void secondRead_IsServedFromCache() {
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertEquals(1, delegate.findByIdCalls);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void mutatingReturnedEntity_DoesNotLeakIntoCache() {
+        SanPham first = cache.findById(1L).orElseThrow();
+        first.giamTonKho(4);
+
+        SanPham second = cache.findById(1L).orElseThrow();
+
+        assertEquals(10, second.getSoLuongTonKho());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void save_InvalidatesEntry() {
+        SanPham product = cache.findById(1L).orElseThrow();
+        product.giamTonKho(3);
+        cache.save(product);
+
+        assertEquals(7, cache.findById(1L).orElseThrow().getSoLuongTonKho());
+        assertEquals(2, delegate.findByIdCalls);
+    }
+
+    @Test
+    void productChangeEvent_InvalidatesEntry() {
+        cache.findById(2L);
+        cache.onProductSaved(2L);
+        cache.findById(2L);
+
+        assertEquals(2, delegate.findByIdCalls);
+    }
+
+    @Test
+    void expiredEntry_IsReloadedAndCountedAsEviction() {
+        cache.findById(1L);
+        now.set(1001);
+        cache.findById(1L);
+
+        assertEquals(2, delegate.findByIdCalls);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void sizeLimit_EvictsLeastRecentlyUsed() {
+        cache.findById(1L);
+        cache.findById(2L);
+        cache.findById(1L);
+        cache.findById(3L);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.findById(1L);
+        assertEquals(3, delegate.findByIdCalls);
+    }
+
+    @Test
+    void missingProduct_IsNotCached() {
+        assertTrue(cache.findById(99L).isEmpty());
+        assertTrue(cache.findById(99L).isEmpty());
+
+        assertEquals(2, delegate.findByIdCalls);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void findAllByIds_ServesHitsFromCacheAndBatchesMisses() {
+        cache.findById(1L);
+
+        Map<Long, SanPham> result = cache.findAllByIds(List.of(1L, 2L, 99L));
+
+        assertEquals(2, result.size());
+        assertTrue(result.containsKey(1L));
+        assertTrue(result.containsKey(2L));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void stockDecrement_InvalidatesAffectedEntries() {
+        cache.findById(1L);
+        cache.findById(2L);
+
+        List<Long> failed = cache.decrementStockIfAvailable(Map.of(1L, 4));
+
+        assertTrue(failed.isEmpty());
+        assertEquals(1, cache.size());
+        assertEquals(6, cache.findById(1L).orElseThrow().getSoLuongTonKho());
+    }
+
+    @Test
+    void stockDecrementInTransaction_DropsValueReloadedBeforeCommit() {
+        XeMay committed = (XeMay) delegate.store.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.decrementStockIfAvailable(Map.of(1L, 4));
+
+            // Luồng khác (snapshot) còn thấy tồn kho trước commit và nạp lại vào cache
+            XeMay beforeCommit = new XeMay("Xe 1", "Mô tả", new BigDecimal("1000"), "x.jpg",
+                    10, "Honda", "Wave", "Đỏ", 2024, 110);
+            beforeCommit.setMaSanPham(1L);
+            delegate.store.put(1L, beforeCommit);
+            assertEquals(10, cache.findById(1L).orElseThrow().getSoLuongTonKho());
+            delegate.store.put(1L, committed);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(6, cache.findById(1L).orElseThrow().getSoLuongTonKho());
+    }
+}
@@ -0,0 +1,59 @@
+package com.motorbike.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.infrastructure.cache.CachingProductRepository;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RepositoryMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private ProductRepository repository;
+    private ProductRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegate = mock(ProductRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CachingProductRepository(delegate, 10, 60_000));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RepositoryMetricsAspect(registry));
+        repository = factory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return registry.find(RepositoryMetricsAspect.TIMER)
+                .tags("repository", "CachingProductRepository", "method", method, "outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    void portMethodsAreTimedPerMethod() {
+        when(delegate.findById(1L)).thenReturn(Optional.empty());
+
+        repository.findById(1L);
+        repository.findById(1L);
+
+        assertEquals(2, timer("findById", "success").count());
+    }
+
+    @Test
+    void exceptionsAreTimedAndRethrown() {
+        when(delegate.findById(2L)).thenThrow(new IllegalStateException("DB down"));
+
+        assertThrows(IllegalStateException.class, () -> repository.findById(2L));
+
+        assertEquals(1, timer("findById", "exception").count());
+    }
+}
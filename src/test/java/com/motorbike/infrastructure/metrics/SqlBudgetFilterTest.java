@@ -0,0 +1,72 @@
+package com.motorbike.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.motorbike.infrastructure.persistence.statements.SqlStatementInspector;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class SqlBudgetFilterTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+    private SimpleMeterRegistry registry;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("GET", "/api/orders/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    // Mô phỏng một request N+1: 1 câu lấy đơn + mỗi dòng một câu, rồi ghi body
+    private FilterChain chainIssuing(int lineQueries) {
+        return (req, res) -> {
+            inspector.inspect("select * from don_hang where ma_don_hang=?");
+            for (int i = 0; i < lineQueries; i++) {
+                inspector.inspect("select * from san_pham where ma_san_pham=" + i);
+            }
+            res.getWriter().write("{}");
+        };
+    }
+
+    @Test
+    void countsAreReturnedInHeadersAndMetrics() throws Exception {
+        new SqlBudgetFilter(registry, 30, 5, false).doFilter(request, response, chainIssuing(2));
+
+        assertEquals("3", response.getHeader(SqlBudgetFilter.HEADER_STATEMENTS));
+        assertEquals("2", response.getHeader(SqlBudgetFilter.HEADER_MAX_REPEATS));
+        assertNotNull(response.getHeader(SqlBudgetFilter.HEADER_TIME));
+        assertEquals(3.0, registry.get("http.server.sql.statements").tag("uri", "/api/orders/{id}")
+                .summary().totalAmount());
+        assertNull(registry.find("http.server.sql.budget.exceeded").counter());
+    }
+
+    @Test
+    void repeatedShape_ExceedsBudget() throws Exception {
+        new SqlBudgetFilter(registry, 30, 5, false).doFilter(request, response, chainIssuing(6));
+
+        assertEquals(1.0, registry.get("http.server.sql.budget.exceeded")
+                .tags("uri", "/api/orders/{id}", "reason", "repeats").counter().count());
+    }
+
+    @Test
+    void failOnExceed_ThrowsWithTheRepeatedStatement() {
+        SqlBudgetFilter filter = new SqlBudgetFilter(registry, 3, 5, true);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, response, chainIssuing(4)));
+
+        assertTrue(ex.getMessage().contains("5 statements"));
+        assertTrue(ex.getMessage().contains("select * from san_pham where ma_san_pham=?"));
+    }
+}
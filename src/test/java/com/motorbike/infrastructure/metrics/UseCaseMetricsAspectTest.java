@@ -0,0 +1,100 @@
+package com.motorbike.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.motorbike.business.dto.changepassword.ChangePasswordInputData;
+import com.motorbike.business.dto.changepassword.ChangePasswordOutputData;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.business.usecase.control.ChangePasswordUseCaseControl;
+import com.motorbike.business.usecase.input.ChangePasswordInputBoundary;
+import com.motorbike.business.usecase.output.ChangePasswordOutputBoundary;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.VaiTro;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private UseCaseMetricsAspect aspect;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new UseCaseMetricsAspect(registry);
+        userRepository = mock(UserRepository.class);
+        TaiKhoan taiKhoan = new TaiKhoan(1L, "user@test.com", "user", "password123", "0912345678", "HN",
+                VaiTro.CUSTOMER, true, LocalDateTime.now(), LocalDateTime.now(), null);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(taiKhoan));
+        when(userRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private Timer timer(String outcome, String errorCode) {
+        return registry.find(UseCaseMetricsAspect.TIMER)
+                .tags("usecase", "ChangePassword", "outcome", outcome, "error_code", errorCode)
+                .timer();
+    }
+
+    @Test
+    void returnMode_SuccessIsTimedWithoutErrorCode() {
+        ChangePasswordInputBoundary useCase = proxy(new ChangePasswordUseCaseControl(userRepository));
+
+        Boolean success = useCase.execute(
+                ChangePasswordInputData.of(1L, "password123", "newpass123", "newpass123"),
+                ChangePasswordOutputData::isSuccess);
+
+        assertTrue(success);
+        assertEquals(1, timer("success", "none").count());
+    }
+
+    @Test
+    void returnMode_ErrorCodeIsTakenFromOutputData() {
+        ChangePasswordInputBoundary useCase = proxy(new ChangePasswordUseCaseControl(userRepository));
+
+        useCase.execute(ChangePasswordInputData.of(1L, "password123", "newpass123", "other123"), output -> output);
+        useCase.execute(ChangePasswordInputData.of(1L, "password123", "newpass123", "other123"), output -> output);
+
+        assertEquals(2, timer("error", "PASSWORD_MISMATCH").count());
+    }
+
+    @Test
+    void presenterMode_ErrorCodeIsCapturedFromOutputBoundary() {
+        List<ChangePasswordOutputData> presented = new ArrayList<>();
+        ChangePasswordOutputBoundary presenter = proxy((ChangePasswordOutputBoundary) presented::add);
+        ChangePasswordInputBoundary useCase = proxy(new ChangePasswordUseCaseControl(presenter, userRepository));
+
+        useCase.execute(ChangePasswordInputData.of(1L, "wrongpass", "newpass123", "newpass123"));
+
+        assertEquals(1, presented.size());
+        assertEquals(1, timer("error", "INVALID_PASSWORD").count());
+    }
+
+    @Test
+    void presenterCalledOutsideUseCase_IsIgnored() {
+        ChangePasswordOutputBoundary presenter = proxy((ChangePasswordOutputBoundary) output -> { });
+
+        presenter.present(ChangePasswordOutputData.forError("X", "x"));
+
+        assertTrue(registry.find(UseCaseMetricsAspect.TIMER).timers().isEmpty());
+    }
+}
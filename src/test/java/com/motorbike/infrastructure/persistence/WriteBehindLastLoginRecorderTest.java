@@ -0,0 +1,158 @@
+package com.motorbike.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.repository.UserRepository;
+
+class WriteBehindLastLoginRecorderTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private UserRepository userRepository;
+    private List<Map<Long, LocalDateTime>> batches;
+    private WriteBehindLastLoginRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        batches = new ArrayList<>();
+        doAnswer(inv -> {
+            batches.add(new HashMap<>(inv.getArgument(0)));
+            return null;
+        }).when(userRepository).updateLastLogins(anyMap());
+        // Chu kỳ rất dài: test tự gọi flush()/close()
+        recorder = new WriteBehindLastLoginRecorder(userRepository, 3, 3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    @Test
+    void logins_AreNotWrittenUntilFlush() {
+        recorder.recordLogin(1L, T0);
+
+        verify(userRepository, never()).updateLastLogins(anyMap());
+        assertEquals(1, recorder.getPendingCount());
+    }
+
+    @Test
+    void repeatedLogins_AreCoalescedToLatestPerUser() {
+        recorder.recordLogin(1L, T0.plusMinutes(5));
+        recorder.recordLogin(1L, T0);
+        recorder.recordLogin(2L, T0.plusMinutes(1));
+
+        recorder.flush();
+
+        assertEquals(1, batches.size());
+        assertEquals(Map.of(1L, T0.plusMinutes(5), 2L, T0.plusMinutes(1)), batches.get(0));
+        assertEquals(0, recorder.getPendingCount());
+        assertEquals(3, recorder.getRecordedCount());
+        assertEquals(2, recorder.getFlushedCount());
+    }
+
+    @Test
+    void fullQueue_IsFlushedOnTheWriterThread() {
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            writerThreads.add(Thread.currentThread().getName());
+            batches.add(new HashMap<>(inv.getArgument(0)));
+            return null;
+        }).when(userRepository).updateLastLogins(anyMap());
+
+        recorder.recordLogin(1L, T0);
+        recorder.recordLogin(2L, T0);
+        recorder.recordLogin(3L, T0);
+
+        verify(userRepository, timeout(5_000)).updateLastLogins(anyMap());
+        assertEquals(List.of("last-login-writer"), writerThreads);
+        assertEquals(3, batches.get(0).size());
+    }
+
+    @Test
+    void fullQueue_DoesNotBlockLoginWhileWriterIsBusy() throws InterruptedException {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            writerBusy.countDown();
+            release.await();
+            batches.add(new HashMap<>(inv.getArgument(0)));
+            return null;
+        }).when(userRepository).updateLastLogins(anyMap());
+
+        recorder.recordLogin(1L, T0);
+        recorder.recordLogin(2L, T0);
+        recorder.recordLogin(3L, T0);
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+
+        // Luồng ghi đang bận với lô đầu: lô mới đầy thì bỏ tài khoản mới, nhưng vẫn cập nhật tài khoản đang chờ
+        recorder.recordLogin(4L, T0);
+        recorder.recordLogin(5L, T0);
+        recorder.recordLogin(6L, T0);
+        recorder.recordLogin(7L, T0);
+        recorder.recordLogin(4L, T0.plusMinutes(1));
+
+        assertEquals(3, recorder.getPendingCount());
+        assertEquals(1, recorder.getDroppedCount());
+        release.countDown();
+        recorder.close();
+
+        assertEquals(Map.of(4L, T0.plusMinutes(1), 5L, T0, 6L, T0), batches.get(batches.size() - 1));
+    }
+
+    @Test
+    void failedFlush_IsRetriedOnNextFlush() {
+        doThrow(new RuntimeException("DB down")).doAnswer(inv -> {
+            batches.add(new HashMap<>(inv.getArgument(0)));
+            return null;
+        }).when(userRepository).updateLastLogins(anyMap());
+
+        recorder.recordLogin(1L, T0);
+        recorder.flush();
+
+        assertEquals(1, recorder.getFailedFlushCount());
+        assertEquals(1, recorder.getPendingCount());
+
+        recorder.recordLogin(1L, T0.plusMinutes(1));
+        recorder.flush();
+
+        assertEquals(List.of(Map.of(1L, T0.plusMinutes(1))), batches);
+    }
+
+    @Test
+    void close_FlushesPendingLogins() {
+        recorder.recordLogin(7L, T0);
+
+        recorder.close();
+
+        assertEquals(List.of(Map.of(7L, T0)), batches);
+    }
+
+    @Test
+    void emptyFlush_DoesNotTouchRepository() {
+        recorder.flush();
+
+        verify(userRepository, never()).updateLastLogins(anyMap());
+    }
+}
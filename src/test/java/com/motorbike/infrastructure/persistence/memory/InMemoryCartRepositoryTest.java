@@ -0,0 +1,76 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.GioHang;
+
+class InMemoryCartRepositoryTest {
+
+    private static final BigDecimal GIA = BigDecimal.valueOf(100_000);
+
+    private InMemoryCartRepository repository;
+    private Long cartId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCartRepository();
+        GioHang gioHang = new GioHang(7L);
+        gioHang.themSanPham(new ChiTietGioHang(1L, "Mũ", GIA, 1));
+        gioHang.themSanPham(new ChiTietGioHang(2L, "Găng tay", GIA, 1));
+        cartId = repository.save(gioHang).getMaGioHang();
+    }
+
+    @Test
+    void cartIsIndexedByUser() {
+        assertEquals(cartId, repository.findIdByUserId(7L).orElseThrow());
+        assertEquals(2, repository.findByUserId(7L).orElseThrow().demSoSanPham());
+        assertTrue(repository.findByUserId(8L).isEmpty());
+    }
+
+    @Test
+    void saves_OnlyApplyTheirOwnLineChanges() {
+        GioHang first = repository.findById(cartId).orElseThrow();
+        GioHang second = repository.findById(cartId).orElseThrow();
+
+        first.capNhatSoLuong(1L, 3);
+        second.themSanPham(new ChiTietGioHang(3L, "Gương", GIA, 2));
+        repository.save(first);
+        repository.save(second);
+
+        GioHang stored = repository.findById(cartId).orElseThrow();
+        assertEquals(3, stored.timSanPhamTheoMa(1L).orElseThrow().getSoLuong());
+        assertEquals(2, stored.timSanPhamTheoMa(3L).orElseThrow().getSoLuong());
+        assertEquals(GIA.multiply(BigDecimal.valueOf(6)), stored.getTongTien());
+    }
+
+    @Test
+    void removedLine_IsDeleted() {
+        GioHang gioHang = repository.findById(cartId).orElseThrow();
+        gioHang.xoaSanPham(2L);
+        repository.save(gioHang);
+
+        assertTrue(repository.findById(cartId).orElseThrow().timSanPhamTheoMa(2L).isEmpty());
+    }
+
+    @Test
+    void mergeGuestCart_AddsQuantitiesAndDeletesGuestCart() {
+        GioHang guest = new GioHang((Long) null);
+        guest.themSanPham(new ChiTietGioHang(1L, "Mũ", GIA, 2));
+        guest.themSanPham(new ChiTietGioHang(4L, "Khóa đĩa", GIA, 1));
+        Long guestId = repository.save(guest).getMaGioHang();
+
+        assertEquals(2, repository.mergeGuestCartToUserCart(guestId, cartId));
+
+        GioHang merged = repository.findById(cartId).orElseThrow();
+        assertEquals(3, merged.timSanPhamTheoMa(1L).orElseThrow().getSoLuong());
+        assertEquals(3, merged.demSoSanPham());
+        assertTrue(repository.findById(guestId).isEmpty());
+        assertEquals(-1, repository.mergeGuestCartToUserCart(guestId, cartId));
+    }
+}
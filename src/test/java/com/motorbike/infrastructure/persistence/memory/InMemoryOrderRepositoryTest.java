@@ -0,0 +1,99 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.repository.CursorPage;
+import com.motorbike.business.ports.repository.OrderCursor;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+class InMemoryOrderRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private InMemoryOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+        for (int i = 0; i < 25; i++) {
+            // Hai đơn cùng thời điểm: thứ tự phụ theo mã đơn
+            repository.save(order(1L + i % 3, T0.plusMinutes(i / 2)));
+        }
+    }
+
+    private static DonHang order(Long userId, LocalDateTime ngayDat) {
+        List<ChiTietDonHang> lines = new ArrayList<>();
+        lines.add(new ChiTietDonHang(1L, "Honda Vision", BigDecimal.valueOf(30_000_000), 1));
+        return new DonHang(null, userId, lines, BigDecimal.valueOf(30_000_000), TrangThaiDonHang.CHO_XAC_NHAN,
+                "Nguyễn Văn A", "0912345678", "12 Lê Lợi", null, ngayDat, ngayDat);
+    }
+
+    @Test
+    void adminPages_FollowNewestFirstOrderWithoutGaps() {
+        List<Long> expected = repository.findAll().stream()
+                .sorted(OrderCursor.NEWEST_FIRST)
+                .map(DonHang::getMaDonHang)
+                .collect(Collectors.toList());
+
+        List<Long> paged = new ArrayList<>();
+        OrderCursor after = null;
+        do {
+            CursorPage<DonHang> page = repository.findPageForAdmin(null, after, 10);
+            page.getContent().forEach(d -> paged.add(d.getMaDonHang()));
+            after = OrderCursor.decode(page.getNextCursor());
+        } while (after != null);
+
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void statusChange_MovesOrderBetweenStatusIndexes() {
+        DonHang donHang = repository.findById(5L).orElseThrow();
+        donHang.chuyenTrangThai(TrangThaiDonHang.DA_XAC_NHAN);
+        repository.save(donHang);
+
+        assertEquals(24, repository.findByStatus(TrangThaiDonHang.CHO_XAC_NHAN).size());
+        assertEquals(List.of(5L), repository.findByStatus(TrangThaiDonHang.DA_XAC_NHAN).stream()
+                .map(DonHang::getMaDonHang).collect(Collectors.toList()));
+        assertEquals(1, repository.findPageForAdmin(TrangThaiDonHang.DA_XAC_NHAN, null, 10).getContent().size());
+        assertEquals(25, repository.findPageForAdmin(null, null, 100).getContent().size());
+    }
+
+    @Test
+    void ordersOfUser_AreNewestFirst() {
+        List<DonHang> orders = repository.findByUserId(2L);
+
+        assertEquals(8, orders.size());
+        for (int i = 1; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getNgayDat().isAfter(orders.get(i - 1).getNgayDat()));
+        }
+        assertEquals(8, repository.findSummariesByUserId(2L).size());
+    }
+
+    @Test
+    void delete_RemovesOrderFromIndexes() {
+        repository.deleteById(1L);
+
+        assertFalse(repository.existsById(1L));
+        assertEquals(8, repository.findByUserId(1L).size());
+        assertEquals(24, repository.findPageForAdmin(null, null, 100).getContent().size());
+    }
+
+    @Test
+    void adminSearch_MatchesProductNamesAndReceiver() {
+        assertEquals(25, repository.searchForAdmin("vision").size());
+        assertEquals(25, repository.searchForAdmin("nguyễn").size());
+        assertTrue(repository.searchForAdmin("  ").isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+
+class InMemoryProductRepositoryTest {
+
+    private InMemoryProductRepository repository;
+    private Long xeId;
+    private Long phuKienId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryProductRepository();
+        xeId = repository.save(new XeMay("Honda Vision", "Xe ga", BigDecimal.valueOf(30_000_000), "v.jpg", 10,
+                "Honda", "Vision", "Đỏ", 2024, 110)).getMaSanPham();
+        phuKienId = repository.save(new PhuKienXeMay("Mũ bảo hiểm", "Mũ", BigDecimal.valueOf(300_000), "m.jpg", 2,
+                "Mũ bảo hiểm", "Andes", "Nhựa ABS", "L")).getMaSanPham();
+    }
+
+    @Test
+    void returnedProducts_AreCopies() {
+        SanPham loaded = repository.findById(xeId).orElseThrow();
+        loaded.setSoLuongTonKho(0);
+
+        assertEquals(10, repository.findById(xeId).orElseThrow().getSoLuongTonKho());
+    }
+
+    @Test
+    void decrement_IsAllOrNothing() {
+        List<Long> failed = repository.decrementStockIfAvailable(Map.of(xeId, 3, phuKienId, 5));
+
+        assertEquals(List.of(phuKienId), failed);
+        assertEquals(10, repository.findById(xeId).orElseThrow().getSoLuongTonKho());
+        assertEquals(2, repository.findById(phuKienId).orElseThrow().getSoLuongTonKho());
+    }
+
+    @Test
+    void decrementToZero_MarksOutOfStock() {
+        assertTrue(repository.decrementStockIfAvailable(Map.of(phuKienId, 2)).isEmpty());
+
+        assertFalse(repository.findById(phuKienId).orElseThrow().isConHang());
+    }
+
+    @Test
+    void concurrentDecrements_NeverOversell() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return repository.decrementStockIfAvailable(Map.of(xeId, 1)).isEmpty();
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            succeeded += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        pool.shutdown();
+
+        assertEquals(10, succeeded);
+        assertEquals(0, repository.findById(xeId).orElseThrow().getSoLuongTonKho());
+    }
+
+    @Test
+    void motorbikeAndAccessoryViews_ShareTheProductTable() {
+        InMemoryMotorbikeRepository motorbikes = new InMemoryMotorbikeRepository(repository);
+        InMemoryAccessoryRepository accessories = new InMemoryAccessoryRepository(repository);
+
+        assertEquals(1, motorbikes.findAllMotorbikes().size());
+        assertTrue(motorbikes.findById(phuKienId).isEmpty());
+        assertEquals(phuKienId, accessories.findAllAccessories().get(0).getMaSanPham());
+
+        motorbikes.deleteById(xeId);
+
+        assertFalse(repository.existsById(xeId));
+        assertEquals(1, repository.findAll().size());
+    }
+}
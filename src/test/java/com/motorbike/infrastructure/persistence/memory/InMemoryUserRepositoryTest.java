@@ -0,0 +1,75 @@
+package com.motorbike.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.motorbike.domain.entities.TaiKhoan;
+
+class InMemoryUserRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private InMemoryUserRepository repository;
+    private TaiKhoan an;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryUserRepository();
+        an = repository.save(new TaiKhoan("an@example.com", "anvan", "matkhau123", "0912345678", "Hà Nội"));
+    }
+
+    @Test
+    void emailLookup_IgnoresCase() {
+        assertEquals(an.getMaTaiKhoan(), repository.findByEmail("AN@Example.com").orElseThrow().getMaTaiKhoan());
+        assertTrue(repository.existsByEmail(" an@example.com "));
+    }
+
+    @Test
+    void duplicateEmail_IsRejected() {
+        assertThrows(DataIntegrityViolationException.class, () ->
+                repository.save(new TaiKhoan("An@example.com", "anvan2", "matkhau123", "0912345679", null)));
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void changingEmail_MovesTheIndexEntry() {
+        TaiKhoan loaded = repository.findById(an.getMaTaiKhoan()).orElseThrow();
+        loaded.setEmail("an.moi@example.com");
+        repository.save(loaded);
+
+        assertFalse(repository.existsByEmail("an@example.com"));
+        assertTrue(repository.findByEmail("an.moi@example.com").isPresent());
+    }
+
+    @Test
+    void lastLogin_NeverMovesBackwards() {
+        repository.updateLastLogins(Map.of(an.getMaTaiKhoan(), T0.plusMinutes(5)));
+        repository.updateLastLogins(Map.of(an.getMaTaiKhoan(), T0));
+
+        assertEquals(T0.plusMinutes(5), repository.findById(an.getMaTaiKhoan()).orElseThrow().getLanDangNhapCuoi());
+    }
+
+    @Test
+    void passwordUpdate_OnlyAppliesWhileOldHashIsCurrent() {
+        assertTrue(repository.updatePasswordIfCurrent(an.getMaTaiKhoan(), "matkhau123", "hash-moi"));
+        assertFalse(repository.updatePasswordIfCurrent(an.getMaTaiKhoan(), "matkhau123", "hash-khac"));
+
+        TaiKhoan loaded = repository.findById(an.getMaTaiKhoan()).orElseThrow();
+        assertEquals("hash-moi", loaded.getMatKhau());
+        assertEquals("anvan", loaded.getTenDangNhap());
+    }
+
+    @Test
+    void delete_RemovesEmailIndex() {
+        repository.deleteById(an.getMaTaiKhoan());
+
+        assertFalse(repository.existsByEmail("an@example.com"));
+        assertTrue(repository.findAll().isEmpty());
+    }
+}
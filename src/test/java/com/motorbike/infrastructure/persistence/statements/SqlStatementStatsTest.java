@@ -0,0 +1,61 @@
+package com.motorbike.infrastructure.persistence.statements;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatementStatsTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    void shapeOf_IgnoresParametersLiteralsAndInListLength() {
+        assertEquals("select * from san_pham where ma_san_pham in (?) and ten like ?",
+                SqlStatementStats.shapeOf("select *\n  from san_pham where ma_san_pham in (?, ?, ?) and ten like 'Honda%'"));
+        assertEquals(SqlStatementStats.shapeOf("select s1_0.ma from chi_tiet s1_0 where s1_0.ma_don=12"),
+                SqlStatementStats.shapeOf("select s1_0.ma from chi_tiet s1_0 where s1_0.ma_don=345"));
+    }
+
+    @Test
+    void repeatedShapes_AreCountedPerScope() {
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            inspector.inspect("select * from don_hang where ma_tai_khoan=?");
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect("select * from chi_tiet_don_hang where ma_don_hang=?");
+            }
+
+            assertEquals(4, stats.getStatementCount());
+            assertEquals(3, stats.getMaxRepeats());
+            assertEquals("select * from chi_tiet_don_hang where ma_don_hang=?", stats.getMostRepeatedShape());
+        }
+    }
+
+    @Test
+    void nestedScope_CountsIntoOuterScopeToo() {
+        try (SqlStatementStats outer = SqlStatementStats.open()) {
+            inspector.inspect("select 1");
+            try (SqlStatementStats inner = SqlStatementStats.open()) {
+                inspector.inspect("select 2");
+                SqlStatementStats.recordJdbcTime(5_000_000);
+
+                assertEquals(1, inner.getStatementCount());
+                assertEquals(5, inner.getJdbcMillis());
+            }
+            inspector.inspect("select 3");
+
+            assertEquals(3, outer.getStatementCount());
+            assertEquals(5, outer.getJdbcMillis());
+        }
+    }
+
+    @Test
+    void statementsOutsideAnyScope_AreIgnored() {
+        assertEquals("select 1", inspector.inspect("select 1"));
+
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            assertEquals(0, stats.getStatementCount());
+            assertEquals(0, stats.getMaxRepeats());
+            assertNull(stats.getMostRepeatedShape());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.motorbike.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.search.CatalogSearchEngine.ProductType;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+
+class InMemoryCatalogSearchEngineTest {
+
+    private static class InMemoryProductRepository implements ProductRepository {
+        final Map<Long, SanPham> store = new LinkedHashMap<>();
+
+        @Override
+        public Optional<SanPham> findById(Long productId) {
+            return Optional.ofNullable(store.get(productId));
+        }
+
+        @Override
+        public SanPham save(SanPham sanPham) {
+            store.put(sanPham.getMaSanPham(), sanPham);
+            return sanPham;
+        }
+
+        @Override
+        public boolean existsById(Long productId) {
+            return store.containsKey(productId);
+        }
+
+        @Override
+        public List<SanPham> findAll() {
+            return new ArrayList<>(store.values());
+        }
+    }
+
+    private InMemoryProductRepository source;
+    private InMemoryCatalogSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        source = new InMemoryProductRepository();
+        source.save(xe(1L, "Honda Wave Alpha", "Xe máy số tiết kiệm xăng", "Honda", "Wave"));
+        source.save(xe(2L, "Yamaha Exciter 155", "Xe côn tay thể thao", "Yamaha", "Exciter"));
+        source.save(xe(3L, "Vision", "Xe tay ga cho Honda fan", "Honda", "Vision"));
+        source.save(phuKien(4L, "Mũ bảo hiểm fullface", "Mũ", "Royal", "Nhựa ABS"));
+        source.save(phuKien(5L, "Găng tay da", "Găng tay", "Honda", "Da bò"));
+        engine = new InMemoryCatalogSearchEngine(source, Runnable::run);
+    }
+
+    @Test
+    void search_BeforeWarmUp_ReturnsEmptyAndStartsWarmUp() {
+        InMemoryCatalogSearchEngine cold = new InMemoryCatalogSearchEngine(source, task -> {});
+
+        assertTrue(cold.search("honda", ProductType.MOTORBIKE).isEmpty());
+        assertFalse(cold.isReady());
+    }
+
+    @Test
+    void search_IgnoresVietnameseDiacriticsAndCase() {
+        engine.warmUp();
+
+        assertEquals(List.of(1L), engine.search("XE MAY so", ProductType.MOTORBIKE).orElseThrow());
+        assertEquals(List.of(4L), engine.search("mu bao hiem", ProductType.ACCESSORY).orElseThrow());
+    }
+
+    @Test
+    void search_MatchesPrefixOfEveryTerm() {
+        engine.warmUp();
+
+        assertEquals(List.of(2L), engine.search("exc yam", ProductType.MOTORBIKE).orElseThrow());
+    }
+
+    @Test
+    void search_NameMatchOutranksDescriptionMatch() {
+        engine.warmUp();
+
+        List<Long> ids = engine.search("honda", ProductType.MOTORBIKE).orElseThrow();
+        assertEquals(List.of(1L, 3L), ids);
+
+        source.save(xe(6L, "Air Blade", "Đối thủ của Vision", "Honda", "Air Blade"));
+        engine.onProductSaved(6L);
+        assertEquals(List.of(3L, 6L), engine.search("vision", ProductType.MOTORBIKE).orElseThrow());
+    }
+
+    @Test
+    void search_FiltersByProductType() {
+        engine.warmUp();
+
+        assertEquals(List.of(5L), engine.search("honda", ProductType.ACCESSORY).orElseThrow());
+    }
+
+    @Test
+    void productChanges_UpdateIndex() {
+        engine.warmUp();
+
+        SanPham renamed = xe(2L, "Yamaha Sirius", "Xe số", "Yamaha", "Sirius");
+        source.save(renamed);
+        engine.onProductSaved(2L);
+        assertTrue(engine.search("exciter", ProductType.MOTORBIKE).orElseThrow().isEmpty());
+        assertEquals(List.of(2L), engine.search("sirius", ProductType.MOTORBIKE).orElseThrow());
+
+        engine.onProductDeleted(2L);
+        assertTrue(engine.search("sirius", ProductType.MOTORBIKE).orElseThrow().isEmpty());
+        assertEquals(4, engine.size());
+    }
+
+    @Test
+    void warmUp_DoesNotOverwriteChangesMadeWhileLoading() {
+        InMemoryCatalogSearchEngine slow = new InMemoryCatalogSearchEngine(source, task -> {});
+        slow.remove(1L);
+        slow.warmUp();
+
+        assertTrue(slow.search("wave", ProductType.MOTORBIKE).orElseThrow().isEmpty());
+    }
+
+    private static XeMay xe(Long id, String ten, String moTa, String hang, String dong) {
+        XeMay xe = new XeMay(ten, moTa, new BigDecimal("30000000"), "x.jpg",
+                5, hang, dong, "Đỏ", 2024, 125);
+        xe.setMaSanPham(id);
+        return xe;
+    }
+
+    private static PhuKienXeMay phuKien(Long id, String ten, String loai, String thuongHieu, String chatLieu) {
+        PhuKienXeMay pk = new PhuKienXeMay(ten, "Phụ kiện", new BigDecimal("500000"), "pk.jpg",
+                10, loai, thuongHieu, chatLieu, "M");
+        pk.setMaSanPham(id);
+        return pk;
+    }
+}
@@ -0,0 +1,153 @@
+package com.motorbike.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+
+class InMemoryOrderSearchIndexTest {
+
+    private static class InMemoryOrderRepository implements OrderRepository {
+        final Map<Long, DonHang> store = new LinkedHashMap<>();
+
+        @Override
+        public DonHang save(DonHang donHang) {
+            store.put(donHang.getMaDonHang(), donHang);
+            return donHang;
+        }
+
+        @Override
+        public Optional<DonHang> findById(Long orderId) {
+            return Optional.ofNullable(store.get(orderId));
+        }
+
+        @Override
+        public List<DonHang> findByUserId(Long userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<DonHang> findByStatus(TrangThaiDonHang trangThai) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<DonHang> findByUserIdAndStatus(Long userId, TrangThaiDonHang trangThai) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<DonHang> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public List<DonHang> searchForAdmin(String keyword) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void deleteById(Long orderId) {
+            store.remove(orderId);
+        }
+
+        @Override
+        public boolean existsById(Long orderId) {
+            return store.containsKey(orderId);
+        }
+    }
+
+    private InMemoryOrderRepository source;
+    private InMemoryOrderSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        source = new InMemoryOrderRepository();
+        source.save(order(1L, "Nguyễn Văn Đạt", "0912345678", "12 Lê Lợi, Quận 1", "Honda Wave Alpha"));
+        source.save(order(2L, "Trần Thị Bích", "0987654321", "5 Trần Hưng Đạo, Hà Nội", "Yamaha Exciter"));
+        // Executor chạy đồng bộ để warmUp xong ngay trong lần search đầu tiên
+        index = new InMemoryOrderSearchIndex(source, Runnable::run);
+    }
+
+    @Test
+    void coldIndex_ReturnsEmptyAndWarmsUp() {
+        assertTrue(index.search("wave").isEmpty());
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L), index.search("wave").orElseThrow());
+    }
+
+    @Test
+    void search_IgnoresCaseAndVietnameseDiacritics() {
+        index.warmUp();
+
+        assertEquals(List.of(1L), index.search("nguyen dat").orElseThrow());
+        assertEquals(List.of(1L), index.search("ĐẠT").orElseThrow());
+        assertEquals(List.of(2L), index.search("hung dao").orElseThrow());
+    }
+
+    @Test
+    void search_MatchesPartialPhoneNumberAndShortTerms() {
+        index.warmUp();
+
+        assertEquals(List.of(2L), index.search("98765").orElseThrow());
+        assertEquals(List.of(1L), index.search("q 1 le").orElseThrow());
+        assertTrue(index.search("khong co").orElseThrow().isEmpty());
+    }
+
+    @Test
+    void index_ReplacesPreviousVersionOfOrder() {
+        index.warmUp();
+
+        index.index(order(2L, "Lê Văn Cường", "0987654321", "Đà Nẵng", "Yamaha Exciter"));
+
+        assertTrue(index.search("bich").orElseThrow().isEmpty());
+        assertEquals(List.of(2L), index.search("cuong").orElseThrow());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void remove_DropsOrderFromResults() {
+        index.warmUp();
+
+        index.remove(1L);
+
+        assertTrue(index.search("wave").orElseThrow().isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void search_ReturnsNewestOrdersFirst() {
+        index.warmUp();
+
+        // Mã lớn nhưng ngày đặt cũ hơn, và một đơn mới nhất có mã nhỏ
+        index.index(order(9L, "Nguyễn Thị Hoa", "0900000009", "Huế", "Honda Vision", LocalDateTime.now().minusDays(30)));
+        index.index(order(4L, "Nguyễn Văn Nam", "0900000004", "Huế", "Honda Vision", LocalDateTime.now().plusHours(1)));
+
+        assertEquals(List.of(4L, 1L, 9L), index.search("nguyen").orElseThrow());
+    }
+
+    private static DonHang order(Long id, String receiver, String phone, String address, String product) {
+        return order(id, receiver, phone, address, product, LocalDateTime.now().minusDays(id));
+    }
+
+    private static DonHang order(Long id, String receiver, String phone, String address, String product,
+                                 LocalDateTime orderedAt) {
+        List<ChiTietDonHang> items = new ArrayList<>();
+        items.add(new ChiTietDonHang(id * 10, id, 1L, product, new BigDecimal("30000000"), 1, new BigDecimal("30000000")));
+        return new DonHang(id, 100L, items, new BigDecimal("30000000"), TrangThaiDonHang.CHO_XAC_NHAN,
+                receiver, phone, address, null, orderedAt, LocalDateTime.now());
+    }
+}
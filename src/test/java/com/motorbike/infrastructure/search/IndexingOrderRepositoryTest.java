@@ -0,0 +1,80 @@
+package com.motorbike.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.infrastructure.persistence.memory.InMemoryOrderRepository;
+
+class IndexingOrderRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private final AtomicInteger saves = new AtomicInteger();
+    private InMemoryOrderSearchIndex index;
+    private IndexingOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryOrderRepository store = new InMemoryOrderRepository() {
+            @Override
+            public DonHang save(DonHang donHang) {
+                saves.incrementAndGet();
+                return super.save(donHang);
+            }
+        };
+        index = new InMemoryOrderSearchIndex(store);
+        index.warmUp();
+        repository = new IndexingOrderRepository(store, index);
+    }
+
+    private static DonHang order() {
+        List<ChiTietDonHang> lines = new ArrayList<>();
+        lines.add(new ChiTietDonHang(1L, "Honda Vision", BigDecimal.valueOf(30_000_000), 1));
+        return new DonHang(null, 7L, lines, BigDecimal.valueOf(30_000_000), TrangThaiDonHang.CHO_XAC_NHAN,
+                "Nguyễn Văn A", "0912345678", "12 Lê Lợi", null, T0, T0);
+    }
+
+    @Test
+    void cancelIfPending_UsesConditionalUpdateOfDelegate_AndReindexes() {
+        Long orderId = repository.save(order()).getMaDonHang();
+        saves.set(0);
+
+        assertTrue(repository.cancelIfPending(orderId));
+        assertFalse(repository.cancelIfPending(orderId));
+
+        // Không rơi về cài đặt default của port (đọc rồi save): delegate tự đổi trạng thái có điều kiện
+        assertEquals(0, saves.get());
+        assertEquals(List.of(orderId), index.search("DA_HUY").orElseThrow());
+        assertEquals(List.of(), index.search("CHO_XAC_NHAN").orElseThrow());
+    }
+
+    @Test
+    void cancelInTransaction_ReindexesOnlyAfterCommit() {
+        Long orderId = repository.save(order()).getMaDonHang();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(repository.cancelIfPending(orderId));
+            assertEquals(List.of(orderId), index.search("CHO_XAC_NHAN").orElseThrow());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(orderId), index.search("DA_HUY").orElseThrow());
+    }
+}
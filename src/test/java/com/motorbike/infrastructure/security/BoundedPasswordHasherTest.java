@@ -0,0 +1,96 @@
+package com.motorbike.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.security.PasswordHasher;
+import com.motorbike.domain.exceptions.SystemException;
+
+class BoundedPasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private BoundedPasswordHasher hasher;
+
+    // Lần băm đầu tiên bị giữ lại tới khi release, để lấp đầy pool
+    private final PasswordHasher slow = new PasswordHasher() {
+        @Override
+        public String hash(String matKhau) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + matKhau;
+        }
+
+        @Override
+        public boolean matches(String matKhau, String matKhauDaLuu) {
+            return ("hashed:" + matKhau).equals(matKhauDaLuu);
+        }
+
+        @Override
+        public boolean needsRehash(String matKhauDaLuu) {
+            return !matKhauDaLuu.startsWith("hashed:");
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        hasher.close();
+    }
+
+    @Test
+    void delegatesWhenIdle() {
+        hasher = new BoundedPasswordHasher(PasswordHasher.plainText(), 1, 1, 1_000);
+
+        assertEquals("password123", hasher.hash("password123"));
+        assertTrue(hasher.matches("password123", "password123"));
+        assertFalse(hasher.needsRehash("password123"));
+        assertEquals(0, hasher.getRejectedCount());
+    }
+
+    @Test
+    void fullQueue_IsRejectedWithServiceBusy() throws Exception {
+        hasher = new BoundedPasswordHasher(slow, 1, 1, 5_000);
+        callers.submit(() -> hasher.hash("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hasher.hash("b"));
+        waitForQueueDepth(1);
+
+        SystemException ex = assertThrows(SystemException.class, () -> hasher.hash("c"));
+
+        assertEquals("SERVICE_BUSY", ex.getErrorCode());
+        assertEquals(1, hasher.getRejectedCount());
+        assertEquals(1, hasher.getMaxQueueDepth());
+    }
+
+    @Test
+    void slowHash_TimesOutWithServiceBusy() throws Exception {
+        hasher = new BoundedPasswordHasher(slow, 1, 1, 50);
+
+        SystemException ex = assertThrows(SystemException.class, () -> hasher.hash("a"));
+
+        assertEquals("SERVICE_BUSY", ex.getErrorCode());
+        assertEquals(1, hasher.getTimedOutCount());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (hasher.getQueueDepth() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, hasher.getQueueDepth());
+    }
+}
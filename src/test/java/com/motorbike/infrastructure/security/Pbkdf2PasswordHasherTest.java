@@ -0,0 +1,56 @@
+package com.motorbike.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class Pbkdf2PasswordHasherTest {
+
+    // Số vòng nhỏ cho test chạy nhanh
+    private final Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(1_000);
+
+    @Test
+    void hash_MatchesOnlyTheOriginalPassword() {
+        String stored = hasher.hash("password123");
+
+        assertTrue(stored.startsWith(Pbkdf2PasswordHasher.PREFIX + "1000$"));
+        assertTrue(hasher.matches("password123", stored));
+        assertFalse(hasher.matches("password124", stored));
+    }
+
+    @Test
+    void hash_UsesRandomSalt() {
+        assertNotEquals(hasher.hash("password123"), hasher.hash("password123"));
+    }
+
+    @Test
+    void legacyPlainText_StillMatchesAndNeedsRehash() {
+        assertTrue(hasher.matches("password123", "password123"));
+        assertFalse(hasher.matches("password123", "password12"));
+        assertTrue(hasher.needsRehash("password123"));
+    }
+
+    @Test
+    void needsRehash_WhenStoredIterationsBelowCurrentSetting() {
+        String weak = new Pbkdf2PasswordHasher(500).hash("password123");
+        String current = hasher.hash("password123");
+
+        assertTrue(hasher.needsRehash(weak));
+        assertFalse(hasher.needsRehash(current));
+        // Hash cũ vẫn đăng nhập được cho tới khi được băm lại
+        assertTrue(hasher.matches("password123", weak));
+    }
+
+    @Test
+    void malformedHash_DoesNotMatch() {
+        assertFalse(hasher.matches("password123", Pbkdf2PasswordHasher.PREFIX + "1000$abc"));
+        assertFalse(hasher.matches("password123", Pbkdf2PasswordHasher.PREFIX + "x$abc$def"));
+        assertTrue(hasher.needsRehash(Pbkdf2PasswordHasher.PREFIX + "x$abc$def"));
+    }
+
+    @Test
+    void calibrate_IsClampedToConfiguredRange() {
+        assertEquals(50_000, Pbkdf2PasswordHasher.calibrate(100_000, 10_000, 50_000));
+        assertEquals(10_000, Pbkdf2PasswordHasher.calibrate(0, 10_000, 50_000));
+    }
+}
@@ -0,0 +1,178 @@
+package com.motorbike.infrastructure.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.motorbike.business.ports.repository.DashboardStats;
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.ProductRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.TaiKhoan;
+import com.motorbike.domain.entities.TrangThaiDonHang;
+import com.motorbike.domain.entities.VaiTro;
+
+class InMemoryDashboardCountersTest {
+
+    private static final LocalDateTime NGAY_DAT = LocalDateTime.of(2025, 3, 10, 9, 30);
+
+    private OrderRepository orderRepository;
+    private UserRepository userRepository;
+    private ProductRepository productRepository;
+    private List<Runnable> pendingReconciles;
+    private AtomicLong now;
+    private InMemoryDashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        userRepository = mock(UserRepository.class);
+        productRepository = mock(ProductRepository.class);
+        doAnswer(inv -> {
+            DashboardStats.Builder builder = inv.getArgument(0);
+            builder.addOrders(TrangThaiDonHang.CHO_XAC_NHAN, NGAY_DAT.toLocalDate(), new BigDecimal("100"), 2);
+            return null;
+        }).when(orderRepository).addOrderStatistics(any());
+        doAnswer(inv -> {
+            DashboardStats.Builder builder = inv.getArgument(0);
+            builder.addUsers(VaiTro.CUSTOMER, true, 3);
+            return null;
+        }).when(userRepository).addUserStatistics(any());
+        doAnswer(inv -> {
+            DashboardStats.Builder builder = inv.getArgument(0);
+            builder.addMotorbikes(4, 1).addAccessories(6, 0);
+            return null;
+        }).when(productRepository).addProductStatistics(any(), anyInt());
+
+        // Đối soát chạy khi test gọi runPendingReconciles(), không chạy luồng nền
+        pendingReconciles = new ArrayList<>();
+        now = new AtomicLong(0);
+        counters = new InMemoryDashboardCounters(orderRepository, userRepository, productRepository,
+                5, 1000, pendingReconciles::add, now::get);
+    }
+
+    private void runPendingReconciles() {
+        List<Runnable> tasks = new ArrayList<>(pendingReconciles);
+        pendingReconciles.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static DonHang donHang(TrangThaiDonHang trangThai, String tongTien) {
+        return new DonHang(1L, 7L, null, new BigDecimal(tongTien), trangThai,
+                "Nguyễn Văn A", "0901234567", "Hà Nội", null, NGAY_DAT, NGAY_DAT);
+    }
+
+    private static TaiKhoan taiKhoan(VaiTro vaiTro, boolean hoatDong) {
+        return new TaiKhoan(9L, "a@example.com", "nguoidung", "matkhau123", "0901234567", "Hà Nội",
+                vaiTro, hoatDong, NGAY_DAT, NGAY_DAT, null);
+    }
+
+    @Test
+    void firstSnapshot_IsEmptyUntilReconciled() {
+        assertTrue(counters.snapshot().isEmpty());
+        assertEquals(1, pendingReconciles.size());
+
+        // Gọi lại khi đang nạp không xếp thêm lượt đối soát
+        counters.snapshot();
+        assertEquals(1, pendingReconciles.size());
+
+        runPendingReconciles();
+
+        DashboardStats stats = counters.snapshot().orElseThrow();
+        assertEquals(2, stats.getOrderCount(TrangThaiDonHang.CHO_XAC_NHAN));
+        assertEquals(0, new BigDecimal("100").compareTo(stats.getTotalRevenue()));
+        assertEquals(3, stats.getTotalUsers());
+        assertEquals(10, stats.getMotorbikes() + stats.getAccessories());
+        assertEquals(1, stats.getLowStockProducts());
+    }
+
+    @Test
+    void eventsBeforeFirstLoad_AreIgnored() {
+        counters.orderPlaced(donHang(TrangThaiDonHang.CHO_XAC_NHAN, "50"));
+        counters.snapshot();
+        runPendingReconciles();
+
+        assertEquals(2, counters.snapshot().orElseThrow().getTotalOrders());
+    }
+
+    @Test
+    void orderEvents_AdjustCountsAndRevenueWithoutQueryingOrders() {
+        counters.reconcile();
+
+        counters.orderPlaced(donHang(TrangThaiDonHang.CHO_XAC_NHAN, "50"));
+        counters.orderStatusChanged(donHang(TrangThaiDonHang.DA_HUY, "100"), TrangThaiDonHang.CHO_XAC_NHAN);
+
+        DashboardStats stats = counters.snapshot().orElseThrow();
+        assertEquals(2, stats.getOrderCount(TrangThaiDonHang.CHO_XAC_NHAN));
+        assertEquals(1, stats.getOrderCount(TrangThaiDonHang.DA_HUY));
+        // Đơn bị hủy không còn tính doanh thu
+        assertEquals(0, new BigDecimal("50").compareTo(stats.getRevenue(NGAY_DAT.toLocalDate())));
+        assertEquals(0, BigDecimal.ZERO.compareTo(stats.getRevenue(LocalDate.of(2025, 3, 11))));
+        verify(orderRepository, times(1)).addOrderStatistics(any());
+    }
+
+    @Test
+    void userEvents_AdjustRoleAndActiveCounts() {
+        counters.reconcile();
+
+        counters.userAdded(taiKhoan(VaiTro.ADMIN, true));
+        counters.userAdded(taiKhoan(VaiTro.CUSTOMER, false));
+        counters.userDeleted(taiKhoan(VaiTro.CUSTOMER, true));
+
+        DashboardStats stats = counters.snapshot().orElseThrow();
+        assertEquals(4, stats.getTotalUsers());
+        assertEquals(3, stats.getActiveUsers());
+        assertEquals(1, stats.getInactiveUsers());
+        assertEquals(1L, stats.getUsersByRole().get(VaiTro.ADMIN));
+        assertEquals(3L, stats.getUsersByRole().get(VaiTro.CUSTOMER));
+    }
+
+    @Test
+    void productCounts_AreRecountedOnlyAfterAChange() {
+        counters.reconcile();
+        counters.snapshot();
+        counters.snapshot();
+        verify(productRepository, times(1)).addProductStatistics(any(), anyInt());
+
+        counters.onProductSaved(1L);
+        counters.snapshot();
+        counters.snapshot();
+        verify(productRepository, times(2)).addProductStatistics(any(), anyInt());
+
+        // Checkout trừ tồn kho nên cũng đếm lại sản phẩm
+        counters.orderPlaced(donHang(TrangThaiDonHang.CHO_XAC_NHAN, "50"));
+        counters.snapshot();
+        verify(productRepository, times(3)).addProductStatistics(any(), anyInt());
+    }
+
+    @Test
+    void staleCounters_AreServedWhileReconcilingInBackground() {
+        counters.reconcile();
+        counters.orderPlaced(donHang(TrangThaiDonHang.CHO_XAC_NHAN, "50"));
+
+        now.set(1000);
+        DashboardStats served = counters.snapshot().orElseThrow();
+        assertEquals(3, served.getTotalOrders());
+        assertEquals(1, pendingReconciles.size());
+
+        // Đối soát thay số cộng dồn bằng số đọc từ DB
+        runPendingReconciles();
+        assertEquals(2, counters.snapshot().orElseThrow().getTotalOrders());
+        assertTrue(pendingReconciles.isEmpty());
+    }
+}
@@ -0,0 +1,362 @@
+package com.motorbike.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.motorbike.adapters.repositories.CartRepositoryAdapter;
+import com.motorbike.adapters.repositories.OrderRepositoryAdapter;
+import com.motorbike.adapters.repositories.ProductRepositoryAdapter;
+import com.motorbike.business.dto.addtocart.AddToCartInputData;
+import com.motorbike.business.dto.addtocart.AddToCartOutputData;
+import com.motorbike.business.dto.cancelorder.CancelOrderInputData;
+import com.motorbike.business.dto.cancelorder.CancelOrderOutputData;
+import com.motorbike.business.dto.checkout.CheckoutInputData;
+import com.motorbike.business.dto.checkout.CheckoutOutputData;
+import com.motorbike.business.dto.updatecart.UpdateCartQuantityInputData;
+import com.motorbike.business.dto.updatecart.UpdateCartQuantityOutputData;
+import com.motorbike.business.ports.transaction.TransactionRunner;
+import com.motorbike.business.usecase.control.AddToCartUseCaseControl;
+import com.motorbike.business.usecase.control.CancelOrderUseCaseControl;
+import com.motorbike.business.usecase.control.CheckoutUseCaseControl;
+import com.motorbike.business.usecase.control.UpdateCartQuantityUseCaseControl;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.GioHang;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+import com.motorbike.infrastructure.persistence.transaction.SpringTransactionRunner;
+import com.motorbike.infrastructure.search.InMemoryOrderSearchIndex;
+import com.motorbike.infrastructure.search.IndexingOrderRepository;
+
+/**
+ * Dồn hàng trăm luồng vào checkout, hủy đơn và sửa giỏ trên vài sản phẩm "hot", với adapter JPA thật
+ * trên H2 (chế độ SQL Server), rồi kiểm tra bất biến:
+ * tồn kho không âm, tồn kho bị trừ đúng bằng tổng dòng của các đơn còn hiệu lực,
+ * không thao tác giỏ nào báo thành công mà bị mất.
+ *
+ * Mỗi use case là một instance dùng chung cho mọi luồng như bean Spring; kết quả lấy qua presenter
+ * ghi vào ThreadLocal, nên mỗi luồng chỉ thấy kết quả của chính nó. Mỗi test dùng sản phẩm và dải mã
+ * tài khoản riêng nên không ảnh hưởng nhau. Số thao tác/giây được in ra để so sánh mức tranh chấp.
+ * Đơn hàng đi qua IndexingOrderRepository như bean @Primary của ứng dụng, nên chỉ mục tìm kiếm
+ * của admin cũng được kiểm tra.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency-stress;MODE=MSSQLServer;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.datasource.hikari.connection-timeout=60000",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderRepositoryAdapter.class, CartRepositoryAdapter.class, ProductRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConcurrencyStressTest {
+
+    private static final int THREADS = 300;
+    private static final String OK = "OK";
+
+    @Autowired private OrderRepositoryAdapter orderRepository;
+    @Autowired private CartRepositoryAdapter cartRepository;
+    @Autowired private ProductRepositoryAdapter productRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+    private InMemoryOrderSearchIndex orderSearchIndex;
+
+    private final ThreadLocal<CheckoutOutputData> checkoutResult = new ThreadLocal<>();
+    private final ThreadLocal<CancelOrderOutputData> cancelResult = new ThreadLocal<>();
+    private final ThreadLocal<AddToCartOutputData> addResult = new ThreadLocal<>();
+    private final ThreadLocal<UpdateCartQuantityOutputData> updateResult = new ThreadLocal<>();
+
+    private CheckoutUseCaseControl checkout;
+    private CancelOrderUseCaseControl cancel;
+    private AddToCartUseCaseControl addToCart;
+    private UpdateCartQuantityUseCaseControl updateQuantity;
+
+    @BeforeAll
+    void wireUseCases() {
+        jdbc = new JdbcTemplate(dataSource);
+        TransactionRunner transactions = new SpringTransactionRunner(transactionManager);
+        orderSearchIndex = new InMemoryOrderSearchIndex(orderRepository);
+        orderSearchIndex.warmUp();
+        IndexingOrderRepository indexedOrders = new IndexingOrderRepository(orderRepository, orderSearchIndex);
+        checkout = new CheckoutUseCaseControl(checkoutResult::set, cartRepository, productRepository,
+                indexedOrders, transactions);
+        cancel = new CancelOrderUseCaseControl(cancelResult::set, indexedOrders, productRepository, transactions);
+        addToCart = new AddToCartUseCaseControl(addResult::set, cartRepository, productRepository, transactions);
+        updateQuantity = new UpdateCartQuantityUseCaseControl(updateResult::set, cartRepository, transactions);
+    }
+
+    @Test
+    void checkoutOnHotSkus_NeverOversells() throws Exception {
+        List<SanPham> hot = products("Hot checkout", 3, 40);
+        long firstUser = 10_000;
+        // Mỗi giỏ lấy 2-3 chiếc của hai sản phẩm hot: tổng cầu ~250 chiếc mỗi mã, gấp 6 lần tồn kho
+        for (int i = 0; i < THREADS; i++) {
+            cart(firstUser + i, line(hot.get(i % 3), 1), line(hot.get((i + 1) % 3), 1 + i % 2));
+        }
+
+        StressRun run = StressRun.run("checkout-hot-sku", THREADS, i -> checkout(firstUser + i))
+                .assertOnlyOutcomes(OK, "INSUFFICIENT_STOCK");
+
+        assertTrue(run.count(OK) > 0 && run.count("INSUFFICIENT_STOCK") > 0, run.toString());
+        assertStockMatchesLiveOrders(hot, 40);
+        assertEquals(run.count(OK), count("SELECT COUNT(*) FROM don_hang WHERE ma_tai_khoan BETWEEN ? AND ?",
+                firstUser, firstUser + THREADS - 1));
+        // Đặt được thì giỏ trống, hết hàng thì giỏ còn nguyên
+        assertEquals(run.count("INSUFFICIENT_STOCK") * 2, count("SELECT COUNT(*) FROM chi_tiet_gio_hang c"
+                + " JOIN gio_hang g ON g.ma_gio_hang = c.ma_gio_hang WHERE g.ma_tai_khoan BETWEEN ? AND ?",
+                firstUser, firstUser + THREADS - 1));
+    }
+
+    @Test
+    void cancelRacingWithCheckout_RestocksEachOrderOnce() throws Exception {
+        List<SanPham> hot = products("Hot cancel", 2, 1_000);
+        long firstBuyer = 20_000;
+        int orders = 100;
+        for (int i = 0; i < orders; i++) {
+            cart(firstBuyer + i, line(hot.get(i % 2), 1 + i % 3));
+        }
+        StressRun.run("checkout-before-cancel", orders, i -> checkout(firstBuyer + i)).assertOnlyOutcomes(OK);
+
+        // Hai luồng hủy cùng một đơn (bấm hủy hai lần) trong khi 100 khách khác checkout cùng sản phẩm
+        long firstLateBuyer = firstBuyer + orders;
+        for (int i = 0; i < orders; i++) {
+            cart(firstLateBuyer + i, line(hot.get(i % 2), 1), line(hot.get((i + 1) % 2), 2));
+        }
+        List<Long> orderIds = jdbc.queryForList("SELECT ma_don_hang FROM don_hang WHERE ma_tai_khoan BETWEEN ? AND ?"
+                + " ORDER BY ma_tai_khoan", Long.class, firstBuyer, firstBuyer + orders - 1);
+
+        StressRun run = StressRun.run("cancel-twice-with-checkout", 3 * orders, i -> {
+            if (i < 2 * orders) {
+                int buyer = i % orders;
+                return cancel(orderIds.get(buyer), firstBuyer + buyer);
+            }
+            return checkout(firstLateBuyer + i - 2 * orders);
+        }).assertOnlyOutcomes(OK, "CANNOT_CANCEL_ORDER");
+
+        assertEquals(2 * orders, run.count(OK));
+        assertEquals(orders, run.count("CANNOT_CANCEL_ORDER"));
+        assertEquals(orders, count("SELECT COUNT(*) FROM don_hang WHERE trang_thai = 'DA_HUY' AND ma_tai_khoan BETWEEN ? AND ?",
+                firstBuyer, firstBuyer + orders - 1));
+        assertStockMatchesLiveOrders(hot, 1_000);
+        // Hủy là UPDATE có điều kiện, không qua save: chỉ mục vẫn phải thấy DA_HUY sau commit
+        Set<Long> indexedCancelled = new HashSet<>(orderSearchIndex.search("DA_HUY").orElseThrow());
+        Set<Long> indexedPending = new HashSet<>(orderSearchIndex.search("CHO_XAC_NHAN").orElseThrow());
+        for (Long orderId : orderIds) {
+            assertTrue(indexedCancelled.contains(orderId), "order " + orderId + " not indexed as DA_HUY");
+            assertFalse(indexedPending.contains(orderId), "order " + orderId + " still indexed as CHO_XAC_NHAN");
+        }
+    }
+
+    @Test
+    void concurrentAddToCart_LosesNoIncrements() throws Exception {
+        SanPham hot = products("Hot add", 1, 10_000).get(0);
+        long firstUser = 30_000;
+        int users = 20;
+        for (int u = 0; u < users; u++) {
+            cartRepository.save(new GioHang(firstUser + u));
+        }
+        AtomicIntegerArray added = new AtomicIntegerArray(users);
+
+        StressRun.run("add-to-cart-same-line", THREADS, i -> {
+            int u = i % users;
+            String outcome = addToCart(firstUser + u, hot, 1);
+            if (OK.equals(outcome)) {
+                added.incrementAndGet(u);
+            }
+            return outcome;
+        }).assertOnlyOutcomes(OK);
+
+        for (int u = 0; u < users; u++) {
+            long userId = firstUser + u;
+            assertEquals(1, count("SELECT COUNT(*) FROM chi_tiet_gio_hang c JOIN gio_hang g ON g.ma_gio_hang = c.ma_gio_hang"
+                    + " WHERE g.ma_tai_khoan = ?", userId), "cart lines of user " + userId);
+            assertEquals(added.get(u), cartQuantity(userId, hot), "quantity in cart of user " + userId);
+            assertCartTotalMatchesLines(userId);
+        }
+    }
+
+    @Test
+    void concurrentQuantityUpdates_OnOneCart_KeepEveryLine() throws Exception {
+        List<SanPham> lines = products("Hot update", 10, 10_000);
+        long firstUser = 40_000;
+        int users = THREADS / lines.size();
+        List<Long> cartIds = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            ChiTietGioHang[] items = lines.stream().map(p -> line(p, 1)).toArray(ChiTietGioHang[]::new);
+            cartIds.add(cart(firstUser + u, items).getMaGioHang());
+        }
+
+        // Mỗi luồng sửa một dòng khác nhau của cùng giỏ; dòng cuối bị xóa (số lượng 0)
+        StressRun.run("update-quantity-same-cart", users * lines.size(), i -> {
+            int u = i / lines.size();
+            int p = i % lines.size();
+            return updateQuantity(cartIds.get(u), lines.get(p), p == lines.size() - 1 ? 0 : 2 + p);
+        }).assertOnlyOutcomes(OK);
+
+        for (int u = 0; u < users; u++) {
+            long userId = firstUser + u;
+            for (int p = 0; p < lines.size(); p++) {
+                assertEquals(p == lines.size() - 1 ? 0 : 2 + p, cartQuantity(userId, lines.get(p)),
+                        "user " + userId + " line " + p);
+            }
+            assertCartTotalMatchesLines(userId);
+        }
+    }
+
+    @Test
+    void addToCartDuringCheckout_EndsUpInOrderOrCart() throws Exception {
+        SanPham hot = products("Hot add during checkout", 1, 10_000).get(0);
+        long firstUser = 50_000;
+        int users = THREADS / 3;
+        for (int u = 0; u < users; u++) {
+            cart(firstUser + u, line(hot, 1));
+        }
+        AtomicIntegerArray added = new AtomicIntegerArray(users);
+
+        // Mỗi khách: một luồng checkout, hai luồng thêm đúng sản phẩm đó vào giỏ cùng lúc
+        StressRun.run("add-to-cart-during-checkout", THREADS, i -> {
+            int u = i % users;
+            if (i < users) {
+                return checkout(firstUser + u);
+            }
+            String outcome = addToCart(firstUser + u, hot, 1);
+            if (OK.equals(outcome)) {
+                added.incrementAndGet(u);
+            }
+            return outcome;
+        }).assertOnlyOutcomes(OK);
+
+        for (int u = 0; u < users; u++) {
+            long userId = firstUser + u;
+            long ordered = count("SELECT COALESCE(SUM(c.so_luong), 0) FROM chi_tiet_don_hang c"
+                    + " JOIN don_hang d ON d.ma_don_hang = c.ma_don_hang WHERE d.ma_tai_khoan = ?", userId);
+            assertEquals(1 + added.get(u), ordered + cartQuantity(userId, hot), "units of user " + userId);
+        }
+        assertStockMatchesLiveOrders(List.of(hot), 10_000);
+    }
+
+    @Test
+    void checkoutOfDiscontinuedProduct_KeepsItDiscontinued() throws Exception {
+        SanPham product = products("Discontinued", 1, 100).get(0);
+        product.ngungKinhDoanh();
+        productRepository.save(product);
+        long firstUser = 60_000;
+        int users = 20;
+        // Giỏ đã có sản phẩm từ trước khi ngừng kinh doanh; trừ kho không được bật lại con_hang
+        for (int u = 0; u < users; u++) {
+            cart(firstUser + u, line(product, 1));
+        }
+
+        StressRun.run("checkout-discontinued", users, i -> checkout(firstUser + i)).assertOnlyOutcomes(OK);
+
+        assertStockMatchesLiveOrders(List.of(product), 100);
+        assertFalse(jdbc.queryForObject("SELECT con_hang FROM san_pham WHERE ma_san_pham = ?", Boolean.class,
+                product.getMaSanPham()));
+        assertFalse(productRepository.findById(product.getMaSanPham()).orElseThrow().isConHang());
+    }
+
+    private String checkout(long userId) {
+        checkout.execute(new CheckoutInputData(userId, "Nguyễn Văn An", "0912345678", "12 Lê Lợi, Quận 1", null));
+        CheckoutOutputData output = checkoutResult.get();
+        return output.isSuccess() ? OK : output.getErrorCode();
+    }
+
+    private String cancel(long orderId, long userId) {
+        cancel.execute(new CancelOrderInputData(orderId, userId, "Đặt nhầm"));
+        CancelOrderOutputData output = cancelResult.get();
+        return output.isSuccess() ? OK : output.getErrorCode();
+    }
+
+    private String addToCart(long userId, SanPham product, int quantity) {
+        addToCart.execute(new AddToCartInputData(product.getMaSanPham(), quantity, userId, null));
+        AddToCartOutputData output = addResult.get();
+        return output.isSuccess() ? OK : output.getErrorCode();
+    }
+
+    private String updateQuantity(long cartId, SanPham product, int quantity) {
+        updateQuantity.execute(new UpdateCartQuantityInputData(cartId, product.getMaSanPham(), quantity));
+        UpdateCartQuantityOutputData output = updateResult.get();
+        return output.isSuccess() ? OK : output.getErrorCode();
+    }
+
+    private List<SanPham> products(String name, int count, int stock) {
+        List<SanPham> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SanPham product = i % 2 == 0
+                    ? new XeMay(name + " " + i, "Xe bán chạy", BigDecimal.valueOf(30_000_000L + i * 1_000_000L),
+                            "hot" + i + ".jpg", stock, "Honda", "Vision", "Đỏ", 2025, 110)
+                    : new PhuKienXeMay(name + " " + i, "Phụ kiện bán chạy", BigDecimal.valueOf(350_000L + i * 10_000L),
+                            "hot" + i + ".jpg", stock, "Mũ bảo hiểm", "Protec", "Nhựa ABS", "L");
+            saved.add(productRepository.save(product));
+        }
+        return saved;
+    }
+
+    private static ChiTietGioHang line(SanPham product, int quantity) {
+        return new ChiTietGioHang(product.getMaSanPham(), product.getTenSanPham(), product.getGia(), quantity);
+    }
+
+    private GioHang cart(long userId, ChiTietGioHang... lines) {
+        GioHang gioHang = new GioHang(userId);
+        for (ChiTietGioHang line : lines) {
+            gioHang.themSanPham(line);
+        }
+        return cartRepository.save(gioHang);
+    }
+
+    // Tồn kho đã trừ = tổng số lượng trên các đơn chưa hủy; không sản phẩm nào âm kho
+    private void assertStockMatchesLiveOrders(List<SanPham> products, int initialStock) {
+        for (SanPham product : products) {
+            long stock = count("SELECT so_luong_ton_kho FROM san_pham WHERE ma_san_pham = ?", product.getMaSanPham());
+            long sold = count("SELECT COALESCE(SUM(c.so_luong), 0) FROM chi_tiet_don_hang c"
+                    + " JOIN don_hang d ON d.ma_don_hang = c.ma_don_hang"
+                    + " WHERE c.ma_san_pham = ? AND d.trang_thai <> 'DA_HUY'", product.getMaSanPham());
+            assertTrue(stock >= 0, product.getTenSanPham() + " stock " + stock);
+            assertEquals(initialStock - sold, stock, product.getTenSanPham());
+        }
+    }
+
+    private void assertCartTotalMatchesLines(long userId) {
+        BigDecimal header = jdbc.queryForObject("SELECT tong_tien FROM gio_hang WHERE ma_tai_khoan = ?", BigDecimal.class, userId);
+        BigDecimal lines = jdbc.queryForObject("SELECT COALESCE(SUM(c.tam_tinh), 0) FROM chi_tiet_gio_hang c"
+                + " JOIN gio_hang g ON g.ma_gio_hang = c.ma_gio_hang WHERE g.ma_tai_khoan = ?", BigDecimal.class, userId);
+        assertEquals(0, header.compareTo(lines), "cart total of user " + userId + ": " + header + " vs lines " + lines);
+    }
+
+    private long cartQuantity(long userId, SanPham product) {
+        return count("SELECT COALESCE(SUM(c.so_luong), 0) FROM chi_tiet_gio_hang c JOIN gio_hang g ON g.ma_gio_hang = c.ma_gio_hang"
+                + " WHERE g.ma_tai_khoan = ? AND c.ma_san_pham = ?", userId, product.getMaSanPham());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbc.queryForObject(sql, Long.class, args);
+    }
+}
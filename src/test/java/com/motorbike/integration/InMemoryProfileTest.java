@@ -0,0 +1,65 @@
+package com.motorbike.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.motorbike.business.ports.repository.OrderRepository;
+import com.motorbike.business.ports.repository.UserRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.motorbike.infrastructure.persistence.memory.InMemorySeedData;
+
+/**
+ * Khởi động cả ứng dụng với profile inmemory (không có DataSource) và gọi vài API qua MockMvc:
+ * đăng nhập bằng tài khoản mẫu và phân trang đơn hàng admin trên dữ liệu mẫu.
+ */
+@SpringBootTest(properties = {
+        "inmemory.seed.motorbikes=20",
+        "inmemory.seed.accessories=10",
+        "inmemory.seed.customers=5",
+        "inmemory.seed.orders=120",
+        "security.password.iterations=1000"
+})
+@ActiveProfiles("inmemory")
+@AutoConfigureMockMvc
+class InMemoryProfileTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private InMemoryOrderRepository inMemoryOrders;
+
+    @Test
+    void repositoriesAreInMemoryAndSeeded() {
+        assertEquals(120, inMemoryOrders.size());
+        assertEquals(120, orderRepository.findAll().size());
+        assertTrue(userRepository.findByEmail(InMemorySeedData.ADMIN_EMAIL).orElseThrow().laAdmin());
+    }
+
+    @Test
+    void seededCustomerCanLogIn() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + InMemorySeedData.customerEmail(1) + "\",\"password\":\"matkhau123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    void adminOrderListPagesOverSeedData() throws Exception {
+        mockMvc.perform(get("/api/admin/orders/all").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(50))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+}
@@ -0,0 +1,66 @@
+package com.motorbike.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.stat.Statistics;
+
+import com.motorbike.infrastructure.persistence.statements.SqlStatementStats;
+
+/**
+ * Đo một kịch bản use case: số câu SQL, số lần lặp lớn nhất của một dạng câu (N+1)
+ * và số entity Hibernate nạp từ DB (số dòng đọc thành entity).
+ * Cần hibernate.generate_statistics=true và SqlStatementInspector được đăng ký.
+ */
+final class QueryBudget {
+
+    private final int statements;
+    private final int maxRepeats;
+    private final long entityLoads;
+    private final Map<String, Integer> shapes;
+
+    private QueryBudget(int statements, int maxRepeats, long entityLoads, Map<String, Integer> shapes) {
+        this.statements = statements;
+        this.maxRepeats = maxRepeats;
+        this.entityLoads = entityLoads;
+        this.shapes = shapes;
+    }
+
+    static QueryBudget measure(Statistics statistics, Runnable scenario) {
+        statistics.clear();
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            scenario.run();
+            return new QueryBudget(stats.getStatementCount(), stats.getMaxRepeats(),
+                    statistics.getEntityLoadCount(), stats.getShapes());
+        }
+    }
+
+    QueryBudget assertStatementsAtMost(int max) {
+        assertTrue(statements <= max, () -> "Expected at most " + max + " statements but was " + statements + describe());
+        return this;
+    }
+
+    QueryBudget assertRepeatsAtMost(int max) {
+        assertTrue(maxRepeats <= max, () -> "Expected no statement shape repeated more than " + max
+                + " times but was " + maxRepeats + describe());
+        return this;
+    }
+
+    QueryBudget assertEntityLoadsAtMost(long max) {
+        assertTrue(entityLoads <= max, () -> "Expected at most " + max + " entity loads but was " + entityLoads + describe());
+        return this;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    private String describe() {
+        return shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(e -> "\n  " + e.getValue() + "x " + e.getKey())
+                .collect(Collectors.joining("", "\nStatements:", ""));
+    }
+}
@@ -0,0 +1,103 @@
+package com.motorbike.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Chạy mỗi thao tác trên một luồng riêng, mọi luồng chờ ở cùng một CountDownLatch rồi xuất phát
+ * cùng lúc để dồn tranh chấp vào cùng thời điểm. Thao tác trả về nhãn kết quả (OK hoặc mã lỗi);
+ * ngoại lệ lọt ra ngoài use case làm hỏng lần chạy. In số thao tác/giây để so sánh mức tranh chấp.
+ */
+final class StressRun {
+
+    private static final long TIMEOUT_SECONDS = 120;
+
+    private final String name;
+    private final Map<String, LongAdder> outcomes;
+    private final int operations;
+    private final long elapsedNanos;
+
+    private StressRun(String name, Map<String, LongAdder> outcomes, int operations, long elapsedNanos) {
+        this.name = name;
+        this.outcomes = outcomes;
+        this.operations = operations;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    static StressRun run(String name, int threads, IntFunction<String> operation) throws InterruptedException {
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    String outcome = operation.apply(index);
+                    outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+                } catch (Throwable e) {
+                    firstError.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }, name + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        if (!done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            fail(name + ": " + done.getCount() + " of " + threads + " operations still running after " + TIMEOUT_SECONDS + "s");
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        if (firstError.get() != null) {
+            throw new AssertionError(name + ": operation threw", firstError.get());
+        }
+
+        StressRun result = new StressRun(name, outcomes, threads, elapsed);
+        System.out.println(result);
+        return result;
+    }
+
+    long count(String outcome) {
+        LongAdder adder = outcomes.get(outcome);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    StressRun assertOnlyOutcomes(String... allowed) {
+        Map<String, Long> unexpected = new TreeMap<>();
+        outcomes.forEach((outcome, n) -> unexpected.put(outcome, n.sum()));
+        for (String outcome : allowed) {
+            unexpected.remove(outcome);
+        }
+        assertTrue(unexpected.isEmpty(), () -> name + ": unexpected outcomes " + unexpected);
+        return this;
+    }
+
+    double throughput() {
+        return operations * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((outcome, n) -> sorted.put(outcome, n.sum()));
+        return String.format("[stress] %-28s %4d ops in %6.1f ms = %8.1f ops/s %s",
+                name, operations, elapsedNanos / 1e6, throughput(), sorted);
+    }
+}
@@ -0,0 +1,251 @@
+package com.motorbike.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.motorbike.adapters.repositories.CartRepositoryAdapter;
+import com.motorbike.adapters.repositories.MotorbikeRepositoryAdapter;
+import com.motorbike.adapters.repositories.OrderRepositoryAdapter;
+import com.motorbike.adapters.repositories.ProductRepositoryAdapter;
+import com.motorbike.business.dto.checkout.CheckoutInputData;
+import com.motorbike.business.dto.checkout.CheckoutOutputData;
+import com.motorbike.business.dto.listallorders.ListAllOrdersInputData;
+import com.motorbike.business.dto.listallorders.ListAllOrdersOutputData;
+import com.motorbike.business.dto.listmyorders.ListMyOrdersInputData;
+import com.motorbike.business.dto.listmyorders.ListMyOrdersOutputData;
+import com.motorbike.business.dto.motorbike.SearchMotorbikesInputData;
+import com.motorbike.business.dto.motorbike.SearchMotorbikesOutputData;
+import com.motorbike.business.dto.viewcart.ViewCartInputData;
+import com.motorbike.business.dto.viewcart.ViewCartOutputData;
+import com.motorbike.business.ports.search.CatalogSearchEngine;
+import com.motorbike.business.usecase.control.CheckoutUseCaseControl;
+import com.motorbike.business.usecase.control.ListAllOrdersUseCaseControl;
+import com.motorbike.business.usecase.control.ListMyOrdersUseCaseControl;
+import com.motorbike.business.usecase.control.SearchMotorbikesUseCaseControl;
+import com.motorbike.business.usecase.control.ViewCartUseCaseControl;
+import com.motorbike.domain.entities.ChiTietDonHang;
+import com.motorbike.domain.entities.ChiTietGioHang;
+import com.motorbike.domain.entities.DonHang;
+import com.motorbike.domain.entities.GioHang;
+import com.motorbike.domain.entities.PhuKienXeMay;
+import com.motorbike.domain.entities.SanPham;
+import com.motorbike.domain.entities.XeMay;
+import com.motorbike.infrastructure.persistence.transaction.SpringTransactionRunner;
+import com.motorbike.infrastructure.search.InMemoryCatalogSearchEngine;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Ngân sách số câu SQL / số entity nạp cho các kịch bản use case chính, chạy với adapter JPA thật
+ * trên H2 (chế độ SQL Server). Mỗi lần đo dùng phiên mới như một request thật, không có cache cấp 1.
+ * Vượt ngân sách thì test hỏng kèm danh sách câu lệnh theo dạng, để thấy ngay câu nào bị lặp.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.motorbike.infrastructure.persistence.statements.SqlStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderRepositoryAdapter.class, CartRepositoryAdapter.class,
+        ProductRepositoryAdapter.class, MotorbikeRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UseCaseQueryBudgetTest {
+
+    private static final int ORDER_COUNT = 500;
+    private static final long CHECKOUT_USER = 9_001L;
+    private static final long CART_USER = 9_002L;
+    private static final long FREQUENT_BUYER = 1L;
+
+    @Autowired private OrderRepositoryAdapter orderRepository;
+    @Autowired private CartRepositoryAdapter cartRepository;
+    @Autowired private ProductRepositoryAdapter productRepository;
+    @Autowired private MotorbikeRepositoryAdapter motorbikeRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<SanPham> products = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String[] brands = {"Honda", "Yamaha", "Suzuki", "Piaggio", "SYM"};
+        String[] colors = {"Đỏ", "Đen", "Trắng", "Xanh"};
+        for (int i = 0; i < 40; i++) {
+            products.add(productRepository.save(new XeMay(
+                    brands[i % brands.length] + " Model " + i, "Xe mẫu " + i,
+                    BigDecimal.valueOf(25_000_000L + i * 500_000L), "xe" + i + ".jpg", 1_000,
+                    brands[i % brands.length], "Dòng " + (i % 7), colors[i % colors.length],
+                    2020 + i % 5, 110 + (i % 4) * 15)));
+        }
+        for (int i = 0; i < 20; i++) {
+            products.add(productRepository.save(new PhuKienXeMay(
+                    "Phụ kiện " + i, "Phụ kiện mẫu " + i, BigDecimal.valueOf(150_000L + i * 10_000L),
+                    "pk" + i + ".jpg", 1_000, "Mũ bảo hiểm", brands[i % brands.length], "Nhựa ABS", "L")));
+        }
+
+        // 500 đơn của 50 khách, mỗi đơn 1-4 dòng; khách FREQUENT_BUYER có 10 đơn
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            DonHang donHang = new DonHang(1L + i % 50, "Khách " + i, "0912345678", "12 Lê Lợi, Quận 1", null);
+            for (int line = 0; line <= i % 4; line++) {
+                SanPham sp = products.get((i + line * 7) % products.size());
+                donHang.themSanPham(new ChiTietDonHang(sp.getMaSanPham(), sp.getTenSanPham(), sp.getGia(), 1 + line));
+            }
+            orderRepository.save(donHang);
+        }
+
+        cartRepository.save(cartWithLines(CHECKOUT_USER, 20));
+        cartRepository.save(cartWithLines(CART_USER, 20));
+    }
+
+    private GioHang cartWithLines(long userId, int lines) {
+        GioHang gioHang = new GioHang(userId);
+        for (int i = 0; i < lines; i++) {
+            SanPham sp = products.get(i * 3 % products.size());
+            gioHang.themSanPham(new ChiTietGioHang(sp.getMaSanPham(), sp.getTenSanPham(), sp.getGia(), 1));
+        }
+        return gioHang;
+    }
+
+    @Test
+    void checkoutOfTwentyLineCart() {
+        AtomicReference<CheckoutOutputData> output = new AtomicReference<>();
+        CheckoutUseCaseControl checkout = new CheckoutUseCaseControl(output::set, cartRepository,
+                productRepository, orderRepository, new SpringTransactionRunner(transactionManager));
+
+        QueryBudget.measure(statistics, () -> checkout.execute(new CheckoutInputData(
+                        CHECKOUT_USER, "Nguyễn Văn A", "0912345678", "12 Lê Lợi, Quận 1", null)))
+                // Trừ kho có điều kiện và INSERT dòng đơn (khóa IDENTITY) vẫn là một câu mỗi dòng
+                .assertStatementsAtMost(50)
+                .assertRepeatsAtMost(20)
+                // Giỏ được đọc hai lần (theo tài khoản rồi theo mã trong giao dịch) + 20 sản phẩm
+                .assertEntityLoadsAtMost(65);
+
+        assertTrue(output.get().isSuccess(), output.get().getErrorCode());
+    }
+
+    @Test
+    void viewCartOfTwentyLines() {
+        AtomicReference<ViewCartOutputData> output = new AtomicReference<>();
+        ViewCartUseCaseControl viewCart = new ViewCartUseCaseControl(output::set, cartRepository, productRepository);
+
+        QueryBudget.measure(statistics, () -> viewCart.execute(ViewCartInputData.forLoggedInUser(CART_USER)))
+                .assertStatementsAtMost(3)
+                .assertRepeatsAtMost(1)
+                .assertEntityLoadsAtMost(41);
+
+        assertNull(output.get().getErrorCode());
+    }
+
+    @Test
+    void listingAllOrdersPageByPage() {
+        AtomicReference<ListAllOrdersOutputData> output = new AtomicReference<>();
+        ListAllOrdersUseCaseControl listAll = new ListAllOrdersUseCaseControl(output::set, orderRepository);
+
+        int seen = 0;
+        String cursor = null;
+        do {
+            String pageCursor = cursor;
+            // Trang id -> đếm dòng gộp theo đơn -> nạp đơn theo id (thêm một đơn để biết còn trang sau)
+            QueryBudget.measure(statistics, () -> listAll.execute(ListAllOrdersInputData.forAdmin(null, pageCursor, 100)))
+                    .assertStatementsAtMost(3)
+                    .assertRepeatsAtMost(1)
+                    .assertEntityLoadsAtMost(101);
+            assertTrue(output.get().isSuccess(), output.get().getErrorCode());
+            seen += output.get().getOrders().size();
+            cursor = output.get().getNextCursor();
+        } while (cursor != null);
+
+        assertTrue(seen >= ORDER_COUNT);
+    }
+
+    @Test
+    void listingOrdersOfOneCustomer() {
+        AtomicReference<ListMyOrdersOutputData> output = new AtomicReference<>();
+        ListMyOrdersUseCaseControl listMine = new ListMyOrdersUseCaseControl(output::set, orderRepository);
+
+        QueryBudget.measure(statistics, () -> listMine.execute(ListMyOrdersInputData.forUser(FREQUENT_BUYER)))
+                .assertStatementsAtMost(3)
+                .assertRepeatsAtMost(1);
+
+        assertEquals(ORDER_COUNT / 50, output.get().getOrders().size());
+    }
+
+    @Test
+    void searchingMotorbikesByBrandAndCapacity() {
+        SearchMotorbikesUseCaseControl search = new SearchMotorbikesUseCaseControl(
+                null, motorbikeRepository, productRepository, CatalogSearchEngine.none());
+        AtomicReference<SearchMotorbikesOutputData> output = new AtomicReference<>();
+
+        QueryBudget.measure(statistics, () -> output.set(search.execute(
+                        new SearchMotorbikesInputData("Model", "Honda", null, null, 110, 160, 0, 5, null, null),
+                        result -> result)))
+                .assertStatementsAtMost(3)
+                .assertRepeatsAtMost(1)
+                .assertEntityLoadsAtMost(8);
+
+        assertNull(output.get().errorCode);
+        assertFalse(output.get().motorbikes.isEmpty());
+    }
+
+    @Test
+    void searchingMotorbikesThroughWarmIndexLoadsOnlyOnePage() {
+        InMemoryCatalogSearchEngine engine = new InMemoryCatalogSearchEngine(productRepository, Runnable::run);
+        engine.warmUp();
+        SearchMotorbikesUseCaseControl search = new SearchMotorbikesUseCaseControl(
+                null, motorbikeRepository, productRepository, engine);
+        AtomicReference<SearchMotorbikesOutputData> output = new AtomicReference<>();
+
+        QueryBudget.measure(statistics, () -> output.set(search.execute(
+                        new SearchMotorbikesInputData("model", null, null, null, null, 140, 1, 5, "price", "desc"),
+                        result -> result)))
+                .assertStatementsAtMost(1)
+                .assertEntityLoadsAtMost(5);
+
+        assertNull(output.get().errorCode);
+        assertEquals(5, output.get().motorbikes.size());
+        assertEquals(30, output.get().totalElements);
+    }
+
+    @Test
+    void loadingMoreIdsThanOneInListUsesBatches() {
+        // 2500 mã (vượt giới hạn 2100 tham số của SQL Server nếu gom vào một câu IN)
+        List<Long> ids = new ArrayList<>();
+        products.forEach(p -> ids.add(p.getMaSanPham()));
+        for (long missing = 1; ids.size() < 2_500; missing++) {
+            ids.add(1_000_000L + missing);
+        }
+        AtomicReference<java.util.Map<Long, SanPham>> loaded = new AtomicReference<>();
+
+        QueryBudget.measure(statistics, () -> loaded.set(productRepository.findAllByIds(ids)))
+                .assertStatementsAtMost(6);
+
+        assertEquals(products.size(), loaded.get().size());
+    }
+}
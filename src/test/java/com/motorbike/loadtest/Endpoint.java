@@ -0,0 +1,26 @@
+package com.motorbike.loadtest;
+
+/**
+ * Các endpoint được đo, mỗi cái một dòng trong báo cáo. Tên dùng dạng mẫu đường dẫn
+ * để mọi userId gộp chung một dòng.
+ */
+enum Endpoint {
+    LOGIN("POST /api/auth/login"),
+    PRODUCTS("GET  /api/products"),
+    SEARCH_MOTORBIKES("GET  /api/motorbikes/search"),
+    CART_ADD("POST /api/cart/add"),
+    CART_UPDATE("PUT  /api/cart/update"),
+    CHECKOUT("POST /api/orders/checkout"),
+    MY_ORDERS("GET  /api/user/orders/{userId}"),
+    ADMIN_ORDER_SEARCH("GET  /api/admin/orders/search");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,61 @@
+package com.motorbike.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Độ trễ và kết quả của một endpoint. Các luồng người dùng ảo ghi vào Recorder (không khóa);
+ * luồng báo cáo định kỳ lấy histogram của khoảng vừa qua và cộng dồn vào giai đoạn hiện tại + toàn bộ.
+ */
+final class EndpointStats {
+
+    // Tới 60s, 3 chữ số có nghĩa, đơn vị micro giây
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+    private Histogram intervalHistogram;
+
+    private final AtomicLong clientErrors = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicLong ioErrors = new AtomicLong();
+
+    void record(long latencyNanos, int status) {
+        recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        if (status >= 500) {
+            serverErrors.incrementAndGet();
+        } else if (status >= 400) {
+            clientErrors.incrementAndGet();
+        }
+    }
+
+    // Timeout / mất kết nối: vẫn ghi độ trễ đã chờ để không làm đẹp phân vị
+    void recordIoError(long latencyNanos) {
+        recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        ioErrors.incrementAndGet();
+    }
+
+    // Chỉ gọi từ luồng báo cáo
+    Histogram takeInterval() {
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        return intervalHistogram;
+    }
+
+    long clientErrors() {
+        return clientErrors.get();
+    }
+
+    long serverErrors() {
+        return serverErrors.get();
+    }
+
+    long ioErrors() {
+        return ioErrors.get();
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(MAX_MICROS, 3);
+    }
+}
@@ -0,0 +1,134 @@
+package com.motorbike.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tham số của một lần chạy tải, đọc từ các đối số dạng key=value (mỗi đối số có thể chứa nhiều cặp
+ * cách nhau bởi khoảng trắng, để truyền được cả chuỗi -Dloadtest.args="..." qua Maven).
+ *
+ * Thời lượng viết kiểu 500ms / 30s / 2m. Khi có steps=... thì chạy theo bậc (mỗi bậc stepDuration),
+ * bỏ qua users/rampUp/duration.
+ */
+final class LoadConfig {
+
+    String baseUrl = "http://localhost:8080";
+    int users = 50;
+    long rampUpMillis = 30_000;
+    long durationMillis = 120_000;
+    List<Integer> steps = List.of();
+    long stepDurationMillis = 60_000;
+    Map<Scenario, Integer> mix = defaultMix();
+    long thinkMinMillis = 200;
+    long thinkMaxMillis = 1_000;
+    // Tài khoản khách khach1..N@motorbike.local, như InMemorySeedData tạo
+    int customers = 100;
+    String password = "matkhau123";
+    long timeoutMillis = 10_000;
+    long reportMillis = 10_000;
+    long seed = 42L;
+
+    static LoadConfig parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            for (String pair : arg.trim().split("\\s+")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Expected key=value but got: " + pair);
+                }
+                values.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+
+        LoadConfig config = new LoadConfig();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "baseUrl" -> config.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "users" -> config.users = positive(entry.getKey(), Integer.parseInt(value));
+                case "rampUp" -> config.rampUpMillis = parseDuration(value);
+                case "duration" -> config.durationMillis = parseDuration(value);
+                case "steps" -> config.steps = parseSteps(value);
+                case "stepDuration" -> config.stepDurationMillis = parseDuration(value);
+                case "mix" -> config.mix = parseMix(value);
+                case "thinkMin" -> config.thinkMinMillis = parseDuration(value);
+                case "thinkMax" -> config.thinkMaxMillis = parseDuration(value);
+                case "customers" -> config.customers = positive(entry.getKey(), Integer.parseInt(value));
+                case "password" -> config.password = value;
+                case "timeout" -> config.timeoutMillis = parseDuration(value);
+                case "report" -> config.reportMillis = parseDuration(value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + entry.getKey());
+            }
+        }
+        if (config.thinkMaxMillis < config.thinkMinMillis) {
+            throw new IllegalArgumentException("thinkMax must be >= thinkMin");
+        }
+        return config;
+    }
+
+    RampProfile rampProfile() {
+        return steps.isEmpty()
+                ? RampProfile.linear(users, rampUpMillis, durationMillis)
+                : RampProfile.steps(steps, stepDurationMillis);
+    }
+
+    static long parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Long.parseLong(v.substring(0, v.length() - 2));
+        }
+        if (v.endsWith("s")) {
+            return Long.parseLong(v.substring(0, v.length() - 1)) * 1_000;
+        }
+        if (v.endsWith("m")) {
+            return Long.parseLong(v.substring(0, v.length() - 1)) * 60_000;
+        }
+        return Long.parseLong(v);
+    }
+
+    // "BROWSE:6,BUY:3,ADMIN:1" - trọng số tương đối, kịch bản không nêu thì không chạy
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] kv = part.split(":");
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(Scenario.valueOf(kv[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must name at least one scenario");
+        }
+        return mix;
+    }
+
+    private static List<Integer> parseSteps(String value) {
+        List<Integer> steps = new ArrayList<>();
+        for (String part : value.split(",")) {
+            steps.add(positive("steps", Integer.parseInt(part.trim())));
+        }
+        return List.copyOf(steps);
+    }
+
+    private static Map<Scenario, Integer> defaultMix() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        mix.put(Scenario.BROWSE, 6);
+        mix.put(Scenario.BUY, 3);
+        mix.put(Scenario.ADMIN, 1);
+        return mix;
+    }
+
+    private static int positive(String key, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+        return value;
+    }
+}
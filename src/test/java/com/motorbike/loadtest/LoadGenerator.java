@@ -0,0 +1,173 @@
+package com.motorbike.loadtest;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Bộ tạo tải vòng kín: mỗi người dùng ảo là một luồng chạy lặp các kịch bản (Scenario) theo mix,
+ * gửi request kế tiếp chỉ sau khi nhận phản hồi + thời gian nghĩ. Số người dùng hoạt động đi theo
+ * RampProfile; cuối lần chạy in phân vị độ trễ (HdrHistogram) và thông lượng theo endpoint, theo giai đoạn.
+ *
+ * Ứng dụng cần đang chạy sẵn, ví dụ: mvn spring-boot:run -Dspring-boot.run.profiles=inmemory
+ *
+ * Chạy: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="steps=25,50,100,200 stepDuration=60s"
+ */
+public final class LoadGenerator {
+
+    private static final long TICK_MILLIS = 100;
+
+    private final LoadConfig config;
+    private final PrintStream out;
+
+    LoadGenerator(LoadConfig config, PrintStream out) {
+        this.config = config;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig config = LoadConfig.parse(args);
+        LoadReport report = new LoadGenerator(config, System.out).run();
+        report.print(System.out);
+    }
+
+    LoadReport run() throws InterruptedException {
+        RampProfile profile = config.rampProfile();
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.timeoutMillis))
+                .build();
+
+        out.printf(Locale.ROOT, "Tải %s: tối đa %d người dùng ảo, %.0fs, mix %s, nghĩ %d-%dms%n",
+                config.baseUrl, profile.maxUsers(), profile.totalMillis() / 1000.0, config.mix,
+                config.thinkMinMillis, config.thinkMaxMillis);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger activeUsers = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < profile.maxUsers(); i++) {
+            int index = i;
+            Thread thread = new Thread(() -> virtualUser(index, http, stats, running, activeUsers), "vu-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        LoadReport report = new LoadReport(profile.stages());
+        Histogram window = EndpointStats.newHistogram();
+        Map<Endpoint, long[]> errorsAtStageStart = errorSnapshot(stats);
+        long start = System.nanoTime();
+        long stageStart = 0;
+        long nextPrint = config.reportMillis;
+        int currentStage = 0;
+        try {
+            while (true) {
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                // Phần ghi từ tick trước thuộc về giai đoạn đang chạy tới lúc này
+                for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+                    Histogram interval = entry.getValue().takeInterval();
+                    report.addLatencies(currentStage, entry.getKey(), interval);
+                    window.add(interval);
+                }
+
+                int stage = profile.stageIndexAt(elapsed);
+                if (stage != currentStage) {
+                    Map<Endpoint, long[]> now = errorSnapshot(stats);
+                    report.closeStage(currentStage, elapsed - stageStart, diff(now, errorsAtStageStart));
+                    errorsAtStageStart = now;
+                    stageStart = elapsed;
+                    if (stage < 0) {
+                        break;
+                    }
+                    currentStage = stage;
+                }
+                activeUsers.set(profile.usersAt(elapsed));
+
+                if (elapsed >= nextPrint) {
+                    out.printf(Locale.ROOT, "[%5ds] %-14s VU %4d  %8.1f req/s  p50 %7.2f ms  p99 %8.2f ms%n",
+                            elapsed / 1000, profile.stages().get(currentStage).name(), activeUsers.get(),
+                            window.getTotalCount() * 1000.0 / config.reportMillis,
+                            window.getValueAtPercentile(50) / 1000.0, window.getValueAtPercentile(99) / 1000.0);
+                    window.reset();
+                    nextPrint += config.reportMillis;
+                }
+                Thread.sleep(TICK_MILLIS);
+            }
+        } finally {
+            running.set(false);
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            for (Thread thread : threads) {
+                thread.join(config.timeoutMillis);
+            }
+        }
+        return report;
+    }
+
+    private void virtualUser(int index, HttpClient http, Map<Endpoint, EndpointStats> stats,
+                             AtomicBoolean running, AtomicInteger activeUsers) {
+        Session session = new Session(http, config, stats, index);
+        try {
+            while (running.get()) {
+                // Người dùng ảo có chỉ số >= số đang hoạt động thì chờ tới lượt (ramp tăng dần)
+                if (index >= activeUsers.get()) {
+                    Thread.sleep(TICK_MILLIS);
+                    continue;
+                }
+                pickScenario(session).run(session);
+                session.think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Scenario pickScenario(Session session) {
+        int totalWeight = 0;
+        for (int weight : config.mix.values()) {
+            totalWeight += weight;
+        }
+        int r = session.random().nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : config.mix.entrySet()) {
+            r -= entry.getValue();
+            if (r < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private static Map<Endpoint, long[]> errorSnapshot(Map<Endpoint, EndpointStats> stats) {
+        Map<Endpoint, long[]> snapshot = new EnumMap<>(Endpoint.class);
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats s = entry.getValue();
+            snapshot.put(entry.getKey(), new long[] {s.clientErrors(), s.serverErrors(), s.ioErrors()});
+        }
+        return snapshot;
+    }
+
+    private static Map<Endpoint, long[]> diff(Map<Endpoint, long[]> now, Map<Endpoint, long[]> before) {
+        Map<Endpoint, long[]> result = new EnumMap<>(Endpoint.class);
+        for (Map.Entry<Endpoint, long[]> entry : now.entrySet()) {
+            long[] b = before.get(entry.getKey());
+            long[] n = entry.getValue();
+            result.put(entry.getKey(), new long[] {n[0] - b[0], n[1] - b[1], n[2] - b[2]});
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.motorbike.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Chạy bộ tạo tải thật vào ứng dụng (profile inmemory, cổng ngẫu nhiên) với một người dùng ảo,
+ * không thời gian nghĩ: mọi endpoint của kịch bản đều được gọi và không có lỗi 5xx / io.
+ * Chạy vài chục giây nên không nằm trong mvn test mặc định: mvn -Ploadtest test -Dtest=LoadGeneratorTest
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "inmemory.seed.motorbikes=20",
+        "inmemory.seed.accessories=10",
+        "inmemory.seed.customers=5",
+        "inmemory.seed.orders=50",
+        "security.password.iterations=1000"
+})
+@ActiveProfiles("inmemory")
+@Tag("loadtest")
+class LoadGeneratorTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void buyScenario_LogsInFillsCartChecksOutAndListsOrders() throws Exception {
+        LoadReport report = run("mix=BUY:1 duration=3s");
+
+        for (Endpoint endpoint : new Endpoint[] {Endpoint.LOGIN, Endpoint.PRODUCTS, Endpoint.CART_ADD,
+                Endpoint.CART_UPDATE, Endpoint.CHECKOUT, Endpoint.MY_ORDERS}) {
+            assertTrue(report.count(endpoint) > 0, endpoint.label() + " was never called");
+        }
+        assertEquals(0, report.errors(Endpoint.LOGIN));
+        assertEquals(0, report.errors(Endpoint.MY_ORDERS));
+        assertNoServerErrors(report);
+    }
+
+    @Test
+    void browseAndAdminScenarios_HitSearchEndpoints() throws Exception {
+        LoadReport report = run("mix=BROWSE:1,ADMIN:1 duration=2s");
+
+        assertTrue(report.count(Endpoint.SEARCH_MOTORBIKES) > 0);
+        assertTrue(report.count(Endpoint.ADMIN_ORDER_SEARCH) > 0);
+        assertEquals(0, report.count(Endpoint.CHECKOUT));
+        assertNoServerErrors(report);
+    }
+
+    private LoadReport run(String options) throws InterruptedException {
+        LoadConfig config = LoadConfig.parse("baseUrl=http://localhost:" + port,
+                "users=1 rampUp=0 thinkMin=0 thinkMax=0 customers=5 report=1s", options);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+
+        LoadReport report = new LoadGenerator(config, out).run();
+        report.print(out);
+        assertTrue(buffer.toString(StandardCharsets.UTF_8).contains("TỔNG"));
+        return report;
+    }
+
+    private static void assertNoServerErrors(LoadReport report) {
+        for (LoadReport.StageResult stage : report.stages()) {
+            for (long[] errors : stage.errors.values()) {
+                assertEquals(0, errors[1] + errors[2], "5xx/io errors in " + stage.name);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.motorbike.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Kết quả theo từng giai đoạn của RampProfile và cộng dồn cả lần chạy: số request, thông lượng,
+ * phân vị độ trễ và số lỗi (4xx / 5xx / io) cho mỗi endpoint.
+ */
+final class LoadReport {
+
+    static final class StageResult {
+        final String name;
+        long millis;
+        final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        final Map<Endpoint, long[]> errors = new EnumMap<>(Endpoint.class);
+
+        StageResult(String name) {
+            this.name = name;
+            for (Endpoint endpoint : Endpoint.values()) {
+                latencies.put(endpoint, EndpointStats.newHistogram());
+                errors.put(endpoint, new long[3]);
+            }
+        }
+
+        Histogram combined() {
+            Histogram all = EndpointStats.newHistogram();
+            latencies.values().forEach(all::add);
+            return all;
+        }
+
+        long errorCount() {
+            long total = 0;
+            for (long[] e : errors.values()) {
+                total += e[0] + e[1] + e[2];
+            }
+            return total;
+        }
+
+        double throughput() {
+            return millis == 0 ? 0 : combined().getTotalCount() * 1000.0 / millis;
+        }
+    }
+
+    private final List<StageResult> stages = new ArrayList<>();
+    private final StageResult total = new StageResult("toàn bộ");
+
+    LoadReport(List<RampProfile.Stage> profileStages) {
+        for (RampProfile.Stage stage : profileStages) {
+            stages.add(new StageResult(stage.name()));
+        }
+    }
+
+    void addLatencies(int stageIndex, Endpoint endpoint, Histogram interval) {
+        stages.get(stageIndex).latencies.get(endpoint).add(interval);
+        total.latencies.get(endpoint).add(interval);
+    }
+
+    void closeStage(int stageIndex, long millis, Map<Endpoint, long[]> errorsDuringStage) {
+        StageResult stage = stages.get(stageIndex);
+        stage.millis = millis;
+        total.millis += millis;
+        for (Map.Entry<Endpoint, long[]> entry : errorsDuringStage.entrySet()) {
+            long[] stageErrors = stage.errors.get(entry.getKey());
+            long[] totalErrors = total.errors.get(entry.getKey());
+            for (int i = 0; i < 3; i++) {
+                stageErrors[i] += entry.getValue()[i];
+                totalErrors[i] += entry.getValue()[i];
+            }
+        }
+    }
+
+    List<StageResult> stages() {
+        return stages;
+    }
+
+    long count(Endpoint endpoint) {
+        return total.latencies.get(endpoint).getTotalCount();
+    }
+
+    long errors(Endpoint endpoint) {
+        long[] e = total.errors.get(endpoint);
+        return e[0] + e[1] + e[2];
+    }
+
+    void print(PrintStream out) {
+        for (StageResult stage : stages) {
+            printStage(out, stage);
+        }
+        printStage(out, total);
+        printSaturation(out);
+    }
+
+    private static void printStage(PrintStream out, StageResult stage) {
+        out.printf(Locale.ROOT, "%n== %s (%.0fs) ==%n", stage.name, stage.millis / 1000.0);
+        out.printf(Locale.ROOT, "%-36s %8s %8s %8s %8s %8s %9s %8s %6s %6s %6s%n",
+                "endpoint", "req", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "5xx", "io");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram h = stage.latencies.get(endpoint);
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            printRow(out, endpoint.label(), h, stage.millis, stage.errors.get(endpoint));
+        }
+        long[] allErrors = new long[3];
+        for (long[] e : stage.errors.values()) {
+            for (int i = 0; i < 3; i++) {
+                allErrors[i] += e[i];
+            }
+        }
+        printRow(out, "TỔNG", stage.combined(), stage.millis, allErrors);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram h, long millis, long[] errors) {
+        out.printf(Locale.ROOT, "%-36s %8d %8.1f %8.2f %8.2f %8.2f %9.2f %8.2f %6d %6d %6d%n",
+                label, h.getTotalCount(), millis == 0 ? 0.0 : h.getTotalCount() * 1000.0 / millis,
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()), errors[0], errors[1], errors[2]);
+    }
+
+    // Bão hòa: thông lượng tăng dưới 10% so với giai đoạn trước trong khi p99 tăng trên 50%, hoặc lỗi vượt 1%
+    private void printSaturation(PrintStream out) {
+        if (stages.size() < 2) {
+            return;
+        }
+        out.printf("%n== Thông lượng theo giai đoạn ==%n");
+        StageResult previous = null;
+        String saturatedAt = null;
+        for (StageResult stage : stages) {
+            Histogram all = stage.combined();
+            double throughput = stage.throughput();
+            double p99 = ms(all.getValueAtPercentile(99));
+            double errorRate = all.getTotalCount() == 0 ? 0 : (double) stage.errorCount() / all.getTotalCount();
+            out.printf(Locale.ROOT, "%-20s %10.1f req/s   p99 %9.2f ms   lỗi %5.2f%%%n",
+                    stage.name, throughput, p99, errorRate * 100);
+            if (saturatedAt == null && previous != null && previous.combined().getTotalCount() > 0) {
+                double previousP99 = ms(previous.combined().getValueAtPercentile(99));
+                boolean flat = throughput < previous.throughput() * 1.10;
+                boolean slower = p99 > previousP99 * 1.5;
+                if ((flat && slower) || errorRate > 0.01) {
+                    saturatedAt = stage.name;
+                }
+            }
+            previous = stage;
+        }
+        if (saturatedAt != null) {
+            out.printf("=> Bão hòa từ giai đoạn: %s%n", saturatedAt);
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
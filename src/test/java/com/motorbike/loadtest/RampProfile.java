@@ -0,0 +1,75 @@
+package com.motorbike.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Số người dùng ảo cần hoạt động tại mỗi thời điểm, chia thành các giai đoạn để báo cáo riêng.
+ * linear: tăng dần tới users trong rampUp rồi giữ nguyên; steps: giữ từng mức trong stepDuration,
+ * dùng để tìm điểm bão hòa (thông lượng ngừng tăng trong khi độ trễ tăng vọt).
+ */
+final class RampProfile {
+
+    record Stage(String name, long startMillis, long endMillis, int fromUsers, int toUsers) {
+
+        int usersAt(long elapsedMillis) {
+            if (fromUsers == toUsers || endMillis == startMillis) {
+                return toUsers;
+            }
+            double progress = (double) (elapsedMillis - startMillis) / (endMillis - startMillis);
+            return (int) Math.ceil(fromUsers + (toUsers - fromUsers) * Math.min(1.0, progress));
+        }
+    }
+
+    private final List<Stage> stages;
+
+    private RampProfile(List<Stage> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    static RampProfile linear(int users, long rampUpMillis, long holdMillis) {
+        List<Stage> stages = new ArrayList<>();
+        if (rampUpMillis > 0) {
+            stages.add(new Stage("ramp 0->" + users, 0, rampUpMillis, 0, users));
+        }
+        stages.add(new Stage("hold " + users, rampUpMillis, rampUpMillis + holdMillis, users, users));
+        return new RampProfile(stages);
+    }
+
+    static RampProfile steps(List<Integer> levels, long stepMillis) {
+        List<Stage> stages = new ArrayList<>();
+        long start = 0;
+        for (int users : levels) {
+            stages.add(new Stage("step " + users, start, start + stepMillis, users, users));
+            start += stepMillis;
+        }
+        return new RampProfile(stages);
+    }
+
+    List<Stage> stages() {
+        return stages;
+    }
+
+    long totalMillis() {
+        return stages.get(stages.size() - 1).endMillis();
+    }
+
+    int maxUsers() {
+        return stages.stream().mapToInt(stage -> Math.max(stage.fromUsers(), stage.toUsers())).max().orElse(0);
+    }
+
+    // -1 khi đã qua giai đoạn cuối
+    int stageIndexAt(long elapsedMillis) {
+        for (int i = 0; i < stages.size(); i++) {
+            if (elapsedMillis < stages.get(i).endMillis()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int usersAt(long elapsedMillis) {
+        int index = stageIndexAt(elapsedMillis);
+        return index < 0 ? 0 : stages.get(index).usersAt(elapsedMillis);
+    }
+}
@@ -0,0 +1,53 @@
+package com.motorbike.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RampProfileTest {
+
+    @Test
+    void linear_RampsUpThenHolds() {
+        RampProfile profile = RampProfile.linear(100, 10_000, 20_000);
+
+        assertEquals(30_000, profile.totalMillis());
+        assertEquals(0, profile.usersAt(0));
+        assertEquals(50, profile.usersAt(5_000));
+        assertEquals(100, profile.usersAt(10_000));
+        assertEquals(100, profile.usersAt(29_999));
+        assertEquals(0, profile.usersAt(30_000));
+        assertEquals(-1, profile.stageIndexAt(30_000));
+    }
+
+    @Test
+    void steps_HoldEachLevelForStepDuration() {
+        RampProfile profile = RampProfile.steps(List.of(10, 20, 40), 1_000);
+
+        assertEquals(3, profile.stages().size());
+        assertEquals(40, profile.maxUsers());
+        assertEquals(10, profile.usersAt(999));
+        assertEquals(20, profile.usersAt(1_000));
+        assertEquals(40, profile.usersAt(2_500));
+        assertEquals(2, profile.stageIndexAt(2_999));
+    }
+
+    @Test
+    void config_ParsesSpaceSeparatedPairsAndDurations() {
+        LoadConfig config = LoadConfig.parse("baseUrl=http://host:9090/ steps=5,10", "stepDuration=2m mix=buy:2,admin:0 thinkMax=1500ms");
+
+        assertEquals("http://host:9090", config.baseUrl);
+        assertEquals(List.of(5, 10), config.steps);
+        assertEquals(120_000, config.stepDurationMillis);
+        assertEquals(Map.of(Scenario.BUY, 2), config.mix);
+        assertEquals(1_500, config.thinkMaxMillis);
+        assertEquals(240_000, config.rampProfile().totalMillis());
+    }
+
+    @Test
+    void config_RejectsUnknownOption() {
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse("vus=10"));
+    }
+}
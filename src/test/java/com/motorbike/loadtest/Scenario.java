@@ -0,0 +1,58 @@
+package com.motorbike.loadtest;
+
+/**
+ * Một lượt của người dùng ảo. Giữa các bước là thời gian nghĩ; tỉ lệ giữa các kịch bản do mix quyết định
+ * (mặc định BROWSE:6, BUY:3, ADMIN:1).
+ */
+enum Scenario {
+
+    // Xem danh sách rồi tìm xe, không mua
+    BROWSE {
+        @Override
+        void run(Session session) throws InterruptedException {
+            session.listProducts();
+            session.think();
+            session.searchMotorbikes();
+            session.think();
+            session.searchMotorbikes();
+        }
+    },
+
+    // Thêm 1-3 sản phẩm, sửa số lượng, thanh toán, xem lại đơn của mình
+    BUY {
+        @Override
+        void run(Session session) throws InterruptedException {
+            if (!session.loggedIn()) {
+                session.login();
+                if (!session.loggedIn()) {
+                    return;
+                }
+                session.think();
+            }
+            session.listProducts();
+            int soSanPham = 1 + session.random().nextInt(3);
+            for (int i = 0; i < soSanPham; i++) {
+                session.think();
+                session.addToCart();
+            }
+            session.think();
+            session.updateCartQuantity();
+            session.think();
+            session.checkout();
+            session.think();
+            session.listMyOrders();
+        }
+    },
+
+    // Nhân viên tra cứu đơn hàng
+    ADMIN {
+        @Override
+        void run(Session session) throws InterruptedException {
+            session.searchOrdersAsAdmin();
+            session.think();
+            session.searchOrdersAsAdmin();
+        }
+    };
+
+    abstract void run(Session session) throws InterruptedException;
+}
@@ -0,0 +1,195 @@
+package com.motorbike.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.motorbike.infrastructure.persistence.memory.InMemorySeedData;
+
+/**
+ * Trạng thái và lời gọi HTTP của một người dùng ảo: tài khoản đăng nhập, giỏ hàng, danh sách sản phẩm
+ * thấy được lần gần nhất. Mỗi lời gọi là đồng bộ (vòng kín: chỉ gửi request tiếp sau khi có phản hồi),
+ * độ trễ được ghi vào EndpointStats tương ứng.
+ */
+final class Session {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final String[] TU_KHOA_XE = {"honda", "yamaha", "suzuki", "vinfast", "piaggio", "sh", "vision", ""};
+    private static final String[] TU_KHOA_ADMIN = {"khach", "khach1", "090", "Hà Nội", "Quận", "Đà Nẵng"};
+
+    private final HttpClient http;
+    private final LoadConfig config;
+    private final Map<Endpoint, EndpointStats> stats;
+    private final Random random;
+    private final int customerIndex;
+
+    private Long userId;
+    private Long cartId;
+    private final List<Long> cartProductIds = new ArrayList<>();
+    private List<Long> productIds = List.of();
+
+    Session(HttpClient http, LoadConfig config, Map<Endpoint, EndpointStats> stats, int userIndex) {
+        this.http = http;
+        this.config = config;
+        this.stats = stats;
+        this.random = new Random(config.seed + userIndex);
+        this.customerIndex = userIndex % config.customers + 1;
+    }
+
+    Random random() {
+        return random;
+    }
+
+    boolean loggedIn() {
+        return userId != null;
+    }
+
+    void login() throws InterruptedException {
+        String body = "{\"email\":" + quote(InMemorySeedData.customerEmail(customerIndex))
+                + ",\"password\":" + quote(config.password) + "}";
+        JsonNode response = send(Endpoint.LOGIN, "POST", "/api/auth/login", body);
+        if (response != null && response.path("success").asBoolean()) {
+            userId = response.path("userId").asLong();
+            cartId = response.hasNonNull("cartId") ? response.path("cartId").asLong() : null;
+        }
+    }
+
+    void listProducts() throws InterruptedException {
+        JsonNode response = send(Endpoint.PRODUCTS, "GET", "/api/products", null);
+        if (response != null && response.isArray()) {
+            List<Long> ids = new ArrayList<>(response.size());
+            for (JsonNode product : response) {
+                if (product.path("stock").asInt() > 0) {
+                    ids.add(product.path("id").asLong());
+                }
+            }
+            productIds = ids;
+        }
+    }
+
+    void searchMotorbikes() throws InterruptedException {
+        String keyword = TU_KHOA_XE[random.nextInt(TU_KHOA_XE.length)];
+        send(Endpoint.SEARCH_MOTORBIKES, "GET",
+                "/api/motorbikes/search?keyword=" + encode(keyword) + "&page=" + random.nextInt(3) + "&size=20", null);
+    }
+
+    boolean addToCart() throws InterruptedException {
+        if (productIds.isEmpty()) {
+            return false;
+        }
+        Long productId = popularProduct();
+        String body = "{\"userId\":" + userId + ",\"productId\":" + productId + ",\"quantity\":1}";
+        JsonNode response = send(Endpoint.CART_ADD, "POST", "/api/cart/add", body);
+        if (response == null || !response.path("success").asBoolean()) {
+            return false;
+        }
+        cartId = response.path("cartId").asLong();
+        if (!cartProductIds.contains(productId)) {
+            cartProductIds.add(productId);
+        }
+        return true;
+    }
+
+    void updateCartQuantity() throws InterruptedException {
+        if (cartId == null || cartProductIds.isEmpty()) {
+            return;
+        }
+        Long productId = cartProductIds.get(random.nextInt(cartProductIds.size()));
+        String body = "{\"cartId\":" + cartId + ",\"productId\":" + productId + ",\"newQuantity\":" + (1 + random.nextInt(2)) + "}";
+        send(Endpoint.CART_UPDATE, "PUT", "/api/cart/update", body);
+    }
+
+    void checkout() throws InterruptedException {
+        if (cartProductIds.isEmpty()) {
+            return;
+        }
+        String body = "{\"userId\":" + userId + ",\"receiverName\":\"Khách " + customerIndex + "\""
+                + ",\"phoneNumber\":\"09" + String.format("%08d", customerIndex) + "\""
+                + ",\"shippingAddress\":\"12 Lê Lợi, Quận 1, TP. Hồ Chí Minh\",\"note\":null}";
+        send(Endpoint.CHECKOUT, "POST", "/api/orders/checkout", body);
+        // Thành công thì giỏ đã rỗng; thất bại (hết hàng) thì bỏ giỏ này, lượt sau thêm lại từ đầu
+        cartProductIds.clear();
+    }
+
+    void listMyOrders() throws InterruptedException {
+        send(Endpoint.MY_ORDERS, "GET", "/api/user/orders/" + userId, null);
+    }
+
+    void searchOrdersAsAdmin() throws InterruptedException {
+        String query = TU_KHOA_ADMIN[random.nextInt(TU_KHOA_ADMIN.length)];
+        send(Endpoint.ADMIN_ORDER_SEARCH, "GET", "/api/admin/orders/search?query=" + encode(query), null);
+    }
+
+    // Thời gian nghĩ ngẫu nhiên đều trong [thinkMin, thinkMax]
+    void think() throws InterruptedException {
+        long span = config.thinkMaxMillis - config.thinkMinMillis;
+        long millis = config.thinkMinMillis + (span > 0 ? (long) (random.nextDouble() * (span + 1)) : 0);
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    // Lệch về đầu danh sách: bình phương của số ngẫu nhiên đều -> vài sản phẩm "hot" chiếm phần lớn lượt thêm
+    private Long popularProduct() {
+        double r = random.nextDouble();
+        return productIds.get((int) (r * r * productIds.size()));
+    }
+
+    // null khi lỗi (mã >= 400, timeout, mất kết nối) hoặc thân phản hồi không phải JSON
+    private JsonNode send(Endpoint endpoint, String method, String path, String body) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofMillis(config.timeoutMillis))
+                .header("Accept", "application/json");
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        EndpointStats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            endpointStats.recordIoError(System.nanoTime() - start);
+            return null;
+        }
+        endpointStats.record(System.nanoTime() - start, response.statusCode());
+
+        if (response.statusCode() >= 400) {
+            return null;
+        }
+        try {
+            return JSON.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String quote(String value) {
+        try {
+            return JSON.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}